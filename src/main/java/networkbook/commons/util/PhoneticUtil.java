@@ -0,0 +1,170 @@
+package networkbook.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * Helper functions for encoding words by how they sound.
+ */
+public class PhoneticUtil {
+    private static final String VOWELS = "AEIOU";
+    private static final String FRONT_VOWELS = "EIY";
+    private static final String[] SILENT_FIRST_LETTER_PREFIXES = {"AE", "GN", "KN", "PN", "WR"};
+
+    /**
+     * Returns the phonetic code of {@code word}, in the manner of Metaphone, so that words that sound alike
+     * have the same code, e.g. "Nguyen" and "Ngyuen", with or without accents, are both encoded as "NKYN".
+     * Accents are removed and only the letters of {@code word} are encoded,
+     * so the code of a word without letters is empty.
+     * Vowels are dropped except at the start, letters that sound alike share a code letter,
+     * silent letters are dropped, and repeated code letters are merged.
+     *
+     * @param word cannot be null
+     */
+    public static String encode(String word) {
+        requireNonNull(word);
+        String letters = toPlainLetters(word);
+        StringBuilder code = new StringBuilder();
+        int start = 0;
+        for (String prefix : SILENT_FIRST_LETTER_PREFIXES) {
+            if (letters.startsWith(prefix)) {
+                start = 1;
+            }
+        }
+        if (letters.startsWith("X")) {
+            append(code, 'S');
+            start = 1;
+        } else if (letters.startsWith("WH")) {
+            append(code, 'W');
+            start = 2;
+        }
+
+        for (int i = start; i < letters.length(); i++) {
+            char previous = charAt(letters, i - 1);
+            char next = charAt(letters, i + 1);
+            char afterNext = charAt(letters, i + 2);
+            switch (letters.charAt(i)) {
+            case 'A':
+            case 'E':
+            case 'I':
+            case 'O':
+            case 'U':
+                if (i == start) {
+                    append(code, 'A');
+                }
+                break;
+            case 'C':
+                if (next == 'H') {
+                    append(code, 'X');
+                    i++;
+                } else {
+                    append(code, isFrontVowel(next) ? 'S' : 'K');
+                }
+                break;
+            case 'D':
+                if (next == 'G' && isFrontVowel(afterNext)) {
+                    append(code, 'J');
+                    i++;
+                } else {
+                    append(code, 'T');
+                }
+                break;
+            case 'G':
+                if (next == 'H' && !isVowel(afterNext)) {
+                    // silent, as in "Wright"
+                    i++;
+                } else if (next == 'N' && i + 2 == letters.length()) {
+                    // silent, as in "Sign"
+                    break;
+                } else {
+                    // unlike C, G stays hard before Y, as in "Gyasi"
+                    append(code, next == 'E' || next == 'I' ? 'J' : 'K');
+                }
+                break;
+            case 'H':
+                if (isVowel(next) && "CGPST".indexOf(previous) < 0) {
+                    append(code, 'H');
+                }
+                break;
+            case 'K':
+                if (previous != 'C') {
+                    append(code, 'K');
+                }
+                break;
+            case 'P':
+                if (next == 'H') {
+                    append(code, 'F');
+                    i++;
+                } else {
+                    append(code, 'P');
+                }
+                break;
+            case 'Q':
+                append(code, 'K');
+                break;
+            case 'S':
+            case 'T':
+                if (next == 'H') {
+                    append(code, letters.charAt(i) == 'S' ? 'X' : '0');
+                    i++;
+                } else if (next == 'I' && (afterNext == 'O' || afterNext == 'A')) {
+                    append(code, 'X');
+                } else {
+                    append(code, letters.charAt(i));
+                }
+                break;
+            case 'V':
+                append(code, 'F');
+                break;
+            case 'W':
+            case 'Y':
+                if (isVowel(next)) {
+                    append(code, letters.charAt(i));
+                }
+                break;
+            case 'X':
+                append(code, 'K');
+                append(code, 'S');
+                break;
+            case 'Z':
+                append(code, 'S');
+                break;
+            default:
+                // B, F, J, L, M, N and R are encoded as themselves
+                append(code, letters.charAt(i));
+                break;
+            }
+        }
+        return code.toString();
+    }
+
+    /**
+     * Returns the letters of {@code word} without accents, in upper case.
+     */
+    private static String toPlainLetters(String word) {
+        // the Vietnamese D with stroke is a letter of its own rather than an accented D, so it is not decomposed
+        String decomposed = Normalizer.normalize(word.replace('\u0110', 'D').replace('\u0111', 'd'),
+                Normalizer.Form.NFD);
+        return decomposed.toUpperCase(Locale.ROOT).replaceAll("[^A-Z]", "");
+    }
+
+    private static void append(StringBuilder code, char codeLetter) {
+        if (code.length() == 0 || code.charAt(code.length() - 1) != codeLetter) {
+            code.append(codeLetter);
+        }
+    }
+
+    private static char charAt(String letters, int i) {
+        return i >= 0 && i < letters.length() ? letters.charAt(i) : '\0';
+    }
+
+    private static boolean isVowel(char letter) {
+        return letter != '\0' && VOWELS.indexOf(letter) >= 0;
+    }
+
+    private static boolean isFrontVowel(char letter) {
+        return letter != '\0' && FRONT_VOWELS.indexOf(letter) >= 0;
+    }
+}
@@ -5,7 +5,7 @@ import static networkbook.commons.util.AppUtil.checkArgument;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
-import java.util.Arrays;
+import java.util.List;
 
 /**
  * Helper functions for handling strings.
@@ -29,14 +29,24 @@ public class StringUtil {
 
         String preppedWord = word.trim();
         checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
-        checkArgument(preppedWord.split("\\s+").length == 1,
-                "Word parameter should be a single word");
+        checkArgument(!containsWhitespace(preppedWord), "Word parameter should be a single word");
 
-        String preppedSentence = sentence;
-        String[] wordsInPreppedSentence = preppedSentence.split("\\s+");
-
-        return Arrays.stream(wordsInPreppedSentence)
-                .anyMatch(preppedWord::equalsIgnoreCase);
+        int length = sentence.length();
+        int i = 0;
+        while (i < length) {
+            while (i < length && Character.isWhitespace(sentence.charAt(i))) {
+                i++;
+            }
+            int start = i;
+            while (i < length && !Character.isWhitespace(sentence.charAt(i))) {
+                i++;
+            }
+            if (i - start == preppedWord.length()
+                    && sentence.regionMatches(true, start, preppedWord, 0, preppedWord.length())) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -56,14 +66,97 @@ public class StringUtil {
 
         String preppedTerm = term.trim();
         checkArgument(!preppedTerm.isEmpty(), "Term parameter cannot be empty");
-        checkArgument(preppedTerm.split("\\s+").length == 1,
-                "Term parameter should be a single term");
+        checkArgument(!containsWhitespace(preppedTerm), "Term parameter should be a single term");
 
-        String preppedSentence = sentence;
-        String[] wordsInPreppedSentence = preppedSentence.split("\\s+");
+        // a term without whitespace is contained in a word exactly when it is contained in the sentence
+        for (int i = 0; i + preppedTerm.length() <= sentence.length(); i++) {
+            if (sentence.regionMatches(true, i, preppedTerm, 0, preppedTerm.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns {@code text} in the form that {@link #containsAnyNormalizedTerm(String, String[])} matches,
+     * which is trimmed and lower-cased.
+     * Values that are matched often should be normalized once and kept, rather than on every match.
+     *
+     * @param text cannot be null
+     */
+    public static String normalize(String text) {
+        requireNonNull(text);
+        return text.trim().toLowerCase();
+    }
+
+    /**
+     * Returns each of {@code terms} normalized by {@link #normalize(String)}.
+     *
+     * @param terms cannot be null, and cannot contain null
+     */
+    public static String[] normalizeAll(List<String> terms) {
+        requireNonNull(terms);
+        String[] normalizedTerms = new String[terms.size()];
+        for (int i = 0; i < normalizedTerms.length; i++) {
+            normalizedTerms[i] = normalize(terms.get(i));
+        }
+        return normalizedTerms;
+    }
 
-        return Arrays.stream(wordsInPreppedSentence)
-                .anyMatch((word) -> word.toLowerCase().contains(preppedTerm.toLowerCase()));
+    /**
+     * Returns true if the normalized {@code text} contains any of the normalized {@code terms}.
+     * Both must have been normalized by {@link #normalize(String)}, so that no case conversion or other
+     * allocation is needed to match them.
+     * This is equivalent to {@link #containsTermIgnoreCase(String, String)} for terms without whitespace.
+     *
+     * @param normalizedText cannot be null
+     * @param normalizedTerms cannot be null, and cannot contain null
+     */
+    public static boolean containsAnyNormalizedTerm(String normalizedText, String[] normalizedTerms) {
+        for (String normalizedTerm : normalizedTerms) {
+            if (normalizedText.contains(normalizedTerm)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the Levenshtein distance between {@code first} and {@code second}, which is the least number
+     * of characters that must be inserted, deleted or substituted to turn one into the other.
+     *
+     * @param first cannot be null
+     * @param second cannot be null
+     */
+    public static int editDistance(String first, String second) {
+        requireNonNull(first);
+        requireNonNull(second);
+        int[] previousRow = new int[second.length() + 1];
+        int[] currentRow = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previousRow[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            currentRow[0] = i;
+            for (int j = 1; j <= second.length(); j++) {
+                int substitutionCost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                currentRow[j] = Math.min(previousRow[j - 1] + substitutionCost,
+                        Math.min(previousRow[j], currentRow[j - 1]) + 1);
+            }
+            int[] swap = previousRow;
+            previousRow = currentRow;
+            currentRow = swap;
+        }
+        return previousRow[second.length()];
+    }
+
+    private static boolean containsWhitespace(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (Character.isWhitespace(text.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -0,0 +1,24 @@
+package networkbook.logic;
+
+import java.util.List;
+
+import networkbook.model.person.Person;
+
+/**
+ * Listens to the progress of a command submitted to {@code Logic}, on the thread that executes the command.
+ */
+@FunctionalInterface
+public interface CommandProgressListener {
+    /**
+     * Called when the command reaches {@code stage}.
+     */
+    void onStageReached(CommandStage stage);
+
+    /**
+     * Called with the persons matched by a streamed filter since the last call, in the order of the network book,
+     * before the displayed list is updated with all the persons matched in their sorted order.
+     *
+     * @see networkbook.model.Model#setPartialMatchesListener(java.util.function.Consumer)
+     */
+    default void onPartialMatches(List<Person> matches) {}
+}
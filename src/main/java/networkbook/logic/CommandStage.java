@@ -0,0 +1,20 @@
+package networkbook.logic;
+
+/**
+ * The stages that a submitted command goes through, in order, as it is executed in the background.
+ */
+public enum CommandStage {
+    QUEUED("Waiting for earlier commands"),
+    EXECUTING("Running command"),
+    SAVING("Saving contacts");
+
+    private final String description;
+
+    CommandStage(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
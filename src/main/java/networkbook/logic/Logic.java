@@ -1,12 +1,18 @@
 package networkbook.logic;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.concurrent.CompletableFuture;
 
 import javafx.collections.ObservableList;
 import networkbook.commons.core.GuiSettings;
+import networkbook.logic.autocomplete.CommandCompleter;
+import networkbook.logic.autocomplete.Completion;
 import networkbook.logic.commands.CommandResult;
 import networkbook.logic.commands.exceptions.CommandException;
 import networkbook.logic.parser.exceptions.ParseException;
+import networkbook.model.DisplayedPage;
 import networkbook.model.Model;
 import networkbook.model.ReadOnlyNetworkBook;
 import networkbook.model.person.Person;
@@ -24,6 +30,52 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Parses the command and executes it on a background thread, after all commands submitted before it,
+     * so that the caller is not blocked while the persons are searched, sorted or saved.
+     * If the command is a query, a query submitted before it that has not started is cancelled,
+     * as its result would be replaced straight away.
+     * A query that has started is not cancelled, and runs to completion before the query that replaces it.
+     * Commands must not be executed with {@link #execute(String)} while submitted commands are running.
+     * @param commandText The command as entered by the user.
+     * @return the result of the command execution, which fails with a {@code ParseException}
+     *     or {@code CommandException} as {@link #execute(String)} throws them, and is completed on the thread
+     *     that executes the command.
+     */
+    CompletableFuture<CommandResult> submit(String commandText);
+
+    /**
+     * Submits the command as {@link #submit(String)} does, and reports each {@code CommandStage} it reaches,
+     * and the persons matched so far if it streams a filter, to {@code progressListener}.
+     */
+    CompletableFuture<CommandResult> submit(String commandText, CommandProgressListener progressListener);
+
+    /**
+     * Counts the persons that a {@code find} or {@code filter} command would display if it were executed,
+     * without executing it or changing the network book, after the commands submitted before it.
+     * A preview that has not started is cancelled when another preview or a command is submitted.
+     * @param commandText The command as entered so far by the user.
+     * @return the number of persons, which is empty if {@code commandText} is not a valid command that filters
+     *     the persons, and is completed on the thread that counts them.
+     */
+    CompletableFuture<OptionalInt> preview(String commandText);
+
+    /**
+     * Cancels the submitted commands that have not started executing.
+     * A command that has started runs to completion,
+     * so that the network book and the file it is saved to do not differ.
+     * @return the number of commands that are cancelled.
+     */
+    int cancelSubmittedCommands();
+
+    /**
+     * Returns the completions of the word at the end of {@code commandText}.
+     * Unlike the other methods, this method can be called from any thread.
+     *
+     * @see CommandCompleter#complete(String)
+     */
+    List<Completion> getCompletions(String commandText);
+
     /**
      * Returns the NetworkBook.
      *
@@ -34,6 +86,13 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
+    /**
+     * Returns the page of the filtered list of persons that is currently displayed.
+     *
+     * @see Model#getDisplayedPage()
+     */
+    DisplayedPage getDisplayedPage();
+
     /**
      * Returns the user prefs' network book file path.
      */
@@ -1,18 +1,32 @@
 package networkbook.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import networkbook.commons.core.GuiSettings;
 import networkbook.commons.core.LogsCenter;
+import networkbook.logic.autocomplete.CommandCompleter;
+import networkbook.logic.autocomplete.Completion;
 import networkbook.logic.commands.Command;
 import networkbook.logic.commands.CommandResult;
 import networkbook.logic.commands.exceptions.CommandException;
 import networkbook.logic.parser.NetworkBookParser;
 import networkbook.logic.parser.exceptions.ParseException;
+import networkbook.model.DisplayedPage;
 import networkbook.model.Model;
 import networkbook.model.ReadOnlyNetworkBook;
 import networkbook.model.person.Person;
@@ -32,6 +46,18 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final NetworkBookParser networkBookParser;
+    private final CommandCompleter commandCompleter;
+    private final ExecutorService commandExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "command-executor");
+        thread.setDaemon(true);
+        return thread;
+    });
+    /** The last query submitted, while it has not started. */
+    private CompletableFuture<CommandResult> pendingQuery;
+    /** The results of the commands submitted that have not started. */
+    private final Set<CompletableFuture<CommandResult>> queuedCommands = new HashSet<>();
+    /** The last preview requested, while it has not started. */
+    private CompletableFuture<OptionalInt> pendingPreview;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -40,20 +66,135 @@ public class LogicManager implements Logic {
         this.model = model;
         this.storage = storage;
         networkBookParser = new NetworkBookParser();
+        commandCompleter = new CommandCompleter(model);
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
-        CommandResult commandResult;
         Command command = networkBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        return executeCommand(command, stage -> {});
+    }
+
+    @Override
+    public CompletableFuture<CommandResult> submit(String commandText) {
+        return submit(commandText, stage -> {});
+    }
+
+    @Override
+    public CompletableFuture<CommandResult> submit(String commandText, CommandProgressListener progressListener) {
+        requireNonNull(progressListener);
+        logger.info("----------------[SUBMITTED COMMAND][" + commandText + "]");
+
+        Command command;
+        try {
+            command = networkBookParser.parseCommand(commandText);
+        } catch (ParseException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        synchronized (this) {
+            if (pendingQuery != null && command.isQuery()) {
+                logger.info("Cancelling a query replaced by: " + commandText);
+                pendingQuery.cancel(false);
+                queuedCommands.remove(pendingQuery);
+            }
+            if (pendingPreview != null) {
+                pendingPreview.cancel(false);
+                pendingPreview = null;
+            }
+            // a command in between queries may refer to the persons displayed by the earlier query
+            pendingQuery = command.isQuery() ? result : null;
+            queuedCommands.add(result);
+        }
+        progressListener.onStageReached(CommandStage.QUEUED);
+        commandExecutor.execute(() -> {
+            synchronized (this) {
+                queuedCommands.remove(result);
+                if (result.isCancelled()) {
+                    return;
+                }
+                if (pendingQuery == result) {
+                    pendingQuery = null;
+                }
+            }
+            try {
+                result.complete(executeCommand(command, progressListener));
+            } catch (CommandException | RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public CompletableFuture<OptionalInt> preview(String commandText) {
+        CompletableFuture<OptionalInt> result = new CompletableFuture<>();
+        synchronized (this) {
+            if (pendingPreview != null) {
+                pendingPreview.cancel(false);
+            }
+            pendingPreview = result;
+        }
+        // the preview is counted after the commands submitted before it, as the indexes it is counted from
+        // are only consistent with the persons on the thread that executes the commands
+        commandExecutor.execute(() -> {
+            synchronized (this) {
+                if (result.isCancelled()) {
+                    return;
+                }
+                if (pendingPreview == result) {
+                    pendingPreview = null;
+                }
+            }
+            try {
+                Optional<Predicate<Person>> predicate =
+                        networkBookParser.parseCommand(commandText).getPreviewPredicate(model);
+                result.complete(predicate.isPresent()
+                        ? OptionalInt.of(model.countMatches(predicate.get()))
+                        : OptionalInt.empty());
+            } catch (ParseException e) {
+                // the command is not complete yet
+                result.complete(OptionalInt.empty());
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public synchronized int cancelSubmittedCommands() {
+        int cancelledCount = queuedCommands.size();
+        logger.info("Cancelling " + cancelledCount + " submitted commands");
+        queuedCommands.forEach(result -> result.cancel(false));
+        queuedCommands.clear();
+        pendingQuery = null;
+        return cancelledCount;
+    }
+
+    /**
+     * Executes {@code command}, and saves the network book if the command changes it,
+     * reporting the stages it reaches and the persons its filter matches to {@code progressListener}.
+     */
+    private CommandResult executeCommand(Command command, CommandProgressListener progressListener)
+            throws CommandException {
+        progressListener.onStageReached(CommandStage.EXECUTING);
+        CommandResult commandResult;
+        model.setPartialMatchesListener(progressListener::onPartialMatches);
+        try {
+            commandResult = command.execute(model);
+        } finally {
+            model.setPartialMatchesListener(matches -> {});
+        }
 
         if (!command.getIsChangingData()) {
             return commandResult;
         }
 
+        progressListener.onStageReached(CommandStage.SAVING);
         try {
             storage.saveNetworkBook(model.getNetworkBook());
         } catch (AccessDeniedException e) {
@@ -65,6 +206,11 @@ public class LogicManager implements Logic {
         return commandResult;
     }
 
+    @Override
+    public List<Completion> getCompletions(String commandText) {
+        return commandCompleter.complete(commandText);
+    }
+
     @Override
     public ReadOnlyNetworkBook getNetworkBook() {
         return model.getNetworkBook();
@@ -75,6 +221,11 @@ public class LogicManager implements Logic {
         return model.getDisplayedPersonList();
     }
 
+    @Override
+    public DisplayedPage getDisplayedPage() {
+        return model.getDisplayedPage();
+    }
+
     @Override
     public Path getNetworkBookFilePath() {
         return model.getNetworkBookFilePath();
@@ -29,6 +29,8 @@ public class Messages {
             "The person at index %d does not have %s";
     public static final String MESSAGE_PERSONS_SORTED_OVERVIEW = "Here is your sorted list of contacts:"
             + "\n(%1$d persons listed)";
+    public static final String MESSAGE_INVALID_PAGE_SIZE =
+            "The number of contacts to show per page should be a positive integer.";
     public static final String MESSAGE_DUPLICATE_SINGLE_VALUED_FIELDS =
             "Multiple values specified for the following single-valued field(s): ";
 
@@ -0,0 +1,231 @@
+package networkbook.logic.autocomplete;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import networkbook.logic.commands.ExplainCommand;
+import networkbook.logic.commands.FindCommand;
+import networkbook.logic.commands.filter.FilterCommand;
+import networkbook.logic.commands.filter.FilterCourseCommand;
+import networkbook.logic.commands.filter.FilterGradCommand;
+import networkbook.logic.commands.filter.FilterSpecCommand;
+import networkbook.logic.commands.filter.FilterTagCommand;
+import networkbook.logic.parser.CliSyntax;
+import networkbook.logic.parser.FindCommandParser;
+import networkbook.logic.parser.NetworkBookParser;
+import networkbook.logic.parser.Prefix;
+import networkbook.model.Model;
+import networkbook.model.person.filter.KeyTermsField;
+import networkbook.model.util.CompressedTrie;
+
+/**
+ * Suggests completions for the word being typed at the end of a command.
+ * What is suggested depends on where the word is: the first word is completed to a command word,
+ * a word starting with {@code /} to a prefix, and the value of a prefix, a {@code find} key term,
+ * a {@code filter} key term or a clause of a query to the values of the matching field among all persons.
+ */
+public class CommandCompleter {
+    /** Largest number of completions suggested at a time. */
+    public static final int MAX_COMPLETIONS = 8;
+
+    private static final Pattern TOKEN_PATTERN = Pattern.compile("\\S+");
+    private static final Pattern QUERY_CLAUSE_PATTERN = Pattern.compile("(?<field>[a-zA-Z]+)[:~]\"?");
+    private static final String PREFIX_START = "/";
+    private static final String SEPARATOR = " ";
+    private static final CompressedTrie COMMAND_WORDS = newTrie(NetworkBookParser.COMMAND_WORDS);
+    private static final CompressedTrie PREFIXES = newTrie(CliSyntax.PREFIXES.stream()
+            .map(Prefix::getPrefix)
+            .collect(Collectors.toList()));
+    private static final CompressedTrie FILTER_FIELDS = newTrie(List.of(FilterCourseCommand.FIELD_NAME,
+            FilterGradCommand.FIELD_NAME, FilterSpecCommand.FIELD_NAME, FilterTagCommand.FIELD_NAME));
+    private static final CompressedTrie COMBINATIONS = newTrie(List.of("and", "or", "not"));
+    private static final Map<String, KeyTermsField> FIELDS_BY_NAME = Map.of("name", KeyTermsField.NAME,
+            FilterTagCommand.FIELD_NAME, KeyTermsField.TAG, FilterCourseCommand.FIELD_NAME, KeyTermsField.COURSE,
+            FilterSpecCommand.FIELD_NAME, KeyTermsField.SPEC);
+    private static final Map<String, KeyTermsField> FIELDS_BY_PREFIX = Map.of(
+            CliSyntax.PREFIX_NAME.getPrefix(), KeyTermsField.NAME,
+            CliSyntax.PREFIX_TAG.getPrefix(), KeyTermsField.TAG,
+            CliSyntax.PREFIX_COURSE.getPrefix(), KeyTermsField.COURSE,
+            CliSyntax.PREFIX_SPECIALISATION.getPrefix(), KeyTermsField.SPEC);
+
+    private final Model model;
+
+    /**
+     * Creates a completer that suggests the values of fields among the persons in {@code model}.
+     */
+    public CommandCompleter(Model model) {
+        requireNonNull(model);
+        this.model = model;
+    }
+
+    /**
+     * Returns the completions of the word at the end of {@code commandText}, in alphabetical order.
+     * Nothing is suggested for an empty command.
+     */
+    public List<Completion> complete(String commandText) {
+        requireNonNull(commandText);
+        List<Token> tokens = new ArrayList<>();
+        Matcher tokenMatcher = TOKEN_PATTERN.matcher(commandText);
+        while (tokenMatcher.find()) {
+            tokens.add(new Token(tokenMatcher.group(), tokenMatcher.start(), tokenMatcher.end()));
+        }
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+
+        boolean isNewWord = Character.isWhitespace(commandText.charAt(commandText.length() - 1));
+        Token lastToken = tokens.get(tokens.size() - 1);
+        if (tokens.size() == 1 && !isNewWord) {
+            return toCompletions(commandText, lastToken.start,
+                    COMMAND_WORDS.complete(lastToken.text, MAX_COMPLETIONS), word -> word + SEPARATOR);
+        }
+
+        int wordStart = isNewWord ? commandText.length() : lastToken.start;
+        String word = commandText.substring(wordStart);
+        if (word.startsWith(PREFIX_START)) {
+            return toCompletions(commandText, wordStart, PREFIXES.complete(word, MAX_COMPLETIONS),
+                    prefix -> prefix + SEPARATOR);
+        }
+        List<Token> previousTokens = isNewWord ? tokens : tokens.subList(0, tokens.size() - 1);
+        int prefixPosition = findLastPrefix(previousTokens);
+        String commandWord = tokens.get(0).text;
+
+        switch (commandWord) {
+        case FindCommand.COMMAND_WORD:
+            if (prefixPosition >= 0) {
+                return List.of();
+            }
+            if (word.startsWith(FindCommandParser.FUZZY_MARKER)
+                    || word.startsWith(FindCommandParser.PHONETIC_MARKER)) {
+                wordStart++;
+            }
+            return completeValue(commandText, wordStart, KeyTermsField.NAME, UnaryOperator.identity());
+        case FilterCommand.COMMAND_WORD:
+        case ExplainCommand.COMMAND_WORD:
+            if (prefixPosition < 0) {
+                return completeQueryClause(commandText, wordStart);
+            }
+            return completeFilterArgument(commandText, wordStart, previousTokens, prefixPosition);
+        default:
+            if (prefixPosition < 0) {
+                return List.of();
+            }
+            KeyTermsField field = FIELDS_BY_PREFIX.get(previousTokens.get(prefixPosition).text);
+            if (field == null) {
+                return List.of();
+            }
+            if (field != KeyTermsField.NAME) {
+                // values other than names may have spaces, so the whole value after the prefix is completed
+                wordStart = previousTokens.get(prefixPosition).end;
+                while (wordStart < commandText.length() && Character.isWhitespace(commandText.charAt(wordStart))) {
+                    wordStart++;
+                }
+            }
+            return completeValue(commandText, wordStart, field, UnaryOperator.identity());
+        }
+    }
+
+    /**
+     * Completes the value of a clause of a query, such as {@code tag:ment}, which starts at {@code wordStart}.
+     */
+    private List<Completion> completeQueryClause(String commandText, int wordStart) {
+        Matcher clauseMatcher = QUERY_CLAUSE_PATTERN.matcher(commandText.substring(wordStart));
+        if (!clauseMatcher.lookingAt()) {
+            return List.of();
+        }
+        KeyTermsField field = FIELDS_BY_NAME.get(clauseMatcher.group("field").toLowerCase());
+        if (field == null) {
+            return List.of();
+        }
+        int valueStart = wordStart + clauseMatcher.end();
+        boolean isQuoted = commandText.charAt(valueStart - 1) == '"';
+        return completeValue(commandText, valueStart, field,
+                value -> isQuoted ? value + "\"" : value.contains(SEPARATOR) ? "\"" + value + "\"" : value);
+    }
+
+    /**
+     * Completes the argument of the prefix of a {@code filter} command at {@code prefixPosition} in {@code tokens}.
+     */
+    private List<Completion> completeFilterArgument(String commandText, int wordStart, List<Token> tokens,
+                                                    int prefixPosition) {
+        String prefix = tokens.get(prefixPosition).text;
+        String word = commandText.substring(wordStart);
+        if (prefix.equals(CliSyntax.PREFIX_FILTER_FIELD.getPrefix())) {
+            return toCompletions(commandText, wordStart, FILTER_FIELDS.complete(word, MAX_COMPLETIONS),
+                    field -> field + SEPARATOR);
+        } else if (prefix.equals(CliSyntax.PREFIX_FILTER_COMBINE.getPrefix())) {
+            return toCompletions(commandText, wordStart, COMBINATIONS.complete(word, MAX_COMPLETIONS),
+                    UnaryOperator.identity());
+        } else if (!prefix.equals(CliSyntax.PREFIX_FILTER_ARGS.getPrefix())) {
+            return List.of();
+        }
+        for (int i = 0; i + 1 < tokens.size(); i++) {
+            if (tokens.get(i).text.equals(CliSyntax.PREFIX_FILTER_FIELD.getPrefix())) {
+                KeyTermsField field = FIELDS_BY_NAME.get(tokens.get(i + 1).text);
+                return field == null || field == KeyTermsField.NAME
+                        ? List.of()
+                        : completeValue(commandText, wordStart, field, UnaryOperator.identity());
+            }
+        }
+        return List.of();
+    }
+
+    private List<Completion> completeValue(String commandText, int valueStart, KeyTermsField field,
+                                           UnaryOperator<String> formatter) {
+        return toCompletions(commandText, valueStart,
+                model.getCompletions(field, commandText.substring(valueStart), MAX_COMPLETIONS), formatter);
+    }
+
+    /**
+     * Returns the completions that replace the text from {@code start} with each of {@code suggestions},
+     * formatted by {@code formatter}.
+     */
+    private static List<Completion> toCompletions(String commandText, int start, List<String> suggestions,
+                                                  UnaryOperator<String> formatter) {
+        List<Completion> completions = new ArrayList<>();
+        for (String suggestion : suggestions) {
+            completions.add(new Completion(suggestion, commandText.substring(0, start) + formatter.apply(suggestion)));
+        }
+        return completions;
+    }
+
+    /**
+     * Returns the position of the last prefix in {@code tokens}, or -1 if there is none.
+     */
+    private static int findLastPrefix(List<Token> tokens) {
+        for (int i = tokens.size() - 1; i > 0; i--) {
+            if (tokens.get(i).text.startsWith(PREFIX_START)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static CompressedTrie newTrie(List<String> words) {
+        CompressedTrie trie = new CompressedTrie();
+        words.forEach(word -> trie.add(word, word));
+        return trie;
+    }
+
+    /**
+     * A word of a command, with its position in the command.
+     */
+    private static class Token {
+        private final String text;
+        private final int start;
+        private final int end;
+
+        private Token(String text, int start, int end) {
+            this.text = text;
+            this.start = start;
+            this.end = end;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package networkbook.logic.autocomplete;
+
+import static networkbook.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+import networkbook.commons.util.ToStringBuilder;
+
+/**
+ * A suggestion for the word being typed in a command, with the command text that accepting it results in.
+ */
+public class Completion {
+    private final String suggestion;
+    private final String completedText;
+
+    /**
+     * Creates a completion that suggests {@code suggestion}, and changes the command text to {@code completedText}
+     * when accepted.
+     */
+    public Completion(String suggestion, String completedText) {
+        requireAllNonNull(suggestion, completedText);
+        this.suggestion = suggestion;
+        this.completedText = completedText;
+    }
+
+    public String getSuggestion() {
+        return suggestion;
+    }
+
+    public String getCompletedText() {
+        return completedText;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof Completion)) {
+            return false;
+        }
+
+        Completion otherCompletion = (Completion) other;
+        return suggestion.equals(otherCompletion.suggestion) && completedText.equals(otherCompletion.completedText);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(suggestion, completedText);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("suggestion", suggestion)
+                .add("completedText", completedText)
+                .toString();
+    }
+}
@@ -1,7 +1,11 @@
 package networkbook.logic.commands;
 
+import java.util.Optional;
+import java.util.function.Predicate;
+
 import networkbook.logic.commands.exceptions.CommandException;
 import networkbook.model.Model;
+import networkbook.model.person.Person;
 
 /**
  * Represents a command with hidden internal logic and the ability to be executed.
@@ -26,4 +30,20 @@ public abstract class Command {
         return this.isChangingData;
     }
 
+    /**
+     * Returns true if the command only changes which persons are displayed and in what order,
+     * so that its result is made obsolete by another such command that is entered after it.
+     */
+    public boolean isQuery() {
+        return false;
+    }
+
+    /**
+     * Returns the filter by which this command would display the persons of {@code model} if it were executed,
+     * if it filters them, so that the persons it would display can be counted without executing it.
+     */
+    public Optional<Predicate<Person>> getPreviewPredicate(Model model) {
+        return Optional.empty();
+    }
+
 }
@@ -0,0 +1,72 @@
+package networkbook.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Predicate;
+
+import networkbook.commons.util.ToStringBuilder;
+import networkbook.model.Model;
+import networkbook.model.QueryPlan;
+import networkbook.model.person.Person;
+
+/**
+ * Shows how a filter query is evaluated, with the estimated and actual number of contacts
+ * matched by each step and the time each step took, without changing the displayed list.
+ */
+public class ExplainCommand extends Command {
+
+    public static final String COMMAND_WORD = "explain";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows how a filter query is evaluated, "
+            + "with the estimated and actual number of contacts matched and the time taken by each step.\n"
+            + "Parameters: QUERY\n"
+            + "Example: " + COMMAND_WORD + " tag:mentor AND (grad:2024..2026 OR priority:high) AND name~\"tan\"";
+
+    public static final String MESSAGE_SUCCESS = "Here is how the query %1$s is evaluated:\n%2$s";
+
+    private final Predicate<Person> predicate;
+    private final String query;
+
+    /**
+     * Creates an ExplainCommand that explains the filter by {@code predicate}, which is parsed from {@code query}.
+     * This command is not data-changing, so parent constructor is called with false.
+     */
+    public ExplainCommand(Predicate<Person> predicate, String query) {
+        super(false);
+        assert predicate != null : "Predicate should not be null";
+        assert query != null : "Query should not be null";
+        this.predicate = predicate;
+        this.query = query;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        QueryPlan plan = model.explainFilter(predicate);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, query, plan.format()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ExplainCommand)) {
+            return false;
+        }
+
+        ExplainCommand otherExplainCommand = (ExplainCommand) other;
+        return predicate.equals(otherExplainCommand.predicate)
+                && query.equals(otherExplainCommand.query);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("predicate", predicate)
+                .add("query", query)
+                .toString();
+    }
+}
@@ -2,13 +2,22 @@ package networkbook.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
 import networkbook.commons.util.ToStringBuilder;
 import networkbook.model.Model;
 import networkbook.model.person.NameContainsKeyTermsPredicate;
+import networkbook.model.person.NameFuzzyMatchPredicate;
+import networkbook.model.person.NameSoundsLikePredicate;
+import networkbook.model.person.Person;
 
 /**
  * Finds and lists all persons in network book whose name contains any of the argument keywords.
  * Keyword matching is case insensitive.
+ * In fuzzy mode, persons whose name has a word within a small edit distance of any keyword are listed instead,
+ * closest first, and in phonetic mode, persons whose name has a word that sounds like any keyword are listed.
  */
 public class FindCommand extends Command {
 
@@ -17,12 +26,22 @@ public class FindCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
             + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "Example: " + COMMAND_WORD + " alice bob charlie\n"
+            + "Prefix the first keyword with ~ to also find names that are misspelt by a character or two, "
+            + "closest first.\n"
+            + "Example: " + COMMAND_WORD + " ~alise bobb\n"
+            + "Prefix the first keyword with ? to find names that sound like the keywords instead.\n"
+            + "Example: " + COMMAND_WORD + " ?ngyuen";
 
     public static final String MESSAGE_SUCCESS = "Here is the list of contacts that contain %1$s:";
+    public static final String MESSAGE_FUZZY_SUCCESS = "Here is the list of contacts with names close to %1$s:";
+    public static final String MESSAGE_PHONETIC_SUCCESS =
+            "Here is the list of contacts with names that sound like %1$s:";
     public static final String MESSAGE_PERSONS_FOUND_OVERVIEW = "\n(%1$s contacts found)";
 
-    private final NameContainsKeyTermsPredicate predicate;
+    private final Predicate<Person> predicate;
+    private final List<String> keyTerms;
+    private final String messageSuccess;
 
     /**
      * Constructor that instantiates a new {@code FindCommand} object.
@@ -30,8 +49,38 @@ public class FindCommand extends Command {
      * @param predicate
      */
     public FindCommand(NameContainsKeyTermsPredicate predicate) {
+        this(predicate, predicate.getKeyTerms(), MESSAGE_SUCCESS);
+    }
+
+    /**
+     * Constructor that instantiates a new {@code FindCommand} object that finds names by edit distance.
+     */
+    public FindCommand(NameFuzzyMatchPredicate predicate) {
+        this(predicate, predicate.getKeyTerms(), MESSAGE_FUZZY_SUCCESS);
+    }
+
+    /**
+     * Constructor that instantiates a new {@code FindCommand} object that finds names by how they sound.
+     */
+    public FindCommand(NameSoundsLikePredicate predicate) {
+        this(predicate, predicate.getKeyTerms(), MESSAGE_PHONETIC_SUCCESS);
+    }
+
+    private FindCommand(Predicate<Person> predicate, List<String> keyTerms, String messageSuccess) {
         super(false);
         this.predicate = predicate;
+        this.keyTerms = keyTerms;
+        this.messageSuccess = messageSuccess;
+    }
+
+    @Override
+    public boolean isQuery() {
+        return true;
+    }
+
+    @Override
+    public Optional<Predicate<Person>> getPreviewPredicate(Model model) {
+        return Optional.of(predicate);
     }
 
     @Override
@@ -39,9 +88,8 @@ public class FindCommand extends Command {
         requireNonNull(model);
         model.updateDisplayedPersonList(predicate, null);
         return new FilterCommandResult(
-                String.format(MESSAGE_SUCCESS,
-                        predicate.getKeyTerms()
-                                .stream()
+                String.format(messageSuccess,
+                        keyTerms.stream()
                                 .reduce("", (acc, term) -> acc + " \"" + term + "\"")
                                 .trim()
                                 .replace(" ", ", "))
@@ -0,0 +1,62 @@
+package networkbook.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import networkbook.commons.util.ToStringBuilder;
+import networkbook.logic.parser.CliSyntax;
+import networkbook.model.Model;
+import networkbook.model.PersonGroups.GroupField;
+
+/**
+ * Shows the displayed persons in groups by the value of a field, with a collapsible header for each group.
+ */
+public class GroupCommand extends Command {
+
+    public static final String COMMAND_WORD = "group";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows your list of contacts in groups by a field.\n"
+            + "Parameters: " + CliSyntax.PREFIX_GROUP_FIELD + " FIELD\n"
+            + "Example: " + COMMAND_WORD + " " + CliSyntax.PREFIX_GROUP_FIELD + " grad";
+
+    public static final String MESSAGE_SUCCESS = "Showing your list of contacts in groups by %1$s.\n"
+            + "Click on the header of a group to show or hide its contacts.";
+
+    private final GroupField field;
+
+    /**
+     * Creates a {@code GroupCommand} that shows the displayed persons in groups by {@code field}.
+     */
+    public GroupCommand(GroupField field) {
+        super(false);
+        requireNonNull(field);
+        this.field = field;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        return new GroupCommandResult(String.format(MESSAGE_SUCCESS, field.toString().toLowerCase()), field);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof GroupCommand)) {
+            return false;
+        }
+
+        GroupCommand otherGroupCommand = (GroupCommand) other;
+        return field == otherGroupCommand.field;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("field", field)
+                .toString();
+    }
+}
@@ -0,0 +1,62 @@
+package networkbook.logic.commands;
+
+import static networkbook.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+import networkbook.commons.util.ToStringBuilder;
+import networkbook.model.PersonGroups.GroupField;
+
+/**
+ * Represents the result of a group command execution.
+ */
+public class GroupCommandResult extends CommandResult {
+
+    private final GroupField field;
+
+    /**
+     * Constructs a {@code GroupCommandResult} with the specified fields.
+     */
+    public GroupCommandResult(String feedbackToUser, GroupField field) {
+        super(feedbackToUser);
+        requireAllNonNull(field);
+        this.field = field;
+    }
+
+    /**
+     * Returns the field to group the list of contacts by.
+     */
+    public GroupField getGroupField() {
+        return field;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof GroupCommandResult)) {
+            return false;
+        }
+
+        GroupCommandResult otherGroupCommandResult = (GroupCommandResult) other;
+        return super.equals(otherGroupCommandResult)
+                && field == otherGroupCommandResult.field;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getFeedbackToUser(), field);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("feedbackToUser", getFeedbackToUser())
+                .add("groupField", field)
+                .toString();
+    }
+
+}
@@ -3,27 +3,82 @@ package networkbook.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static networkbook.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
+import networkbook.commons.util.ToStringBuilder;
+import networkbook.logic.parser.CliSyntax;
 import networkbook.model.Model;
+import networkbook.model.util.PagedList;
 
 /**
- * Lists all persons in the network book to the user.
+ * Lists all persons in the network book to the user, or only the first page of them.
  */
 public class ListCommand extends Command {
 
     public static final String COMMAND_WORD = "list";
 
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all your contacts, "
+            + "or only the first page of them if a page size is given.\n"
+            + "Parameters: [" + CliSyntax.PREFIX_LIMIT + " PAGE_SIZE]\n"
+            + "Example: " + COMMAND_WORD + " " + CliSyntax.PREFIX_LIMIT + " 20";
+
     public static final String MESSAGE_PERSONS_LISTED_OVERVIEW = "Here is your complete list of contacts:"
             + "\n(%1$d persons listed)";
+    public static final String MESSAGE_PERSONS_PAGED_OVERVIEW = "Here is the first page of your list of contacts:"
+            + "\n(%1$d of %2$d persons listed)";
+
+    private final int pageSize;
 
     public ListCommand() {
+        this(PagedList.NO_PAGE_SIZE);
+    }
+
+    /**
+     * Constructor that instantiates a new {@code ListCommand} object that shows only the first {@code pageSize}
+     * persons, or all persons if {@code pageSize} is {@code PagedList.NO_PAGE_SIZE}.
+     * This command is not data-changing, so parent constructor is called with false.
+     */
+    public ListCommand(int pageSize) {
         super(false);
+        assert pageSize >= 0 : "Page size should not be negative";
+        this.pageSize = pageSize;
+    }
+
+    @Override
+    public boolean isQuery() {
+        return true;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
         model.updateDisplayedPersonList(PREDICATE_SHOW_ALL_PERSONS, null);
-        return new ListCommandResult(String.format(MESSAGE_PERSONS_LISTED_OVERVIEW,
-                model.getDisplayedPersonList().size()));
+        model.updateDisplayedPersonPage(pageSize, 0);
+        if (pageSize == PagedList.NO_PAGE_SIZE) {
+            return new ListCommandResult(String.format(MESSAGE_PERSONS_LISTED_OVERVIEW,
+                    model.getDisplayedPersonList().size()));
+        }
+        return new ListCommandResult(String.format(MESSAGE_PERSONS_PAGED_OVERVIEW,
+                model.getDisplayedPersonList().size(), model.getDisplayedPage().getMatchCount()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ListCommand)) {
+            return false;
+        }
+
+        ListCommand otherListCommand = (ListCommand) other;
+        return pageSize == otherListCommand.pageSize;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("pageSize", pageSize)
+                .toString();
     }
 }
@@ -0,0 +1,105 @@
+package networkbook.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+import networkbook.commons.core.index.Index;
+import networkbook.commons.util.ToStringBuilder;
+import networkbook.logic.commands.exceptions.CommandException;
+import networkbook.logic.parser.CliSyntax;
+import networkbook.model.DisplayedPage;
+import networkbook.model.Model;
+
+/**
+ * Shows another page of the displayed list of contacts,
+ * after the list has been limited to a page with {@code list /limit} or {@code sort /top}.
+ */
+public class PageCommand extends Command {
+
+    public static final String COMMAND_WORD = "page";
+    public static final String NEXT_PAGE = "next";
+    public static final String PREVIOUS_PAGE = "prev";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows another page of your list of contacts.\n"
+            + "Parameters: PAGE_NUMBER (must be a positive integer), " + NEXT_PAGE + " or " + PREVIOUS_PAGE + "\n"
+            + "Example: " + COMMAND_WORD + " 2";
+
+    public static final String MESSAGE_SUCCESS = "Here is page %1$d of %2$d of your list of contacts:"
+            + "\n(%3$d of %4$d persons listed)";
+    public static final String MESSAGE_NOT_PAGED = "Your list of contacts is not split into pages.\n"
+            + "Use " + ListCommand.COMMAND_WORD + " " + CliSyntax.PREFIX_LIMIT + " PAGE_SIZE or "
+            + SortCommand.COMMAND_WORD + " ... " + CliSyntax.PREFIX_SORT_TOP + " PAGE_SIZE first.";
+    public static final String MESSAGE_INVALID_PAGE = "There is no such page, your list of contacts has %1$d pages.";
+
+    private final Index targetPage;
+    private final int pageOffset;
+
+    private PageCommand(Index targetPage, int pageOffset) {
+        super(false);
+        this.targetPage = targetPage;
+        this.pageOffset = pageOffset;
+    }
+
+    /**
+     * Creates a {@code PageCommand} that shows the page at {@code targetPage}.
+     */
+    public static PageCommand toPage(Index targetPage) {
+        requireNonNull(targetPage);
+        return new PageCommand(targetPage, 0);
+    }
+
+    /**
+     * Creates a {@code PageCommand} that shows the page {@code pageOffset} pages after the current page.
+     */
+    public static PageCommand byOffset(int pageOffset) {
+        return new PageCommand(null, pageOffset);
+    }
+
+    @Override
+    public boolean isQuery() {
+        return true;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        DisplayedPage page = model.getDisplayedPage();
+        if (!page.isPaged()) {
+            throw new CommandException(MESSAGE_NOT_PAGED);
+        }
+
+        int pageIndex = targetPage != null ? targetPage.getZeroBased() : page.getPageIndex() + pageOffset;
+        if (pageIndex < 0 || pageIndex >= page.getPageCount()) {
+            throw new CommandException(String.format(MESSAGE_INVALID_PAGE, page.getPageCount()));
+        }
+
+        model.updateDisplayedPersonPage(page.getPageSize(), pageIndex);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, pageIndex + 1, page.getPageCount(),
+                model.getDisplayedPersonList().size(), page.getMatchCount()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PageCommand)) {
+            return false;
+        }
+
+        PageCommand otherPageCommand = (PageCommand) other;
+        return Objects.equals(targetPage, otherPageCommand.targetPage)
+                && pageOffset == otherPageCommand.pageOffset;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("targetPage", targetPage)
+                .add("pageOffset", pageOffset)
+                .toString();
+    }
+}
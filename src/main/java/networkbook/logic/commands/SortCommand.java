@@ -7,10 +7,10 @@ import networkbook.logic.Messages;
 import networkbook.logic.parser.CliSyntax;
 import networkbook.model.Model;
 import networkbook.model.person.PersonSortComparator;
+import networkbook.model.util.PagedList;
 
 /**
- * Finds and lists all persons in network book whose name contains any of the argument keywords.
- * Keyword matching is case insensitive.
+ * Sorts the displayed persons in network book by one or more fields.
  */
 public class SortCommand extends Command {
 
@@ -19,12 +19,16 @@ public class SortCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sorts your list of contacts.\n"
             + "Parameters: "
             + CliSyntax.PREFIX_SORT_FIELD + " FIELD "
-            + "[" + CliSyntax.PREFIX_SORT_ORDER + " ORDER]\n"
+            + "[" + CliSyntax.PREFIX_SORT_ORDER + " ORDER] "
+            + "[" + CliSyntax.PREFIX_SORT_THEN + " FIELD [ORDER]]... "
+            + "[" + CliSyntax.PREFIX_SORT_TOP + " PAGE_SIZE]\n"
             + "Example: " + COMMAND_WORD + " "
             + CliSyntax.PREFIX_SORT_FIELD + " grad "
-            + CliSyntax.PREFIX_SORT_ORDER + " descending";
+            + CliSyntax.PREFIX_SORT_ORDER + " descending "
+            + CliSyntax.PREFIX_SORT_THEN + " name asc";
 
     private final PersonSortComparator comparator;
+    private final int topCount;
 
     /**
      * Constructor that instantiates a new {@code SortCommand} object.
@@ -32,14 +36,32 @@ public class SortCommand extends Command {
      * @param comparator
      */
     public SortCommand(PersonSortComparator comparator) {
+        this(comparator, PagedList.NO_PAGE_SIZE);
+    }
+
+    /**
+     * Constructor that instantiates a new {@code SortCommand} object that shows only the first {@code topCount}
+     * persons in sorted order, one page at a time.
+     * If {@code topCount} is {@code PagedList.NO_PAGE_SIZE}, the current page size is kept.
+     */
+    public SortCommand(PersonSortComparator comparator, int topCount) {
         super(false);
+        assert topCount >= 0 : "Top count should not be negative";
         this.comparator = comparator;
+        this.topCount = topCount;
+    }
+
+    @Override
+    public boolean isQuery() {
+        return true;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
         model.updateDisplayedPersonList(null, comparator);
+        int pageSize = topCount == PagedList.NO_PAGE_SIZE ? model.getDisplayedPage().getPageSize() : topCount;
+        model.updateDisplayedPersonPage(pageSize, 0);
         return new SortCommandResult(
                 String.format(Messages.MESSAGE_PERSONS_SORTED_OVERVIEW, model.getDisplayedPersonList().size()),
                 comparator.getSortField(), comparator.getSortOrder());
@@ -57,13 +79,15 @@ public class SortCommand extends Command {
         }
 
         SortCommand otherSortCommand = (SortCommand) other;
-        return comparator.equals(otherSortCommand.comparator);
+        return comparator.equals(otherSortCommand.comparator)
+                && topCount == otherSortCommand.topCount;
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("comparator", comparator)
+                .add("topCount", topCount)
                 .toString();
     }
 
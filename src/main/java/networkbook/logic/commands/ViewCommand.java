@@ -0,0 +1,90 @@
+package networkbook.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import networkbook.commons.util.ToStringBuilder;
+import networkbook.model.Model;
+
+/**
+ * Switches how the list of contacts is displayed, between a card for each contact, a compact card for each contact
+ * and a table with a row for each contact.
+ */
+public class ViewCommand extends Command {
+
+    public static final String COMMAND_WORD = "view";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows your list of contacts as cards, as compact cards or as a table.\n"
+            + "Parameters: " + ViewMode.CARDS.getKeyword() + ", " + ViewMode.COMPACT.getKeyword()
+            + " or " + ViewMode.TABLE.getKeyword() + "\n"
+            + "Example: " + COMMAND_WORD + " " + ViewMode.TABLE.getKeyword();
+
+    public static final String MESSAGE_SUCCESS = "Showing your list of contacts as %1$s.";
+
+    /**
+     * Ways of displaying the list of contacts.
+     */
+    public enum ViewMode {
+        /** A card for each contact, with a row for each field. */
+        CARDS("cards", "cards"),
+        /** A card for each contact with only its name, priority and first few tags, until it is selected. */
+        COMPACT("compact", "compact cards"),
+        /** A table with a row for each contact, and a column for each field. */
+        TABLE("table", "a table");
+
+        private final String keyword;
+        private final String description;
+
+        ViewMode(String keyword, String description) {
+            this.keyword = keyword;
+            this.description = description;
+        }
+
+        public String getKeyword() {
+            return keyword;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+
+    private final ViewMode viewMode;
+
+    /**
+     * Creates a {@code ViewCommand} that shows the list of contacts in {@code viewMode}.
+     */
+    public ViewCommand(ViewMode viewMode) {
+        super(false);
+        requireNonNull(viewMode);
+        this.viewMode = viewMode;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        return new ViewCommandResult(String.format(MESSAGE_SUCCESS, viewMode.getDescription()), viewMode);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ViewCommand)) {
+            return false;
+        }
+
+        ViewCommand otherViewCommand = (ViewCommand) other;
+        return viewMode == otherViewCommand.viewMode;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("viewMode", viewMode)
+                .toString();
+    }
+}
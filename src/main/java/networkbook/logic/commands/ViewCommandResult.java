@@ -0,0 +1,62 @@
+package networkbook.logic.commands;
+
+import static networkbook.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+import networkbook.commons.util.ToStringBuilder;
+import networkbook.logic.commands.ViewCommand.ViewMode;
+
+/**
+ * Represents the result of a view command execution.
+ */
+public class ViewCommandResult extends CommandResult {
+
+    private final ViewMode viewMode;
+
+    /**
+     * Constructs a {@code ViewCommandResult} with the specified fields.
+     */
+    public ViewCommandResult(String feedbackToUser, ViewMode viewMode) {
+        super(feedbackToUser);
+        requireAllNonNull(viewMode);
+        this.viewMode = viewMode;
+    }
+
+    /**
+     * Returns the way the list of contacts should be displayed.
+     */
+    public ViewMode getViewMode() {
+        return viewMode;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ViewCommandResult)) {
+            return false;
+        }
+
+        ViewCommandResult otherViewCommandResult = (ViewCommandResult) other;
+        return super.equals(otherViewCommandResult)
+                && viewMode == otherViewCommandResult.viewMode;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getFeedbackToUser(), viewMode);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("feedbackToUser", getFeedbackToUser())
+                .add("viewMode", viewMode)
+                .toString();
+    }
+
+}
@@ -50,7 +50,9 @@ public class DeleteFieldCommand extends Command {
         Person personWithFieldDeleted = descriptor.toPerson();
 
         model.setItem(personToDeleteField, personWithFieldDeleted);
-        model.updateDisplayedPersonList(PREDICATE_SHOW_ALL_PERSONS, null);
+        if (!model.isFilterPreservedOnChange()) {
+            model.updateDisplayedPersonList(PREDICATE_SHOW_ALL_PERSONS, null);
+        }
         return new CommandResult(String.format(MESSAGE_DELETE_PERSON_FIELD_SUCCESS,
                 Messages.format(personWithFieldDeleted)));
     }
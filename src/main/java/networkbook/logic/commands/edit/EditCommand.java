@@ -79,7 +79,9 @@ public class EditCommand extends Command {
         }
 
         model.setItem(personToEdit, editedPerson);
-        model.updateDisplayedPersonList(PREDICATE_SHOW_ALL_PERSONS, null);
+        if (!model.isFilterPreservedOnChange()) {
+            model.updateDisplayedPersonList(PREDICATE_SHOW_ALL_PERSONS, null);
+        }
         return new CommandResult(String.format(MESSAGE_EDIT_PERSON_SUCCESS, Messages.format(editedPerson)));
     }
 
@@ -1,9 +1,18 @@
 package networkbook.logic.commands.filter;
 
+import static networkbook.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
 import networkbook.logic.commands.Command;
 import networkbook.logic.commands.CommandResult;
 import networkbook.logic.parser.CliSyntax;
 import networkbook.model.Model;
+import networkbook.model.person.Person;
+import networkbook.model.person.filter.LogicalPredicate;
 
 /**
  * Filter contacts based on a specified set of criteria; valid fields to check are
@@ -17,18 +26,125 @@ public abstract class FilterCommand extends Command {
             + ": Filters all persons by a specified field (course, tag, specialisation, or grad year)"
             + " and returns a list of contacts that contain the specified keywords.\n"
             + "Course can be additionally filtered to exclude contacts"
-            + " who have finished the course.\n"
+            + " who have finished the course, or who did not take it on a date or during a period.\n"
             + "Parameters: "
             + CliSyntax.PREFIX_FILTER_FIELD + " FIELD "
             + CliSyntax.PREFIX_FILTER_ARGS + " ARGS "
-            + "[" + CliSyntax.PREFIX_FILTER_FIN + " true/false (false by default)]\n"
-            + "Example: " + COMMAND_WORD + " /by course /with a b c /taken false";
+            + "[" + CliSyntax.PREFIX_FILTER_FIN + " true/false (false by default) | "
+            + CliSyntax.PREFIX_FILTER_ON + " DD-MM-YYYY | "
+            + CliSyntax.PREFIX_FILTER_FROM + " DD-MM-YYYY " + CliSyntax.PREFIX_FILTER_TO + " DD-MM-YYYY] "
+            + "[" + CliSyntax.PREFIX_FILTER_COMBINE + " and/or/not]\n"
+            + "Example: " + COMMAND_WORD + " /by course /with a b c /taken false\n"
+            + "Alternatively, filters by a query on the fields name, tag, course, spec, grad and priority.\n"
+            + "Example: " + COMMAND_WORD + " tag:mentor AND (grad:2024..2026 OR priority:high) AND name~\"tan\"";
 
     public static final String MESSAGE_EXCL_FIN = "\n(excluding contacts who have finished taking)";
     public static final String MESSAGE_PERSONS_FOUND_OVERVIEW = "\n(%1$s contacts found)";
+    public static final String MESSAGE_COMBINED = "\n(combined with the previous filter using %1$s)";
+
+    /**
+     * Ways of combining a filter with the filter that is currently applied.
+     */
+    public enum Combination {
+        /** Replaces the current filter. */
+        REPLACE,
+        /** Keeps contacts that match both the current filter and this filter. */
+        AND,
+        /** Keeps contacts that match either the current filter or this filter. */
+        OR,
+        /** Keeps contacts that match the current filter but not this filter. */
+        NOT
+    }
+
+    private final Combination combination;
 
     public FilterCommand() {
+        this(Combination.REPLACE);
+    }
+
+    /**
+     * Creates a FilterCommand that is combined with the filter that is currently applied by {@code combination}.
+     */
+    public FilterCommand(Combination combination) {
         super(false);
+        assert combination != null : "Combination should not be null";
+        this.combination = combination;
+    }
+
+    public Combination getCombination() {
+        return combination;
+    }
+
+    /**
+     * Returns the filter of this command, before it is combined with the filter currently applied.
+     */
+    protected abstract Predicate<Person> getPredicate();
+
+    /**
+     * Filters the displayed person list of {@code model} by the filter of this command,
+     * combined with the filter currently applied as given by {@link #getCombination()}.
+     */
+    protected void updateFilter(Model model) {
+        model.updateDisplayedPersonList(getCombinedPredicate(model), null);
+    }
+
+    @Override
+    public Optional<Predicate<Person>> getPreviewPredicate(Model model) {
+        return Optional.of(getCombinedPredicate(model));
+    }
+
+    private Predicate<Person> getCombinedPredicate(Model model) {
+        return combine(model.getNetworkBook().getFilterPredicate(), getPredicate());
+    }
+
+    private Predicate<Person> combine(Predicate<Person> currentPredicate, Predicate<Person> predicate) {
+        boolean isFiltered = currentPredicate != null && currentPredicate != PREDICATE_SHOW_ALL_PERSONS;
+        switch (combination) {
+        case AND:
+            return isFiltered ? flatten(LogicalPredicate.Operator.AND, currentPredicate, predicate) : predicate;
+        case OR:
+            return isFiltered ? flatten(LogicalPredicate.Operator.OR, currentPredicate, predicate) : currentPredicate;
+        case NOT:
+            return isFiltered
+                    ? flatten(LogicalPredicate.Operator.AND, currentPredicate, LogicalPredicate.not(predicate))
+                    : LogicalPredicate.not(predicate);
+        default:
+            return predicate;
+        }
+    }
+
+    /**
+     * Combines {@code currentPredicate} and {@code predicate} with {@code operator},
+     * adding {@code predicate} to the operands of {@code currentPredicate} if it already uses {@code operator}.
+     */
+    private static LogicalPredicate flatten(LogicalPredicate.Operator operator, Predicate<Person> currentPredicate,
+                                            Predicate<Person> predicate) {
+        List<Predicate<Person>> operands = new ArrayList<>();
+        if (currentPredicate instanceof LogicalPredicate
+                && ((LogicalPredicate) currentPredicate).getOperator() == operator) {
+            operands.addAll(((LogicalPredicate) currentPredicate).getOperands());
+        } else {
+            operands.add(currentPredicate);
+        }
+        operands.add(predicate);
+        return operator == LogicalPredicate.Operator.AND
+                ? LogicalPredicate.and(operands)
+                : LogicalPredicate.or(operands);
+    }
+
+    /**
+     * Returns the message that describes how this filter was combined with the previous filter,
+     * which is empty if it replaced the previous filter.
+     */
+    protected String getCombinationMessage() {
+        return combination == Combination.REPLACE
+                ? ""
+                : String.format(MESSAGE_COMBINED, combination.name());
+    }
+
+    @Override
+    public boolean isQuery() {
+        return true;
     }
 
     /**
@@ -1,27 +1,36 @@
 package networkbook.logic.commands.filter;
 
+import java.time.format.DateTimeFormatter;
+import java.util.function.Predicate;
+
 import networkbook.commons.util.ToStringBuilder;
 import networkbook.logic.commands.CommandResult;
 import networkbook.logic.commands.FilterCommandResult;
 import networkbook.model.Model;
+import networkbook.model.person.Person;
 import networkbook.model.person.filter.CourseContainsKeyTermsPredicate;
 import networkbook.model.person.filter.CourseIsStillBeingTakenPredicate;
+import networkbook.model.person.filter.CourseTakenPredicate;
 
 /**
  * Filters the list of contacts to contacts that have courses that contain
  * at least one course that contains some specified key terms.
  *
  * Additionally, we can further specify whether all courses should be counted,
- * or only contacts that are currently taking the courses are counted.
+ * or only contacts that are taking the courses on a date or during a period are counted.
  */
 public class FilterCourseCommand extends FilterCommand {
 
     public static final String FIELD_NAME = "course";
 
     public static final String MESSAGE_SUCCESS = "Here is the list of contacts whose courses contain %1$s:";
+    public static final String MESSAGE_TAKEN_ON = "\n(only contacts who took the course on %1$s)";
+    public static final String MESSAGE_TAKEN_DURING = "\n(only contacts who took the course between %1$s and %2$s)";
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd-MM-uuuu");
     private final CourseContainsKeyTermsPredicate keyTermsPredicate;
     private final CourseIsStillBeingTakenPredicate takenPredicate;
     private final boolean checkFin;
+    private final boolean isPeriodGiven;
 
     /**
      * Creates a FilterCommand object that searches using a list of key terms,
@@ -31,9 +40,31 @@ public class FilterCourseCommand extends FilterCommand {
     public FilterCourseCommand(CourseContainsKeyTermsPredicate keyTermsPredicate,
                          CourseIsStillBeingTakenPredicate takenPredicate,
                          boolean checkFin) {
+        this(keyTermsPredicate, takenPredicate, checkFin, false, Combination.REPLACE);
+    }
+
+    /**
+     * Creates a FilterCommand object that searches using a list of key terms and
+     * a date or period to check whether a course is being taken, and is combined with
+     * the filter that is currently applied by {@code combination}.
+     * {@code isPeriodGiven} is true if the date or period was given by the user with {@code /on},
+     * or {@code /from} and {@code /to}, rather than being today's date for {@code /taken}.
+     */
+    public FilterCourseCommand(CourseContainsKeyTermsPredicate keyTermsPredicate,
+                         CourseIsStillBeingTakenPredicate takenPredicate,
+                         boolean checkFin, boolean isPeriodGiven, Combination combination) {
+        super(combination);
         this.keyTermsPredicate = keyTermsPredicate;
         this.takenPredicate = takenPredicate;
         this.checkFin = checkFin;
+        this.isPeriodGiven = isPeriodGiven;
+    }
+
+    @Override
+    protected Predicate<Person> getPredicate() {
+        return checkFin
+                ? new CourseTakenPredicate(keyTermsPredicate, takenPredicate)
+                : keyTermsPredicate;
     }
 
     /**
@@ -43,24 +74,34 @@ public class FilterCourseCommand extends FilterCommand {
      */
     public CommandResult execute(Model model) {
         assert model != null : "Model should not be null";
-        model.updateDisplayedPersonList(keyTermsPredicate, null);
+        updateFilter(model);
         String feedback = String.format(MESSAGE_SUCCESS, keyTermsPredicate.getKeyTerms()
                 .stream()
                 .reduce("", (acc, term) -> acc + " \"" + term + "\"")
                 .trim()
                 .replace(" ", ", "));
         if (checkFin) {
-            model.updateDisplayedPersonList(person -> keyTermsPredicate.getCourses(person)
-                    .stream()
-                    .anyMatch(course -> takenPredicate.test(course)),
-                    null);
-            feedback += MESSAGE_EXCL_FIN;
+            feedback += getTakenMessage();
         }
         return new FilterCommandResult(feedback
+                + getCombinationMessage()
                 + String.format(MESSAGE_PERSONS_FOUND_OVERVIEW, model.getDisplayedPersonList().size()),
                 FIELD_NAME);
     }
 
+    /**
+     * Returns the message that describes when the contacts found took the course.
+     */
+    private String getTakenMessage() {
+        if (!isPeriodGiven) {
+            return MESSAGE_EXCL_FIN;
+        }
+        String firstDate = DATE_FORMATTER.format(takenPredicate.getFirstDate());
+        return takenPredicate.getFirstDate().equals(takenPredicate.getLastDate())
+                ? String.format(MESSAGE_TAKEN_ON, firstDate)
+                : String.format(MESSAGE_TAKEN_DURING, firstDate, DATE_FORMATTER.format(takenPredicate.getLastDate()));
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -75,7 +116,9 @@ public class FilterCourseCommand extends FilterCommand {
         FilterCourseCommand otherFilterCommand = (FilterCourseCommand) other;
         return takenPredicate.equals(otherFilterCommand.takenPredicate)
                 && keyTermsPredicate.equals(otherFilterCommand.keyTermsPredicate)
-                && checkFin == otherFilterCommand.checkFin;
+                && checkFin == otherFilterCommand.checkFin
+                && isPeriodGiven == otherFilterCommand.isPeriodGiven
+                && getCombination() == otherFilterCommand.getCombination();
     }
 
     @Override
@@ -84,6 +127,7 @@ public class FilterCourseCommand extends FilterCommand {
                 .add("predicate", keyTermsPredicate)
                 .add("time", takenPredicate)
                 .add("taken", checkFin)
+                .add("periodGiven", isPeriodGiven)
                 .toString();
     }
 }
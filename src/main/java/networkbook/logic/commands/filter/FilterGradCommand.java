@@ -1,25 +1,43 @@
 package networkbook.logic.commands.filter;
 
+import java.util.function.Predicate;
+
 import networkbook.commons.util.ToStringBuilder;
 import networkbook.logic.commands.CommandResult;
 import networkbook.logic.commands.FilterCommandResult;
 import networkbook.model.Model;
-import networkbook.model.person.filter.GradEqualsOneOfPredicate;
+import networkbook.model.person.Person;
+import networkbook.model.person.filter.GradInRangesPredicate;
 
 /**
  * Filters the list of contacts to contacts that have grad years
- * equal to one of the given years.
+ * in one of the given ranges of years or semesters.
  */
 public class FilterGradCommand extends FilterCommand {
     public static final String FIELD_NAME = "grad";
-    public static final String ALL_NUMBERS = "Grad years must all be whole numbers!";
+    public static final String INVALID_GRAD_TERMS = "Grad years must be years such as 2023, ranges such as 2020-2024,"
+            + " or bounds such as >=2022 or <AY2223-S2, where each year can also be a semester such as AY2223-S1!";
+    public static final String EMPTY_GRAD_RANGE = "The start of a grad year range must not be after its end!";
+
+    public static final String MESSAGE_SUCCESS = "Here is the list of contacts whose grad years are within %1$s:";
+    private GradInRangesPredicate yearsPredicate;
+    public FilterGradCommand(GradInRangesPredicate yearsPredicate) {
+        this(yearsPredicate, Combination.REPLACE);
+    }
 
-    public static final String MESSAGE_SUCCESS = "Here is the list of contacts whose grad years equals %1$s:";
-    private GradEqualsOneOfPredicate yearsPredicate;
-    public FilterGradCommand(GradEqualsOneOfPredicate yearsPredicate) {
+    /**
+     * Creates a FilterGradCommand that is combined with the filter that is currently applied by {@code combination}.
+     */
+    public FilterGradCommand(GradInRangesPredicate yearsPredicate, Combination combination) {
+        super(combination);
         this.yearsPredicate = yearsPredicate;
     }
 
+    @Override
+    protected Predicate<Person> getPredicate() {
+        return yearsPredicate;
+    }
+
     /**
      * Executes the FilterCommand object and returns a message to the user.
      *
@@ -27,14 +45,15 @@ public class FilterGradCommand extends FilterCommand {
      */
     public CommandResult execute(Model model) {
         assert model != null : "Model should not be null";
-        model.updateDisplayedPersonList(yearsPredicate, null);
-        String feedback = String.format(MESSAGE_SUCCESS, yearsPredicate.getGradYears()
+        updateFilter(model);
+        String feedback = String.format(MESSAGE_SUCCESS, yearsPredicate.getRanges()
                 .stream()
-                .map(integer -> integer.toString())
+                .map(range -> range.toString())
                 .reduce("", (acc, term) -> acc + " \"" + term + "\"")
                 .trim()
                 .replace(" ", ", "));
         return new FilterCommandResult(feedback
+                + getCombinationMessage()
                 + String.format(MESSAGE_PERSONS_FOUND_OVERVIEW, model.getDisplayedPersonList().size()),
                 FIELD_NAME);
     }
@@ -51,7 +70,8 @@ public class FilterGradCommand extends FilterCommand {
         }
 
         FilterGradCommand otherFilterCommand = (FilterGradCommand) other;
-        return yearsPredicate.equals(otherFilterCommand.yearsPredicate);
+        return yearsPredicate.equals(otherFilterCommand.yearsPredicate)
+                && getCombination() == otherFilterCommand.getCombination();
     }
 
     @Override
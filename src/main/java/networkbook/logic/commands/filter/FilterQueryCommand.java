@@ -0,0 +1,83 @@
+package networkbook.logic.commands.filter;
+
+import java.util.function.Predicate;
+
+import networkbook.commons.util.ToStringBuilder;
+import networkbook.logic.commands.CommandResult;
+import networkbook.logic.commands.FilterCommandResult;
+import networkbook.model.Model;
+import networkbook.model.person.Person;
+
+/**
+ * Filters the list of contacts to contacts that match a query,
+ * which combines conditions on several fields with AND, OR and NOT.
+ */
+public class FilterQueryCommand extends FilterCommand {
+    public static final String FIELD_NAME = "query";
+    public static final String MESSAGE_SUCCESS = "Here is the list of contacts matching %1$s:";
+    private final Predicate<Person> predicate;
+    private final String query;
+
+    /**
+     * Creates a FilterQueryCommand that filters by {@code predicate}, which is parsed from {@code query}.
+     */
+    public FilterQueryCommand(Predicate<Person> predicate, String query) {
+        this(predicate, query, Combination.REPLACE);
+    }
+
+    /**
+     * Creates a FilterQueryCommand that filters by {@code predicate}, which is parsed from {@code query},
+     * and is combined with the filter that is currently applied by {@code combination}.
+     */
+    public FilterQueryCommand(Predicate<Person> predicate, String query, Combination combination) {
+        super(combination);
+        assert predicate != null : "Predicate should not be null";
+        assert query != null : "Query should not be null";
+        this.predicate = predicate;
+        this.query = query;
+    }
+
+    @Override
+    protected Predicate<Person> getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Executes the FilterCommand object and returns a message to the user.
+     *
+     * @param model {@code Model} which the command should operate on.
+     */
+    public CommandResult execute(Model model) {
+        assert model != null : "Model should not be null";
+        updateFilter(model);
+        return new FilterCommandResult(String.format(MESSAGE_SUCCESS, query)
+                + getCombinationMessage()
+                + String.format(MESSAGE_PERSONS_FOUND_OVERVIEW, model.getDisplayedPersonList().size()),
+                FIELD_NAME);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FilterQueryCommand)) {
+            return false;
+        }
+
+        FilterQueryCommand otherFilterCommand = (FilterQueryCommand) other;
+        return predicate.equals(otherFilterCommand.predicate)
+                && query.equals(otherFilterCommand.query)
+                && getCombination() == otherFilterCommand.getCombination();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("predicate", predicate)
+                .add("query", query)
+                .toString();
+    }
+}
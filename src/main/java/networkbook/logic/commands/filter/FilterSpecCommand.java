@@ -1,9 +1,12 @@
 package networkbook.logic.commands.filter;
 
+import java.util.function.Predicate;
+
 import networkbook.commons.util.ToStringBuilder;
 import networkbook.logic.commands.CommandResult;
 import networkbook.logic.commands.FilterCommandResult;
 import networkbook.model.Model;
+import networkbook.model.person.Person;
 import networkbook.model.person.filter.SpecContainsKeyTermsPredicate;
 
 /**
@@ -16,9 +19,22 @@ public class FilterSpecCommand extends FilterCommand {
     public static final String MESSAGE_SUCCESS = "Here is the list of contacts whose specialisations contain %1$s:";
     private SpecContainsKeyTermsPredicate keyTermsPredicate;
     public FilterSpecCommand(SpecContainsKeyTermsPredicate keyTermsPredicate) {
+        this(keyTermsPredicate, Combination.REPLACE);
+    }
+
+    /**
+     * Creates a FilterSpecCommand that is combined with the filter that is currently applied by {@code combination}.
+     */
+    public FilterSpecCommand(SpecContainsKeyTermsPredicate keyTermsPredicate, Combination combination) {
+        super(combination);
         this.keyTermsPredicate = keyTermsPredicate;
     }
 
+    @Override
+    protected Predicate<Person> getPredicate() {
+        return keyTermsPredicate;
+    }
+
     /**
      * Executes the FilterCommand object and returns a message to the user.
      *
@@ -26,13 +42,14 @@ public class FilterSpecCommand extends FilterCommand {
      */
     public CommandResult execute(Model model) {
         assert model != null : "Model should not be null";
-        model.updateDisplayedPersonList(keyTermsPredicate, null);
+        updateFilter(model);
         String feedback = String.format(MESSAGE_SUCCESS, keyTermsPredicate.getKeyTerms()
                 .stream()
                 .reduce("", (acc, term) -> acc + " \"" + term + "\"")
                 .trim()
                 .replace(" ", ", "));
         return new FilterCommandResult(feedback
+                + getCombinationMessage()
                 + String.format(MESSAGE_PERSONS_FOUND_OVERVIEW, model.getDisplayedPersonList().size()),
                 FIELD_NAME);
     }
@@ -49,7 +66,8 @@ public class FilterSpecCommand extends FilterCommand {
         }
 
         FilterSpecCommand otherFilterCommand = (FilterSpecCommand) other;
-        return keyTermsPredicate.equals(otherFilterCommand.keyTermsPredicate);
+        return keyTermsPredicate.equals(otherFilterCommand.keyTermsPredicate)
+                && getCombination() == otherFilterCommand.getCombination();
     }
 
     @Override
@@ -1,5 +1,7 @@
 package networkbook.logic.parser;
 
+import java.util.List;
+
 /**
  * Contains Command Line Interface (CLI) syntax definitions common to multiple commands
  */
@@ -20,7 +22,22 @@ public class CliSyntax {
     public static final Prefix PREFIX_INDEX = new Prefix("/index");
     public static final Prefix PREFIX_SORT_FIELD = new Prefix("/by");
     public static final Prefix PREFIX_SORT_ORDER = new Prefix("/order");
+    public static final Prefix PREFIX_SORT_THEN = new Prefix("/then");
+    public static final Prefix PREFIX_SORT_TOP = new Prefix("/top");
+    public static final Prefix PREFIX_LIMIT = new Prefix("/limit");
     public static final Prefix PREFIX_FILTER_FIELD = new Prefix("/by");
     public static final Prefix PREFIX_FILTER_ARGS = new Prefix("/with");
     public static final Prefix PREFIX_FILTER_FIN = new Prefix("/taken");
+    public static final Prefix PREFIX_FILTER_ON = new Prefix("/on");
+    public static final Prefix PREFIX_FILTER_FROM = new Prefix("/from");
+    public static final Prefix PREFIX_FILTER_TO = new Prefix("/to");
+    public static final Prefix PREFIX_FILTER_COMBINE = new Prefix("/combine");
+    public static final Prefix PREFIX_GROUP_FIELD = new Prefix("/by");
+
+    /** All distinct prefixes. */
+    public static final List<Prefix> PREFIXES = List.of(PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_LINK,
+            PREFIX_GRADUATION, PREFIX_COURSE, PREFIX_COURSE_START, PREFIX_COURSE_END, PREFIX_SPECIALISATION,
+            PREFIX_TAG, PREFIX_PRIORITY, PREFIX_INDEX, PREFIX_SORT_FIELD, PREFIX_SORT_ORDER, PREFIX_SORT_THEN,
+            PREFIX_SORT_TOP, PREFIX_LIMIT, PREFIX_FILTER_ARGS, PREFIX_FILTER_FIN, PREFIX_FILTER_ON,
+            PREFIX_FILTER_FROM, PREFIX_FILTER_TO, PREFIX_FILTER_COMBINE);
 }
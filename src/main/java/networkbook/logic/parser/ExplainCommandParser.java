@@ -0,0 +1,26 @@
+package networkbook.logic.parser;
+
+import networkbook.logic.Messages;
+import networkbook.logic.commands.ExplainCommand;
+import networkbook.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ExplainCommand object
+ */
+public class ExplainCommandParser implements Parser<ExplainCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExplainCommand
+     * and returns an ExplainCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ExplainCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT,
+                    ExplainCommand.MESSAGE_USAGE));
+        }
+        return new ExplainCommand(QueryParser.parseQuery(trimmedArgs), trimmedArgs);
+    }
+
+}
@@ -1,21 +1,31 @@
 package networkbook.logic.parser;
 
 import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.ResolverStyle;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import networkbook.logic.Messages;
 import networkbook.logic.commands.filter.FilterCommand;
 import networkbook.logic.commands.filter.FilterCourseCommand;
 import networkbook.logic.commands.filter.FilterGradCommand;
+import networkbook.logic.commands.filter.FilterQueryCommand;
 import networkbook.logic.commands.filter.FilterSpecCommand;
 import networkbook.logic.commands.filter.FilterTagCommand;
 import networkbook.logic.parser.exceptions.ParseException;
+import networkbook.model.person.Course;
+import networkbook.model.person.Graduation;
 import networkbook.model.person.filter.CourseContainsKeyTermsPredicate;
 import networkbook.model.person.filter.CourseIsStillBeingTakenPredicate;
 import networkbook.model.person.filter.GradEqualsOneOfPredicate;
+import networkbook.model.person.filter.GradInAnyRangePredicate;
+import networkbook.model.person.filter.GradRange;
 import networkbook.model.person.filter.SpecContainsKeyTermsPredicate;
 import networkbook.model.person.filter.TagsContainKeyTermsPredicate;
 
@@ -27,6 +37,18 @@ public class FilterCommandParser implements Parser<FilterCommand> {
             + " be empty!";
     public static final String UNKNOWN_FIELD = "Can only filter by spec, course, tag, or grad year!";
     public static final String TAKEN_BEFORE_WITH = "/taken must not be placed before /with!";
+    public static final String CONFLICTING_COURSE_DATES = "Only one of /taken, /on, or /from and /to can be given!";
+    public static final String INCOMPLETE_COURSE_PERIOD = "/from and /to must be given together!";
+    public static final String REVERSED_COURSE_PERIOD = "The /from date must not be after the /to date!";
+    public static final String INVALID_COMBINATION = "/combine must be one of and, or, or not!";
+
+    private static final String GRAD_BOUND_REGEX = "(\\d{1,4}|AY\\d{4}-S\\d)";
+    private static final Pattern GRAD_RANGE_PATTERN = Pattern.compile(GRAD_BOUND_REGEX + "-" + GRAD_BOUND_REGEX);
+    private static final Pattern GRAD_COMPARISON_PATTERN = Pattern.compile("(>=|<=|>|<)" + GRAD_BOUND_REGEX);
+    private static final Pattern GRAD_SINGLE_PATTERN = Pattern.compile(GRAD_BOUND_REGEX);
+
+    private static final DateTimeFormatter COURSE_DATE_FORMATTER = DateTimeFormatter
+            .ofPattern("dd-MM-uuuu").withResolverStyle(ResolverStyle.STRICT);
 
     private static final String CMD_STRING_FORMAT = FilterCommand.COMMAND_WORD + " "
                 + CliSyntax.PREFIX_FILTER_FIELD + " %s " + CliSyntax.PREFIX_FILTER_ARGS + " %s";
@@ -43,9 +65,17 @@ public class FilterCommandParser implements Parser<FilterCommand> {
                 ArgumentTokenizer.tokenize(
                         args,
                         CliSyntax.PREFIX_FILTER_FIELD,
-                        CliSyntax.PREFIX_FILTER_ARGS
+                        CliSyntax.PREFIX_FILTER_ARGS,
+                        CliSyntax.PREFIX_FILTER_COMBINE
                 );
 
+        if (isQuery(argMultimap)) {
+            argMultimap.verifyNoDuplicatePrefixesFor(CliSyntax.PREFIX_FILTER_COMBINE);
+            String query = argMultimap.getPreamble().trim();
+            return new FilterQueryCommand(QueryParser.parseQuery(query), query,
+                    parseCombination(argMultimap.getValue(CliSyntax.PREFIX_FILTER_COMBINE)));
+        }
+
         if (!ArgumentMultimap.arePrefixesPresent(argMultimap, CliSyntax.PREFIX_FILTER_FIELD)
                 || !ArgumentMultimap.arePrefixesPresent(argMultimap, CliSyntax.PREFIX_FILTER_ARGS)) {
             if (!ArgumentMultimap.arePrefixesPresent(argMultimap, CliSyntax.PREFIX_FILTER_FIELD)
@@ -57,7 +87,8 @@ public class FilterCommandParser implements Parser<FilterCommand> {
 
         argMultimap.verifyNoDuplicatePrefixesFor(
                 CliSyntax.PREFIX_FILTER_FIELD,
-                CliSyntax.PREFIX_FILTER_ARGS);
+                CliSyntax.PREFIX_FILTER_ARGS,
+                CliSyntax.PREFIX_FILTER_COMBINE);
 
         // Ensure that "/taken" is not placed before "/with"
         if (args.contains(CliSyntax.PREFIX_FILTER_FIN.getPrefix())) {
@@ -74,37 +105,74 @@ public class FilterCommandParser implements Parser<FilterCommand> {
             throw new ParseException(MISSING_FIELD);
         }
 
+        FilterCommand.Combination combination =
+                parseCombination(argMultimap.getValue(CliSyntax.PREFIX_FILTER_COMBINE));
         switch (field) {
         case FilterSpecCommand.FIELD_NAME:
-            return parseSpec(compArgs);
+            return parseSpec(compArgs, combination);
         case FilterCourseCommand.FIELD_NAME:
-            return parseCourse(compArgs);
+            return parseCourse(compArgs, combination);
         case FilterGradCommand.FIELD_NAME:
-            return parseGrad(compArgs);
+            return parseGrad(compArgs, combination);
         case FilterTagCommand.FIELD_NAME:
-            return parseTag(compArgs);
+            return parseTag(compArgs, combination);
         default:
-            break;
+            throw new ParseException(UNKNOWN_FIELD);
+        }
+    }
+
+    /**
+     * Returns true if the arguments are a query rather than {@code /by} and {@code /with} arguments,
+     * which is when the query is given before any prefix and neither {@code /by} nor {@code /with} is given.
+     */
+    private static boolean isQuery(ArgumentMultimap argMultimap) {
+        return !argMultimap.getPreamble().isBlank()
+                && !ArgumentMultimap.arePrefixesPresent(argMultimap, CliSyntax.PREFIX_FILTER_FIELD)
+                && !ArgumentMultimap.arePrefixesPresent(argMultimap, CliSyntax.PREFIX_FILTER_ARGS);
+    }
+
+    /**
+     * Parses the value of {@code /combine}, if given, into how the filter is combined with the current filter.
+     */
+    private static FilterCommand.Combination parseCombination(Optional<String> combination) throws ParseException {
+        if (combination.isEmpty()) {
+            return FilterCommand.Combination.REPLACE;
+        }
+        switch (combination.get().trim().toLowerCase()) {
+        case "and":
+            return FilterCommand.Combination.AND;
+        case "or":
+            return FilterCommand.Combination.OR;
+        case "not":
+            return FilterCommand.Combination.NOT;
+        default:
+            throw new ParseException(INVALID_COMBINATION);
         }
-        throw new ParseException(UNKNOWN_FIELD);
     }
 
     /**
      * Parses the text and create a FilterCourseCommand object.
      *
      * @param course
+     * @param combination how the filter is combined with the filter that is currently applied
      * @return A FilterCourseCommand
      * @throws ParseException if the user input does not conform to the expected format
      */
-    public FilterCommand parseCourse(String course) throws ParseException {
+    public FilterCommand parseCourse(String course, FilterCommand.Combination combination) throws ParseException {
         ArgumentMultimap argMultimap =
                 ArgumentTokenizer.tokenize(
                         course,
-                        CliSyntax.PREFIX_FILTER_FIN
+                        CliSyntax.PREFIX_FILTER_FIN,
+                        CliSyntax.PREFIX_FILTER_ON,
+                        CliSyntax.PREFIX_FILTER_FROM,
+                        CliSyntax.PREFIX_FILTER_TO
                 );
 
         argMultimap.verifyNoDuplicatePrefixesFor(
-                CliSyntax.PREFIX_FILTER_FIN
+                CliSyntax.PREFIX_FILTER_FIN,
+                CliSyntax.PREFIX_FILTER_ON,
+                CliSyntax.PREFIX_FILTER_FROM,
+                CliSyntax.PREFIX_FILTER_TO
         );
 
         Optional<String> fieldString = Optional.ofNullable(argMultimap.getPreamble());
@@ -119,6 +187,20 @@ public class FilterCommandParser implements Parser<FilterCommand> {
                     String.format(MISSING_FIELD)
             );
         }
+        CourseContainsKeyTermsPredicate keyTermsPredicate =
+                new CourseContainsKeyTermsPredicate(List.of(predicateTerms));
+
+        boolean hasOn = ArgumentMultimap.arePrefixesPresent(argMultimap, CliSyntax.PREFIX_FILTER_ON);
+        boolean hasFrom = ArgumentMultimap.arePrefixesPresent(argMultimap, CliSyntax.PREFIX_FILTER_FROM);
+        boolean hasTo = ArgumentMultimap.arePrefixesPresent(argMultimap, CliSyntax.PREFIX_FILTER_TO);
+        boolean hasTaken = ArgumentMultimap.arePrefixesPresent(argMultimap, CliSyntax.PREFIX_FILTER_FIN);
+        if (hasOn || hasFrom || hasTo) {
+            if (hasTaken || (hasOn && (hasFrom || hasTo))) {
+                throw new ParseException(CONFLICTING_COURSE_DATES);
+            }
+            return new FilterCourseCommand(keyTermsPredicate, parseCoursePeriod(argMultimap, hasOn), true, true,
+                    combination);
+        }
 
         Optional<String> booleanToCheck = argMultimap.getValue(CliSyntax.PREFIX_FILTER_FIN);
         String booleanToCheckString = booleanToCheck.orElse("false").trim().toLowerCase();
@@ -129,9 +211,42 @@ public class FilterCommandParser implements Parser<FilterCommand> {
         }
 
         return new FilterCourseCommand(
-                new CourseContainsKeyTermsPredicate(List.of(predicateTerms)),
+                keyTermsPredicate,
                 new CourseIsStillBeingTakenPredicate(LocalDate.now()),
-                Boolean.parseBoolean(booleanToCheck.orElse("false")));
+                Boolean.parseBoolean(booleanToCheck.orElse("false")),
+                false,
+                combination);
+    }
+
+    /**
+     * Parses the date given with {@code /on}, or the period given with {@code /from} and {@code /to},
+     * into a predicate for the courses taken then.
+     */
+    private static CourseIsStillBeingTakenPredicate parseCoursePeriod(ArgumentMultimap argMultimap, boolean hasOn)
+            throws ParseException {
+        if (hasOn) {
+            return new CourseIsStillBeingTakenPredicate(
+                    parseCourseDate(argMultimap.getValue(CliSyntax.PREFIX_FILTER_ON).get()));
+        }
+        Optional<String> from = argMultimap.getValue(CliSyntax.PREFIX_FILTER_FROM);
+        Optional<String> to = argMultimap.getValue(CliSyntax.PREFIX_FILTER_TO);
+        if (from.isEmpty() || to.isEmpty()) {
+            throw new ParseException(INCOMPLETE_COURSE_PERIOD);
+        }
+        LocalDate firstDate = parseCourseDate(from.get());
+        LocalDate lastDate = parseCourseDate(to.get());
+        if (firstDate.isAfter(lastDate)) {
+            throw new ParseException(REVERSED_COURSE_PERIOD);
+        }
+        return new CourseIsStillBeingTakenPredicate(firstDate, lastDate);
+    }
+
+    private static LocalDate parseCourseDate(String date) throws ParseException {
+        String trimmedDate = date.trim();
+        if (!Course.isValidDate(trimmedDate)) {
+            throw new ParseException(Course.DATE_CONSTRAINTS);
+        }
+        return LocalDate.parse(trimmedDate, COURSE_DATE_FORMATTER);
     }
 
     /**
@@ -148,48 +263,121 @@ public class FilterCommandParser implements Parser<FilterCommand> {
      * Parses the text and create a FilterSpecCommand object.
      *
      * @param spec
+     * @param combination how the filter is combined with the filter that is currently applied
      * @return A FilterSpecCommand
      */
-    public FilterCommand parseSpec(String spec) {
+    public FilterCommand parseSpec(String spec, FilterCommand.Combination combination) {
         Optional<String> fieldString = Optional.ofNullable(spec);
         String[] predicateTerms = fieldString.get().trim().split("\\s+");
 
-        return new FilterSpecCommand(new SpecContainsKeyTermsPredicate(List.of(predicateTerms)));
+        return new FilterSpecCommand(new SpecContainsKeyTermsPredicate(List.of(predicateTerms)), combination);
     }
 
     /**
      * Parses the text and create a FilterTagCommand object.
      *
      * @param tag
+     * @param combination how the filter is combined with the filter that is currently applied
      * @return A FilterTagCommand
      */
-    public FilterCommand parseTag(String tag) {
+    public FilterCommand parseTag(String tag, FilterCommand.Combination combination) {
         Optional<String> fieldString = Optional.ofNullable(tag);
         String[] predicateTerms = fieldString.get().trim().split("\\s+");
 
-        return new FilterTagCommand(new TagsContainKeyTermsPredicate(List.of(predicateTerms)));
+        return new FilterTagCommand(new TagsContainKeyTermsPredicate(List.of(predicateTerms)), combination);
     }
 
     /**
      * Parses the text and create a FilterGradCommand object.
+     * Each term is a year, a semester such as {@code AY2223-S1}, a range of them such as {@code 2020-2024},
+     * or a bound on them such as {@code >=AY2223-S1}.
      *
      * @param grad
+     * @param combination how the filter is combined with the filter that is currently applied
      * @return A FilterGradCommand
      */
-    public FilterCommand parseGrad(String grad) throws ParseException {
+    public FilterCommand parseGrad(String grad, FilterCommand.Combination combination) throws ParseException {
         Optional<String> fieldString = Optional.ofNullable(grad);
         String[] predicateTerms = fieldString.get().trim().split("\\s+");
         if (Arrays.stream(predicateTerms).anyMatch(s -> s.equals(""))) {
             throw new ParseException(MISSING_FIELD);
         }
-        try {
-            List<Integer> yearsPredicate = Arrays.stream(predicateTerms)
-                    .map(String::trim)
-                    .map(Integer::parseInt)
-                    .collect(Collectors.toList());
-            return new FilterGradCommand(new GradEqualsOneOfPredicate(yearsPredicate));
-        } catch (NumberFormatException e) {
-            throw new ParseException(FilterGradCommand.ALL_NUMBERS);
+        if (Arrays.stream(predicateTerms).allMatch(term -> term.matches("\\d+"))) {
+            try {
+                List<Integer> yearsPredicate = Arrays.stream(predicateTerms)
+                        .map(String::trim)
+                        .map(Integer::parseInt)
+                        .collect(Collectors.toList());
+                return new FilterGradCommand(new GradEqualsOneOfPredicate(yearsPredicate), combination);
+            } catch (NumberFormatException e) {
+                throw new ParseException(FilterGradCommand.INVALID_GRAD_TERMS);
+            }
+        }
+        List<GradRange> ranges = new ArrayList<>();
+        for (String term : predicateTerms) {
+            ranges.add(parseGradRange(term.toUpperCase()));
+        }
+        return new FilterGradCommand(new GradInAnyRangePredicate(ranges), combination);
+    }
+
+    /**
+     * Parses a single term of a grad filter into the range of graduations it stands for.
+     */
+    static GradRange parseGradRange(String term) throws ParseException {
+        Matcher matcher = GRAD_SINGLE_PATTERN.matcher(term);
+        if (matcher.matches()) {
+            return new GradRange(parseGradLowerBound(matcher.group(1)), parseGradUpperBound(matcher.group(1)));
+        }
+
+        matcher = GRAD_RANGE_PATTERN.matcher(term);
+        if (matcher.matches()) {
+            GradRange range = new GradRange(parseGradLowerBound(matcher.group(1)),
+                    parseGradUpperBound(matcher.group(2)));
+            if (range.isEmpty()) {
+                throw new ParseException(FilterGradCommand.EMPTY_GRAD_RANGE);
+            }
+            return range;
+        }
+
+        matcher = GRAD_COMPARISON_PATTERN.matcher(term);
+        if (!matcher.matches()) {
+            throw new ParseException(FilterGradCommand.INVALID_GRAD_TERMS);
+        }
+        String bound = matcher.group(2);
+        switch (matcher.group(1)) {
+        case ">=":
+            return new GradRange(parseGradLowerBound(bound), GradRange.NO_UPPER_BOUND);
+        case ">":
+            return new GradRange(parseGradUpperBound(bound) + 1, GradRange.NO_UPPER_BOUND);
+        case "<=":
+            return new GradRange(GradRange.NO_LOWER_BOUND, parseGradUpperBound(bound));
+        default:
+            return new GradRange(GradRange.NO_LOWER_BOUND, parseGradLowerBound(bound) - 1);
+        }
+    }
+
+    /**
+     * Returns the packed value of the first graduation in {@code bound}, a year or a semester.
+     */
+    private static int parseGradLowerBound(String bound) throws ParseException {
+        return bound.startsWith("AY")
+                ? parseGradSemester(bound)
+                : GradRange.getFirstPackedValue(Integer.parseInt(bound));
+    }
+
+    /**
+     * Returns the packed value of the last graduation in {@code bound}, a year or a semester.
+     */
+    private static int parseGradUpperBound(String bound) throws ParseException {
+        return bound.startsWith("AY")
+                ? parseGradSemester(bound)
+                : GradRange.getLastPackedValue(Integer.parseInt(bound));
+    }
+
+    private static int parseGradSemester(String semester) throws ParseException {
+        if (!Graduation.isValidGraduation(semester)) {
+            throw new ParseException(Graduation.MESSAGE_CONSTRAINTS);
         }
+        return new Graduation(semester).getPackedValue();
     }
 }
@@ -1,16 +1,21 @@
 package networkbook.logic.parser;
 
 import java.util.Arrays;
+import java.util.List;
 
 import networkbook.logic.Messages;
 import networkbook.logic.commands.FindCommand;
 import networkbook.logic.parser.exceptions.ParseException;
 import networkbook.model.person.NameContainsKeyTermsPredicate;
+import networkbook.model.person.NameFuzzyMatchPredicate;
+import networkbook.model.person.NameSoundsLikePredicate;
 
 /**
  * Parses input arguments and creates a new FindCommand object
  */
 public class FindCommandParser implements Parser<FindCommand> {
+    public static final String FUZZY_MARKER = "~";
+    public static final String PHONETIC_MARKER = "?";
 
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
@@ -24,9 +29,29 @@ public class FindCommandParser implements Parser<FindCommand> {
                     String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
+        if (trimmedArgs.startsWith(FUZZY_MARKER)) {
+            return new FindCommand(new NameFuzzyMatchPredicate(parseMarkedKeyTerms(trimmedArgs, FUZZY_MARKER)));
+        }
+        if (trimmedArgs.startsWith(PHONETIC_MARKER)) {
+            return new FindCommand(new NameSoundsLikePredicate(parseMarkedKeyTerms(trimmedArgs, PHONETIC_MARKER)));
+        }
+
         String[] nameKeyTerms = trimmedArgs.split("\\s+");
 
         return new FindCommand(new NameContainsKeyTermsPredicate(Arrays.asList(nameKeyTerms)));
     }
 
+    /**
+     * Returns the key terms that follow {@code marker} at the start of {@code trimmedArgs}.
+     * @throws ParseException if there are no key terms after the marker.
+     */
+    private static List<String> parseMarkedKeyTerms(String trimmedArgs, String marker) throws ParseException {
+        String keyTermArgs = trimmedArgs.substring(marker.length()).trim();
+        if (keyTermArgs.isEmpty()) {
+            throw new ParseException(
+                    String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+        return Arrays.asList(keyTermArgs.split("\\s+"));
+    }
+
 }
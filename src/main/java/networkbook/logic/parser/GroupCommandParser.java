@@ -0,0 +1,34 @@
+package networkbook.logic.parser;
+
+import java.util.Optional;
+
+import networkbook.logic.Messages;
+import networkbook.logic.commands.GroupCommand;
+import networkbook.logic.parser.exceptions.ParseException;
+import networkbook.model.PersonGroups.GroupField;
+
+/**
+ * Parses input arguments and creates a new GroupCommand object
+ */
+public class GroupCommandParser implements Parser<GroupCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the GroupCommand
+     * and returns a GroupCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public GroupCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, CliSyntax.PREFIX_GROUP_FIELD);
+
+        Optional<String> fieldString = argMultimap.getValue(CliSyntax.PREFIX_GROUP_FIELD);
+        if (!argMultimap.getPreamble().isEmpty() || fieldString.isEmpty()) {
+            throw new ParseException(
+                    String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, GroupCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(CliSyntax.PREFIX_GROUP_FIELD);
+
+        GroupField field = ParserUtil.parseGroupField(fieldString.get());
+        return new GroupCommand(field);
+    }
+
+}
@@ -0,0 +1,30 @@
+package networkbook.logic.parser;
+
+import java.util.Optional;
+
+import networkbook.logic.commands.ListCommand;
+import networkbook.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ListCommand object
+ */
+public class ListCommandParser implements Parser<ListCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ListCommand
+     * and returns a ListCommand object for execution.
+     * Any arguments before the prefixes are ignored.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ListCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, CliSyntax.PREFIX_LIMIT);
+        argMultimap.verifyNoDuplicatePrefixesFor(CliSyntax.PREFIX_LIMIT);
+
+        Optional<String> pageSizeString = argMultimap.getValue(CliSyntax.PREFIX_LIMIT);
+        if (pageSizeString.isEmpty()) {
+            return new ListCommand();
+        }
+        return new ListCommand(ParserUtil.parsePageSize(pageSizeString.get()));
+    }
+
+}
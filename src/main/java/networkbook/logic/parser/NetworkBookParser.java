@@ -1,5 +1,6 @@
 package networkbook.logic.parser;
 
+import java.util.List;
 import java.util.logging.Logger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -10,15 +11,19 @@ import networkbook.logic.commands.ClearCommand;
 import networkbook.logic.commands.Command;
 import networkbook.logic.commands.CreateCommand;
 import networkbook.logic.commands.ExitCommand;
+import networkbook.logic.commands.ExplainCommand;
 import networkbook.logic.commands.FindCommand;
+import networkbook.logic.commands.GroupCommand;
 import networkbook.logic.commands.HelpCommand;
 import networkbook.logic.commands.ListCommand;
 import networkbook.logic.commands.OpenEmailCommand;
 import networkbook.logic.commands.OpenLinkCommand;
+import networkbook.logic.commands.PageCommand;
 import networkbook.logic.commands.RedoCommand;
 import networkbook.logic.commands.SaveCommand;
 import networkbook.logic.commands.SortCommand;
 import networkbook.logic.commands.UndoCommand;
+import networkbook.logic.commands.ViewCommand;
 import networkbook.logic.commands.add.AddCommand;
 import networkbook.logic.commands.delete.DeletePersonCommand;
 import networkbook.logic.commands.edit.EditCommand;
@@ -30,6 +35,15 @@ import networkbook.logic.parser.exceptions.ParseException;
  */
 public class NetworkBookParser {
 
+    /** Words of all commands that can be parsed. */
+    public static final List<String> COMMAND_WORDS = List.of(CreateCommand.COMMAND_WORD, AddCommand.COMMAND_WORD,
+            EditCommand.COMMAND_WORD, DeletePersonCommand.COMMAND_WORD, ClearCommand.COMMAND_WORD,
+            UndoCommand.COMMAND_WORD, RedoCommand.COMMAND_WORD, FindCommand.COMMAND_WORD, SortCommand.COMMAND_WORD,
+            ListCommand.COMMAND_WORD, PageCommand.COMMAND_WORD, ExitCommand.COMMAND_WORD, HelpCommand.COMMAND_WORD,
+            SaveCommand.COMMAND_WORD, FilterCommand.COMMAND_WORD, ExplainCommand.COMMAND_WORD,
+            OpenLinkCommand.COMMAND_WORD, OpenEmailCommand.COMMAND_WORD, ViewCommand.COMMAND_WORD,
+            GroupCommand.COMMAND_WORD);
+
     /**
      * Used for initial separation of command word and args.
      */
@@ -87,7 +101,10 @@ public class NetworkBookParser {
             return new SortCommandParser().parse(arguments);
 
         case ListCommand.COMMAND_WORD:
-            return new ListCommand();
+            return new ListCommandParser().parse(arguments);
+
+        case PageCommand.COMMAND_WORD:
+            return new PageCommandParser().parse(arguments);
 
         case ExitCommand.COMMAND_WORD:
             return new ExitCommand();
@@ -101,12 +118,21 @@ public class NetworkBookParser {
         case FilterCommand.COMMAND_WORD:
             return new FilterCommandParser().parse(arguments);
 
+        case ExplainCommand.COMMAND_WORD:
+            return new ExplainCommandParser().parse(arguments);
+
         case OpenLinkCommand.COMMAND_WORD:
             return new OpenLinkCommandParser().parse(arguments);
 
         case OpenEmailCommand.COMMAND_WORD:
             return new OpenEmailCommandParser().parse(arguments);
 
+        case ViewCommand.COMMAND_WORD:
+            return new ViewCommandParser().parse(arguments);
+
+        case GroupCommand.COMMAND_WORD:
+            return new GroupCommandParser().parse(arguments);
+
         default:
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(Messages.MESSAGE_UNKNOWN_COMMAND);
@@ -0,0 +1,30 @@
+package networkbook.logic.parser;
+
+import networkbook.logic.Messages;
+import networkbook.logic.commands.PageCommand;
+import networkbook.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new PageCommand object
+ */
+public class PageCommandParser implements Parser<PageCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the PageCommand
+     * and returns a PageCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public PageCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim().toLowerCase();
+        switch (trimmedArgs) {
+        case PageCommand.NEXT_PAGE:
+            return PageCommand.byOffset(1);
+        case PageCommand.PREVIOUS_PAGE:
+            return PageCommand.byOffset(-1);
+        default:
+            return PageCommand.toPage(ParserUtil.parseIndex(trimmedArgs,
+                    String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, PageCommand.MESSAGE_USAGE)));
+        }
+    }
+
+}
@@ -6,7 +6,10 @@ import java.util.Collection;
 
 import networkbook.commons.core.index.Index;
 import networkbook.commons.util.StringUtil;
+import networkbook.logic.Messages;
 import networkbook.logic.parser.exceptions.ParseException;
+import networkbook.model.PersonGroups;
+import networkbook.model.PersonGroups.GroupField;
 import networkbook.model.person.Course;
 import networkbook.model.person.Email;
 import networkbook.model.person.Graduation;
@@ -388,6 +391,31 @@ public class ParserUtil {
         return sortField;
     }
 
+    /**
+     * Parses a {@code String field} into a {@code GroupField}.
+     * Leading and trailing whitespaces will be trimmed.
+     * @throws ParseException if the given {@code field} is not a field that persons can be grouped by.
+     */
+    public static GroupField parseGroupField(String field) throws ParseException {
+        requireNonNull(field);
+        return PersonGroups.parseGroupField(field)
+                .orElseThrow(() -> new ParseException(PersonGroups.MESSAGE_CONSTRAINTS_FIELD));
+    }
+
+    /**
+     * Parses a {@code String pageSize} into the number of contacts to show per page.
+     * Leading and trailing whitespaces will be trimmed.
+     * @throws ParseException if the given {@code pageSize} is not a positive integer.
+     */
+    public static int parsePageSize(String pageSize) throws ParseException {
+        requireNonNull(pageSize);
+        String trimmedPageSize = pageSize.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedPageSize)) {
+            throw new ParseException(Messages.MESSAGE_INVALID_PAGE_SIZE);
+        }
+        return Integer.parseInt(trimmedPageSize);
+    }
+
     /**
      * Parses a {@code String order} into a {@code SortOrder}.
      * Leading and trailing whitespaces will be trimmed.
@@ -0,0 +1,204 @@
+package networkbook.logic.parser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import networkbook.logic.parser.exceptions.ParseException;
+import networkbook.model.person.NameContainsKeyTermsPredicate;
+import networkbook.model.person.Person;
+import networkbook.model.person.Priority;
+import networkbook.model.person.filter.CourseContainsKeyTermsPredicate;
+import networkbook.model.person.filter.GradInAnyRangePredicate;
+import networkbook.model.person.filter.GradRange;
+import networkbook.model.person.filter.LogicalPredicate;
+import networkbook.model.person.filter.PriorityEqualsPredicate;
+import networkbook.model.person.filter.SpecContainsKeyTermsPredicate;
+import networkbook.model.person.filter.TagsContainKeyTermsPredicate;
+
+/**
+ * Parses a filter query, such as {@code tag:mentor AND (grad:2024..2026 OR priority:high) AND name~"tan"},
+ * into a predicate.
+ * A query is made of clauses {@code FIELD:VALUE}, combined with {@code AND}, {@code OR}, {@code NOT}
+ * and parentheses, where {@code NOT} binds tightest and {@code OR} loosest, and {@code AND} may be left out.
+ * Clauses on text fields can also be written as {@code FIELD~VALUE}, and quoted values may contain spaces.
+ */
+public class QueryParser {
+    public static final String MESSAGE_EMPTY_QUERY = "The query must not be empty!";
+    public static final String MESSAGE_INVALID_CLAUSE = "\"%1$s\" is not a clause of the form FIELD:VALUE!";
+    public static final String MESSAGE_UNKNOWN_FIELD =
+            "Can only query by name, tag, course, spec, grad or priority, but got \"%1$s\"!";
+    public static final String MESSAGE_INVALID_OPERATOR = "Only text fields can be matched with ~, but got \"%1$s\"!";
+    public static final String MESSAGE_UNCLOSED_QUOTE = "A quote in the query is not closed!";
+    public static final String MESSAGE_UNBALANCED_PARENTHESES = "The parentheses in the query are not balanced!";
+    public static final String MESSAGE_MISSING_CLAUSE = "A clause is missing after \"%1$s\"!";
+
+    private static final Pattern CLAUSE_PATTERN = Pattern.compile("(?<field>[a-zA-Z]+)(?<operator>[:~])(?<value>.*)");
+    private static final String OPEN_PARENTHESIS = "(";
+    private static final String CLOSE_PARENTHESIS = ")";
+
+    private final List<String> tokens;
+    private int position;
+
+    private QueryParser(List<String> tokens) {
+        this.tokens = tokens;
+    }
+
+    /**
+     * Parses {@code query} into a predicate, which is a {@code LogicalPredicate} if the query has more than one
+     * clause.
+     *
+     * @throws ParseException if {@code query} is not a valid query.
+     */
+    public static Predicate<Person> parseQuery(String query) throws ParseException {
+        List<String> tokens = tokenize(query);
+        if (tokens.isEmpty()) {
+            throw new ParseException(MESSAGE_EMPTY_QUERY);
+        }
+        QueryParser parser = new QueryParser(tokens);
+        Predicate<Person> predicate = parser.parseOr();
+        if (parser.position < tokens.size()) {
+            // only an unmatched closing parenthesis can stop the parse early
+            throw new ParseException(MESSAGE_UNBALANCED_PARENTHESES);
+        }
+        return predicate;
+    }
+
+    /**
+     * Splits {@code query} into parentheses, and words that are separated by whitespace outside quotes.
+     */
+    private static List<String> tokenize(String query) throws ParseException {
+        List<String> tokens = new ArrayList<>();
+        int i = 0;
+        while (i < query.length()) {
+            char c = query.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (c == '(' || c == ')') {
+                tokens.add(String.valueOf(c));
+                i++;
+            } else {
+                int start = i;
+                boolean isQuoted = false;
+                while (i < query.length() && (isQuoted || !isTokenEnd(query.charAt(i)))) {
+                    if (query.charAt(i) == '"') {
+                        isQuoted = !isQuoted;
+                    }
+                    i++;
+                }
+                if (isQuoted) {
+                    throw new ParseException(MESSAGE_UNCLOSED_QUOTE);
+                }
+                tokens.add(query.substring(start, i));
+            }
+        }
+        return tokens;
+    }
+
+    private static boolean isTokenEnd(char c) {
+        return Character.isWhitespace(c) || c == '(' || c == ')';
+    }
+
+    private Predicate<Person> parseOr() throws ParseException {
+        List<Predicate<Person>> operands = new ArrayList<>();
+        operands.add(parseAnd());
+        while (isNextKeyword("OR")) {
+            position++;
+            operands.add(parseAnd());
+        }
+        return operands.size() == 1 ? operands.get(0) : LogicalPredicate.or(operands);
+    }
+
+    private Predicate<Person> parseAnd() throws ParseException {
+        List<Predicate<Person>> operands = new ArrayList<>();
+        operands.add(parseNot());
+        while (position < tokens.size() && !isNextKeyword("OR") && !tokens.get(position).equals(CLOSE_PARENTHESIS)) {
+            if (isNextKeyword("AND")) {
+                position++;
+            }
+            operands.add(parseNot());
+        }
+        return operands.size() == 1 ? operands.get(0) : LogicalPredicate.and(operands);
+    }
+
+    private Predicate<Person> parseNot() throws ParseException {
+        if (position >= tokens.size()) {
+            throw new ParseException(String.format(MESSAGE_MISSING_CLAUSE, tokens.get(tokens.size() - 1)));
+        }
+        String token = tokens.get(position);
+        if (token.equalsIgnoreCase("NOT")) {
+            position++;
+            return LogicalPredicate.not(parseNot());
+        }
+        if (token.equals(OPEN_PARENTHESIS)) {
+            position++;
+            Predicate<Person> predicate = parseOr();
+            if (position >= tokens.size() || !tokens.get(position).equals(CLOSE_PARENTHESIS)) {
+                throw new ParseException(MESSAGE_UNBALANCED_PARENTHESES);
+            }
+            position++;
+            return predicate;
+        }
+        if (token.equals(CLOSE_PARENTHESIS) || token.equalsIgnoreCase("AND") || token.equalsIgnoreCase("OR")) {
+            throw new ParseException(String.format(MESSAGE_MISSING_CLAUSE,
+                    position == 0 ? "the start of the query" : tokens.get(position - 1)));
+        }
+        position++;
+        return parseClause(token);
+    }
+
+    private boolean isNextKeyword(String keyword) {
+        return position < tokens.size() && tokens.get(position).equalsIgnoreCase(keyword);
+    }
+
+    /**
+     * Parses a clause {@code FIELD:VALUE} or {@code FIELD~VALUE} into the predicate of its field.
+     */
+    private static Predicate<Person> parseClause(String clause) throws ParseException {
+        Matcher matcher = CLAUSE_PATTERN.matcher(clause);
+        if (!matcher.matches()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_CLAUSE, clause));
+        }
+        String field = matcher.group("field").toLowerCase();
+        boolean isContains = matcher.group("operator").equals("~");
+        String value = matcher.group("value").replace("\"", "").trim();
+        if (value.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_CLAUSE, clause));
+        }
+        List<String> terms = List.of(value.split("\\s+"));
+
+        switch (field) {
+        case "name":
+            return new NameContainsKeyTermsPredicate(terms);
+        case "tag":
+            return new TagsContainKeyTermsPredicate(terms);
+        case "course":
+            return new CourseContainsKeyTermsPredicate(terms);
+        case "spec":
+            return new SpecContainsKeyTermsPredicate(terms);
+        default:
+            break;
+        }
+
+        if (isContains) {
+            throw new ParseException(String.format(MESSAGE_INVALID_OPERATOR, clause));
+        }
+        switch (field) {
+        case "grad":
+            List<GradRange> ranges = new ArrayList<>();
+            for (String term : terms) {
+                ranges.add(FilterCommandParser.parseGradRange(term.toUpperCase().replace("..", "-")));
+            }
+            return new GradInAnyRangePredicate(ranges);
+        case "priority":
+            if (terms.size() > 1 || !Priority.isValidPriority(Priority.parsePriorityLevel(value))) {
+                throw new ParseException(Priority.MESSAGE_CONSTRAINTS);
+            }
+            return new PriorityEqualsPredicate(new Priority(value));
+        default:
+            throw new ParseException(String.format(MESSAGE_UNKNOWN_FIELD, field));
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package networkbook.logic.parser;
 
+import java.util.List;
 import java.util.Optional;
 
 import networkbook.logic.Messages;
@@ -24,12 +25,15 @@ public class SortCommandParser implements Parser<SortCommand> {
                 ArgumentTokenizer.tokenize(
                         args,
                         CliSyntax.PREFIX_SORT_FIELD,
-                        CliSyntax.PREFIX_SORT_ORDER
+                        CliSyntax.PREFIX_SORT_ORDER,
+                        CliSyntax.PREFIX_SORT_THEN,
+                        CliSyntax.PREFIX_SORT_TOP
                 );
 
         argMultimap.verifyNoDuplicatePrefixesFor(
                 CliSyntax.PREFIX_SORT_FIELD,
-                CliSyntax.PREFIX_SORT_ORDER
+                CliSyntax.PREFIX_SORT_ORDER,
+                CliSyntax.PREFIX_SORT_TOP
         );
 
         Optional<String> fieldString = argMultimap.getValue(CliSyntax.PREFIX_SORT_FIELD);
@@ -46,8 +50,39 @@ public class SortCommandParser implements Parser<SortCommand> {
         Optional<String> orderString = argMultimap.getValue(CliSyntax.PREFIX_SORT_ORDER);
         SortOrder order = ParserUtil.parseSortOrder(orderString.orElse("asc"));
 
-        PersonSortComparator comparator = new PersonSortComparator(field, order);
-        return new SortCommand(comparator);
+        PersonSortComparator tieBreaker = parseTieBreakers(argMultimap.getAllValues(CliSyntax.PREFIX_SORT_THEN));
+        PersonSortComparator comparator = new PersonSortComparator(field, order, tieBreaker);
+
+        Optional<String> topCountString = argMultimap.getValue(CliSyntax.PREFIX_SORT_TOP);
+        if (topCountString.isEmpty()) {
+            return new SortCommand(comparator);
+        }
+        return new SortCommand(comparator, ParserUtil.parsePageSize(topCountString.get()));
+    }
+
+    /**
+     * Parses the values of the {@code /then} prefixes, each of the form {@code FIELD [ORDER]},
+     * into a chain of comparators in the order they are given.
+     * Returns null if there are no values.
+     * @throws ParseException if a value is not of the expected form.
+     */
+    private static PersonSortComparator parseTieBreakers(List<String> values) throws ParseException {
+        PersonSortComparator tieBreaker = null;
+        for (int i = values.size() - 1; i >= 0; i--) {
+            String[] terms = values.get(i).trim().split("\\s+");
+            if (terms[0].isEmpty() || terms.length > 2) {
+                throw new ParseException(
+                        String.format(
+                                Messages.MESSAGE_INVALID_COMMAND_FORMAT,
+                                SortCommand.MESSAGE_USAGE
+                        )
+                );
+            }
+            SortField field = ParserUtil.parseSortField(terms[0]);
+            SortOrder order = ParserUtil.parseSortOrder(terms.length == 2 ? terms[1] : "asc");
+            tieBreaker = new PersonSortComparator(field, order, tieBreaker);
+        }
+        return tieBreaker;
     }
 
 }
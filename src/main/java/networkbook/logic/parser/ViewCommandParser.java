@@ -0,0 +1,28 @@
+package networkbook.logic.parser;
+
+import networkbook.logic.Messages;
+import networkbook.logic.commands.ViewCommand;
+import networkbook.logic.commands.ViewCommand.ViewMode;
+import networkbook.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ViewCommand object
+ */
+public class ViewCommandParser implements Parser<ViewCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ViewCommand
+     * and returns a ViewCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ViewCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim().toLowerCase();
+        for (ViewMode viewMode : ViewMode.values()) {
+            if (viewMode.getKeyword().equals(trimmedArgs)) {
+                return new ViewCommand(viewMode);
+            }
+        }
+        throw new ParseException(String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, ViewCommand.MESSAGE_USAGE));
+    }
+
+}
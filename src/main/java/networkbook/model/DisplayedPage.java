@@ -0,0 +1,87 @@
+package networkbook.model;
+
+import java.util.Objects;
+
+import networkbook.commons.util.ToStringBuilder;
+import networkbook.model.util.PagedList;
+
+/**
+ * Describes the page of the displayed person list that is currently shown.
+ */
+public class DisplayedPage {
+    private final int pageSize;
+    private final int pageIndex;
+    private final int pageCount;
+    private final int matchCount;
+
+    /**
+     * Constructs a {@code DisplayedPage}.
+     * @param pageSize Number of persons per page, or {@code PagedList.NO_PAGE_SIZE} if all persons are shown.
+     * @param pageIndex Zero-based index of the page shown.
+     * @param pageCount Number of pages.
+     * @param matchCount Number of persons matching the current filter, over all pages.
+     */
+    public DisplayedPage(int pageSize, int pageIndex, int pageCount, int matchCount) {
+        assert pageSize >= 0 && pageIndex >= 0 && pageIndex < pageCount && matchCount >= 0;
+        this.pageSize = pageSize;
+        this.pageIndex = pageIndex;
+        this.pageCount = pageCount;
+        this.matchCount = matchCount;
+    }
+
+    /**
+     * Returns true if only one page of the matching persons is shown.
+     */
+    public boolean isPaged() {
+        return pageSize != PagedList.NO_PAGE_SIZE;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public int getPageIndex() {
+        return pageIndex;
+    }
+
+    public int getPageCount() {
+        return pageCount;
+    }
+
+    public int getMatchCount() {
+        return matchCount;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof DisplayedPage)) {
+            return false;
+        }
+
+        DisplayedPage otherPage = (DisplayedPage) other;
+        return pageSize == otherPage.pageSize
+                && pageIndex == otherPage.pageIndex
+                && pageCount == otherPage.pageCount
+                && matchCount == otherPage.matchCount;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(pageSize, pageIndex, pageCount, matchCount);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("pageSize", pageSize)
+                .add("pageIndex", pageIndex)
+                .add("pageCount", pageCount)
+                .add("matchCount", matchCount)
+                .toString();
+    }
+}
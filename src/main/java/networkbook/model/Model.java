@@ -3,6 +3,8 @@ package networkbook.model;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -11,6 +13,7 @@ import networkbook.commons.core.index.Index;
 import networkbook.model.person.Email;
 import networkbook.model.person.Link;
 import networkbook.model.person.Person;
+import networkbook.model.person.filter.KeyTermsField;
 
 /**
  * The API of the Model component.
@@ -49,6 +52,12 @@ public interface Model {
      */
     void setNetworkBookFilePath(Path networkBookFilePath);
 
+    /**
+     * Returns true if the displayed person list keeps its current filter when a person is added, edited or deleted.
+     * Otherwise, the filter is reset to show all persons after such changes.
+     */
+    boolean isFilterPreservedOnChange();
+
     /**
      * Replaces network book data with the data in {@code networkBook}.
      */
@@ -127,6 +136,46 @@ public interface Model {
      */
     void updateDisplayedPersonList(Predicate<Person> predicate, Comparator<Person> comparator);
 
+    /**
+     * Sets the listener that is passed the persons matched by the filters of the displayed person list
+     * in batches as they are found, in a network book large enough for filters to be streamed.
+     *
+     * @see NetworkBook#setFilterPredicate(Predicate, Consumer)
+     */
+    void setPartialMatchesListener(Consumer<List<Person>> partialMatchesListener);
+
+    /**
+     * Returns the number of persons that {@code predicate} matches, without changing the displayed person list.
+     */
+    int countMatches(Predicate<Person> predicate);
+
+    /**
+     * Updates the displayed person list to show only page {@code pageIndex} (zero-based) of the filtered and
+     * sorted persons, with {@code pageSize} persons per page.
+     * If {@code pageSize} is {@code PagedList.NO_PAGE_SIZE}, all filtered persons are displayed.
+     */
+    void updateDisplayedPersonPage(int pageSize, int pageIndex);
+
+    /**
+     * Returns the page of the filtered and sorted persons that is currently displayed.
+     */
+    DisplayedPage getDisplayedPage();
+
+    /**
+     * Returns the plan by which a filter by {@code predicate} is evaluated over all persons,
+     * after executing it without changing the displayed person list.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    QueryPlan explainFilter(Predicate<Person> predicate);
+
+    /**
+     * Returns up to {@code limit} distinct values of {@code field} among all persons that start with {@code prefix},
+     * ignoring case, in alphabetical order. Names are completed word by word.
+     * Unlike the other methods, this method can be called from any thread.
+     * @throws NullPointerException if {@code field} or {@code prefix} is null.
+     */
+    List<String> getCompletions(KeyTermsField field, String prefix, int limit);
+
     /**
      * Checks if the indices for an email of a contact are valid.
      */
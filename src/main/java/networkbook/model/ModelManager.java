@@ -6,6 +6,8 @@ import static networkbook.commons.util.CollectionUtil.requireAllNonNull;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -16,6 +18,7 @@ import networkbook.commons.core.index.Index;
 import networkbook.model.person.Email;
 import networkbook.model.person.Link;
 import networkbook.model.person.Person;
+import networkbook.model.person.filter.KeyTermsField;
 
 /**
  * Represents the in-memory model of the network book data.
@@ -24,6 +27,8 @@ public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
     private final VersionedNetworkBook versionedNetworkBook;
     private final UserPrefs userPrefs;
+    private final PersonCompletionIndex completionIndex;
+    private Consumer<List<Person>> partialMatchesListener = matches -> {};
 
     /**
      * Initializes a ModelManager with the given networkBook and userPrefs.
@@ -35,6 +40,7 @@ public class ModelManager implements Model {
 
         this.versionedNetworkBook = new VersionedNetworkBook(networkBook);
         this.userPrefs = new UserPrefs(userPrefs);
+        this.completionIndex = new PersonCompletionIndex(versionedNetworkBook.getPersonList());
     }
 
     public ModelManager() {
@@ -76,6 +82,11 @@ public class ModelManager implements Model {
         userPrefs.setNetworkBookFilePath(networkBookFilePath);
     }
 
+    @Override
+    public boolean isFilterPreservedOnChange() {
+        return userPrefs.isFilterPreservedOnChange();
+    }
+
     //=========== VersionedNetworkBook commands ========================================================================
 
     @Override
@@ -98,14 +109,18 @@ public class ModelManager implements Model {
     @Override
     public void deletePerson(Person target) {
         versionedNetworkBook.removePerson(target);
-        versionedNetworkBook.setFilterPredicate(PREDICATE_SHOW_ALL_PERSONS);
+        if (!isFilterPreservedOnChange()) {
+            versionedNetworkBook.setFilterPredicate(PREDICATE_SHOW_ALL_PERSONS);
+        }
         versionedNetworkBook.commit();
     }
 
     @Override
     public void addPerson(Person person) {
         versionedNetworkBook.addPerson(person);
-        versionedNetworkBook.setFilterPredicate(PREDICATE_SHOW_ALL_PERSONS);
+        if (!isFilterPreservedOnChange()) {
+            versionedNetworkBook.setFilterPredicate(PREDICATE_SHOW_ALL_PERSONS);
+        }
         versionedNetworkBook.commit();
     }
 
@@ -156,18 +171,52 @@ public class ModelManager implements Model {
     public void updateDisplayedPersonList(Predicate<Person> predicate, Comparator<Person> comparator) {
         assert (predicate == null || comparator == null);
         if (predicate != null) {
-            versionedNetworkBook.setFilterPredicate(predicate);
+            versionedNetworkBook.setFilterPredicate(predicate, partialMatchesListener);
         } else if (comparator != null) {
             versionedNetworkBook.setSortComparator(comparator);
         }
         versionedNetworkBook.commit();
     }
 
+    @Override
+    public void setPartialMatchesListener(Consumer<List<Person>> partialMatchesListener) {
+        requireNonNull(partialMatchesListener);
+        this.partialMatchesListener = partialMatchesListener;
+    }
+
+    @Override
+    public int countMatches(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        return versionedNetworkBook.countMatches(predicate);
+    }
+
     @Override
     public ObservableList<Person> getDisplayedPersonList() {
         return versionedNetworkBook.getDisplayedPersonList();
     }
 
+    @Override
+    public void updateDisplayedPersonPage(int pageSize, int pageIndex) {
+        versionedNetworkBook.setPage(pageSize, pageIndex);
+    }
+
+    @Override
+    public DisplayedPage getDisplayedPage() {
+        return versionedNetworkBook.getDisplayedPage();
+    }
+
+    @Override
+    public QueryPlan explainFilter(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        return versionedNetworkBook.explainFilter(predicate);
+    }
+
+    @Override
+    public List<String> getCompletions(KeyTermsField field, String prefix, int limit) {
+        requireAllNonNull(field, prefix);
+        return completionIndex.complete(field, prefix, limit);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
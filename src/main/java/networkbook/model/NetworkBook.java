@@ -1,12 +1,17 @@
 package networkbook.model;
 
 import static java.util.Objects.requireNonNull;
+import static networkbook.commons.util.CollectionUtil.requireAllNonNull;
 import static networkbook.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -16,8 +21,15 @@ import networkbook.commons.core.index.Index;
 import networkbook.commons.util.ToStringBuilder;
 import networkbook.model.person.Email;
 import networkbook.model.person.Link;
+import networkbook.model.person.NameFuzzyMatchPredicate;
+import networkbook.model.person.NameSoundsLikePredicate;
 import networkbook.model.person.Person;
 import networkbook.model.person.PersonSortComparator;
+import networkbook.model.person.filter.CourseTakenPredicate;
+import networkbook.model.person.filter.FieldContainsKeyTermsPredicate;
+import networkbook.model.person.filter.GradInRangesPredicate;
+import networkbook.model.person.filter.LogicalPredicate;
+import networkbook.model.util.PagedList;
 import networkbook.model.util.UniqueList;
 
 /**
@@ -25,20 +37,45 @@ import networkbook.model.util.UniqueList;
  * Duplicate contacts are not allowed (by .isSame comparison)
  */
 public class NetworkBook implements ReadOnlyNetworkBook {
+    /** Smallest number of persons for which the persons matched by a filter can be streamed. */
+    public static final int STREAMING_THRESHOLD = 10000;
+    /** Number of persons matched by a streamed filter that are passed on together. */
+    public static final int STREAMING_BATCH_SIZE = 200;
 
     private final UniqueList<Person> persons;
+    private final PersonSortIndex sortIndex;
+    private final PersonTermIndex termIndex;
+    private final PersonGradIndex gradIndex;
+    private final PersonCourseIndex courseIndex;
+    private final PersonNameFuzzyIndex fuzzyIndex;
+    private final PersonNamePhoneticIndex phoneticIndex;
+    private final PersonFilterEngine filterEngine;
     private final FilteredList<Person> filteredPersons;
+    private final PagedList<Person> pagedPersons;
     private final SortedList<Person> displayedPersons;
+    private Predicate<Person> filterPredicate;
+    private Comparator<Person> sortComparator;
     /**
      * Creates a NetworkBook without any Persons.
      */
     public NetworkBook() {
         persons = new UniqueList<>();
+        // The indexes must listen to the persons before the displayed list does
+        sortIndex = new PersonSortIndex(persons.asUnmodifiableObservableList());
+        termIndex = new PersonTermIndex(persons.asUnmodifiableObservableList());
+        gradIndex = new PersonGradIndex(persons.asUnmodifiableObservableList());
+        courseIndex = new PersonCourseIndex(persons.asUnmodifiableObservableList());
+        fuzzyIndex = new PersonNameFuzzyIndex(persons.asUnmodifiableObservableList());
+        phoneticIndex = new PersonNamePhoneticIndex(persons.asUnmodifiableObservableList());
+        filterEngine = new PersonFilterEngine(persons.asUnmodifiableObservableList(), termIndex, gradIndex,
+                courseIndex);
         filteredPersons = new FilteredList<>(persons.asUnmodifiableObservableList());
-        filteredPersons.setPredicate(PREDICATE_SHOW_ALL_PERSONS);
-        displayedPersons = new SortedList<>(filteredPersons,
-                new PersonSortComparator(PersonSortComparator.SortField.NAME,
-                                        PersonSortComparator.SortOrder.ASCENDING));
+        PersonSortComparator defaultComparator = new PersonSortComparator(PersonSortComparator.SortField.NAME,
+                                                                          PersonSortComparator.SortOrder.ASCENDING);
+        pagedPersons = new PagedList<>(filteredPersons, defaultComparator);
+        displayedPersons = new SortedList<>(pagedPersons);
+        setSortComparator(defaultComparator);
+        setFilterPredicate(PREDICATE_SHOW_ALL_PERSONS);
     }
 
     /**
@@ -61,46 +98,237 @@ public class NetworkBook implements ReadOnlyNetworkBook {
 
     /**
      * Resets the existing data of this {@code NetworkBook} with {@code newData}.
+     * Only the persons that differ from {@code newData} are changed,
+     * so that the displayed list does not have to be rebuilt from scratch.
      */
     public void resetData(ReadOnlyNetworkBook newData) {
         requireNonNull(newData);
-        setItems(newData.getPersonList());
+        persons.updateItems(newData.getPersonList());
         Optional.ofNullable(newData.getFilterPredicate()).ifPresent(this::setFilterPredicate);
         Optional.ofNullable(newData.getSortComparator()).ifPresent(this::setSortComparator);
     }
 
     /**
      * Updates the filtered person list to filter by the given {@code predicate}.
+     * A {@code FieldContainsKeyTermsPredicate} is answered from the maintained term index of its field,
+     * a {@code GradInRangesPredicate} from the maintained graduation index,
+     * a {@code CourseTakenPredicate} from the maintained index of course periods,
+     * a {@code NameFuzzyMatchPredicate} from the maintained tree of name words, ranking the persons by edit distance,
+     * a {@code NameSoundsLikePredicate} from the maintained map of phonetic codes of name words,
+     * and a {@code LogicalPredicate} by combining the bitmaps of its clauses.
      * @throws NullPointerException if {@code predicate} is null.
      */
     public void setFilterPredicate(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        if (predicate.equals(filterPredicate)) {
+            return;
+        }
+        boolean wasRanked = filterPredicate instanceof NameFuzzyMatchPredicate;
+        filterPredicate = predicate;
+        filteredPersons.setPredicate(getIndexedPredicate(predicate));
+        if (wasRanked || predicate instanceof NameFuzzyMatchPredicate) {
+            updateComparators();
+        }
+    }
+
+    /**
+     * Updates the filtered person list to filter by the given {@code predicate} as
+     * {@link #setFilterPredicate(Predicate)} does, streaming the persons it matches in a large network book.
+     * When there are at least {@code STREAMING_THRESHOLD} persons, the persons are first tested in the order
+     * of the network book, and the persons matched are passed to {@code partialMatchesListener}
+     * in batches of {@code STREAMING_BATCH_SIZE} as they are found. The filtered list is then updated
+     * with all of them at once, from the results of the tests, and sorted.
+     * @throws NullPointerException if {@code predicate} or {@code partialMatchesListener} is null.
+     */
+    public void setFilterPredicate(Predicate<Person> predicate, Consumer<List<Person>> partialMatchesListener) {
+        requireAllNonNull(predicate, partialMatchesListener);
+        if (persons.size() < STREAMING_THRESHOLD || predicate.equals(filterPredicate)) {
+            setFilterPredicate(predicate);
+            return;
+        }
+        boolean wasRanked = filterPredicate instanceof NameFuzzyMatchPredicate;
+        filterPredicate = predicate;
+        Predicate<Person> indexedPredicate = getIndexedPredicate(predicate);
+        Map<Person, Boolean> results = streamMatches(indexedPredicate, partialMatchesListener);
+        filteredPersons.setPredicate(person -> {
+            Boolean isMatch = results.get(person);
+            return isMatch != null ? isMatch : indexedPredicate.test(person);
+        });
+        // persons are tested again when they are added later, so the results are only needed for this update
+        results.clear();
+        if (wasRanked || predicate instanceof NameFuzzyMatchPredicate) {
+            updateComparators();
+        }
+    }
+
+    /**
+     * Tests every person with {@code predicate} in the order of the network book, passing the persons matched
+     * to {@code partialMatchesListener} in batches, and returns the result of each test by person.
+     */
+    private Map<Person, Boolean> streamMatches(Predicate<Person> predicate,
+                                               Consumer<List<Person>> partialMatchesListener) {
+        Map<Person, Boolean> results = new IdentityHashMap<>(persons.size());
+        List<Person> batch = new ArrayList<>(STREAMING_BATCH_SIZE);
+        for (Person person : persons) {
+            boolean isMatch = predicate.test(person);
+            results.put(person, isMatch);
+            if (!isMatch) {
+                continue;
+            }
+            batch.add(person);
+            if (batch.size() == STREAMING_BATCH_SIZE) {
+                partialMatchesListener.accept(List.copyOf(batch));
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            partialMatchesListener.accept(List.copyOf(batch));
+        }
+        return results;
+    }
+
+    /**
+     * Returns the number of persons that {@code predicate} matches, answered from the indexes as
+     * {@link #setFilterPredicate(Predicate)} does, without changing the filtered person list.
+     * The persons looked up are not kept by the indexes, so that counting does not evict those kept for filters.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    public int countMatches(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        if (predicate instanceof FieldContainsKeyTermsPredicate) {
+            FieldContainsKeyTermsPredicate keyTermsPredicate = (FieldContainsKeyTermsPredicate) predicate;
+            return termIndex.peekMatchingPersons(keyTermsPredicate.getField(),
+                    List.copyOf(keyTermsPredicate.getKeyTerms())).size();
+        } else if (predicate instanceof GradInRangesPredicate) {
+            return gradIndex.peekPersonsInRanges(List.copyOf(((GradInRangesPredicate) predicate).getRanges())).size();
+        } else if (predicate instanceof CourseTakenPredicate) {
+            return courseIndex.peekMatchingPersons((CourseTakenPredicate) predicate).size();
+        } else if (predicate instanceof NameFuzzyMatchPredicate) {
+            return fuzzyIndex.peekMatchingPersons((NameFuzzyMatchPredicate) predicate).size();
+        } else if (predicate instanceof NameSoundsLikePredicate) {
+            return phoneticIndex.peekMatchingPersons((NameSoundsLikePredicate) predicate).size();
+        } else if (predicate instanceof LogicalPredicate) {
+            return filterEngine.count(predicate);
+        }
+        int count = 0;
+        for (Person person : persons) {
+            if (predicate.test(person)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns a predicate that is true for the same persons as {@code predicate},
+     * answered from the index that answers {@code predicate}, if any.
+     */
+    private Predicate<Person> getIndexedPredicate(Predicate<Person> predicate) {
+        if (predicate instanceof FieldContainsKeyTermsPredicate) {
+            return termIndex.getPredicate((FieldContainsKeyTermsPredicate) predicate);
+        } else if (predicate instanceof GradInRangesPredicate) {
+            return gradIndex.getPredicate((GradInRangesPredicate) predicate);
+        } else if (predicate instanceof CourseTakenPredicate) {
+            return courseIndex.getPredicate((CourseTakenPredicate) predicate);
+        } else if (predicate instanceof NameFuzzyMatchPredicate) {
+            return fuzzyIndex.getPredicate((NameFuzzyMatchPredicate) predicate);
+        } else if (predicate instanceof NameSoundsLikePredicate) {
+            return phoneticIndex.getPredicate((NameSoundsLikePredicate) predicate);
+        } else if (predicate instanceof LogicalPredicate) {
+            return filterEngine.getPredicate(predicate);
+        } else {
+            return predicate;
+        }
     }
 
     @Override
     public Predicate<Person> getFilterPredicate() {
-        @SuppressWarnings("unchecked")
-        Predicate<Person> filterPredicate = (Predicate<Person>) filteredPersons.getPredicate();
         return filterPredicate;
     }
 
+    /**
+     * Plans and executes a filter by {@code predicate} over all persons, without changing the filtered list,
+     * and returns the plan with the estimated and actual number of persons matched by each node.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    public QueryPlan explainFilter(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        return filterEngine.explain(predicate);
+    }
+
     /**
      * Updates the sort of the filtered person list to sort by the given {@code comparator}.
+     * When all persons are shown, a {@code PersonSortComparator} is applied through the maintained sort index
+     * of its field.
      * @throws NullPointerException if {@code comparator} is null.
      */
     public void setSortComparator(Comparator<Person> comparator) {
         requireNonNull(comparator);
-        displayedPersons.setComparator(comparator);
+        if (comparator.equals(sortComparator)) {
+            return;
+        }
+        sortComparator = comparator;
+        updateComparators();
+    }
+
+    private void updateComparators() {
+        pagedPersons.setComparator(getDisplayedComparator(true));
+        updateDisplayedComparator(pagedPersons.isPaged());
+    }
+
+    /**
+     * Sorts the displayed persons with the sort index only when all persons are shown,
+     * as building the index for a single page would sort all persons after all.
+     */
+    private void updateDisplayedComparator(boolean isPaged) {
+        displayedPersons.setComparator(getDisplayedComparator(isPaged));
+    }
+
+    /**
+     * Returns the comparator of the displayed persons, which ranks the persons found by a
+     * {@code NameFuzzyMatchPredicate} by edit distance first, and then by the sort comparator.
+     */
+    private Comparator<Person> getDisplayedComparator(boolean isPaged) {
+        Comparator<Person> comparator = !isPaged && sortComparator instanceof PersonSortComparator
+                ? sortIndex.getComparator((PersonSortComparator) sortComparator)
+                : sortComparator;
+        if (filterPredicate instanceof NameFuzzyMatchPredicate) {
+            return fuzzyIndex.getRankingComparator((NameFuzzyMatchPredicate) filterPredicate).thenComparing(comparator);
+        }
+        return comparator;
     }
 
     @Override
     public Comparator<Person> getSortComparator() {
-        @SuppressWarnings("unchecked")
-        Comparator<Person> sortComparator = (Comparator<Person>) displayedPersons.getComparator();
         return sortComparator;
     }
 
+    /**
+     * Shows only page {@code pageIndex} (zero-based) of the filtered person list, with {@code pageSize} persons
+     * per page, or all filtered persons if {@code pageSize} is {@code PagedList.NO_PAGE_SIZE}.
+     * Only the persons up to the end of the page are selected in sorted order, the rest are not sorted.
+     */
+    public void setPage(int pageSize, int pageIndex) {
+        boolean wasPaged = pagedPersons.isPaged();
+        boolean isPaged = pageSize != PagedList.NO_PAGE_SIZE;
+        // Change the comparator while only a page is displayed, so that it only re-sorts that page
+        if (wasPaged && !isPaged) {
+            updateDisplayedComparator(false);
+        }
+        pagedPersons.setPage(pageSize, pageIndex);
+        if (!wasPaged && isPaged) {
+            updateDisplayedComparator(true);
+        }
+    }
+
+    /**
+     * Returns the page of the filtered person list that is currently displayed.
+     */
+    public DisplayedPage getDisplayedPage() {
+        return new DisplayedPage(pagedPersons.getPageSize(), pagedPersons.getPageIndex(),
+                pagedPersons.getPageCount(), filteredPersons.size());
+    }
+
     //// person-level operations
 
     /**
@@ -0,0 +1,89 @@
+package networkbook.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import networkbook.commons.util.ToStringBuilder;
+import networkbook.model.person.Person;
+
+/**
+ * Unmodifiable copy of the persons, filter and sort of a network book at one point in time,
+ * as kept in the version history of a {@code VersionedNetworkBook}.
+ * Unlike a {@code NetworkBook}, a snapshot keeps no indexes of its persons, so that many of them can be kept.
+ * Its displayed list is only built when it is asked for.
+ */
+public class NetworkBookSnapshot implements ReadOnlyNetworkBook {
+    private final ObservableList<Person> persons;
+    private final Predicate<Person> filterPredicate;
+    private final Comparator<Person> sortComparator;
+    private ObservableList<Person> displayedPersons;
+
+    /**
+     * Creates a snapshot of the persons, filter and sort of {@code toBeCopied}.
+     */
+    public NetworkBookSnapshot(ReadOnlyNetworkBook toBeCopied) {
+        requireNonNull(toBeCopied);
+        persons = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(toBeCopied.getPersonList()));
+        filterPredicate = toBeCopied.getFilterPredicate();
+        sortComparator = toBeCopied.getSortComparator();
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<Person> getDisplayedPersonList() {
+        if (displayedPersons == null) {
+            displayedPersons = FXCollections.unmodifiableObservableList(
+                    new NetworkBook(this).getDisplayedPersonList());
+        }
+        return displayedPersons;
+    }
+
+    @Override
+    public Predicate<Person> getFilterPredicate() {
+        return filterPredicate;
+    }
+
+    @Override
+    public Comparator<Person> getSortComparator() {
+        return sortComparator;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NetworkBookSnapshot)) {
+            return false;
+        }
+
+        NetworkBookSnapshot otherSnapshot = (NetworkBookSnapshot) other;
+        return persons.equals(otherSnapshot.persons)
+                && Objects.equals(filterPredicate, otherSnapshot.filterPredicate)
+                && Objects.equals(sortComparator, otherSnapshot.sortComparator);
+    }
+
+    @Override
+    public int hashCode() {
+        return persons.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("persons", persons)
+                .toString();
+    }
+}
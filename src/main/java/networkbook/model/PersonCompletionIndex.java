@@ -0,0 +1,92 @@
+package networkbook.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import networkbook.commons.util.StringUtil;
+import networkbook.model.person.Course;
+import networkbook.model.person.Person;
+import networkbook.model.person.Specialisation;
+import networkbook.model.person.Tag;
+import networkbook.model.person.filter.KeyTermsField;
+import networkbook.model.util.CompressedTrie;
+
+/**
+ * Keeps the values of each {@code KeyTermsField} of the persons of a list in a {@code CompressedTrie},
+ * keyed by their normalized values, updating the tries as persons are added, edited and removed.
+ * Names are kept word by word, as names are found by their words.
+ * The tries are only changed by the thread that changes the list, but can be completed from any thread.
+ */
+public class PersonCompletionIndex {
+    private final Map<KeyTermsField, CompressedTrie> tries = new EnumMap<>(KeyTermsField.class);
+
+    /**
+     * Creates an index over {@code persons}, which is kept up to date as {@code persons} changes.
+     */
+    public PersonCompletionIndex(ObservableList<Person> persons) {
+        requireNonNull(persons);
+        for (KeyTermsField field : KeyTermsField.values()) {
+            tries.put(field, new CompressedTrie());
+        }
+        persons.forEach(this::add);
+        persons.addListener(this::onPersonsChanged);
+    }
+
+    /**
+     * Returns up to {@code limit} distinct values of {@code field} that start with {@code prefix}, ignoring case,
+     * in alphabetical order.
+     */
+    public synchronized List<String> complete(KeyTermsField field, String prefix, int limit) {
+        requireNonNull(field);
+        requireNonNull(prefix);
+        return tries.get(field).complete(StringUtil.normalize(prefix), limit);
+    }
+
+    private synchronized void onPersonsChanged(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::remove);
+            change.getAddedSubList().forEach(this::add);
+        }
+    }
+
+    private void add(Person person) {
+        for (KeyTermsField field : KeyTermsField.values()) {
+            CompressedTrie trie = tries.get(field);
+            getValues(field, person).forEach(value -> trie.add(StringUtil.normalize(value), value));
+        }
+    }
+
+    private void remove(Person person) {
+        for (KeyTermsField field : KeyTermsField.values()) {
+            CompressedTrie trie = tries.get(field);
+            getValues(field, person).forEach(value -> trie.remove(StringUtil.normalize(value)));
+        }
+    }
+
+    /**
+     * Returns the values of {@code field} of {@code person} as they are displayed.
+     */
+    private static List<String> getValues(KeyTermsField field, Person person) {
+        switch (field) {
+        case NAME:
+            return List.of(person.getName().fullName.trim().split(" +"));
+        case TAG:
+            return person.getTags().stream().map(Tag::getValue).collect(Collectors.toList());
+        case COURSE:
+            return person.streamCourses().map(Course::getValue).collect(Collectors.toList());
+        case SPEC:
+            return person.getSpecialisations().stream().map(Specialisation::getValue).collect(Collectors.toList());
+        default:
+            throw new AssertionError("Unknown field " + field);
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package networkbook.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import networkbook.model.person.Course;
+import networkbook.model.person.Person;
+import networkbook.model.person.filter.CourseContainsKeyTermsPredicate;
+import networkbook.model.person.filter.CourseTakenPredicate;
+
+/**
+ * Keeps the courses of the persons of a list as intervals from their start to their end epoch day,
+ * in arrays sorted by start day, updating the arrays as persons are added, edited and removed.
+ * The sorted arrays are read as an implicit balanced binary search tree, in which each node also holds
+ * the latest end day in its subtree, so the courses taken during a period are found without visiting
+ * the subtrees that end before the period or start after it.
+ * The arrays are only built when courses are first filtered by period.
+ */
+public class PersonCourseIndex {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final ObservableList<Person> persons;
+    private final Map<CourseTakenPredicate, Set<Person>> matches = new HashMap<>();
+    private long[] startDays;
+    private long[] endDays;
+    private long[] maxEndDays;
+    private Course[] courses;
+    private Person[] owners;
+    private int size;
+    private boolean areMaxEndDaysStale;
+
+    /**
+     * Creates an index over {@code persons}, which is kept up to date as {@code persons} changes.
+     * The index must be created before any other listener of {@code persons} that filters with it.
+     */
+    public PersonCourseIndex(ObservableList<Person> persons) {
+        requireNonNull(persons);
+        this.persons = persons;
+        persons.addListener(this::onPersonsChanged);
+    }
+
+    /**
+     * Returns a predicate that is true for the same persons of the indexed list as {@code predicate},
+     * looking the persons up in the index by the period of its taken predicate.
+     */
+    public Predicate<Person> getPredicate(CourseTakenPredicate predicate) {
+        requireNonNull(predicate);
+        return person -> getMatchingPersons(predicate).contains(person);
+    }
+
+    /**
+     * Returns the persons with a course that matches the key terms of {@code predicate}
+     * and is taken during its period.
+     */
+    public Set<Person> getMatchingPersons(CourseTakenPredicate predicate) {
+        requireNonNull(predicate);
+        return matches.computeIfAbsent(predicate, this::findMatchingPersons);
+    }
+
+    /**
+     * Returns the persons that {@link #getMatchingPersons(CourseTakenPredicate)} returns,
+     * without keeping them if they are not kept already.
+     */
+    public Set<Person> peekMatchingPersons(CourseTakenPredicate predicate) {
+        requireNonNull(predicate);
+        Set<Person> matchingPersons = matches.get(predicate);
+        return matchingPersons != null ? matchingPersons : findMatchingPersons(predicate);
+    }
+
+    private Set<Person> findMatchingPersons(CourseTakenPredicate predicate) {
+        ensureBuilt();
+        if (areMaxEndDaysStale) {
+            computeMaxEndDays(0, size);
+            areMaxEndDaysStale = false;
+        }
+        Set<Person> matchingPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+        collectTakenDuring(0, size, predicate.getTakenPredicate().getFirstEpochDay(),
+                predicate.getTakenPredicate().getLastEpochDay(), predicate.getKeyTermsPredicate(), matchingPersons);
+        return Collections.unmodifiableSet(matchingPersons);
+    }
+
+    /**
+     * Adds the owners of the courses in {@code [low, high)} that are taken on any day from {@code fromDay}
+     * to {@code toDay} and match {@code keyTermsPredicate} to {@code matchingPersons}.
+     */
+    private void collectTakenDuring(int low, int high, long fromDay, long toDay,
+                                    CourseContainsKeyTermsPredicate keyTermsPredicate, Set<Person> matchingPersons) {
+        if (low >= high) {
+            return;
+        }
+        int mid = (low + high) >>> 1;
+        if (maxEndDays[mid] < fromDay) {
+            return;
+        }
+        collectTakenDuring(low, mid, fromDay, toDay, keyTermsPredicate, matchingPersons);
+        if (startDays[mid] > toDay) {
+            // courses after mid start even later
+            return;
+        }
+        if (endDays[mid] >= fromDay && !matchingPersons.contains(owners[mid])
+                && keyTermsPredicate.matches(courses[mid])) {
+            matchingPersons.add(owners[mid]);
+        }
+        collectTakenDuring(mid + 1, high, fromDay, toDay, keyTermsPredicate, matchingPersons);
+    }
+
+    /**
+     * Stores the latest end day of the courses in {@code [low, high)} at the middle index of the range,
+     * and returns it.
+     */
+    private long computeMaxEndDays(int low, int high) {
+        if (low >= high) {
+            return Long.MIN_VALUE;
+        }
+        int mid = (low + high) >>> 1;
+        long maxEndDay = Math.max(endDays[mid],
+                Math.max(computeMaxEndDays(low, mid), computeMaxEndDays(mid + 1, high)));
+        maxEndDays[mid] = maxEndDay;
+        return maxEndDay;
+    }
+
+    private void ensureBuilt() {
+        if (startDays != null) {
+            return;
+        }
+        startDays = new long[INITIAL_CAPACITY];
+        endDays = new long[INITIAL_CAPACITY];
+        maxEndDays = new long[INITIAL_CAPACITY];
+        courses = new Course[INITIAL_CAPACITY];
+        owners = new Person[INITIAL_CAPACITY];
+        persons.forEach(this::insert);
+    }
+
+    private void onPersonsChanged(ListChangeListener.Change<? extends Person> change) {
+        while (startDays != null && change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::remove);
+            change.getAddedSubList().forEach(this::insert);
+        }
+        matches.clear();
+    }
+
+    private void insert(Person person) {
+        person.streamCourses().forEach(course -> {
+            if (size == startDays.length) {
+                int capacity = size * 2;
+                startDays = Arrays.copyOf(startDays, capacity);
+                endDays = Arrays.copyOf(endDays, capacity);
+                maxEndDays = Arrays.copyOf(maxEndDays, capacity);
+                courses = Arrays.copyOf(courses, capacity);
+                owners = Arrays.copyOf(owners, capacity);
+            }
+            int position = upperBound(course.getStartEpochDay());
+            shift(position, position + 1, size - position);
+            startDays[position] = course.getStartEpochDay();
+            endDays[position] = course.getEndEpochDay();
+            courses[position] = course;
+            owners[position] = person;
+            size++;
+        });
+        areMaxEndDaysStale = true;
+    }
+
+    private void remove(Person person) {
+        person.streamCourses().forEach(course -> {
+            int i = lowerBound(course.getStartEpochDay());
+            while (i < size && owners[i] != person) {
+                assert startDays[i] == course.getStartEpochDay() : "Removed course should be in the index";
+                i++;
+            }
+            assert i < size : "Removed course should be in the index";
+            shift(i + 1, i, size - i - 1);
+            size--;
+            courses[size] = null;
+            owners[size] = null;
+        });
+        areMaxEndDaysStale = true;
+    }
+
+    private void shift(int from, int to, int length) {
+        System.arraycopy(startDays, from, startDays, to, length);
+        System.arraycopy(endDays, from, endDays, to, length);
+        System.arraycopy(courses, from, courses, to, length);
+        System.arraycopy(owners, from, owners, to, length);
+    }
+
+    /**
+     * Returns the index of the first course that does not start before {@code startDay}.
+     */
+    private int lowerBound(long startDay) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (startDays[mid] < startDay) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of the first course that starts after {@code startDay}.
+     */
+    private int upperBound(long startDay) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (startDays[mid] <= startDay) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
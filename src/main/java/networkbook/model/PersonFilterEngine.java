@@ -0,0 +1,399 @@
+package networkbook.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import networkbook.model.person.Person;
+import networkbook.model.person.filter.CourseContainsKeyTermsPredicate;
+import networkbook.model.person.filter.CourseTakenPredicate;
+import networkbook.model.person.filter.FieldContainsKeyTermsPredicate;
+import networkbook.model.person.filter.GradInRangesPredicate;
+import networkbook.model.person.filter.GradRange;
+import networkbook.model.person.filter.LogicalPredicate;
+import networkbook.model.person.filter.PriorityEqualsPredicate;
+import networkbook.model.util.CompressedBitmap;
+
+/**
+ * Evaluates filter predicates into compressed bitmaps over the ordinals of the persons in a list.
+ * A predicate is first planned into a {@code QueryPlan}, using the statistics of the indexes to estimate
+ * how many persons each clause matches. Each clause of a {@code LogicalPredicate} is then evaluated once,
+ * from an index when one answers it, and the clauses are combined with bitmap operations instead of
+ * testing every clause for every person.
+ * Each person keeps its ordinal while it is in the list, and the ordinals of removed persons are given to
+ * persons added later. The most recently used bitmaps are kept, and when a few persons are added or removed,
+ * only their bits are changed in each kept bitmap.
+ */
+public class PersonFilterEngine {
+    /** Fraction of persons that a clause with no statistics is estimated to match. */
+    private static final double DEFAULT_SELECTIVITY = 0.5;
+    private static final int PRIORITY_LEVEL_COUNT = 3;
+    /** Largest number of persons added and removed at once whose bits are changed in the kept bitmaps. */
+    private static final int MAX_UPDATED_PERSONS = 64;
+    /** Number of most recently used bitmaps that are kept. */
+    private static final int BITMAPS_CAPACITY = 256;
+
+    private final ObservableList<Person> persons;
+    private final PersonTermIndex termIndex;
+    private final PersonGradIndex gradIndex;
+    private final PersonCourseIndex courseIndex;
+    private final Map<Predicate<Person>, CompressedBitmap> bitmaps = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Predicate<Person>, CompressedBitmap> eldest) {
+            return size() > BITMAPS_CAPACITY;
+        }
+    };
+    private final Map<Person, Integer> ordinals = new IdentityHashMap<>();
+    /** Person with each ordinal, or null if the ordinal is free. */
+    private final List<Person> personsByOrdinal = new ArrayList<>();
+    private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+    private CompressedBitmap allOrdinals = CompressedBitmap.empty();
+
+    /**
+     * Creates an engine over {@code persons} that looks clauses up in the given indexes of {@code persons}.
+     * The engine must be created after the indexes, and before any other listener of {@code persons}
+     * that filters with it.
+     */
+    public PersonFilterEngine(ObservableList<Person> persons, PersonTermIndex termIndex, PersonGradIndex gradIndex,
+                              PersonCourseIndex courseIndex) {
+        requireNonNull(persons);
+        requireNonNull(termIndex);
+        requireNonNull(gradIndex);
+        requireNonNull(courseIndex);
+        this.persons = persons;
+        this.termIndex = termIndex;
+        this.gradIndex = gradIndex;
+        this.courseIndex = courseIndex;
+        persons.forEach(this::addOrdinal);
+        persons.addListener(this::onPersonsChanged);
+    }
+
+    private void onPersonsChanged(ListChangeListener.Change<? extends Person> change) {
+        int changedCount = 0;
+        while (change.next()) {
+            changedCount += change.getRemovedSize() + change.getAddedSize();
+        }
+        boolean isUpdated = changedCount <= MAX_UPDATED_PERSONS;
+        if (!isUpdated) {
+            bitmaps.clear();
+        }
+
+        change.reset();
+        while (change.next()) {
+            // ordinals do not depend on the positions of persons, so a permutation changes no bitmap
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            for (Person person : change.getRemoved()) {
+                int ordinal = removeOrdinal(person);
+                if (isUpdated) {
+                    bitmaps.replaceAll((predicate, bitmap) -> bitmap.without(ordinal));
+                }
+            }
+            for (Person person : change.getAddedSubList()) {
+                int ordinal = addOrdinal(person);
+                if (isUpdated) {
+                    bitmaps.replaceAll((predicate, bitmap) -> predicate.test(person) ? bitmap.with(ordinal) : bitmap);
+                }
+            }
+        }
+    }
+
+    /**
+     * Gives {@code person} a free ordinal, or a new one if none is free, and returns it.
+     */
+    private int addOrdinal(Person person) {
+        int ordinal;
+        if (freeOrdinals.isEmpty()) {
+            ordinal = personsByOrdinal.size();
+            personsByOrdinal.add(person);
+        } else {
+            ordinal = freeOrdinals.pop();
+            personsByOrdinal.set(ordinal, person);
+        }
+        ordinals.put(person, ordinal);
+        allOrdinals = allOrdinals.with(ordinal);
+        return ordinal;
+    }
+
+    /**
+     * Frees the ordinal of {@code person} and returns it.
+     */
+    private int removeOrdinal(Person person) {
+        Integer ordinal = ordinals.remove(person);
+        assert ordinal != null : "Removed person should have an ordinal";
+        personsByOrdinal.set(ordinal, null);
+        freeOrdinals.push(ordinal);
+        allOrdinals = allOrdinals.without(ordinal);
+        return ordinal;
+    }
+
+    /**
+     * Returns a predicate that is true for the same persons of the list as {@code predicate},
+     * looking the persons up in the bitmap that {@code predicate} evaluates to.
+     */
+    public Predicate<Person> getPredicate(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        return person -> {
+            Integer ordinal = ordinals.get(person);
+            assert ordinal != null : "Person should be in the list";
+            return evaluate(predicate).contains(ordinal);
+        };
+    }
+
+    /**
+     * Returns the bitmap of the ordinals of the persons in the list that satisfy {@code predicate}.
+     */
+    public CompressedBitmap evaluate(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        CompressedBitmap bitmap = bitmaps.get(predicate);
+        if (bitmap == null) {
+            bitmap = execute(plan(predicate), null, CacheUse.READ_AND_KEEP);
+            bitmaps.put(predicate, bitmap);
+        }
+        return bitmap;
+    }
+
+    /**
+     * Returns the number of persons in the list that satisfy {@code predicate}, without keeping the bitmaps
+     * it evaluates to or the persons looked up in the indexes, so that counting does not evict them.
+     */
+    public int count(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        CompressedBitmap bitmap = bitmaps.get(predicate);
+        return bitmap != null
+                ? bitmap.getCardinality()
+                : execute(plan(predicate), null, CacheUse.READ_ONLY).getCardinality();
+    }
+
+    /**
+     * Plans and executes {@code predicate} without using the bitmaps kept from earlier evaluations,
+     * and returns the plan with the actual number of persons matched and the time taken by each node.
+     */
+    public QueryPlan explain(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        QueryPlan plan = plan(predicate);
+        execute(plan, null, CacheUse.KEEP_ONLY);
+        return plan;
+    }
+
+    /**
+     * Returns the plan by which {@code predicate} is evaluated.
+     * The clauses of an {@code AND} are ordered from the fewest estimated matches to the most,
+     * and a clause is tested against the persons matched so far instead of looked up or scanned
+     * when there are fewer of them than the persons the lookup or scan would visit.
+     */
+    public QueryPlan plan(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        if (!(predicate instanceof LogicalPredicate)) {
+            return planClause(predicate);
+        }
+
+        LogicalPredicate logicalPredicate = (LogicalPredicate) predicate;
+        List<QueryPlan> children = new ArrayList<>();
+        logicalPredicate.getOperands().forEach(operand -> children.add(plan(operand)));
+        int size = persons.size();
+        switch (logicalPredicate.getOperator()) {
+        case AND:
+            children.sort(Comparator.comparingInt(QueryPlan::getEstimatedCount));
+            double selectivity = 1;
+            long cost = 0;
+            for (int i = 0; i < children.size(); i++) {
+                QueryPlan child = children.get(i);
+                long candidateCount = Math.round(size * selectivity);
+                if (i > 0 && candidateCount < child.getCost()) {
+                    child = child.withAccess(QueryPlan.Access.FILTER, candidateCount);
+                    children.set(i, child);
+                }
+                cost += child.getCost();
+                selectivity *= getSelectivity(child.getEstimatedCount());
+            }
+            return new QueryPlan(predicate, QueryPlan.Access.AND, (int) Math.round(size * selectivity), cost,
+                    children);
+        case OR:
+            double missRate = 1;
+            for (QueryPlan child : children) {
+                missRate *= 1 - getSelectivity(child.getEstimatedCount());
+            }
+            return new QueryPlan(predicate, QueryPlan.Access.OR, (int) Math.round(size * (1 - missRate)),
+                    children.stream().mapToLong(QueryPlan::getCost).sum(), children);
+        case NOT:
+            QueryPlan child = children.get(0);
+            return new QueryPlan(predicate, QueryPlan.Access.NOT, size - child.getEstimatedCount(),
+                    child.getCost(), children);
+        default:
+            throw new AssertionError("Unknown operator " + logicalPredicate.getOperator());
+        }
+    }
+
+    /**
+     * Returns the plan of a predicate that is not a {@code LogicalPredicate}, which is looked up in an index
+     * if there is one for it, or scanned otherwise.
+     * The estimated matches of a lookup are counted from the index, and those of a scan are estimated
+     * from the number of values the field can take.
+     */
+    private QueryPlan planClause(Predicate<Person> predicate) {
+        int estimatedCount;
+        if (predicate instanceof FieldContainsKeyTermsPredicate) {
+            FieldContainsKeyTermsPredicate keyTermsPredicate = (FieldContainsKeyTermsPredicate) predicate;
+            estimatedCount = termIndex.estimateCount(keyTermsPredicate.getField(),
+                    List.copyOf(keyTermsPredicate.getKeyTerms()));
+        } else if (predicate instanceof GradInRangesPredicate) {
+            long count = 0;
+            for (GradRange range : ((GradInRangesPredicate) predicate).getRanges()) {
+                count += gradIndex.count(range);
+            }
+            estimatedCount = (int) Math.min(count, persons.size());
+        } else if (predicate instanceof CourseTakenPredicate) {
+            // courses are estimated by their key terms only, as taking a course during a period is not counted
+            CourseContainsKeyTermsPredicate keyTermsPredicate = ((CourseTakenPredicate) predicate)
+                    .getKeyTermsPredicate();
+            estimatedCount = termIndex.estimateCount(keyTermsPredicate.getField(),
+                    List.copyOf(keyTermsPredicate.getKeyTerms()));
+        } else {
+            double selectivity = predicate instanceof PriorityEqualsPredicate
+                    ? 1.0 / PRIORITY_LEVEL_COUNT
+                    : DEFAULT_SELECTIVITY;
+            return new QueryPlan(predicate, QueryPlan.Access.SCAN, (int) Math.round(persons.size() * selectivity),
+                    persons.size(), List.of());
+        }
+        return new QueryPlan(predicate, QueryPlan.Access.INDEX, estimatedCount, estimatedCount, List.of());
+    }
+
+    private double getSelectivity(int estimatedCount) {
+        return persons.isEmpty() ? 0 : (double) estimatedCount / persons.size();
+    }
+
+    /**
+     * Executes {@code plan}, recording the persons matched by each node and the time taken,
+     * and returns the bitmap of the ordinals of the persons matched.
+     * A {@code FILTER} node is only tested against {@code candidates}.
+     */
+    private CompressedBitmap execute(QueryPlan plan, CompressedBitmap candidates, CacheUse cacheUse) {
+        long startTime = System.nanoTime();
+        CompressedBitmap result;
+        switch (plan.getAccess()) {
+        case INDEX:
+        case SCAN:
+            result = cacheUse != CacheUse.KEEP_ONLY ? bitmaps.get(plan.getPredicate()) : null;
+            if (result == null) {
+                result = evaluateClause(plan.getPredicate(), cacheUse != CacheUse.READ_ONLY);
+            }
+            if (cacheUse != CacheUse.READ_ONLY) {
+                bitmaps.put(plan.getPredicate(), result);
+            }
+            break;
+        case FILTER:
+            assert candidates != null : "A filter should only be executed on candidates";
+            result = filter(candidates, plan.getPredicate());
+            break;
+        case AND:
+            result = null;
+            for (QueryPlan child : plan.getChildren()) {
+                if (result == null) {
+                    result = execute(child, null, cacheUse);
+                } else if (child.getAccess() == QueryPlan.Access.FILTER) {
+                    result = execute(child, result, cacheUse);
+                } else {
+                    result = result.and(execute(child, null, cacheUse));
+                }
+                if (result.isEmpty()) {
+                    break;
+                }
+            }
+            break;
+        case OR:
+            result = CompressedBitmap.empty();
+            for (QueryPlan child : plan.getChildren()) {
+                result = result.or(execute(child, null, cacheUse));
+            }
+            break;
+        case NOT:
+            result = allOrdinals.andNot(execute(plan.getChildren().get(0), null, cacheUse));
+            break;
+        default:
+            throw new AssertionError("Unknown access " + plan.getAccess());
+        }
+        plan.recordExecution(result.getCardinality(), System.nanoTime() - startTime);
+        return result;
+    }
+
+    /**
+     * Returns the bitmap of the ordinals in {@code candidates} of the persons that satisfy {@code predicate}.
+     */
+    private CompressedBitmap filter(CompressedBitmap candidates, Predicate<Person> predicate) {
+        int[] candidateOrdinals = candidates.toArray();
+        int count = 0;
+        for (int ordinal : candidateOrdinals) {
+            if (predicate.test(personsByOrdinal.get(ordinal))) {
+                candidateOrdinals[count++] = ordinal;
+            }
+        }
+        return CompressedBitmap.ofSorted(candidateOrdinals, count);
+    }
+
+    /**
+     * Evaluates a predicate that is not a {@code LogicalPredicate}, from an index if there is one for it,
+     * or by testing every person otherwise.
+     * The persons looked up in an index are kept by the index only if {@code isKept}.
+     */
+    private CompressedBitmap evaluateClause(Predicate<Person> predicate, boolean isKept) {
+        Set<Person> matchingPersons = null;
+        if (predicate instanceof FieldContainsKeyTermsPredicate) {
+            FieldContainsKeyTermsPredicate keyTermsPredicate = (FieldContainsKeyTermsPredicate) predicate;
+            List<String> keyTerms = List.copyOf(keyTermsPredicate.getKeyTerms());
+            matchingPersons = isKept
+                    ? termIndex.getMatchingPersons(keyTermsPredicate.getField(), keyTerms)
+                    : termIndex.peekMatchingPersons(keyTermsPredicate.getField(), keyTerms);
+        } else if (predicate instanceof GradInRangesPredicate) {
+            List<GradRange> ranges = List.copyOf(((GradInRangesPredicate) predicate).getRanges());
+            matchingPersons = isKept ? gradIndex.getPersonsInRanges(ranges) : gradIndex.peekPersonsInRanges(ranges);
+        } else if (predicate instanceof CourseTakenPredicate) {
+            CourseTakenPredicate courseTakenPredicate = (CourseTakenPredicate) predicate;
+            matchingPersons = isKept
+                    ? courseIndex.getMatchingPersons(courseTakenPredicate)
+                    : courseIndex.peekMatchingPersons(courseTakenPredicate);
+        }
+
+        int[] matchingOrdinals;
+        int count = 0;
+        if (matchingPersons != null) {
+            matchingOrdinals = new int[matchingPersons.size()];
+            for (Person person : matchingPersons) {
+                matchingOrdinals[count++] = ordinals.get(person);
+            }
+            return CompressedBitmap.of(matchingOrdinals);
+        }
+        matchingOrdinals = new int[persons.size()];
+        for (int ordinal = 0; ordinal < personsByOrdinal.size(); ordinal++) {
+            Person person = personsByOrdinal.get(ordinal);
+            if (person != null && predicate.test(person)) {
+                matchingOrdinals[count++] = ordinal;
+            }
+        }
+        return CompressedBitmap.ofSorted(matchingOrdinals, count);
+    }
+
+    /**
+     * Ways in which an execution uses the kept bitmaps.
+     */
+    private enum CacheUse {
+        /** Reads the kept bitmaps and keeps the bitmaps evaluated. */
+        READ_AND_KEEP,
+        /** Evaluates every bitmap afresh and keeps the bitmaps evaluated. */
+        KEEP_ONLY,
+        /** Reads the kept bitmaps without keeping the bitmaps evaluated. */
+        READ_ONLY
+    }
+}
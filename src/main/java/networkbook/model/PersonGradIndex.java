@@ -0,0 +1,216 @@
+package networkbook.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import networkbook.model.person.Graduation;
+import networkbook.model.person.Person;
+import networkbook.model.person.filter.GradInRangesPredicate;
+import networkbook.model.person.filter.GradRange;
+
+/**
+ * Keeps the persons of a list that have a graduation in ascending order of {@link Graduation#getPackedValue()},
+ * in a sorted array of the packed values and a parallel array of the persons,
+ * updating the arrays as persons are added, edited and removed.
+ * The persons in a range of graduations are then found by binary search on the packed values.
+ * The arrays are only built when graduations are first filtered by.
+ */
+public class PersonGradIndex {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final ObservableList<Person> persons;
+    private final Map<List<GradRange>, Set<Person>> matches = new HashMap<>();
+    private int[] packedValues;
+    private Person[] sortedPersons;
+    private int size;
+
+    /**
+     * Creates an index over {@code persons}, which is kept up to date as {@code persons} changes.
+     * The index must be created before any other listener of {@code persons} that filters with it.
+     */
+    public PersonGradIndex(ObservableList<Person> persons) {
+        requireNonNull(persons);
+        this.persons = persons;
+        persons.addListener(this::onPersonsChanged);
+    }
+
+    /**
+     * Returns a predicate that is true for the same persons of the indexed list as {@code predicate},
+     * looking the persons up in the index by the bounds of its ranges.
+     */
+    public Predicate<Person> getPredicate(GradInRangesPredicate predicate) {
+        requireNonNull(predicate);
+        List<GradRange> ranges = List.copyOf(predicate.getRanges());
+        return person -> getPersonsInRanges(ranges).contains(person);
+    }
+
+    /**
+     * Returns the persons whose graduation is in at least one of {@code ranges}.
+     */
+    public Set<Person> getPersonsInRanges(List<GradRange> ranges) {
+        requireNonNull(ranges);
+        return matches.computeIfAbsent(ranges, this::findPersonsInRanges);
+    }
+
+    /**
+     * Returns the persons that {@link #getPersonsInRanges(List)} returns,
+     * without keeping them if they are not kept already.
+     */
+    public Set<Person> peekPersonsInRanges(List<GradRange> ranges) {
+        requireNonNull(ranges);
+        Set<Person> personsInRanges = matches.get(ranges);
+        return personsInRanges != null ? personsInRanges : findPersonsInRanges(ranges);
+    }
+
+    private Set<Person> findPersonsInRanges(List<GradRange> ranges) {
+        ensureBuilt();
+        Set<Person> personsInRanges = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (GradRange range : ranges) {
+            int end = upperBound(range.getUpperBound());
+            for (int i = lowerBound(range.getLowerBound()); i < end; i++) {
+                personsInRanges.add(sortedPersons[i]);
+            }
+        }
+        return Collections.unmodifiableSet(personsInRanges);
+    }
+
+    /**
+     * Returns the number of persons whose graduation is in {@code range}.
+     */
+    public int count(GradRange range) {
+        requireNonNull(range);
+        ensureBuilt();
+        return Math.max(0, upperBound(range.getUpperBound()) - lowerBound(range.getLowerBound()));
+    }
+
+    /**
+     * Returns the number of persons graduating in each calendar year, in ascending order of year.
+     * Years in which nobody graduates are left out.
+     */
+    public SortedMap<Integer, Integer> getCountsByGradYear() {
+        ensureBuilt();
+        SortedMap<Integer, Integer> counts = new TreeMap<>();
+        int i = 0;
+        while (i < size) {
+            int year = (packedValues[i] + 1) / 2;
+            int next = upperBound(GradRange.getLastPackedValue(year));
+            counts.put(year, next - i);
+            i = next;
+        }
+        return counts;
+    }
+
+    /**
+     * Returns the index of the first packed value that is not less than {@code packedValue}.
+     */
+    private int lowerBound(int packedValue) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (packedValues[mid] < packedValue) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of the first packed value that is greater than {@code packedValue}.
+     */
+    private int upperBound(int packedValue) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (packedValues[mid] <= packedValue) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private void ensureBuilt() {
+        if (packedValues != null) {
+            return;
+        }
+        Person[] graduates = persons.stream()
+                .filter(person -> person.getGraduation().isPresent())
+                .sorted((o1, o2) -> Integer.compare(getPackedValue(o1), getPackedValue(o2)))
+                .toArray(Person[]::new);
+        size = graduates.length;
+        sortedPersons = Arrays.copyOf(graduates, Math.max(INITIAL_CAPACITY, size));
+        packedValues = new int[sortedPersons.length];
+        for (int i = 0; i < size; i++) {
+            packedValues[i] = getPackedValue(sortedPersons[i]);
+        }
+    }
+
+    private void onPersonsChanged(ListChangeListener.Change<? extends Person> change) {
+        while (packedValues != null && change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::remove);
+            change.getAddedSubList().forEach(this::insert);
+        }
+        matches.clear();
+    }
+
+    private void insert(Person person) {
+        Optional<Graduation> graduation = person.getGraduation();
+        if (graduation.isEmpty()) {
+            return;
+        }
+        int packedValue = graduation.get().getPackedValue();
+        if (size == packedValues.length) {
+            packedValues = Arrays.copyOf(packedValues, size * 2);
+            sortedPersons = Arrays.copyOf(sortedPersons, size * 2);
+        }
+        int position = upperBound(packedValue);
+        System.arraycopy(packedValues, position, packedValues, position + 1, size - position);
+        System.arraycopy(sortedPersons, position, sortedPersons, position + 1, size - position);
+        packedValues[position] = packedValue;
+        sortedPersons[position] = person;
+        size++;
+    }
+
+    private void remove(Person person) {
+        Optional<Graduation> graduation = person.getGraduation();
+        if (graduation.isEmpty()) {
+            return;
+        }
+        int packedValue = graduation.get().getPackedValue();
+        for (int i = lowerBound(packedValue); i < size && packedValues[i] == packedValue; i++) {
+            if (sortedPersons[i] == person) {
+                System.arraycopy(packedValues, i + 1, packedValues, i, size - i - 1);
+                System.arraycopy(sortedPersons, i + 1, sortedPersons, i, size - i - 1);
+                size--;
+                sortedPersons[size] = null;
+                return;
+            }
+        }
+        assert false : "Removed person should be in the index";
+    }
+
+    private static int getPackedValue(Person person) {
+        return person.getGraduation().get().getPackedValue();
+    }
+}
@@ -0,0 +1,287 @@
+package networkbook.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import networkbook.model.person.Person;
+import networkbook.model.person.Tag;
+
+/**
+ * Keeps the persons of a list in groups by the value of a {@code GroupField}, updating the groups
+ * as persons are added, edited and removed, so that the persons of a group can be listed
+ * without scanning the whole list.
+ * A person is in a group for each of its values of the field, or in the group with no value if it has none.
+ * The persons of a group are kept in the order of the list by giving each person a label that increases
+ * along the list, which is chosen between the labels of its neighbours when the person is added.
+ * The groups are only changed and read by the thread that changes the list.
+ */
+public class PersonGroups {
+    public static final String MESSAGE_CONSTRAINTS_FIELD = "Field should be one of the following: "
+            + "grad, priority, tag.";
+
+    /** The key of the group of persons that have no value of the field. */
+    public static final String NO_VALUE_KEY = "";
+
+    /** Gap between the labels of adjacent persons when the labels are assigned afresh. */
+    private static final long LABEL_SPACING = 1L << 32;
+    private static final List<String> PRIORITY_ORDER = List.of("High", "Medium", "Low");
+
+    private final ObservableList<Person> persons;
+    private final GroupField field;
+    private final Map<Person, Long> labels = new IdentityHashMap<>();
+    private final Comparator<String> keyOrder;
+    private final TreeMap<String, TreeMap<Long, Person>> groups;
+
+    /**
+     * Fields to group persons by.
+     */
+    public enum GroupField {
+        GRAD("No graduation"),
+        PRIORITY("No priority"),
+        TAG("No tags");
+
+        private final String noValueHeader;
+
+        GroupField(String noValueHeader) {
+            this.noValueHeader = noValueHeader;
+        }
+
+        /**
+         * Returns the header shown for the group with the given key.
+         */
+        public String getHeader(String key) {
+            requireNonNull(key);
+            return key.equals(NO_VALUE_KEY) ? noValueHeader : key;
+        }
+    }
+
+    /**
+     * Creates groups of {@code persons} by {@code field}, which are kept up to date as {@code persons} changes.
+     */
+    public PersonGroups(ObservableList<Person> persons, GroupField field) {
+        requireNonNull(persons);
+        requireNonNull(field);
+        this.persons = persons;
+        this.field = field;
+        keyOrder = getKeyComparator(field);
+        groups = new TreeMap<>(keyOrder);
+        rebuild();
+        persons.addListener(this::onPersonsChanged);
+    }
+
+    /**
+     * Parses user input {@code field} into a {@code GroupField}, or returns an empty optional if it is not a field.
+     */
+    public static Optional<GroupField> parseGroupField(String field) {
+        requireNonNull(field);
+        switch (field.trim().toLowerCase()) {
+        case "graduation": // Fallthrough
+        case "grad":
+            return Optional.of(GroupField.GRAD);
+        case "priority":
+            return Optional.of(GroupField.PRIORITY);
+        case "tag":
+            return Optional.of(GroupField.TAG);
+        default:
+            return Optional.empty();
+        }
+    }
+
+    public GroupField getField() {
+        return field;
+    }
+
+    /**
+     * Returns the keys of the groups that have persons, in the order the groups are shown.
+     */
+    public List<String> getKeys() {
+        return new ArrayList<>(groups.keySet());
+    }
+
+    /**
+     * Returns the number of persons in the group with {@code key}.
+     */
+    public int getSize(String key) {
+        requireNonNull(key);
+        TreeMap<Long, Person> group = groups.get(key);
+        return group == null ? 0 : group.size();
+    }
+
+    /**
+     * Returns the persons in the group with {@code key}, in the order of the list.
+     */
+    public List<Person> getPersons(String key) {
+        requireNonNull(key);
+        TreeMap<Long, Person> group = groups.get(key);
+        return group == null ? List.of() : new ArrayList<>(group.values());
+    }
+
+    /**
+     * Returns the order in which the groups are shown, as an order of their keys.
+     */
+    public Comparator<String> getKeyOrder() {
+        return keyOrder;
+    }
+
+    /**
+     * Returns the index of {@code person} in the list, or -1 if it is not in the list.
+     * The person is found by binary search on the labels, which increase along the list.
+     */
+    public int indexOf(Person person) {
+        requireNonNull(person);
+        Long label = labels.get(person);
+        if (label == null) {
+            return -1;
+        }
+        int low = 0;
+        int high = persons.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long midLabel = labels.get(persons.get(mid));
+            if (midLabel < label) {
+                low = mid + 1;
+            } else if (midLabel > label) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        throw new AssertionError("Labelled person should be in the list");
+    }
+
+    /**
+     * Returns the keys of the groups that {@code person} is in, or would be in if it were in the list.
+     */
+    public List<String> getKeys(Person person) {
+        requireNonNull(person);
+        List<String> keys;
+        switch (field) {
+        case GRAD:
+            keys = person.getGraduation().map(grad -> List.of(String.valueOf(grad.getGradYear()))).orElse(List.of());
+            break;
+        case PRIORITY:
+            keys = person.getPriority().map(priority -> List.of(priority.toString())).orElse(List.of());
+            break;
+        case TAG:
+            keys = person.getTags().stream().map(Tag::getValue).collect(Collectors.toList());
+            break;
+        default:
+            throw new AssertionError("Unknown field " + field);
+        }
+        return keys.isEmpty() ? List.of(NO_VALUE_KEY) : keys;
+    }
+
+    /**
+     * Returns the order of the groups of {@code field}, with the group of persons that have no value last.
+     */
+    private static Comparator<String> getKeyComparator(GroupField field) {
+        Comparator<String> valueComparator;
+        switch (field) {
+        case PRIORITY:
+            valueComparator = Comparator.comparingInt(PRIORITY_ORDER::indexOf);
+            break;
+        case TAG:
+            valueComparator = String.CASE_INSENSITIVE_ORDER.thenComparing(Comparator.naturalOrder());
+            break;
+        default:
+            valueComparator = Comparator.naturalOrder();
+        }
+        return Comparator.comparing((String key) -> key.equals(NO_VALUE_KEY)).thenComparing(valueComparator);
+    }
+
+    private void onPersonsChanged(ListChangeListener.Change<? extends Person> change) {
+        // All persons are removed before any are added, so that every labelled person is still in the list
+        List<int[]> addedRanges = new ArrayList<>();
+        while (change.next()) {
+            if (change.wasUpdated()) {
+                continue;
+            }
+            if (change.wasPermutated()) {
+                persons.subList(change.getFrom(), change.getTo()).forEach(this::remove);
+            } else {
+                change.getRemoved().forEach(this::remove);
+            }
+            if (change.wasPermutated() || change.wasAdded()) {
+                addedRanges.add(new int[] {change.getFrom(), change.getTo()});
+            }
+        }
+        for (int[] range : addedRanges) {
+            if (!add(range[0], range[1])) {
+                rebuild();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Adds the persons from {@code from} to {@code to} of the list to their groups,
+     * labelling them evenly between the labels of their neighbours in the list.
+     * Returns false without adding any persons if there is no room between the labels of their neighbours.
+     */
+    private boolean add(int from, int to) {
+        int count = to - from;
+        long lower = from == 0 ? 0 : labels.get(persons.get(from - 1));
+        Long upper = null;
+        // persons after this range that are not labelled yet are added by later ranges
+        for (int i = to; i < persons.size() && upper == null; i++) {
+            upper = labels.get(persons.get(i));
+        }
+
+        long spacing;
+        if (upper == null) {
+            spacing = LABEL_SPACING;
+            if (lower > Long.MAX_VALUE - spacing * (count + 1)) {
+                return false;
+            }
+        } else {
+            spacing = (upper - lower) / (count + 1);
+            if (spacing == 0) {
+                return false;
+            }
+        }
+        for (int i = 0; i < count; i++) {
+            add(persons.get(from + i), lower + spacing * (i + 1));
+        }
+        return true;
+    }
+
+    private void add(Person person, long label) {
+        labels.put(person, label);
+        for (String key : getKeys(person)) {
+            groups.computeIfAbsent(key, unused -> new TreeMap<>()).put(label, person);
+        }
+    }
+
+    private void remove(Person person) {
+        Long label = labels.remove(person);
+        assert label != null : "Removed person should have been labelled";
+        for (String key : getKeys(person)) {
+            TreeMap<Long, Person> group = groups.get(key);
+            group.remove(label);
+            if (group.isEmpty()) {
+                groups.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Labels all persons of the list afresh, evenly spaced, and groups them again.
+     */
+    private void rebuild() {
+        labels.clear();
+        groups.clear();
+        for (int i = 0; i < persons.size(); i++) {
+            add(persons.get(i), LABEL_SPACING * (i + 1));
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package networkbook.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import networkbook.model.person.NameFuzzyMatchPredicate;
+import networkbook.model.person.Person;
+import networkbook.model.util.BkTree;
+
+/**
+ * Keeps the distinct words of the names of the persons of a list in a {@code BkTree},
+ * and maps each word to the persons whose name has it, updating the map as persons are added, edited and removed.
+ * The persons whose name is within an edit distance of a key term are then found by searching the tree,
+ * rather than by computing the edit distance to the name of every person.
+ * Words of persons that have been removed are left in the tree, and skipped as they have no persons,
+ * until there are more of them than words with persons and the tree is rebuilt.
+ * The tree is only built when names are first searched by edit distance.
+ */
+public class PersonNameFuzzyIndex {
+    private final ObservableList<Person> persons;
+    private final Map<NameFuzzyMatchPredicate, Map<Person, Integer>> matches = new HashMap<>();
+    private final Map<String, Set<Person>> personsByWord = new HashMap<>();
+    private BkTree words;
+
+    /**
+     * Creates an index over {@code persons}, which is kept up to date as {@code persons} changes.
+     * The index must be created before any other listener of {@code persons} that filters with it.
+     */
+    public PersonNameFuzzyIndex(ObservableList<Person> persons) {
+        requireNonNull(persons);
+        this.persons = persons;
+        persons.addListener(this::onPersonsChanged);
+    }
+
+    /**
+     * Returns a predicate that is true for the same persons of the indexed list as {@code predicate},
+     * looking the persons up in the tree of name words.
+     */
+    public Predicate<Person> getPredicate(NameFuzzyMatchPredicate predicate) {
+        requireNonNull(predicate);
+        return person -> getDistances(predicate).containsKey(person);
+    }
+
+    /**
+     * Returns a comparator that ranks the persons matched by {@code predicate} by their edit distance from
+     * its key terms, from the closest to the furthest.
+     */
+    public Comparator<Person> getRankingComparator(NameFuzzyMatchPredicate predicate) {
+        requireNonNull(predicate);
+        return Comparator.comparingInt(person -> getDistances(predicate).getOrDefault(person, Integer.MAX_VALUE));
+    }
+
+    /**
+     * Returns the persons matched by {@code predicate}, mapped to the least edit distance between a word of
+     * their name and a key term that matches it.
+     */
+    public Map<Person, Integer> getDistances(NameFuzzyMatchPredicate predicate) {
+        requireNonNull(predicate);
+        return matches.computeIfAbsent(predicate, this::findDistances);
+    }
+
+    /**
+     * Returns the persons matched by {@code predicate}, without keeping their distances if they are not
+     * kept already.
+     */
+    public Set<Person> peekMatchingPersons(NameFuzzyMatchPredicate predicate) {
+        requireNonNull(predicate);
+        Map<Person, Integer> distances = matches.get(predicate);
+        return (distances != null ? distances : findDistances(predicate)).keySet();
+    }
+
+    private Map<Person, Integer> findDistances(NameFuzzyMatchPredicate predicate) {
+        ensureBuilt();
+        Map<Person, Integer> distances = new IdentityHashMap<>();
+        for (String keyTerm : predicate.getNormalizedKeyTerms()) {
+            words.search(keyTerm, NameFuzzyMatchPredicate.getMaxDistance(keyTerm)).forEach((word, distance) ->
+                    personsByWord.getOrDefault(word, Set.of())
+                            .forEach(person -> distances.merge(person, distance, Math::min)));
+        }
+        return Collections.unmodifiableMap(distances);
+    }
+
+    private void ensureBuilt() {
+        if (words != null) {
+            return;
+        }
+        persons.forEach(this::add);
+        rebuildTree();
+    }
+
+    /**
+     * Builds the tree from the words that have persons, dropping the words of removed persons.
+     */
+    private void rebuildTree() {
+        words = new BkTree();
+        personsByWord.keySet().forEach(words::add);
+    }
+
+    private void onPersonsChanged(ListChangeListener.Change<? extends Person> change) {
+        while (words != null && change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::remove);
+            change.getAddedSubList().forEach(person -> {
+                add(person);
+                for (String word : person.getName().getNormalizedWords()) {
+                    words.add(word);
+                }
+            });
+        }
+        if (words != null && words.size() > 2 * personsByWord.size()) {
+            rebuildTree();
+        }
+        matches.clear();
+    }
+
+    private void add(Person person) {
+        for (String word : person.getName().getNormalizedWords()) {
+            personsByWord.computeIfAbsent(word, w -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                    .add(person);
+        }
+    }
+
+    private void remove(Person person) {
+        for (String word : person.getName().getNormalizedWords()) {
+            Set<Person> wordPersons = personsByWord.get(word);
+            assert wordPersons != null : "Removed person should be in the index";
+            wordPersons.remove(person);
+            if (wordPersons.isEmpty()) {
+                personsByWord.remove(word);
+            }
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package networkbook.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import networkbook.commons.util.PhoneticUtil;
+import networkbook.model.person.NameSoundsLikePredicate;
+import networkbook.model.person.Person;
+
+/**
+ * Maps the phonetic code of each word of the names of the persons of a list to the persons whose name has it,
+ * updating the map as persons are added, edited and removed.
+ * The persons whose name sounds like a key term are then found with one lookup per key term,
+ * rather than by encoding the name of every person.
+ * The map is only built when names are first searched by sound.
+ */
+public class PersonNamePhoneticIndex {
+    private final ObservableList<Person> persons;
+    private final Map<NameSoundsLikePredicate, Set<Person>> matches = new HashMap<>();
+    private Map<String, Set<Person>> personsByCode;
+
+    /**
+     * Creates an index over {@code persons}, which is kept up to date as {@code persons} changes.
+     * The index must be created before any other listener of {@code persons} that filters with it.
+     */
+    public PersonNamePhoneticIndex(ObservableList<Person> persons) {
+        requireNonNull(persons);
+        this.persons = persons;
+        persons.addListener(this::onPersonsChanged);
+    }
+
+    /**
+     * Returns a predicate that is true for the same persons of the indexed list as {@code predicate},
+     * looking the persons up by the phonetic codes of its key terms.
+     */
+    public Predicate<Person> getPredicate(NameSoundsLikePredicate predicate) {
+        requireNonNull(predicate);
+        return person -> getMatchingPersons(predicate).contains(person);
+    }
+
+    /**
+     * Returns the persons with a word in their name that sounds like one of the key terms of {@code predicate}.
+     */
+    public Set<Person> getMatchingPersons(NameSoundsLikePredicate predicate) {
+        requireNonNull(predicate);
+        return matches.computeIfAbsent(predicate, this::findMatchingPersons);
+    }
+
+    /**
+     * Returns the persons that {@link #getMatchingPersons(NameSoundsLikePredicate)} returns,
+     * without keeping them if they are not kept already.
+     */
+    public Set<Person> peekMatchingPersons(NameSoundsLikePredicate predicate) {
+        requireNonNull(predicate);
+        Set<Person> matchingPersons = matches.get(predicate);
+        return matchingPersons != null ? matchingPersons : findMatchingPersons(predicate);
+    }
+
+    private Set<Person> findMatchingPersons(NameSoundsLikePredicate predicate) {
+        ensureBuilt();
+        Set<Person> matchingPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String phoneticCode : predicate.getPhoneticCodes()) {
+            matchingPersons.addAll(personsByCode.getOrDefault(phoneticCode, Set.of()));
+        }
+        return Collections.unmodifiableSet(matchingPersons);
+    }
+
+    private void ensureBuilt() {
+        if (personsByCode != null) {
+            return;
+        }
+        personsByCode = new HashMap<>();
+        persons.forEach(this::add);
+    }
+
+    private void onPersonsChanged(ListChangeListener.Change<? extends Person> change) {
+        while (personsByCode != null && change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::remove);
+            change.getAddedSubList().forEach(this::add);
+        }
+        matches.clear();
+    }
+
+    private void add(Person person) {
+        for (String word : person.getName().getNormalizedWords()) {
+            personsByCode.computeIfAbsent(PhoneticUtil.encode(word),
+                    code -> Collections.newSetFromMap(new IdentityHashMap<>())).add(person);
+        }
+    }
+
+    private void remove(Person person) {
+        for (String word : person.getName().getNormalizedWords()) {
+            String phoneticCode = PhoneticUtil.encode(word);
+            Set<Person> codePersons = personsByCode.get(phoneticCode);
+            assert codePersons != null : "Removed person should be in the index";
+            codePersons.remove(person);
+            if (codePersons.isEmpty()) {
+                personsByCode.remove(phoneticCode);
+            }
+        }
+    }
+}
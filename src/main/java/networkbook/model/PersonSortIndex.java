@@ -0,0 +1,248 @@
+package networkbook.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.text.CollationKey;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import networkbook.model.person.Person;
+import networkbook.model.person.PersonSortComparator;
+import networkbook.model.person.PersonSortComparator.SortField;
+import networkbook.model.person.PersonSortComparator.SortOrder;
+
+/**
+ * Keeps the persons of a list pre-sorted by each {@code SortField} that has been sorted by,
+ * updating the sorted permutations as persons are added, edited and removed.
+ * Sorting by one or more fields then only compares the ranks of persons in their permutations,
+ * instead of extracting and comparing the field values of every person again.
+ * Ranks increase along a permutation with gaps between them, so that an added person is given a rank
+ * between the ranks of its neighbours without changing the ranks of any other person.
+ */
+public class PersonSortIndex {
+    /** Rank given to persons that do not have a value for the field, so that they are placed at the end. */
+    private static final long EMPTY_RANK = Long.MAX_VALUE;
+    /** Gap between the ranks of adjacent persons with different values when the ranks are assigned afresh. */
+    private static final long RANK_SPACING = 1L << 32;
+
+    private final ObservableList<Person> persons;
+    private final Map<SortField, List<Person>> sortedPersons = new EnumMap<>(SortField.class);
+    private final Map<SortField, Map<Person, Long>> ranks = new EnumMap<>(SortField.class);
+
+    /**
+     * Creates an index over {@code persons}, which is kept up to date as {@code persons} changes.
+     * The index must be created before any other listener of {@code persons} that sorts with it.
+     */
+    public PersonSortIndex(ObservableList<Person> persons) {
+        requireNonNull(persons);
+        this.persons = persons;
+        persons.addListener(this::onPersonsChanged);
+    }
+
+    /**
+     * Returns a comparator that orders persons of the indexed list the same way as {@code comparator},
+     * using the ranks of the persons in the permutations of its sort keys.
+     */
+    public Comparator<Person> getComparator(PersonSortComparator comparator) {
+        requireNonNull(comparator);
+        List<PersonSortComparator> sortKeys = comparator.getSortKeys();
+        return (Person o1, Person o2) -> {
+            for (PersonSortComparator sortKey : sortKeys) {
+                int result = compareRanks(sortKey, o1, o2);
+                if (result != 0) {
+                    return result;
+                }
+            }
+            return 0;
+        };
+    }
+
+    private int compareRanks(PersonSortComparator sortKey, Person o1, Person o2) {
+        Map<Person, Long> fieldRanks = getRanks(sortKey.getSortField());
+        assert fieldRanks.containsKey(o1) && fieldRanks.containsKey(o2) : "Persons should be in the index";
+        long r1 = fieldRanks.get(o1);
+        long r2 = fieldRanks.get(o2);
+        return sortKey.getSortOrder() == SortOrder.ASCENDING || r1 == EMPTY_RANK || r2 == EMPTY_RANK
+                ? Long.compare(r1, r2)
+                : Long.compare(r2, r1);
+    }
+
+    /**
+     * Returns the persons of the indexed list in ascending order of {@code field},
+     * with persons without the field at the end.
+     */
+    public List<Person> getSortedPersons(SortField field) {
+        requireNonNull(field);
+        return List.copyOf(getPermutation(field));
+    }
+
+    private List<Person> getPermutation(SortField field) {
+        assert PersonSortComparator.isValidSortField(field);
+        return sortedPersons.computeIfAbsent(field, f -> {
+            List<Person> sorted = new ArrayList<>(persons);
+            if (f == SortField.NAME) {
+                sortByNameCollationKey(sorted);
+            } else {
+                sorted.sort(getKeyComparator(f));
+            }
+            return sorted;
+        });
+    }
+
+    /**
+     * Sorts {@code persons} by name, collating the name of each person only once.
+     */
+    private static void sortByNameCollationKey(List<Person> persons) {
+        Map<Person, CollationKey> keys = new IdentityHashMap<>(persons.size());
+        persons.forEach(person -> keys.put(person, PersonSortComparator.generateNameCollationKey(person)));
+        persons.sort(Comparator.comparing(keys::get));
+    }
+
+    private Map<Person, Long> getRanks(SortField field) {
+        return ranks.computeIfAbsent(field, this::computeRanks);
+    }
+
+    /**
+     * Ranks each person afresh by its position in the permutation of {@code field}, evenly spaced,
+     * where persons with equal values share the same rank.
+     */
+    private Map<Person, Long> computeRanks(SortField field) {
+        List<Person> permutation = getPermutation(field);
+        Comparator<Person> keyComparator = getKeyComparator(field);
+        Map<Person, Long> fieldRanks = new IdentityHashMap<>(permutation.size());
+        long rank = RANK_SPACING;
+        for (int i = 0; i < permutation.size(); i++) {
+            Person person = permutation.get(i);
+            if (i > 0 && keyComparator.compare(permutation.get(i - 1), person) != 0) {
+                rank = RANK_SPACING * (i + 1);
+            }
+            fieldRanks.put(person, hasValue(field, person) ? rank : EMPTY_RANK);
+        }
+        return fieldRanks;
+    }
+
+    private void onPersonsChanged(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            for (Map.Entry<SortField, List<Person>> entry : sortedPersons.entrySet()) {
+                SortField field = entry.getKey();
+                Comparator<Person> keyComparator = getKeyComparator(field);
+                List<Person> permutation = entry.getValue();
+                Map<Person, Long> fieldRanks = ranks.get(field);
+                for (Person person : change.getRemoved()) {
+                    removeSorted(permutation, person, keyComparator);
+                    if (fieldRanks != null) {
+                        fieldRanks.remove(person);
+                    }
+                }
+                if (change.getAddedSize() == 1) {
+                    int position = insertSorted(permutation, change.getAddedSubList().get(0), keyComparator);
+                    if (fieldRanks != null && !addRank(field, fieldRanks, permutation, position)) {
+                        ranks.remove(field);
+                    }
+                } else if (change.wasAdded()) {
+                    permutation.addAll(change.getAddedSubList());
+                    if (field == SortField.NAME) {
+                        sortByNameCollationKey(permutation);
+                    } else {
+                        permutation.sort(keyComparator);
+                    }
+                    ranks.remove(field);
+                }
+            }
+        }
+    }
+
+    /**
+     * Ranks the person at {@code position} of the permutation of {@code field} between the ranks of its neighbours,
+     * or with the rank of the previous person if their values are equal.
+     * Returns false without ranking the person if there is no room between the ranks of its neighbours,
+     * in which case the ranks of the field must be computed afresh.
+     */
+    private static boolean addRank(SortField field, Map<Person, Long> fieldRanks, List<Person> permutation,
+            int position) {
+        Person person = permutation.get(position);
+        if (!hasValue(field, person)) {
+            fieldRanks.put(person, EMPTY_RANK);
+            return true;
+        }
+        long lower = 0;
+        if (position > 0) {
+            Person previous = permutation.get(position - 1);
+            if (getKeyComparator(field).compare(previous, person) == 0) {
+                fieldRanks.put(person, fieldRanks.get(previous));
+                return true;
+            }
+            lower = fieldRanks.get(previous);
+        }
+        // persons are inserted after all persons with equal values, so the next person always has a greater value
+        long upper = position + 1 < permutation.size() ? fieldRanks.get(permutation.get(position + 1)) : EMPTY_RANK;
+        if (upper - lower < 2) {
+            return false;
+        }
+        fieldRanks.put(person, lower + Math.min(RANK_SPACING, (upper - lower) / 2));
+        return true;
+    }
+
+    /**
+     * Inserts {@code person} into {@code permutation} after all persons that are not greater than it,
+     * and returns the position it is inserted at.
+     */
+    private static int insertSorted(List<Person> permutation, Person person, Comparator<Person> keyComparator) {
+        int low = 0;
+        int high = permutation.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keyComparator.compare(permutation.get(mid), person) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        permutation.add(low, person);
+        return low;
+    }
+
+    private static void removeSorted(List<Person> permutation, Person person, Comparator<Person> keyComparator) {
+        int low = 0;
+        int high = permutation.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keyComparator.compare(permutation.get(mid), person) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        for (int i = low; i < permutation.size(); i++) {
+            if (permutation.get(i) == person) {
+                permutation.remove(i);
+                return;
+            }
+        }
+        assert false : "Removed person should be in the index";
+    }
+
+    private static Comparator<Person> getKeyComparator(SortField field) {
+        return PersonSortComparator.generateComparator(field, SortOrder.ASCENDING);
+    }
+
+    private static boolean hasValue(SortField field, Person person) {
+        switch (field) {
+        case GRAD:
+            return person.getGraduation().isPresent();
+        case PRIORITY:
+            return person.getPriority().isPresent();
+        default:
+            return true;
+        }
+    }
+}
@@ -0,0 +1,304 @@
+package networkbook.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import networkbook.model.person.Person;
+import networkbook.model.person.filter.FieldContainsKeyTermsPredicate;
+import networkbook.model.person.filter.KeyTermsField;
+
+/**
+ * Maps the lower-cased words of the values of each {@code KeyTermsField} to the persons that have them,
+ * updating the postings as persons are added, edited and removed.
+ * The words of each field are in turn indexed by all of their substrings of up to {@code GRAM_LENGTH}
+ * characters, so a key term is only verified against the words that contain all of its trigrams,
+ * rather than against the values of every person.
+ * The postings of a field are only built when the field is first filtered by.
+ * The persons matched by the most recently used key terms of each field are kept, and are updated with only
+ * the persons that are added and removed, so that filtering again after an edit does not look them up afresh.
+ */
+public class PersonTermIndex {
+    /** Length of the longest substrings of words that are indexed. */
+    private static final int GRAM_LENGTH = 3;
+    /** Number of lists of key terms of each field whose matching persons are kept. */
+    private static final int MATCHES_CAPACITY = 64;
+
+    private final ObservableList<Person> persons;
+    private final Map<KeyTermsField, FieldIndex> fieldIndexes = new EnumMap<>(KeyTermsField.class);
+    private final Map<KeyTermsField, Map<List<String>, Set<Person>>> matches = new EnumMap<>(KeyTermsField.class);
+
+    /**
+     * Creates an index over {@code persons}, which is kept up to date as {@code persons} changes.
+     * The index must be created before any other listener of {@code persons} that filters with it.
+     */
+    public PersonTermIndex(ObservableList<Person> persons) {
+        requireNonNull(persons);
+        this.persons = persons;
+        persons.addListener(this::onPersonsChanged);
+    }
+
+    /**
+     * Returns a predicate that is true for the same persons of the indexed list as {@code predicate},
+     * looking the persons up in the postings of the words that contain its key terms.
+     */
+    public Predicate<Person> getPredicate(FieldContainsKeyTermsPredicate predicate) {
+        requireNonNull(predicate);
+        KeyTermsField field = predicate.getField();
+        List<String> keyTerms = List.copyOf(predicate.getKeyTerms());
+        return person -> lookUpMatchingPersons(field, keyTerms).contains(person);
+    }
+
+    /**
+     * Returns the persons with at least one word in {@code field} that contains one of {@code keyTerms},
+     * ignoring case.
+     */
+    public Set<Person> getMatchingPersons(KeyTermsField field, List<String> keyTerms) {
+        requireNonNull(field);
+        requireNonNull(keyTerms);
+        return Collections.unmodifiableSet(lookUpMatchingPersons(field, keyTerms));
+    }
+
+    /**
+     * Returns the persons that {@link #getMatchingPersons(KeyTermsField, List)} returns,
+     * without keeping them if they are not kept already.
+     */
+    public Set<Person> peekMatchingPersons(KeyTermsField field, List<String> keyTerms) {
+        requireNonNull(field);
+        requireNonNull(keyTerms);
+        Set<Person> matchingPersons = matches.getOrDefault(field, Map.of()).get(keyTerms);
+        return Collections.unmodifiableSet(matchingPersons != null
+                ? matchingPersons
+                : findMatchingPersons(field, keyTerms));
+    }
+
+    /**
+     * Returns the kept persons matched by {@code keyTerms} in {@code field}, looking them up if they are not kept.
+     */
+    private Set<Person> lookUpMatchingPersons(KeyTermsField field, List<String> keyTerms) {
+        return matches.computeIfAbsent(field, f -> newMatchesMap())
+                .computeIfAbsent(keyTerms, terms -> findMatchingPersons(field, terms));
+    }
+
+    /**
+     * Returns an estimate of the number of persons that {@link #getMatchingPersons(KeyTermsField, List)} returns,
+     * which is exact if the persons have already been looked up.
+     * Otherwise, it is the total size of the postings of the words that contain the rarest substring
+     * of each key term, without verifying the words or removing the persons found more than once.
+     */
+    public int estimateCount(KeyTermsField field, List<String> keyTerms) {
+        requireNonNull(field);
+        requireNonNull(keyTerms);
+        Set<Person> matchingPersons = matches.getOrDefault(field, Map.of()).get(keyTerms);
+        if (matchingPersons != null) {
+            return matchingPersons.size();
+        }
+        FieldIndex fieldIndex = getFieldIndex(field);
+        long count = 0;
+        for (String keyTerm : keyTerms) {
+            count += fieldIndex.estimatePostingsSize(keyTerm.trim().toLowerCase());
+        }
+        return (int) Math.min(count, persons.size());
+    }
+
+    private Set<Person> findMatchingPersons(KeyTermsField field, List<String> keyTerms) {
+        FieldIndex fieldIndex = getFieldIndex(field);
+        Set<Person> matchingPersons = newPersonSet();
+        for (String keyTerm : keyTerms) {
+            String normalizedKeyTerm = keyTerm.trim().toLowerCase();
+            assert !normalizedKeyTerm.isEmpty() : "Key terms should not be empty";
+            fieldIndex.getWordsContaining(normalizedKeyTerm)
+                    .forEach(word -> matchingPersons.addAll(fieldIndex.postings.get(word)));
+        }
+        return matchingPersons;
+    }
+
+    private FieldIndex getFieldIndex(KeyTermsField field) {
+        return fieldIndexes.computeIfAbsent(field, f -> {
+            FieldIndex fieldIndex = new FieldIndex(f);
+            persons.forEach(fieldIndex::add);
+            return fieldIndex;
+        });
+    }
+
+    private void onPersonsChanged(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            fieldIndexes.forEach((field, fieldIndex) -> {
+                Map<List<String>, Set<Person>> fieldMatches = matches.getOrDefault(field, Map.of());
+                for (Person person : change.getRemoved()) {
+                    fieldIndex.remove(person);
+                    fieldMatches.values().forEach(matchingPersons -> matchingPersons.remove(person));
+                }
+                for (Person person : change.getAddedSubList()) {
+                    fieldIndex.add(person);
+                    addIfMatching(fieldMatches, fieldIndex.getWords(person), person);
+                }
+            });
+        }
+    }
+
+    /**
+     * Adds {@code person} to each of {@code fieldMatches} whose key terms are contained in one of {@code words}.
+     */
+    private static void addIfMatching(Map<List<String>, Set<Person>> fieldMatches, Set<String> words,
+            Person person) {
+        fieldMatches.forEach((keyTerms, matchingPersons) -> {
+            boolean isMatch = keyTerms.stream().map(keyTerm -> keyTerm.trim().toLowerCase())
+                    .anyMatch(keyTerm -> words.stream().anyMatch(word -> word.contains(keyTerm)));
+            if (isMatch) {
+                matchingPersons.add(person);
+            }
+        });
+    }
+
+    /**
+     * Returns a map that keeps the persons matched by only the {@code MATCHES_CAPACITY} most recently used
+     * lists of key terms.
+     */
+    private static Map<List<String>, Set<Person>> newMatchesMap() {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<List<String>, Set<Person>> eldest) {
+                return size() > MATCHES_CAPACITY;
+            }
+        };
+    }
+
+    /**
+     * Returns the distinct substrings of {@code word} with {@code minLength} to {@code maxLength} characters.
+     */
+    private static Set<String> getGrams(String word, int minLength, int maxLength) {
+        Set<String> grams = new HashSet<>();
+        for (int length = minLength; length <= Math.min(maxLength, word.length()); length++) {
+            for (int i = 0; i + length <= word.length(); i++) {
+                grams.add(word.substring(i, i + length));
+            }
+        }
+        return grams;
+    }
+
+    private static Set<Person> newPersonSet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * Postings of the words of one field, and of the words by their substrings.
+     */
+    private static class FieldIndex {
+        private final KeyTermsField field;
+        private final Map<String, Set<Person>> postings = new HashMap<>();
+        private final Map<String, Set<String>> gramPostings = new HashMap<>();
+
+        FieldIndex(KeyTermsField field) {
+            this.field = field;
+        }
+
+        void add(Person person) {
+            getWords(person).forEach(word -> {
+                Set<Person> wordPersons = postings.computeIfAbsent(word, w -> {
+                    getGrams(w, 1, GRAM_LENGTH).forEach(gram ->
+                            gramPostings.computeIfAbsent(gram, g -> new HashSet<>()).add(w));
+                    return newPersonSet();
+                });
+                wordPersons.add(person);
+            });
+        }
+
+        void remove(Person person) {
+            getWords(person).forEach(word -> {
+                Set<Person> wordPersons = postings.get(word);
+                assert wordPersons != null && wordPersons.contains(person) : "Removed person should be in the index";
+                wordPersons.remove(person);
+                if (!wordPersons.isEmpty()) {
+                    return;
+                }
+                postings.remove(word);
+                getGrams(word, 1, GRAM_LENGTH).forEach(gram -> {
+                    Set<String> gramWords = gramPostings.get(gram);
+                    gramWords.remove(word);
+                    if (gramWords.isEmpty()) {
+                        gramPostings.remove(gram);
+                    }
+                });
+            });
+        }
+
+        /**
+         * Returns the indexed words that contain {@code term}.
+         * A term of up to {@code GRAM_LENGTH} characters is itself an indexed substring, so its words are
+         * looked up directly. Longer terms are looked up by intersecting the words of their trigrams,
+         * starting from the rarest, and the remaining candidates are then checked to contain the term.
+         */
+        Set<String> getWordsContaining(String term) {
+            if (term.length() <= GRAM_LENGTH) {
+                return gramPostings.getOrDefault(term, Set.of());
+            }
+
+            List<Set<String>> trigramWords = new ArrayList<>();
+            for (String trigram : getGrams(term, GRAM_LENGTH, GRAM_LENGTH)) {
+                Set<String> words = gramPostings.get(trigram);
+                if (words == null) {
+                    return Set.of();
+                }
+                trigramWords.add(words);
+            }
+            trigramWords.sort(Comparator.comparingInt(Set::size));
+
+            Set<String> candidates = new HashSet<>(trigramWords.get(0));
+            for (int i = 1; i < trigramWords.size() && !candidates.isEmpty(); i++) {
+                candidates.retainAll(trigramWords.get(i));
+            }
+            candidates.removeIf(word -> !word.contains(term));
+            return candidates;
+        }
+
+        /**
+         * Returns the total size of the postings of the words that contain the rarest substring of {@code term}.
+         */
+        long estimatePostingsSize(String term) {
+            Set<String> words = null;
+            for (String gram : getGrams(term, Math.min(term.length(), GRAM_LENGTH), GRAM_LENGTH)) {
+                Set<String> gramWords = gramPostings.getOrDefault(gram, Set.of());
+                if (words == null || gramWords.size() < words.size()) {
+                    words = gramWords;
+                }
+            }
+            long size = 0;
+            for (String word : words) {
+                size += postings.get(word).size();
+            }
+            return size;
+        }
+
+        /**
+         * Returns the distinct normalized words of the values of the field of {@code person}.
+         */
+        private Set<String> getWords(Person person) {
+            Set<String> words = new HashSet<>();
+            for (String value : field.getNormalizedValues(person)) {
+                for (String word : value.split("\\s+")) {
+                    if (!word.isEmpty()) {
+                        words.add(word);
+                    }
+                }
+            }
+            return words;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package networkbook.model;
+
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import networkbook.commons.util.ToStringBuilder;
+import networkbook.model.person.Person;
+import networkbook.model.person.filter.CourseTakenPredicate;
+import networkbook.model.person.filter.FieldContainsKeyTermsPredicate;
+import networkbook.model.person.filter.GradInRangesPredicate;
+import networkbook.model.person.filter.GradRange;
+import networkbook.model.person.filter.PriorityEqualsPredicate;
+
+/**
+ * A node of the plan by which a {@code PersonFilterEngine} evaluates a filter predicate,
+ * with the number of persons it is estimated to match and, once executed,
+ * the number of persons it actually matched and the time it took.
+ */
+public class QueryPlan {
+    /**
+     * Ways in which a node of a plan finds the persons it matches.
+     */
+    public enum Access {
+        /** Looks the persons up in an index. */
+        INDEX,
+        /** Tests every person in the list. */
+        SCAN,
+        /** Tests only the persons matched by the preceding nodes of the enclosing {@code AND}. */
+        FILTER,
+        /** Intersects the persons matched by the child nodes, in order. */
+        AND,
+        /** Unites the persons matched by the child nodes. */
+        OR,
+        /** Takes the persons not matched by the child node. */
+        NOT
+    }
+
+    private static final int NOT_EXECUTED = -1;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final Predicate<Person> predicate;
+    private final Access access;
+    private final int estimatedCount;
+    private final long cost;
+    private final List<QueryPlan> children;
+    private int actualCount = NOT_EXECUTED;
+    private long elapsedNanos;
+
+    /**
+     * Creates a node that evaluates {@code predicate} by {@code access}, from the given child nodes.
+     * {@code cost} is the estimated number of persons that are visited to evaluate the node.
+     */
+    public QueryPlan(Predicate<Person> predicate, Access access, int estimatedCount, long cost,
+                     List<QueryPlan> children) {
+        assert predicate != null && access != null && children != null : "Fields should not be null";
+        this.predicate = predicate;
+        this.access = access;
+        this.estimatedCount = estimatedCount;
+        this.cost = cost;
+        this.children = List.copyOf(children);
+    }
+
+    /**
+     * Returns a copy of this node that finds its persons by {@code access} instead, at {@code cost}.
+     */
+    public QueryPlan withAccess(Access access, long cost) {
+        return new QueryPlan(predicate, access, estimatedCount, cost, children);
+    }
+
+    public Predicate<Person> getPredicate() {
+        return predicate;
+    }
+
+    public Access getAccess() {
+        return access;
+    }
+
+    public int getEstimatedCount() {
+        return estimatedCount;
+    }
+
+    public long getCost() {
+        return cost;
+    }
+
+    public List<QueryPlan> getChildren() {
+        return children;
+    }
+
+    /**
+     * Returns the number of persons matched when the node was last executed,
+     * or a negative number if it has not been executed.
+     */
+    public int getActualCount() {
+        return actualCount;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Records the number of persons matched by an execution of this node, and the time it took.
+     */
+    public void recordExecution(int actualCount, long elapsedNanos) {
+        this.actualCount = actualCount;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Returns the plan as an indented tree, one node per line.
+     */
+    public String format() {
+        StringBuilder builder = new StringBuilder();
+        format(builder, 0);
+        return builder.toString().stripTrailing();
+    }
+
+    private void format(StringBuilder builder, int depth) {
+        builder.append("  ".repeat(depth)).append(access);
+        if (children.isEmpty()) {
+            builder.append(' ').append(describe(predicate));
+        }
+        builder.append(" (estimated ").append(estimatedCount);
+        if (actualCount == NOT_EXECUTED) {
+            builder.append(", not executed)\n");
+        } else {
+            builder.append(String.format(", actual %d, %.3f ms)\n", actualCount, elapsedNanos / NANOS_PER_MILLI));
+        }
+        children.forEach(child -> child.format(builder, depth + 1));
+    }
+
+    /**
+     * Returns a short description of a predicate that is not combined from other predicates.
+     */
+    private static String describe(Predicate<Person> predicate) {
+        if (predicate instanceof FieldContainsKeyTermsPredicate) {
+            FieldContainsKeyTermsPredicate keyTermsPredicate = (FieldContainsKeyTermsPredicate) predicate;
+            return keyTermsPredicate.getField().name().toLowerCase() + " contains " + keyTermsPredicate.getKeyTerms();
+        } else if (predicate instanceof GradInRangesPredicate) {
+            return "grad in " + ((GradInRangesPredicate) predicate).getRanges().stream()
+                    .map(GradRange::toString)
+                    .collect(Collectors.joining(", ", "[", "]"));
+        } else if (predicate instanceof CourseTakenPredicate) {
+            CourseTakenPredicate courseTakenPredicate = (CourseTakenPredicate) predicate;
+            return "course contains " + courseTakenPredicate.getKeyTermsPredicate().getKeyTerms()
+                    + " taken from " + courseTakenPredicate.getTakenPredicate().getFirstDate()
+                    + " to " + courseTakenPredicate.getTakenPredicate().getLastDate();
+        } else if (predicate instanceof PriorityEqualsPredicate) {
+            return "priority is " + ((PriorityEqualsPredicate) predicate).getPriority();
+        }
+        return predicate.toString();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("access", access)
+                .add("estimatedCount", estimatedCount)
+                .add("actualCount", actualCount)
+                .add("children", children)
+                .toString();
+    }
+}
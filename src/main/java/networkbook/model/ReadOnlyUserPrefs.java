@@ -13,4 +13,10 @@ public interface ReadOnlyUserPrefs {
 
     Path getNetworkBookFilePath();
 
+    /**
+     * Returns true if the current filter of the displayed person list should be kept
+     * when a person is added, edited or deleted, instead of showing all persons again.
+     */
+    boolean isFilterPreservedOnChange();
+
 }
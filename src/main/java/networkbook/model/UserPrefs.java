@@ -17,6 +17,7 @@ public class UserPrefs implements ReadOnlyUserPrefs, JsonObject {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path networkBookFilePath = Paths.get("data" , "networkbook.json");
+    private boolean filterPreservedOnChange = false;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -38,6 +39,7 @@ public class UserPrefs implements ReadOnlyUserPrefs, JsonObject {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setNetworkBookFilePath(newUserPrefs.getNetworkBookFilePath());
+        setFilterPreservedOnChange(newUserPrefs.isFilterPreservedOnChange());
     }
 
     public GuiSettings getGuiSettings() {
@@ -58,6 +60,15 @@ public class UserPrefs implements ReadOnlyUserPrefs, JsonObject {
         this.networkBookFilePath = networkBookFilePath;
     }
 
+    @Override
+    public boolean isFilterPreservedOnChange() {
+        return filterPreservedOnChange;
+    }
+
+    public void setFilterPreservedOnChange(boolean filterPreservedOnChange) {
+        this.filterPreservedOnChange = filterPreservedOnChange;
+    }
+
     @Override
     public void assertFieldsAreNotNull() throws NullValueException {
         if (guiSettings == null || networkBookFilePath == null) {
@@ -78,12 +89,13 @@ public class UserPrefs implements ReadOnlyUserPrefs, JsonObject {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && networkBookFilePath.equals(otherUserPrefs.networkBookFilePath);
+                && networkBookFilePath.equals(otherUserPrefs.networkBookFilePath)
+                && filterPreservedOnChange == otherUserPrefs.filterPreservedOnChange;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, networkBookFilePath);
+        return Objects.hash(guiSettings, networkBookFilePath, filterPreservedOnChange);
     }
 
     @Override
@@ -91,6 +103,7 @@ public class UserPrefs implements ReadOnlyUserPrefs, JsonObject {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + networkBookFilePath);
+        sb.append("\nFilter preserved on change : " + filterPreservedOnChange);
         return sb.toString();
     }
 
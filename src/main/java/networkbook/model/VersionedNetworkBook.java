@@ -5,10 +5,11 @@ import java.util.ArrayList;
 /**
  * Behaves like a wrapper class around the `NetworkBook` class that facilitates the undo/redo mechanism by storing
  * version history.
+ * Each version is kept as a `NetworkBookSnapshot`, so that only this network book keeps indexes of its persons.
  */
 public class VersionedNetworkBook extends NetworkBook {
 
-    private final ArrayList<NetworkBook> networkBookStateList;
+    private final ArrayList<NetworkBookSnapshot> networkBookStateList;
     private int currentStatePointer;
 
     /**
@@ -17,7 +18,7 @@ public class VersionedNetworkBook extends NetworkBook {
     public VersionedNetworkBook() {
         super();
         this.networkBookStateList = new ArrayList<>();
-        this.networkBookStateList.add(new NetworkBook(this));
+        this.networkBookStateList.add(new NetworkBookSnapshot(this));
         this.currentStatePointer = 0;
     }
 
@@ -40,7 +41,7 @@ public class VersionedNetworkBook extends NetworkBook {
      */
     public void commit() {
         networkBookStateList.subList(currentStatePointer + 1, networkBookStateList.size()).clear();
-        networkBookStateList.add(new NetworkBook(this));
+        networkBookStateList.add(new NetworkBookSnapshot(this));
         currentStatePointer++;
     }
 
@@ -82,7 +83,7 @@ public class VersionedNetworkBook extends NetworkBook {
      *
      * @return A list of all versions of the network book.
      */
-    public ArrayList<NetworkBook> getNetworkBookStateList() {
+    public ArrayList<NetworkBookSnapshot> getNetworkBookStateList() {
         return networkBookStateList;
     }
 
@@ -7,8 +7,8 @@ import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.time.format.ResolverStyle;
-import java.util.Optional;
 
+import networkbook.commons.util.StringUtil;
 import networkbook.model.util.Identifiable;
 
 /**
@@ -29,9 +29,15 @@ public class Course implements Identifiable<Course> {
     private static final DateTimeFormatter dtf = DateTimeFormatter
             .ofPattern("dd-MM-uuuu").withResolverStyle(ResolverStyle.STRICT);
 
+    /** Start epoch day of a course without a start date, which is taken from the start of time. */
+    private static final long NO_START_DATE = Long.MIN_VALUE;
+    /** End epoch day of a course without an end date, which is taken until the end of time. */
+    private static final long NO_END_DATE = Long.MAX_VALUE;
+
     private final String course;
-    private final Optional<LocalDate> startDate;
-    private final Optional<LocalDate> endDate;
+    private final String normalizedCourse;
+    private final long startEpochDay;
+    private final long endEpochDay;
 
     /**
      * Constructs a {@code Course}.
@@ -42,8 +48,9 @@ public class Course implements Identifiable<Course> {
         requireNonNull(course);
         checkArgument(isValidCourse(course), MESSAGE_CONSTRAINTS);
         this.course = course;
-        startDate = Optional.empty();
-        endDate = Optional.empty();
+        this.normalizedCourse = StringUtil.normalize(course);
+        startEpochDay = NO_START_DATE;
+        endEpochDay = NO_END_DATE;
     }
 
     /**
@@ -58,8 +65,9 @@ public class Course implements Identifiable<Course> {
         checkArgument(isValidCourse(course), MESSAGE_CONSTRAINTS);
         checkArgument(isValidDate(startDate), DATE_CONSTRAINTS);
         this.course = course;
-        this.startDate = Optional.of(LocalDate.parse(startDate, dtf));
-        this.endDate = Optional.empty();
+        this.normalizedCourse = StringUtil.normalize(course);
+        this.startEpochDay = LocalDate.parse(startDate, dtf).toEpochDay();
+        this.endEpochDay = NO_END_DATE;
     }
 
     /**
@@ -78,8 +86,9 @@ public class Course implements Identifiable<Course> {
         checkArgument(isValidDate(endDate), DATE_CONSTRAINTS);
         checkArgument(areChronologicalDates(startDate, endDate), DATE_TIMING_CONSTRAINTS);
         this.course = course;
-        this.startDate = Optional.of(LocalDate.parse(startDate, dtf));
-        this.endDate = Optional.of(LocalDate.parse(endDate, dtf));
+        this.normalizedCourse = StringUtil.normalize(course);
+        this.startEpochDay = LocalDate.parse(startDate, dtf).toEpochDay();
+        this.endEpochDay = LocalDate.parse(endDate, dtf).toEpochDay();
     }
 
     @Override
@@ -92,6 +101,13 @@ public class Course implements Identifiable<Course> {
         return course;
     }
 
+    /**
+     * Returns the course description normalized for matching key terms, which is computed once.
+     */
+    public String getNormalizedValue() {
+        return normalizedCourse;
+    }
+
     /**
      * Returns true if a given string is a valid course.
      */
@@ -141,8 +157,8 @@ public class Course implements Identifiable<Course> {
     @Override
     public String toString() {
         StringBuilder tsb = new StringBuilder(course);
-        String start = startDateExists() ? " (Started: " + dtf.format(startDate.get()) + ")" : "";
-        String end = endDateExists() ? " (Ended: " + dtf.format(endDate.get()) + ")" : "";
+        String start = startDateExists() ? " (Started: " + getStartDate() + ")" : "";
+        String end = endDateExists() ? " (Ended: " + getEndDate() + ")" : "";
         return tsb.append(start).append(end).toString();
     }
 
@@ -180,22 +196,47 @@ public class Course implements Identifiable<Course> {
     }
 
     public String getStartDate() {
-        return startDateExists() ? dtf.format(startDate.get()) : "";
+        return startDateExists() ? dtf.format(LocalDate.ofEpochDay(startEpochDay)) : "";
     }
 
     public String getEndDate() {
-        return endDateExists() ? dtf.format(endDate.get()) : "";
+        return endDateExists() ? dtf.format(LocalDate.ofEpochDay(endEpochDay)) : "";
+    }
+
+    /**
+     * Returns the epoch day of the first day the course is taken on,
+     * or {@code Long.MIN_VALUE} if the course has no start date.
+     */
+    public long getStartEpochDay() {
+        return startEpochDay;
+    }
+
+    /**
+     * Returns the epoch day of the last day the course is taken on,
+     * or {@code Long.MAX_VALUE} if the course has no end date.
+     */
+    public long getEndEpochDay() {
+        return endEpochDay;
+    }
+
+    /**
+     * Returns true if the course is taken on at least one day from {@code fromEpochDay} to {@code toEpochDay},
+     * both inclusive.
+     * A course without a start date is always taken, and a course without an end date is taken from its start date.
+     */
+    public boolean isTakenDuring(long fromEpochDay, long toEpochDay) {
+        return startEpochDay <= toEpochDay && fromEpochDay <= endEpochDay;
     }
 
     /*
      * Checks the existence of start and end dates.
      */
     public boolean startDateExists() {
-        return startDate.isPresent();
+        return startEpochDay != NO_START_DATE;
     }
 
     public boolean endDateExists() {
-        return endDate.isPresent();
+        return endEpochDay != NO_END_DATE;
     }
 
 }
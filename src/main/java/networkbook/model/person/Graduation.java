@@ -246,4 +246,23 @@ public class Graduation implements Comparable<Graduation> {
     public int getGradYear() {
         return semester == Semester.S1 ? acadYearStart : acadYearEnd;
     }
+
+    /**
+     * Returns the academic year and semester of this graduation packed into a single int,
+     * so that packed values are ordered the same way as graduations.
+     */
+    public int getPackedValue() {
+        return pack(acadYearStart, semester);
+    }
+
+    /**
+     * Packs the academic year starting in {@code acadYearStart} and {@code semester} into a single int,
+     * in which consecutive semesters have consecutive values.
+     * The semesters of the academic years from {@code year - 1} to {@code year} that graduate in calendar year
+     * {@code year} are packed into {@code 2 * year - 1} (S2) and {@code 2 * year} (S1).
+     */
+    public static int pack(int acadYearStart, Semester semester) {
+        assert isValidGraduationSemester(semester);
+        return acadYearStart * 2 + semester.value - 1;
+    }
 }
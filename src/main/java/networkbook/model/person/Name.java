@@ -3,6 +3,8 @@ package networkbook.model.person;
 import static java.util.Objects.requireNonNull;
 import static networkbook.commons.util.AppUtil.checkArgument;
 
+import networkbook.commons.util.StringUtil;
+
 /**
  * Represents a Person's name in the network book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -19,6 +21,7 @@ public class Name implements Comparable<Name> {
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
     public final String fullName;
+    private final String normalizedFullName;
 
     /**
      * Constructs a {@code Name}.
@@ -29,6 +32,7 @@ public class Name implements Comparable<Name> {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
+        normalizedFullName = StringUtil.normalize(name);
     }
 
     /**
@@ -38,6 +42,19 @@ public class Name implements Comparable<Name> {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the name normalized for matching key terms, which is computed once.
+     */
+    public String getNormalizedValue() {
+        return normalizedFullName;
+    }
+
+    /**
+     * Returns the words of the normalized name.
+     */
+    public String[] getNormalizedWords() {
+        return normalizedFullName.split(" +");
+    }
 
     @Override
     public String toString() {
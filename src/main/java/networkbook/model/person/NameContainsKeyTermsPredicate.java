@@ -1,25 +1,31 @@
 package networkbook.model.person;
 
 import java.util.List;
-import java.util.function.Predicate;
 
 import networkbook.commons.util.StringUtil;
 import networkbook.commons.util.ToStringBuilder;
+import networkbook.model.person.filter.FieldContainsKeyTermsPredicate;
+import networkbook.model.person.filter.KeyTermsField;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the key terms given.
  */
-public class NameContainsKeyTermsPredicate implements Predicate<Person> {
+public class NameContainsKeyTermsPredicate implements FieldContainsKeyTermsPredicate {
     private final List<String> keyTerms;
+    private final String[] normalizedKeyTerms;
 
+    /**
+     * Creates a predicate that returns true for any Person object whose name
+     * partially matches any of the key terms given.
+     */
     public NameContainsKeyTermsPredicate(List<String> keyTerms) {
         this.keyTerms = keyTerms;
+        this.normalizedKeyTerms = StringUtil.normalizeAll(keyTerms);
     }
 
     @Override
     public boolean test(Person person) {
-        return keyTerms.stream()
-                .anyMatch(keyTerm -> StringUtil.containsTermIgnoreCase(person.getName().fullName, keyTerm));
+        return StringUtil.containsAnyNormalizedTerm(person.getName().getNormalizedValue(), normalizedKeyTerms);
     }
 
     @Override
@@ -37,11 +43,22 @@ public class NameContainsKeyTermsPredicate implements Predicate<Person> {
         return keyTerms.equals(otherNameContainsKeyTermsPredicate.keyTerms);
     }
 
+    @Override
+    public int hashCode() {
+        return keyTerms.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("key terms", keyTerms).toString();
     }
 
+    @Override
+    public KeyTermsField getField() {
+        return KeyTermsField.NAME;
+    }
+
+    @Override
     public List<String> getKeyTerms() {
         return keyTerms;
     }
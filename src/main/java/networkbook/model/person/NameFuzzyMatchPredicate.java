@@ -0,0 +1,100 @@
+package networkbook.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import networkbook.commons.util.StringUtil;
+import networkbook.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a word of a {@code Person}'s {@code Name} is within a small edit distance of any of the key terms given,
+ * so that misspelt names are still matched.
+ * The edit distance allowed for a key term grows with its length, as in {@link #getMaxDistance(String)}.
+ */
+public class NameFuzzyMatchPredicate implements Predicate<Person> {
+    /** Number of characters from which a key term may be misspelt by one edit. */
+    private static final int ONE_EDIT_LENGTH = 3;
+    /** Number of characters from which a key term may be misspelt by two edits. */
+    private static final int TWO_EDITS_LENGTH = 6;
+
+    private final List<String> keyTerms;
+    private final String[] normalizedKeyTerms;
+
+    /**
+     * Creates a predicate that returns true for any Person object with a word in their name that is
+     * within the allowed edit distance of any of the key terms given.
+     */
+    public NameFuzzyMatchPredicate(List<String> keyTerms) {
+        requireNonNull(keyTerms);
+        this.keyTerms = keyTerms;
+        this.normalizedKeyTerms = StringUtil.normalizeAll(keyTerms);
+    }
+
+    /**
+     * Returns the largest edit distance from a name word at which {@code keyTerm} still matches the word:
+     * 0 for terms shorter than 3 characters, 1 for terms shorter than 6 characters, and 2 otherwise.
+     */
+    public static int getMaxDistance(String keyTerm) {
+        return keyTerm.length() >= TWO_EDITS_LENGTH ? 2 : keyTerm.length() >= ONE_EDIT_LENGTH ? 1 : 0;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return getDistance(person) >= 0;
+    }
+
+    /**
+     * Returns the least edit distance between a word of the name of {@code person} and a key term
+     * that matches it, or -1 if no key term matches the name.
+     */
+    public int getDistance(Person person) {
+        int leastDistance = -1;
+        for (String word : person.getName().getNormalizedWords()) {
+            for (String keyTerm : normalizedKeyTerms) {
+                int distance = StringUtil.editDistance(word, keyTerm);
+                if (distance <= getMaxDistance(keyTerm) && (leastDistance < 0 || distance < leastDistance)) {
+                    leastDistance = distance;
+                }
+            }
+        }
+        return leastDistance;
+    }
+
+    public List<String> getKeyTerms() {
+        return keyTerms;
+    }
+
+    /**
+     * Returns the key terms normalized for matching, in the order of {@link #getKeyTerms()}.
+     */
+    public List<String> getNormalizedKeyTerms() {
+        return List.of(normalizedKeyTerms);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NameFuzzyMatchPredicate)) {
+            return false;
+        }
+
+        NameFuzzyMatchPredicate otherNameFuzzyMatchPredicate = (NameFuzzyMatchPredicate) other;
+        return keyTerms.equals(otherNameFuzzyMatchPredicate.keyTerms);
+    }
+
+    @Override
+    public int hashCode() {
+        return keyTerms.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("key terms", keyTerms).toString();
+    }
+}
@@ -0,0 +1,82 @@
+package networkbook.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import networkbook.commons.util.PhoneticUtil;
+import networkbook.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a word of a {@code Person}'s {@code Name} sounds like any of the key terms given,
+ * that is, has the same {@link PhoneticUtil#encode(String) phonetic code}.
+ */
+public class NameSoundsLikePredicate implements Predicate<Person> {
+    private final List<String> keyTerms;
+    private final Set<String> phoneticCodes = new LinkedHashSet<>();
+
+    /**
+     * Creates a predicate that returns true for any Person object with a word in their name that sounds like
+     * any of the key terms given.
+     * Key terms without letters have no sound, and do not match any name.
+     */
+    public NameSoundsLikePredicate(List<String> keyTerms) {
+        requireNonNull(keyTerms);
+        this.keyTerms = keyTerms;
+        for (String keyTerm : keyTerms) {
+            String phoneticCode = PhoneticUtil.encode(keyTerm);
+            if (!phoneticCode.isEmpty()) {
+                phoneticCodes.add(phoneticCode);
+            }
+        }
+    }
+
+    @Override
+    public boolean test(Person person) {
+        for (String word : person.getName().getNormalizedWords()) {
+            if (phoneticCodes.contains(PhoneticUtil.encode(word))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public List<String> getKeyTerms() {
+        return keyTerms;
+    }
+
+    /**
+     * Returns the distinct phonetic codes of the key terms that have letters.
+     */
+    public Set<String> getPhoneticCodes() {
+        return Set.copyOf(phoneticCodes);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NameSoundsLikePredicate)) {
+            return false;
+        }
+
+        NameSoundsLikePredicate otherNameSoundsLikePredicate = (NameSoundsLikePredicate) other;
+        return keyTerms.equals(otherNameSoundsLikePredicate.keyTerms);
+    }
+
+    @Override
+    public int hashCode() {
+        return keyTerms.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("key terms", keyTerms).toString();
+    }
+}
@@ -5,9 +5,13 @@ import static java.util.Objects.requireNonNull;
 import java.awt.Desktop;
 import java.io.IOException;
 import java.net.URI;
+import java.util.EnumSet;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
 import java.util.logging.Logger;
+import java.util.stream.Stream;
 
 import networkbook.commons.core.LogsCenter;
 import networkbook.commons.core.index.Index;
@@ -112,6 +116,13 @@ public class Person implements Identifiable<Person> {
     public UniqueList<Course> getCourses() {
         return courses.copy();
     }
+
+    /**
+     * Returns the courses of this person without copying them, as courses are immutable.
+     */
+    public Stream<Course> streamCourses() {
+        return courses.stream();
+    }
     public UniqueList<Specialisation> getSpecialisations() {
         return specialisations.copy();
     }
@@ -119,6 +130,28 @@ public class Person implements Identifiable<Person> {
         return this.tags.copy();
     }
 
+    /**
+     * Returns true if any course of this person satisfies {@code predicate}, without copying the courses.
+     */
+    public boolean anyCourseMatches(Predicate<Course> predicate) {
+        return courses.anyMatch(predicate);
+    }
+
+    /**
+     * Returns true if any specialisation of this person satisfies {@code predicate},
+     * without copying the specialisations.
+     */
+    public boolean anySpecialisationMatches(Predicate<Specialisation> predicate) {
+        return specialisations.anyMatch(predicate);
+    }
+
+    /**
+     * Returns true if any tag of this person satisfies {@code predicate}, without copying the tags.
+     */
+    public boolean anyTagMatches(Predicate<Tag> predicate) {
+        return tags.anyMatch(predicate);
+    }
+
     public Optional<Priority> getPriority() {
         return Optional.ofNullable(priority);
     }
@@ -194,6 +227,50 @@ public class Person implements Identifiable<Person> {
         return this.emails.get(index);
     }
 
+    /**
+     * Returns the fields in which {@code otherPerson} differs from this person, as a new set.
+     */
+    public Set<PersonField> getChangedFields(Person otherPerson) {
+        requireNonNull(otherPerson);
+        Set<PersonField> changedFields = EnumSet.noneOf(PersonField.class);
+        addIfChanged(changedFields, PersonField.NAME, name, otherPerson.name);
+        addIfChanged(changedFields, PersonField.PHONE, phones, otherPerson.phones);
+        addIfChanged(changedFields, PersonField.EMAIL, emails, otherPerson.emails);
+        addIfChanged(changedFields, PersonField.LINK, links, otherPerson.links);
+        addIfChanged(changedFields, PersonField.GRADUATION, graduation, otherPerson.graduation);
+        if (!Objects.equals(courses, otherPerson.courses) || !haveSameCourseDates(courses, otherPerson.courses)) {
+            changedFields.add(PersonField.COURSE);
+        }
+        addIfChanged(changedFields, PersonField.SPECIALISATION, specialisations, otherPerson.specialisations);
+        addIfChanged(changedFields, PersonField.TAG, tags, otherPerson.tags);
+        addIfChanged(changedFields, PersonField.PRIORITY, priority, otherPerson.priority);
+        return changedFields;
+    }
+
+    /**
+     * Returns true if each course in {@code courses} has the same dates as the course in its position
+     * in {@code otherCourses}, which {@code Course#equals} does not compare.
+     * Both lists must have the same number of courses.
+     */
+    private static boolean haveSameCourseDates(UniqueList<Course> courses, UniqueList<Course> otherCourses) {
+        for (int i = 0; i < courses.size(); i++) {
+            Course course = courses.get(i);
+            Course otherCourse = otherCourses.get(i);
+            if (course.getStartEpochDay() != otherCourse.getStartEpochDay()
+                    || course.getEndEpochDay() != otherCourse.getEndEpochDay()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void addIfChanged(Set<PersonField> changedFields, PersonField field, Object value,
+                                     Object otherValue) {
+        if (!Objects.equals(value, otherValue)) {
+            changedFields.add(field);
+        }
+    }
+
     /**
      * Returns true if both persons have the same identity and data fields.
      * This defines a stronger notion of equality between two persons.
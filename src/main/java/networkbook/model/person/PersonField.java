@@ -0,0 +1,16 @@
+package networkbook.model.person;
+
+/**
+ * Fields of a person, as they are displayed.
+ */
+public enum PersonField {
+    NAME,
+    PHONE,
+    EMAIL,
+    LINK,
+    GRADUATION,
+    COURSE,
+    SPECIALISATION,
+    TAG,
+    PRIORITY
+}
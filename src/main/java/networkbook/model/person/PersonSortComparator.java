@@ -3,12 +3,19 @@ package networkbook.model.person;
 import static java.util.Objects.requireNonNull;
 import static networkbook.commons.util.AppUtil.checkArgument;
 
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 import networkbook.commons.util.ToStringBuilder;
 /**
  * Provides an ordering for {@code Person} instances based on the values of a specific field.
+ * Persons that are equal in that field can be further ordered by a tie breaker on another field.
  */
 public class PersonSortComparator implements Comparator<Person> {
 
@@ -31,19 +38,33 @@ public class PersonSortComparator implements Comparator<Person> {
     public static final String MESSAGE_CONSTRAINTS_ORDER = "Order should be one of the following: asc, desc.";
     public static final String MESSAGE_CONSTRAINTS = MESSAGE_CONSTRAINTS_FIELD + "\n" + MESSAGE_CONSTRAINTS_ORDER;
 
+    /** Collator used to order names according to the rules of the default locale. */
+    private static final Collator NAME_COLLATOR = Collator.getInstance();
+
     private final Comparator<Person> comparator;
     private final SortField field;
     private final SortOrder order;
+    private final PersonSortComparator tieBreaker;
 
     /**
      * Constructs a PersonSortComparator with the specified field and sort order.
      */
     public PersonSortComparator(SortField field, SortOrder order) {
+        this(field, order, null);
+    }
+
+    /**
+     * Constructs a PersonSortComparator with the specified field and sort order,
+     * which orders persons that are equal in that field using {@code tieBreaker}.
+     * {@code tieBreaker} can be null, in which case such persons are not ordered further.
+     */
+    public PersonSortComparator(SortField field, SortOrder order, PersonSortComparator tieBreaker) {
         requireNonNull(field);
         requireNonNull(order);
         checkArgument(isValidSortParams(field, order), MESSAGE_CONSTRAINTS);
         this.field = field;
         this.order = order;
+        this.tieBreaker = tieBreaker;
         this.comparator = generateComparator(field, order);
     }
 
@@ -80,8 +101,17 @@ public class PersonSortComparator implements Comparator<Person> {
      */
     public static Comparator<Person> generateNameComparator(boolean isAsc) {
         return (Person o1, Person o2) -> isAsc
-                ? o1.getName().compareTo(o2.getName())
-                : o2.getName().compareTo(o1.getName());
+                ? NAME_COLLATOR.compare(o1.getName().fullName, o2.getName().fullName)
+                : NAME_COLLATOR.compare(o2.getName().fullName, o1.getName().fullName);
+    }
+
+    /**
+     * Returns the key of the name of {@code person} that orders the same way as the name comparator,
+     * so that names to be sorted many times only need to be collated once.
+     */
+    public static CollationKey generateNameCollationKey(Person person) {
+        requireNonNull(person);
+        return NAME_COLLATOR.getCollationKey(person.getName().fullName);
     }
 
     /**
@@ -132,6 +162,18 @@ public class PersonSortComparator implements Comparator<Person> {
         return order; // Can return directly as field is final
     }
 
+    /**
+     * Returns the comparators of this sort in order of precedence, starting with this comparator itself.
+     * Each of the returned comparators only compares by its own field.
+     */
+    public List<PersonSortComparator> getSortKeys() {
+        List<PersonSortComparator> sortKeys = new ArrayList<>();
+        for (PersonSortComparator key = this; key != null; key = key.tieBreaker) {
+            sortKeys.add(new PersonSortComparator(key.field, key.order));
+        }
+        return Collections.unmodifiableList(sortKeys);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -144,17 +186,30 @@ public class PersonSortComparator implements Comparator<Person> {
         }
 
         PersonSortComparator otherPersonSortComparator = (PersonSortComparator) other;
-        return field.equals(otherPersonSortComparator.field) && order.equals(otherPersonSortComparator.order);
+        return field.equals(otherPersonSortComparator.field) && order.equals(otherPersonSortComparator.order)
+                && Objects.equals(tieBreaker, otherPersonSortComparator.tieBreaker);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(field, order, tieBreaker);
     }
 
     @Override
     public String toString() {
-        return new ToStringBuilder(this).add("comparator", comparator).toString();
+        return new ToStringBuilder(this)
+                .add("comparator", comparator)
+                .add("tieBreaker", tieBreaker)
+                .toString();
     }
 
     @Override
     public int compare(Person o1, Person o2) {
-        return comparator.compare(o1, o2);
+        int result = comparator.compare(o1, o2);
+        if (result != 0 || tieBreaker == null) {
+            return result;
+        }
+        return tieBreaker.compare(o1, o2);
     }
 
     /**
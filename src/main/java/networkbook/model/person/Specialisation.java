@@ -3,6 +3,7 @@ package networkbook.model.person;
 import static java.util.Objects.requireNonNull;
 import static networkbook.commons.util.AppUtil.checkArgument;
 
+import networkbook.commons.util.StringUtil;
 import networkbook.model.util.Identifiable;
 
 /**
@@ -16,6 +17,7 @@ public class Specialisation implements Identifiable<Specialisation> {
             + "Additionally, the specialisation cannot have more than 1 space between words.";
 
     private final String specialisation;
+    private final String normalizedSpecialisation;
 
     /**
      * Constructs an {@code Specialisation}.
@@ -27,6 +29,7 @@ public class Specialisation implements Identifiable<Specialisation> {
         requireNonNull(specialisation);
         checkArgument(isValidSpecialisation(specialisation), MESSAGE_CONSTRAINTS);
         this.specialisation = specialisation;
+        this.normalizedSpecialisation = StringUtil.normalize(specialisation);
     }
 
     /**
@@ -85,4 +88,11 @@ public class Specialisation implements Identifiable<Specialisation> {
     public String getValue() {
         return getSpecialisation();
     }
+
+    /**
+     * Returns the specialisation normalized for matching key terms, which is computed once.
+     */
+    public String getNormalizedValue() {
+        return normalizedSpecialisation;
+    }
 }
@@ -3,6 +3,7 @@ package networkbook.model.person;
 import static java.util.Objects.requireNonNull;
 import static networkbook.commons.util.AppUtil.checkArgument;
 
+import networkbook.commons.util.StringUtil;
 import networkbook.model.util.Identifiable;
 
 /**
@@ -18,6 +19,7 @@ public class Tag implements Identifiable<Tag> {
     private static final String INVALIDATION_REGEX = "\\s+";
 
     private final String tagName;
+    private final String normalizedTagName;
 
     /**
      * Constructs a {@code Tag}.
@@ -28,6 +30,7 @@ public class Tag implements Identifiable<Tag> {
         requireNonNull(tagName);
         checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
         this.tagName = tagName;
+        this.normalizedTagName = StringUtil.normalize(tagName);
     }
 
     /**
@@ -57,6 +60,13 @@ public class Tag implements Identifiable<Tag> {
         return this.tagName;
     }
 
+    /**
+     * Returns the tag name normalized for matching key terms, which is computed once.
+     */
+    public String getNormalizedValue() {
+        return normalizedTagName;
+    }
+
     @Override
     public boolean isSame(Tag toCheck) {
         // handle null case
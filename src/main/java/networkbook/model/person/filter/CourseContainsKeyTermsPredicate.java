@@ -13,8 +13,10 @@ import networkbook.model.person.Person;
 /**
  * Tests that at least one of a Person's courses contains one of the given key terms.
  */
-public class CourseContainsKeyTermsPredicate implements Predicate<Person> {
+public class CourseContainsKeyTermsPredicate implements FieldContainsKeyTermsPredicate {
     private final List<String> keyTerms;
+    private final String[] normalizedKeyTerms;
+    private final Predicate<Course> courseMatcher = this::matches;
 
     /**
      * Creates a predicate that returns true for any Person object that has at least one course that
@@ -24,14 +26,13 @@ public class CourseContainsKeyTermsPredicate implements Predicate<Person> {
         assert keyTerms != null : "List should not be null";
         CollectionUtil.requireAllNonNull(keyTerms);
         this.keyTerms = keyTerms;
+        this.normalizedKeyTerms = StringUtil.normalizeAll(keyTerms);
     }
 
     @Override
     public boolean test(Person person) {
         assert person != null : "Person should not be null";
-        return keyTerms.stream()
-                .anyMatch(keyTerm -> person.getCourses().stream()
-                        .anyMatch(course -> StringUtil.containsTermIgnoreCase(course.getValue(), keyTerm)));
+        return person.anyCourseMatches(courseMatcher);
     }
 
     @Override
@@ -49,25 +50,41 @@ public class CourseContainsKeyTermsPredicate implements Predicate<Person> {
         return keyTerms.equals(otherCourseContainsKeyTermsPredicate.keyTerms);
     }
 
+    @Override
+    public int hashCode() {
+        return keyTerms.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("key terms", keyTerms).toString();
     }
 
+    @Override
+    public KeyTermsField getField() {
+        return KeyTermsField.COURSE;
+    }
+
+    @Override
     public List<String> getKeyTerms() {
         return keyTerms;
     }
 
+    /**
+     * Returns true if {@code course} contains any of the key terms.
+     */
+    public boolean matches(Course course) {
+        assert course != null : "Course should not be null";
+        return StringUtil.containsAnyNormalizedTerm(course.getNormalizedValue(), normalizedKeyTerms);
+    }
+
     /**
      * Gets all courses that match any of the key terms.
      */
     public List<Course> getCourses(Person person) {
         assert person != null : "Person should not be null";
-        return person.getCourses()
-                .stream()
-                .filter(course ->
-                        keyTerms.stream()
-                                .anyMatch(keyTerm -> StringUtil.containsTermIgnoreCase(course.getCourse(), keyTerm)))
+        return person.streamCourses()
+                .filter(courseMatcher)
                 .collect(Collectors.toList());
     }
 }
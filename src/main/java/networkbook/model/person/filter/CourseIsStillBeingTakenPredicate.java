@@ -1,31 +1,39 @@
 package networkbook.model.person.filter;
 
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.time.format.ResolverStyle;
+import java.util.Objects;
 import java.util.function.Predicate;
 
+import networkbook.commons.util.ToStringBuilder;
 import networkbook.model.person.Course;
 
 /**
- * Checks that a course is still being taken by the given date.
+ * Checks that a course is still being taken by the given date, or on any day of the given period.
  *
  * Assumption: No start date -> Course is still being taken.
  * Otherwise returns true when the given date is between the start and end date.
  */
 public class CourseIsStillBeingTakenPredicate implements Predicate<Course> {
-    private final LocalDate dateOfFinish;
-    private final DateTimeFormatter dtf = DateTimeFormatter
-            .ofPattern("dd-MM-uuuu")
-            .withResolverStyle(ResolverStyle.STRICT);
+    private final LocalDate firstDate;
+    private final LocalDate lastDate;
 
     /**
      * Creates a predicate that returns true for a course whenever the given date lies in the range
      * between the course's start and end date.
      */
     public CourseIsStillBeingTakenPredicate(LocalDate dateOfFinish) {
-        assert dateOfFinish != null : "Date should not be null";
-        this.dateOfFinish = dateOfFinish;
+        this(dateOfFinish, dateOfFinish);
+    }
+
+    /**
+     * Creates a predicate that returns true for a course whenever any date from {@code firstDate}
+     * to {@code lastDate} lies in the range between the course's start and end date.
+     */
+    public CourseIsStillBeingTakenPredicate(LocalDate firstDate, LocalDate lastDate) {
+        assert firstDate != null && lastDate != null : "Dates should not be null";
+        assert dateEqualOrBefore(firstDate, lastDate) : "First date should not be after last date";
+        this.firstDate = firstDate;
+        this.lastDate = lastDate;
     }
 
     /**
@@ -52,14 +60,23 @@ public class CourseIsStillBeingTakenPredicate implements Predicate<Course> {
      */
     public boolean test(Course course) {
         assert course != null : "Course should not be null";
-        if (!course.startDateExists()) {
-            return true;
-        }
-        if (!course.endDateExists()) {
-            return dateEqualOrAfter(dateOfFinish, LocalDate.parse(course.getStartDate(), dtf));
-        }
-        return dateEqualOrAfter(dateOfFinish, LocalDate.parse(course.getStartDate(), dtf))
-                && dateEqualOrBefore(dateOfFinish, LocalDate.parse(course.getEndDate(), dtf));
+        return course.isTakenDuring(getFirstEpochDay(), getLastEpochDay());
+    }
+
+    public LocalDate getFirstDate() {
+        return firstDate;
+    }
+
+    public LocalDate getLastDate() {
+        return lastDate;
+    }
+
+    public long getFirstEpochDay() {
+        return firstDate.toEpochDay();
+    }
+
+    public long getLastEpochDay() {
+        return lastDate.toEpochDay();
     }
 
     @Override
@@ -74,6 +91,16 @@ public class CourseIsStillBeingTakenPredicate implements Predicate<Course> {
         }
 
         CourseIsStillBeingTakenPredicate otherPredicate = (CourseIsStillBeingTakenPredicate) other;
-        return dateOfFinish.isEqual(otherPredicate.dateOfFinish);
+        return firstDate.isEqual(otherPredicate.firstDate) && lastDate.isEqual(otherPredicate.lastDate);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(firstDate, lastDate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("from", firstDate).add("to", lastDate).toString();
     }
 }
@@ -0,0 +1,74 @@
+package networkbook.model.person.filter;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import networkbook.commons.util.ToStringBuilder;
+import networkbook.model.person.Course;
+import networkbook.model.person.Person;
+
+/**
+ * Tests that a Person has a course that contains one of the given key terms
+ * and is taken during the period of a {@code CourseIsStillBeingTakenPredicate}.
+ * Such a predicate can be answered from an index of course periods instead of testing every person.
+ */
+public class CourseTakenPredicate implements Predicate<Person> {
+    private final CourseContainsKeyTermsPredicate keyTermsPredicate;
+    private final CourseIsStillBeingTakenPredicate takenPredicate;
+    private final Predicate<Course> courseMatcher;
+
+    /**
+     * Creates a predicate that returns true for any Person object that has a course which both
+     * matches {@code keyTermsPredicate} and is taken according to {@code takenPredicate}.
+     */
+    public CourseTakenPredicate(CourseContainsKeyTermsPredicate keyTermsPredicate,
+                                CourseIsStillBeingTakenPredicate takenPredicate) {
+        assert keyTermsPredicate != null && takenPredicate != null : "Predicates should not be null";
+        this.keyTermsPredicate = keyTermsPredicate;
+        this.takenPredicate = takenPredicate;
+        this.courseMatcher = course -> takenPredicate.test(course) && keyTermsPredicate.matches(course);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        assert person != null : "Person should not be null";
+        return person.anyCourseMatches(courseMatcher);
+    }
+
+    public CourseContainsKeyTermsPredicate getKeyTermsPredicate() {
+        return keyTermsPredicate;
+    }
+
+    public CourseIsStillBeingTakenPredicate getTakenPredicate() {
+        return takenPredicate;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof CourseTakenPredicate)) {
+            return false;
+        }
+
+        CourseTakenPredicate otherPredicate = (CourseTakenPredicate) other;
+        return keyTermsPredicate.equals(otherPredicate.keyTermsPredicate)
+                && takenPredicate.equals(otherPredicate.takenPredicate);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(keyTermsPredicate, takenPredicate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("key terms", keyTermsPredicate)
+                .add("taken", takenPredicate)
+                .toString();
+    }
+}
@@ -0,0 +1,24 @@
+package networkbook.model.person.filter;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import networkbook.model.person.Person;
+
+/**
+ * Tests that at least one word of at least one value of a field of a person contains one of the given key terms,
+ * ignoring case.
+ * Such a predicate can be answered from an index of the words of the field instead of testing every person.
+ */
+public interface FieldContainsKeyTermsPredicate extends Predicate<Person> {
+
+    /**
+     * Returns the field whose values are matched against the key terms.
+     */
+    KeyTermsField getField();
+
+    /**
+     * Returns the key terms to match.
+     */
+    List<String> getKeyTerms();
+}
@@ -1,17 +1,17 @@
 package networkbook.model.person.filter;
 
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import networkbook.commons.util.CollectionUtil;
 import networkbook.commons.util.ToStringBuilder;
-import networkbook.model.person.Person;
 
 /**
  * Tests that a Person's grad year equals one of the given years.
  */
-public class GradEqualsOneOfPredicate implements Predicate<Person> {
+public class GradEqualsOneOfPredicate implements GradInRangesPredicate {
     private final List<Integer> gradYears;
+    private final List<GradRange> ranges;
 
     /**
      * Creates a predicate that returns true for any Person object that has their grad year
@@ -21,16 +21,7 @@ public class GradEqualsOneOfPredicate implements Predicate<Person> {
         assert gradYears != null : "List should not be null";
         CollectionUtil.requireAllNonNull(gradYears);
         this.gradYears = gradYears;
-    }
-
-    @Override
-    public boolean test(Person person) {
-        assert person != null : "Person should not be null";
-        if (person.getGraduation().isEmpty()) {
-            return false;
-        }
-        return gradYears.stream()
-                .anyMatch(year -> year == person.getGraduation().get().getGradYear());
+        this.ranges = gradYears.stream().map(GradRange::ofYear).collect(Collectors.toUnmodifiableList());
     }
 
     @Override
@@ -48,6 +39,11 @@ public class GradEqualsOneOfPredicate implements Predicate<Person> {
         return gradYears.equals(otherGradEqualsOneOfPredicate.gradYears);
     }
 
+    @Override
+    public int hashCode() {
+        return gradYears.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("years", gradYears).toString();
@@ -56,4 +52,9 @@ public class GradEqualsOneOfPredicate implements Predicate<Person> {
     public List<Integer> getGradYears() {
         return gradYears;
     }
+
+    @Override
+    public List<GradRange> getRanges() {
+        return ranges;
+    }
 }
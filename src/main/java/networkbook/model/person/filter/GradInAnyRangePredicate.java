@@ -0,0 +1,52 @@
+package networkbook.model.person.filter;
+
+import java.util.List;
+
+import networkbook.commons.util.CollectionUtil;
+import networkbook.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a Person's graduation is in one of the given ranges of semesters or years.
+ */
+public class GradInAnyRangePredicate implements GradInRangesPredicate {
+    private final List<GradRange> ranges;
+
+    /**
+     * Creates a predicate that returns true for any Person object whose graduation is in any of the ranges given.
+     */
+    public GradInAnyRangePredicate(List<GradRange> ranges) {
+        assert ranges != null : "List should not be null";
+        CollectionUtil.requireAllNonNull(ranges);
+        this.ranges = ranges;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof GradInAnyRangePredicate)) {
+            return false;
+        }
+
+        GradInAnyRangePredicate otherPredicate = (GradInAnyRangePredicate) other;
+        return ranges.equals(otherPredicate.ranges);
+    }
+
+    @Override
+    public int hashCode() {
+        return ranges.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("ranges", ranges).toString();
+    }
+
+    @Override
+    public List<GradRange> getRanges() {
+        return ranges;
+    }
+}
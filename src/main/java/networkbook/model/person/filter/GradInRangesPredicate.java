@@ -0,0 +1,27 @@
+package networkbook.model.person.filter;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import networkbook.model.person.Graduation;
+import networkbook.model.person.Person;
+
+/**
+ * Tests that a Person's graduation is in one of the given ranges.
+ * Such a predicate can be answered from an index of graduations instead of testing every person.
+ */
+public interface GradInRangesPredicate extends Predicate<Person> {
+
+    /**
+     * Returns the ranges of graduations to match.
+     */
+    List<GradRange> getRanges();
+
+    @Override
+    default boolean test(Person person) {
+        assert person != null : "Person should not be null";
+        Optional<Graduation> graduation = person.getGraduation();
+        return graduation.isPresent() && getRanges().stream().anyMatch(range -> range.contains(graduation.get()));
+    }
+}
@@ -0,0 +1,133 @@
+package networkbook.model.person.filter;
+
+import java.util.Objects;
+
+import networkbook.model.person.Graduation;
+import networkbook.model.person.Graduation.Semester;
+
+/**
+ * Represents an inclusive range of graduation semesters, as bounds on {@link Graduation#getPackedValue()}.
+ * Either bound may be open.
+ */
+public class GradRange {
+    public static final int NO_LOWER_BOUND = Integer.MIN_VALUE;
+    public static final int NO_UPPER_BOUND = Integer.MAX_VALUE;
+
+    private final int lowerBound;
+    private final int upperBound;
+
+    /**
+     * Creates a range from {@code lowerBound} to {@code upperBound}, both inclusive packed graduation values.
+     */
+    public GradRange(int lowerBound, int upperBound) {
+        this.lowerBound = lowerBound;
+        this.upperBound = upperBound;
+    }
+
+    /**
+     * Returns the range of graduations in calendar years {@code fromYear} to {@code toYear}, both inclusive.
+     */
+    public static GradRange ofYears(int fromYear, int toYear) {
+        return new GradRange(getFirstPackedValue(fromYear), getLastPackedValue(toYear));
+    }
+
+    /**
+     * Returns the range of graduations in calendar year {@code year}.
+     */
+    public static GradRange ofYear(int year) {
+        return ofYears(year, year);
+    }
+
+    /**
+     * Returns the smallest packed graduation value in calendar year {@code year}.
+     */
+    public static int getFirstPackedValue(int year) {
+        return Graduation.pack(year - 1, Semester.S2);
+    }
+
+    /**
+     * Returns the largest packed graduation value in calendar year {@code year}.
+     */
+    public static int getLastPackedValue(int year) {
+        return Graduation.pack(year, Semester.S1);
+    }
+
+    public int getLowerBound() {
+        return lowerBound;
+    }
+
+    public int getUpperBound() {
+        return upperBound;
+    }
+
+    /**
+     * Returns true if no graduation is in this range.
+     */
+    public boolean isEmpty() {
+        return lowerBound > upperBound;
+    }
+
+    /**
+     * Returns true if {@code graduation} is in this range.
+     */
+    public boolean contains(Graduation graduation) {
+        int packedValue = graduation.getPackedValue();
+        return lowerBound <= packedValue && packedValue <= upperBound;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof GradRange)) {
+            return false;
+        }
+
+        GradRange otherRange = (GradRange) other;
+        return lowerBound == otherRange.lowerBound && upperBound == otherRange.upperBound;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(lowerBound, upperBound);
+    }
+
+    /**
+     * Returns the range in the syntax it is given in filter commands, e.g. {@code 2022}, {@code 2020-2024}
+     * or {@code >=AY2223-S1}.
+     */
+    @Override
+    public String toString() {
+        if (lowerBound == NO_LOWER_BOUND) {
+            return "<=" + formatUpperBound();
+        }
+        if (upperBound == NO_UPPER_BOUND) {
+            return ">=" + formatLowerBound();
+        }
+        String lower = formatLowerBound();
+        String upper = formatUpperBound();
+        return lower.equals(upper) ? lower : lower + "-" + upper;
+    }
+
+    private String formatLowerBound() {
+        // S2 of an academic year is the first semester of its graduation year
+        return Math.floorMod(lowerBound, 2) == 1
+                ? String.valueOf((lowerBound + 1) / 2)
+                : formatPackedValue(lowerBound);
+    }
+
+    private String formatUpperBound() {
+        return Math.floorMod(upperBound, 2) == 0
+                ? String.valueOf(upperBound / 2)
+                : formatPackedValue(upperBound);
+    }
+
+    private static String formatPackedValue(int packedValue) {
+        int acadYearStart = Math.floorDiv(packedValue, 2);
+        int semester = Math.floorMod(packedValue, 2) + 1;
+        return String.format("AY%02d%02d-S%d", acadYearStart % 100, (acadYearStart + 1) % 100, semester);
+    }
+}
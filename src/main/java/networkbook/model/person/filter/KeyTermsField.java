@@ -0,0 +1,43 @@
+package networkbook.model.person.filter;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import networkbook.model.person.Course;
+import networkbook.model.person.Person;
+import networkbook.model.person.Specialisation;
+import networkbook.model.person.Tag;
+
+/**
+ * Text fields of a person that can be filtered by key terms.
+ */
+public enum KeyTermsField {
+    NAME,
+    TAG,
+    COURSE,
+    SPEC;
+
+    /**
+     * Returns the values of this field of {@code person} that key terms are matched against,
+     * normalized for matching.
+     */
+    public List<String> getNormalizedValues(Person person) {
+        requireNonNull(person);
+        switch (this) {
+        case NAME:
+            return List.of(person.getName().getNormalizedValue());
+        case TAG:
+            return person.getTags().stream().map(Tag::getNormalizedValue).collect(Collectors.toList());
+        case COURSE:
+            return person.streamCourses().map(Course::getNormalizedValue).collect(Collectors.toList());
+        case SPEC:
+            return person.getSpecialisations().stream()
+                    .map(Specialisation::getNormalizedValue)
+                    .collect(Collectors.toList());
+        default:
+            throw new AssertionError("Unknown field " + this);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package networkbook.model.person.filter;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import networkbook.commons.util.CollectionUtil;
+import networkbook.commons.util.ToStringBuilder;
+import networkbook.model.person.Person;
+
+/**
+ * Combines filter predicates with a logical operator.
+ * Such a predicate can be answered by combining the sets of persons matching each operand,
+ * instead of testing every operand for every person.
+ */
+public class LogicalPredicate implements Predicate<Person> {
+    /**
+     * Logical operators that predicates can be combined with.
+     */
+    public enum Operator {
+        AND,
+        OR,
+        NOT
+    }
+
+    private final Operator operator;
+    private final List<Predicate<Person>> operands;
+
+    private LogicalPredicate(Operator operator, List<Predicate<Person>> operands) {
+        CollectionUtil.requireAllNonNull(operands);
+        assert operator != Operator.NOT || operands.size() == 1 : "NOT should have exactly one operand";
+        assert !operands.isEmpty() : "There should be at least one operand";
+        this.operator = operator;
+        this.operands = List.copyOf(operands);
+    }
+
+    /**
+     * Returns a predicate that is true for persons that satisfy all of {@code operands}.
+     */
+    public static LogicalPredicate and(List<Predicate<Person>> operands) {
+        return new LogicalPredicate(Operator.AND, operands);
+    }
+
+    /**
+     * Returns a predicate that is true for persons that satisfy at least one of {@code operands}.
+     */
+    public static LogicalPredicate or(List<Predicate<Person>> operands) {
+        return new LogicalPredicate(Operator.OR, operands);
+    }
+
+    /**
+     * Returns a predicate that is true for persons that do not satisfy {@code operand}.
+     */
+    public static LogicalPredicate not(Predicate<Person> operand) {
+        return new LogicalPredicate(Operator.NOT, List.of(operand));
+    }
+
+    public Operator getOperator() {
+        return operator;
+    }
+
+    public List<Predicate<Person>> getOperands() {
+        return operands;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        assert person != null : "Person should not be null";
+        switch (operator) {
+        case AND:
+            return operands.stream().allMatch(operand -> operand.test(person));
+        case OR:
+            return operands.stream().anyMatch(operand -> operand.test(person));
+        case NOT:
+            return !operands.get(0).test(person);
+        default:
+            throw new AssertionError("Unknown operator " + operator);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof LogicalPredicate)) {
+            return false;
+        }
+
+        LogicalPredicate otherPredicate = (LogicalPredicate) other;
+        return operator == otherPredicate.operator && operands.equals(otherPredicate.operands);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(operator, operands);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("operator", operator)
+                .add("operands", operands)
+                .toString();
+    }
+}
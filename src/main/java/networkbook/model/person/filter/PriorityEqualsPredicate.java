@@ -0,0 +1,57 @@
+package networkbook.model.person.filter;
+
+import java.util.function.Predicate;
+
+import networkbook.commons.util.ToStringBuilder;
+import networkbook.model.person.Person;
+import networkbook.model.person.Priority;
+
+/**
+ * Tests that a Person's priority is the given priority.
+ */
+public class PriorityEqualsPredicate implements Predicate<Person> {
+    private final Priority priority;
+
+    /**
+     * Creates a predicate that returns true for any Person object whose priority is {@code priority}.
+     */
+    public PriorityEqualsPredicate(Priority priority) {
+        assert priority != null : "Priority should not be null";
+        this.priority = priority;
+    }
+
+    public Priority getPriority() {
+        return priority;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        assert person != null : "Person should not be null";
+        return person.getPriority().map(priority::equals).orElse(false);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PriorityEqualsPredicate)) {
+            return false;
+        }
+
+        PriorityEqualsPredicate otherPredicate = (PriorityEqualsPredicate) other;
+        return priority.equals(otherPredicate.priority);
+    }
+
+    @Override
+    public int hashCode() {
+        return priority.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("priority", priority).toString();
+    }
+}
@@ -7,12 +7,15 @@ import networkbook.commons.util.CollectionUtil;
 import networkbook.commons.util.StringUtil;
 import networkbook.commons.util.ToStringBuilder;
 import networkbook.model.person.Person;
+import networkbook.model.person.Specialisation;
 
 /**
  * Tests that at least one of a Person's specialisations contains one of the given key terms.
  */
-public class SpecContainsKeyTermsPredicate implements Predicate<Person> {
+public class SpecContainsKeyTermsPredicate implements FieldContainsKeyTermsPredicate {
     private final List<String> keyTerms;
+    private final String[] normalizedKeyTerms;
+    private final Predicate<Specialisation> specMatcher;
 
     /**
      * Creates a predicate that returns true for any Person object that has at least one specialisation that
@@ -22,14 +25,15 @@ public class SpecContainsKeyTermsPredicate implements Predicate<Person> {
         assert keyTerms != null : "List should not be null";
         CollectionUtil.requireAllNonNull(keyTerms);
         this.keyTerms = keyTerms;
+        this.normalizedKeyTerms = StringUtil.normalizeAll(keyTerms);
+        this.specMatcher = spec ->
+                StringUtil.containsAnyNormalizedTerm(spec.getNormalizedValue(), normalizedKeyTerms);
     }
 
     @Override
     public boolean test(Person person) {
         assert person != null : "Person should not be null";
-        return keyTerms.stream()
-                .anyMatch(keyTerm -> person.getSpecialisations().stream()
-                        .anyMatch(spec -> StringUtil.containsTermIgnoreCase(spec.getSpecialisation(), keyTerm)));
+        return person.anySpecialisationMatches(specMatcher);
     }
 
     @Override
@@ -47,11 +51,22 @@ public class SpecContainsKeyTermsPredicate implements Predicate<Person> {
         return keyTerms.equals(otherSpecContainsKeyTermsPredicate.keyTerms);
     }
 
+    @Override
+    public int hashCode() {
+        return keyTerms.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("key terms", keyTerms).toString();
     }
 
+    @Override
+    public KeyTermsField getField() {
+        return KeyTermsField.SPEC;
+    }
+
+    @Override
     public List<String> getKeyTerms() {
         return keyTerms;
     }
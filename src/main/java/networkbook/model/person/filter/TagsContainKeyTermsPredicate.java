@@ -7,12 +7,15 @@ import networkbook.commons.util.CollectionUtil;
 import networkbook.commons.util.StringUtil;
 import networkbook.commons.util.ToStringBuilder;
 import networkbook.model.person.Person;
+import networkbook.model.person.Tag;
 
 /**
  * Tests that at least one of a Person's tags contains one of the given key terms.
  */
-public class TagsContainKeyTermsPredicate implements Predicate<Person> {
+public class TagsContainKeyTermsPredicate implements FieldContainsKeyTermsPredicate {
     private final List<String> keyTerms;
+    private final String[] normalizedKeyTerms;
+    private final Predicate<Tag> tagMatcher;
 
     /**
      * Creates a predicate that returns true for any Person object that has at least one tag that
@@ -22,14 +25,14 @@ public class TagsContainKeyTermsPredicate implements Predicate<Person> {
         assert keyTerms != null : "List should not be null";
         CollectionUtil.requireAllNonNull(keyTerms);
         this.keyTerms = keyTerms;
+        this.normalizedKeyTerms = StringUtil.normalizeAll(keyTerms);
+        this.tagMatcher = tag -> StringUtil.containsAnyNormalizedTerm(tag.getNormalizedValue(), normalizedKeyTerms);
     }
 
     @Override
     public boolean test(Person person) {
         assert person != null : "Person should not be null";
-        return keyTerms.stream()
-                .anyMatch(keyTerm -> person.getTags().stream()
-                        .anyMatch(tag -> StringUtil.containsTermIgnoreCase(tag.getValue(), keyTerm)));
+        return person.anyTagMatches(tagMatcher);
     }
 
     @Override
@@ -46,11 +49,22 @@ public class TagsContainKeyTermsPredicate implements Predicate<Person> {
         return keyTerms.equals(otherPredicate.keyTerms);
     }
 
+    @Override
+    public int hashCode() {
+        return keyTerms.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("key terms", keyTerms).toString();
     }
 
+    @Override
+    public KeyTermsField getField() {
+        return KeyTermsField.TAG;
+    }
+
+    @Override
     public List<String> getKeyTerms() {
         return keyTerms;
     }
@@ -0,0 +1,109 @@
+package networkbook.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+import networkbook.commons.util.StringUtil;
+
+/**
+ * A Burkhard-Keller tree of distinct words, which finds the words within an edit distance of a query word
+ * without computing the distance to every word.
+ * Each child of a node is at a different edit distance from the node, so by the triangle inequality,
+ * only the children at a distance of {@code d - maxDistance} to {@code d + maxDistance} from a node
+ * at distance {@code d} from the query can hold words within {@code maxDistance} of the query.
+ * Words can only be added, as removing a word would re-insert its whole subtree.
+ */
+public class BkTree {
+    private Node root;
+    private int size;
+
+    /**
+     * Adds {@code word} to the tree, and returns true if it was not already in the tree.
+     */
+    public boolean add(String word) {
+        requireNonNull(word);
+        if (root == null) {
+            root = new Node(word);
+            size++;
+            return true;
+        }
+        Node node = root;
+        while (true) {
+            int distance = StringUtil.editDistance(word, node.word);
+            if (distance == 0) {
+                return false;
+            }
+            Node child = node.getChild(distance);
+            if (child == null) {
+                node.setChild(distance, new Node(word));
+                size++;
+                return true;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Returns the words in the tree within an edit distance of {@code maxDistance} from {@code query},
+     * mapped to their edit distance from {@code query}.
+     */
+    public Map<String, Integer> search(String query, int maxDistance) {
+        requireNonNull(query);
+        assert maxDistance >= 0 : "Edit distance should not be negative";
+        Map<String, Integer> words = new HashMap<>();
+        if (root == null) {
+            return words;
+        }
+        Deque<Node> nodesToVisit = new ArrayDeque<>();
+        nodesToVisit.push(root);
+        while (!nodesToVisit.isEmpty()) {
+            Node node = nodesToVisit.pop();
+            int distance = StringUtil.editDistance(query, node.word);
+            if (distance <= maxDistance) {
+                words.put(node.word, distance);
+            }
+            int lastChild = Math.min(distance + maxDistance, node.children.length - 1);
+            for (int i = Math.max(1, distance - maxDistance); i <= lastChild; i++) {
+                if (node.children[i] != null) {
+                    nodesToVisit.push(node.children[i]);
+                }
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Returns the number of words in the tree.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * A word in the tree, with its children indexed by their edit distance from the word.
+     */
+    private static class Node {
+        private final String word;
+        private Node[] children = new Node[0];
+
+        private Node(String word) {
+            this.word = word;
+        }
+
+        private Node getChild(int distance) {
+            return distance < children.length ? children[distance] : null;
+        }
+
+        private void setChild(int distance, Node child) {
+            if (distance >= children.length) {
+                children = Arrays.copyOf(children, distance + 1);
+            }
+            children[distance] = child;
+        }
+    }
+}
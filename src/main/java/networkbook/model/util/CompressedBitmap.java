@@ -0,0 +1,496 @@
+package networkbook.model.util;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * An immutable set of non-negative ints, compressed in the manner of Roaring bitmaps.
+ * The ints are split into chunks by their high 16 bits, and the low 16 bits of the ints in each chunk
+ * are kept in a container: a sorted array when the chunk holds few ints, or a bitmap of all 65536 bits otherwise.
+ * Set operations are done chunk by chunk, with the operation between two containers chosen by their kinds.
+ */
+public class CompressedBitmap {
+    /** Largest number of ints in a chunk that is kept as a sorted array rather than as a bitmap. */
+    private static final int MAX_ARRAY_SIZE = 4096;
+    private static final int CHUNK_BITS = 16;
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    private static final int WORDS_PER_CHUNK = CHUNK_SIZE / Long.SIZE;
+
+    private static final CompressedBitmap EMPTY = new CompressedBitmap(new int[0], new Container[0]);
+
+    /** High 16 bits of the ints in each container, in ascending order. */
+    private final int[] keys;
+    private final Container[] containers;
+
+    private CompressedBitmap(int[] keys, Container[] containers) {
+        assert keys.length == containers.length;
+        this.keys = keys;
+        this.containers = containers;
+    }
+
+    /**
+     * Returns an empty bitmap.
+     */
+    public static CompressedBitmap empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a bitmap of the ints from 0 (inclusive) to {@code size} (exclusive).
+     */
+    public static CompressedBitmap range(int size) {
+        assert size >= 0 : "Size should not be negative";
+        int chunkCount = (size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        int[] keys = new int[chunkCount];
+        Container[] containers = new Container[chunkCount];
+        for (int i = 0; i < chunkCount; i++) {
+            int chunkSize = Math.min(CHUNK_SIZE, size - i * CHUNK_SIZE);
+            long[] words = new long[WORDS_PER_CHUNK];
+            Arrays.fill(words, 0, chunkSize / Long.SIZE, -1L);
+            if (chunkSize % Long.SIZE != 0) {
+                words[chunkSize / Long.SIZE] = (1L << chunkSize % Long.SIZE) - 1;
+            }
+            keys[i] = i;
+            containers[i] = BitmapContainer.compact(words);
+        }
+        return new CompressedBitmap(keys, containers);
+    }
+
+    /**
+     * Returns a bitmap of {@code values}, which must not be negative and may be in any order.
+     */
+    public static CompressedBitmap of(int... values) {
+        int[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return ofSorted(sorted, sorted.length);
+    }
+
+    /**
+     * Returns a bitmap of the first {@code length} ints of {@code sorted}, which must be in ascending order
+     * and not negative.
+     */
+    public static CompressedBitmap ofSorted(int[] sorted, int length) {
+        int[] keys = new int[length];
+        Container[] containers = new Container[length];
+        int chunkCount = 0;
+        int start = 0;
+        while (start < length) {
+            assert sorted[start] >= 0 : "Values should not be negative";
+            int key = sorted[start] >>> CHUNK_BITS;
+            char[] values = new char[Math.min(CHUNK_SIZE, length - start)];
+            int count = 0;
+            int i = start;
+            for (; i < length && sorted[i] >>> CHUNK_BITS == key; i++) {
+                char value = (char) sorted[i];
+                if (count == 0 || values[count - 1] != value) {
+                    values[count++] = value;
+                }
+            }
+            keys[chunkCount] = key;
+            containers[chunkCount] = ArrayContainer.of(values, count);
+            chunkCount++;
+            start = i;
+        }
+        return new CompressedBitmap(Arrays.copyOf(keys, chunkCount), Arrays.copyOf(containers, chunkCount));
+    }
+
+    /**
+     * Returns true if {@code value} is in this bitmap.
+     */
+    public boolean contains(int value) {
+        if (value < 0) {
+            return false;
+        }
+        int index = Arrays.binarySearch(keys, value >>> CHUNK_BITS);
+        return index >= 0 && containers[index].contains((char) value);
+    }
+
+    /**
+     * Returns a bitmap of the ints in this bitmap and {@code value}, which must not be negative.
+     * Only the container of {@code value} is copied.
+     */
+    public CompressedBitmap with(int value) {
+        assert value >= 0 : "Values should not be negative";
+        return contains(value) ? this : or(of(value));
+    }
+
+    /**
+     * Returns a bitmap of the ints in this bitmap other than {@code value}.
+     * Only the container of {@code value} is copied.
+     */
+    public CompressedBitmap without(int value) {
+        return contains(value) ? andNot(of(value)) : this;
+    }
+
+    /**
+     * Returns the number of ints in this bitmap.
+     */
+    public int getCardinality() {
+        int cardinality = 0;
+        for (Container container : containers) {
+            cardinality += container.getCardinality();
+        }
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return keys.length == 0;
+    }
+
+    /**
+     * Passes each int in this bitmap to {@code consumer}, in ascending order.
+     */
+    public void forEach(IntConsumer consumer) {
+        for (int i = 0; i < keys.length; i++) {
+            int high = keys[i] << CHUNK_BITS;
+            containers[i].forEach(low -> consumer.accept(high | low));
+        }
+    }
+
+    /**
+     * Returns the ints in this bitmap in ascending order.
+     */
+    public int[] toArray() {
+        int[] values = new int[getCardinality()];
+        int[] count = new int[1];
+        forEach(value -> values[count[0]++] = value);
+        return values;
+    }
+
+    /**
+     * Returns the ints that are in both this bitmap and {@code other}.
+     */
+    public CompressedBitmap and(CompressedBitmap other) {
+        int[] resultKeys = new int[Math.min(keys.length, other.keys.length)];
+        Container[] resultContainers = new Container[resultKeys.length];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < keys.length && j < other.keys.length) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                Container container = containers[i].and(other.containers[j]);
+                if (container.getCardinality() > 0) {
+                    resultKeys[count] = keys[i];
+                    resultContainers[count++] = container;
+                }
+                i++;
+                j++;
+            }
+        }
+        return new CompressedBitmap(Arrays.copyOf(resultKeys, count), Arrays.copyOf(resultContainers, count));
+    }
+
+    /**
+     * Returns the ints that are in this bitmap or {@code other}.
+     */
+    public CompressedBitmap or(CompressedBitmap other) {
+        int[] resultKeys = new int[keys.length + other.keys.length];
+        Container[] resultContainers = new Container[resultKeys.length];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < keys.length || j < other.keys.length) {
+            if (j == other.keys.length || (i < keys.length && keys[i] < other.keys[j])) {
+                resultKeys[count] = keys[i];
+                resultContainers[count++] = containers[i++];
+            } else if (i == keys.length || keys[i] > other.keys[j]) {
+                resultKeys[count] = other.keys[j];
+                resultContainers[count++] = other.containers[j++];
+            } else {
+                resultKeys[count] = keys[i];
+                resultContainers[count++] = containers[i++].or(other.containers[j++]);
+            }
+        }
+        return new CompressedBitmap(Arrays.copyOf(resultKeys, count), Arrays.copyOf(resultContainers, count));
+    }
+
+    /**
+     * Returns the ints that are in this bitmap but not in {@code other}.
+     */
+    public CompressedBitmap andNot(CompressedBitmap other) {
+        int[] resultKeys = new int[keys.length];
+        Container[] resultContainers = new Container[keys.length];
+        int count = 0;
+        int j = 0;
+        for (int i = 0; i < keys.length; i++) {
+            while (j < other.keys.length && other.keys[j] < keys[i]) {
+                j++;
+            }
+            Container container = j < other.keys.length && other.keys[j] == keys[i]
+                    ? containers[i].andNot(other.containers[j])
+                    : containers[i];
+            if (container.getCardinality() > 0) {
+                resultKeys[count] = keys[i];
+                resultContainers[count++] = container;
+            }
+        }
+        return new CompressedBitmap(Arrays.copyOf(resultKeys, count), Arrays.copyOf(resultContainers, count));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof CompressedBitmap)) {
+            return false;
+        }
+
+        return Arrays.equals(toArray(), ((CompressedBitmap) other).toArray());
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(toArray());
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    /**
+     * The low 16 bits of the ints of one chunk.
+     */
+    private interface Container {
+        boolean contains(char value);
+
+        int getCardinality();
+
+        void forEach(IntConsumer consumer);
+
+        Container and(Container other);
+
+        Container or(Container other);
+
+        Container andNot(Container other);
+
+        /**
+         * Returns the 65536 bits of the container as a new array of words.
+         */
+        long[] toWords();
+    }
+
+    /**
+     * A container of a sorted array of at most {@code MAX_ARRAY_SIZE} values.
+     */
+    private static class ArrayContainer implements Container {
+        private final char[] values;
+        private final int cardinality;
+
+        private ArrayContainer(char[] values, int cardinality) {
+            this.values = values;
+            this.cardinality = cardinality;
+        }
+
+        /**
+         * Returns a container of the first {@code count} of the sorted {@code values},
+         * which is a bitmap container if there are too many values for an array.
+         */
+        static Container of(char[] values, int count) {
+            if (count > MAX_ARRAY_SIZE) {
+                long[] words = new long[WORDS_PER_CHUNK];
+                for (int i = 0; i < count; i++) {
+                    words[values[i] >>> 6] |= 1L << values[i];
+                }
+                return new BitmapContainer(words, count);
+            }
+            return new ArrayContainer(values, count);
+        }
+
+        @Override
+        public boolean contains(char value) {
+            return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+        }
+
+        @Override
+        public int getCardinality() {
+            return cardinality;
+        }
+
+        @Override
+        public void forEach(IntConsumer consumer) {
+            for (int i = 0; i < cardinality; i++) {
+                consumer.accept(values[i]);
+            }
+        }
+
+        @Override
+        public Container and(Container other) {
+            char[] result = new char[cardinality];
+            int count = 0;
+            if (other instanceof ArrayContainer) {
+                ArrayContainer otherArray = (ArrayContainer) other;
+                int i = 0;
+                int j = 0;
+                while (i < cardinality && j < otherArray.cardinality) {
+                    if (values[i] < otherArray.values[j]) {
+                        i++;
+                    } else if (values[i] > otherArray.values[j]) {
+                        j++;
+                    } else {
+                        result[count++] = values[i];
+                        i++;
+                        j++;
+                    }
+                }
+            } else {
+                for (int i = 0; i < cardinality; i++) {
+                    if (other.contains(values[i])) {
+                        result[count++] = values[i];
+                    }
+                }
+            }
+            return new ArrayContainer(result, count);
+        }
+
+        @Override
+        public Container or(Container other) {
+            if (!(other instanceof ArrayContainer)) {
+                return other.or(this);
+            }
+            ArrayContainer otherArray = (ArrayContainer) other;
+            char[] result = new char[cardinality + otherArray.cardinality];
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < cardinality || j < otherArray.cardinality) {
+                if (j == otherArray.cardinality || (i < cardinality && values[i] < otherArray.values[j])) {
+                    result[count++] = values[i++];
+                } else if (i == cardinality || values[i] > otherArray.values[j]) {
+                    result[count++] = otherArray.values[j++];
+                } else {
+                    result[count++] = values[i++];
+                    j++;
+                }
+            }
+            return of(result, count);
+        }
+
+        @Override
+        public Container andNot(Container other) {
+            char[] result = new char[cardinality];
+            int count = 0;
+            for (int i = 0; i < cardinality; i++) {
+                if (!other.contains(values[i])) {
+                    result[count++] = values[i];
+                }
+            }
+            return new ArrayContainer(result, count);
+        }
+
+        @Override
+        public long[] toWords() {
+            long[] words = new long[WORDS_PER_CHUNK];
+            for (int i = 0; i < cardinality; i++) {
+                words[values[i] >>> 6] |= 1L << values[i];
+            }
+            return words;
+        }
+    }
+
+    /**
+     * A container of a bitmap of all 65536 values of a chunk, holding more than {@code MAX_ARRAY_SIZE} values.
+     */
+    private static class BitmapContainer implements Container {
+        private final long[] words;
+        private final int cardinality;
+
+        private BitmapContainer(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        /**
+         * Returns a container of the bits set in {@code words},
+         * which is an array container if there are few enough of them.
+         */
+        static Container compact(long[] words) {
+            int cardinality = 0;
+            for (long word : words) {
+                cardinality += Long.bitCount(word);
+            }
+            if (cardinality > MAX_ARRAY_SIZE) {
+                return new BitmapContainer(words, cardinality);
+            }
+            char[] values = new char[cardinality];
+            int count = 0;
+            for (int i = 0; i < words.length; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    values[count++] = (char) (i * Long.SIZE + Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            return new ArrayContainer(values, count);
+        }
+
+        @Override
+        public boolean contains(char value) {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+
+        @Override
+        public int getCardinality() {
+            return cardinality;
+        }
+
+        @Override
+        public void forEach(IntConsumer consumer) {
+            for (int i = 0; i < words.length; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    consumer.accept(i * Long.SIZE + Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+        }
+
+        @Override
+        public Container and(Container other) {
+            if (other instanceof ArrayContainer) {
+                return other.and(this);
+            }
+            long[] otherWords = ((BitmapContainer) other).words;
+            long[] result = new long[WORDS_PER_CHUNK];
+            for (int i = 0; i < WORDS_PER_CHUNK; i++) {
+                result[i] = words[i] & otherWords[i];
+            }
+            return compact(result);
+        }
+
+        @Override
+        public Container or(Container other) {
+            long[] result = other.toWords();
+            for (int i = 0; i < WORDS_PER_CHUNK; i++) {
+                result[i] |= words[i];
+            }
+            return compact(result);
+        }
+
+        @Override
+        public Container andNot(Container other) {
+            long[] result = words.clone();
+            if (other instanceof ArrayContainer) {
+                other.forEach(value -> result[value >>> 6] &= ~(1L << value));
+            } else {
+                long[] otherWords = ((BitmapContainer) other).words;
+                for (int i = 0; i < WORDS_PER_CHUNK; i++) {
+                    result[i] &= ~otherWords[i];
+                }
+            }
+            return compact(result);
+        }
+
+        @Override
+        public long[] toWords() {
+            return words.clone();
+        }
+    }
+}
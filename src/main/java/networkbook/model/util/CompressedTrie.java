@@ -0,0 +1,180 @@
+package networkbook.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A radix tree of string keys, each with the value that it was first added with,
+ * from which the values of the keys that start with a prefix are listed in order of their keys.
+ * Every edge of the tree is labelled with a string rather than a single character, and a node with
+ * only one child and no key is merged into its child, so the tree has at most two nodes per key.
+ * Keys are counted as they are added and removed, so a key that is shared by many values of a list
+ * stays in the tree until all of them are removed.
+ */
+public class CompressedTrie {
+    private final Node root = new Node("");
+    private int size;
+
+    /**
+     * Adds one count of {@code key}, which is completed to {@code value} if {@code key} is not yet in the tree.
+     */
+    public void add(String key, String value) {
+        requireNonNull(key);
+        requireNonNull(value);
+        Node node = root;
+        String remainingKey = key;
+        while (!remainingKey.isEmpty()) {
+            Node child = node.children.get(remainingKey.charAt(0));
+            if (child == null) {
+                child = new Node(remainingKey);
+                node.children.put(remainingKey.charAt(0), child);
+                node = child;
+                break;
+            }
+            int commonLength = getCommonPrefixLength(child.label, remainingKey);
+            if (commonLength < child.label.length()) {
+                child = split(node, child, commonLength);
+            }
+            node = child;
+            remainingKey = remainingKey.substring(commonLength);
+        }
+        if (node.count == 0) {
+            node.value = value;
+            size++;
+        }
+        node.count++;
+    }
+
+    /**
+     * Removes one count of {@code key}, and removes {@code key} from the tree when none of it is left.
+     * Does nothing if {@code key} is not in the tree.
+     */
+    public void remove(String key) {
+        requireNonNull(key);
+        List<Node> path = new ArrayList<>();
+        path.add(root);
+        Node node = root;
+        String remainingKey = key;
+        while (!remainingKey.isEmpty()) {
+            node = node.children.get(remainingKey.charAt(0));
+            if (node == null || !remainingKey.startsWith(node.label)) {
+                return;
+            }
+            path.add(node);
+            remainingKey = remainingKey.substring(node.label.length());
+        }
+        if (node.count == 0) {
+            return;
+        }
+        node.count--;
+        if (node.count > 0) {
+            return;
+        }
+        node.value = null;
+        size--;
+        // prune the node if it has no children, then merge whichever node is left with a single child
+        for (int i = path.size() - 1; i > 0; i--) {
+            Node current = path.get(i);
+            Node parent = path.get(i - 1);
+            if (current.count > 0) {
+                break;
+            }
+            if (current.children.isEmpty()) {
+                parent.children.remove(current.label.charAt(0));
+            } else if (current.children.size() == 1) {
+                Node onlyChild = current.children.values().iterator().next();
+                onlyChild.label = current.label + onlyChild.label;
+                parent.children.put(onlyChild.label.charAt(0), onlyChild);
+                break;
+            } else {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Returns the values of up to {@code limit} keys that start with {@code prefix}, in order of their keys.
+     */
+    public List<String> complete(String prefix, int limit) {
+        requireNonNull(prefix);
+        assert limit >= 0 : "Limit should not be negative";
+        List<String> values = new ArrayList<>();
+        Node node = root;
+        String remainingPrefix = prefix;
+        while (!remainingPrefix.isEmpty()) {
+            node = node.children.get(remainingPrefix.charAt(0));
+            if (node == null) {
+                return values;
+            }
+            if (remainingPrefix.length() <= node.label.length()) {
+                if (!node.label.startsWith(remainingPrefix)) {
+                    return values;
+                }
+                break;
+            }
+            if (!remainingPrefix.startsWith(node.label)) {
+                return values;
+            }
+            remainingPrefix = remainingPrefix.substring(node.label.length());
+        }
+        collect(node, values, limit);
+        return values;
+    }
+
+    /**
+     * Returns the number of distinct keys in the tree.
+     */
+    public int size() {
+        return size;
+    }
+
+    private static void collect(Node node, List<String> values, int limit) {
+        if (values.size() >= limit) {
+            return;
+        }
+        if (node.count > 0) {
+            values.add(node.value);
+        }
+        for (Node child : node.children.values()) {
+            collect(child, values, limit);
+        }
+    }
+
+    /**
+     * Splits the edge to {@code child} after {@code length} characters, and returns the node inserted there.
+     */
+    private static Node split(Node parent, Node child, int length) {
+        Node middle = new Node(child.label.substring(0, length));
+        child.label = child.label.substring(length);
+        middle.children.put(child.label.charAt(0), child);
+        parent.children.put(middle.label.charAt(0), middle);
+        return middle;
+    }
+
+    private static int getCommonPrefixLength(String first, String second) {
+        int length = 0;
+        while (length < first.length() && length < second.length() && first.charAt(length) == second.charAt(length)) {
+            length++;
+        }
+        return length;
+    }
+
+    /**
+     * A node of the tree, reached by an edge with {@code label} from its parent.
+     * The children are kept in order of the first character of their labels, which are all different.
+     */
+    private static class Node {
+        private final Map<Character, Node> children = new TreeMap<>();
+        private String label;
+        private String value;
+        private int count;
+
+        private Node(String label) {
+            this.label = label;
+        }
+    }
+}
@@ -0,0 +1,385 @@
+package networkbook.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * Shows one page of the elements of a source list, in the order of a comparator.
+ * The page is selected with a heap bounded by the end of the page, so the elements after the page
+ * are never sorted.
+ * Up to a page of the elements before and after the page are selected with it, so that when a single element
+ * is added to, removed from or replaced in the source list, the page is updated by moving elements
+ * into or out of it, without selecting the page from the whole source list again.
+ * When there is no page size, all elements of the source list are shown in their source order,
+ * and changes to the source list are passed on as they are.
+ * @param <E> The type of the elements of the list.
+ */
+public class PagedList<E> extends TransformationList<E, E> {
+    /** Page size that shows all elements of the source list. */
+    public static final int NO_PAGE_SIZE = 0;
+
+    private Comparator<? super E> comparator;
+    private int pageSize = NO_PAGE_SIZE;
+    private int pageIndex = 0;
+    private List<E> page = new ArrayList<>();
+    private int[] pageSourceIndices = new int[0];
+    /** View index of each source index of the page, which is only built when it is looked up. */
+    private Map<Integer, Integer> pageViewIndices;
+    /** Elements around the page, in the order of the comparator. */
+    private List<Entry<E>> window = new ArrayList<>();
+    /** Position of the first element of the window among all elements of the source list, in order. */
+    private int windowStart = 0;
+    /** Whether the window has all elements of the source list that come after its first element. */
+    private boolean isWindowAtEnd = true;
+
+    /**
+     * Creates a list over {@code source} that shows all of its elements.
+     */
+    public PagedList(ObservableList<E> source, Comparator<? super E> comparator) {
+        super(source);
+        requireNonNull(comparator);
+        this.comparator = comparator;
+    }
+
+    /**
+     * Sets the order that pages are selected in.
+     */
+    public void setComparator(Comparator<? super E> comparator) {
+        requireNonNull(comparator);
+        this.comparator = comparator;
+        if (isPaged()) {
+            updatePage(page);
+        }
+    }
+
+    /**
+     * Shows page {@code pageIndex} (zero-based) with {@code pageSize} elements per page,
+     * or all elements of the source list if {@code pageSize} is {@code NO_PAGE_SIZE}.
+     * A page index after the last page shows the last page.
+     */
+    public void setPage(int pageSize, int pageIndex) {
+        assert pageSize >= 0 : "Page size should not be negative";
+        assert pageIndex >= 0 : "Page index should not be negative";
+        boolean wasPaged = isPaged();
+        List<E> oldShown = wasPaged ? page : new ArrayList<>(getSource());
+        this.pageSize = pageSize;
+        this.pageIndex = pageSize == NO_PAGE_SIZE ? 0 : pageIndex;
+        if (isPaged()) {
+            updatePage(oldShown);
+        } else if (wasPaged) {
+            showSource();
+        }
+    }
+
+    public boolean isPaged() {
+        return pageSize != NO_PAGE_SIZE;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public int getPageIndex() {
+        return pageIndex;
+    }
+
+    /**
+     * Returns the number of pages needed to show all elements of the source list, which is at least 1.
+     */
+    public int getPageCount() {
+        if (!isPaged() || getSource().isEmpty()) {
+            return 1;
+        }
+        return (getSource().size() - 1) / pageSize + 1;
+    }
+
+    @Override
+    protected void sourceChanged(ListChangeListener.Change<? extends E> change) {
+        if (isPaged()) {
+            if (updateWindow(change)) {
+                showPage(page);
+            } else {
+                updatePage(page);
+            }
+            return;
+        }
+
+        beginChange();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                int[] permutation = new int[change.getTo() - change.getFrom()];
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    permutation[i - change.getFrom()] = change.getPermutation(i);
+                }
+                nextPermutation(change.getFrom(), change.getTo(), permutation);
+            } else if (change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    nextUpdate(i);
+                }
+            } else {
+                if (change.wasRemoved()) {
+                    nextRemove(change.getFrom(), change.getRemoved());
+                }
+                if (change.wasAdded()) {
+                    nextAdd(change.getFrom(), change.getTo());
+                }
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Selects the elements of the current page and the window around it from the source list,
+     * and replaces {@code oldShown}, the elements that were shown before, with the page.
+     * Elements that are equal by the comparator keep their source order.
+     */
+    private void updatePage(List<E> oldShown) {
+        ObservableList<? extends E> source = getSource();
+        pageIndex = Math.min(pageIndex, getPageCount() - 1);
+        int pageStart = pageIndex * pageSize;
+        int windowEnd = Math.min(pageStart + 2 * pageSize, source.size());
+
+        Comparator<Integer> indexComparator = (Integer i, Integer j) -> {
+            int result = comparator.compare(source.get(i), source.get(j));
+            return result != 0 ? result : Integer.compare(i, j);
+        };
+        PriorityQueue<Integer> heap = new PriorityQueue<>(Math.max(1, windowEnd), indexComparator.reversed());
+        for (int i = 0; i < source.size(); i++) {
+            if (heap.size() < windowEnd) {
+                heap.add(i);
+            } else if (windowEnd > 0 && indexComparator.compare(i, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(i);
+            }
+        }
+
+        windowStart = Math.max(0, pageStart - pageSize);
+        List<Entry<E>> newWindow = new ArrayList<>(Collections.nCopies(Math.max(0, windowEnd - windowStart), null));
+        for (int i = newWindow.size() - 1; i >= 0; i--) {
+            int sourceIndex = heap.poll();
+            newWindow.set(i, new Entry<>(source.get(sourceIndex), sourceIndex));
+        }
+        window = newWindow;
+        isWindowAtEnd = windowEnd == source.size();
+        showPage(oldShown);
+    }
+
+    /**
+     * Shows the elements of the current page from the window, replacing {@code oldShown} with them.
+     */
+    private void showPage(List<E> oldShown) {
+        int pageStart = pageIndex * pageSize - windowStart;
+        int pageEnd = Math.min(pageStart + pageSize, window.size());
+        List<E> newPage = new ArrayList<>(pageEnd - pageStart);
+        int[] newPageSourceIndices = new int[pageEnd - pageStart];
+        for (int i = pageStart; i < pageEnd; i++) {
+            newPage.add(window.get(i).element);
+            newPageSourceIndices[i - pageStart] = window.get(i).sourceIndex;
+        }
+        page = newPage;
+        pageSourceIndices = newPageSourceIndices;
+        pageViewIndices = null;
+        fireShownChanged(oldShown, newPage);
+    }
+
+    /**
+     * Moves the element added, removed or replaced by {@code change} into or out of the window,
+     * if {@code change} only adds, removes or replaces a single element.
+     * Returns false if the window may no longer have the elements of the current page,
+     * in which case the page must be selected from the source list again.
+     */
+    private boolean updateWindow(ListChangeListener.Change<? extends E> change) {
+        if (!change.next() || change.wasPermutated() || change.wasUpdated()) {
+            return false;
+        }
+        int from = change.getFrom();
+        List<E> removed = new ArrayList<>(change.getRemoved());
+        List<E> added = new ArrayList<>(change.getAddedSubList());
+        if (change.next() || removed.size() > 1 || added.size() > 1) {
+            return false;
+        }
+        if (!removed.isEmpty() && !removeFromWindow(removed.get(0), from)) {
+            return false;
+        }
+        if (!added.isEmpty()) {
+            addToWindow(added.get(0), from);
+        }
+
+        int sourceSize = getSource().size();
+        int pageStart = pageIndex * pageSize;
+        int pageEnd = Math.min(pageStart + pageSize, sourceSize);
+        return pageIndex < getPageCount() && windowStart <= pageStart && pageEnd <= windowStart + window.size();
+    }
+
+    /**
+     * Removes {@code element}, which was at {@code sourceIndex} of the source list, from the window.
+     * Returns false if the element is found neither in, before nor after the window.
+     */
+    private boolean removeFromWindow(E element, int sourceIndex) {
+        int position = findPosition(element, sourceIndex);
+        if (position < window.size() && window.get(position).sourceIndex == sourceIndex) {
+            window.remove(position);
+        } else if (position == 0 && windowStart > 0) {
+            windowStart--;
+        } else if (position != window.size() || isWindowAtEnd) {
+            return false;
+        }
+        for (Entry<E> entry : window) {
+            if (entry.sourceIndex > sourceIndex) {
+                entry.sourceIndex--;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Adds {@code element}, which is now at {@code sourceIndex} of the source list, to the window
+     * if it belongs there, dropping the last element of the window if the window is full.
+     */
+    private void addToWindow(E element, int sourceIndex) {
+        for (Entry<E> entry : window) {
+            if (entry.sourceIndex >= sourceIndex) {
+                entry.sourceIndex++;
+            }
+        }
+        int position = findPosition(element, sourceIndex);
+        if (position == 0 && windowStart > 0) {
+            windowStart++;
+            return;
+        }
+        if (position == window.size() && !isWindowAtEnd) {
+            return;
+        }
+        window.add(position, new Entry<>(element, sourceIndex));
+        if (window.size() > 3 * pageSize) {
+            window.remove(window.size() - 1);
+            isWindowAtEnd = false;
+        }
+    }
+
+    /**
+     * Returns the position of the first element of the window that does not come before {@code element}
+     * at {@code sourceIndex}, where elements that are equal by the comparator are in source order.
+     */
+    private int findPosition(E element, int sourceIndex) {
+        int low = 0;
+        int high = window.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            Entry<E> entry = window.get(mid);
+            int result = comparator.compare(entry.element, element);
+            if (result < 0 || (result == 0 && entry.sourceIndex < sourceIndex)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private void showSource() {
+        List<E> oldPage = page;
+        page = new ArrayList<>();
+        pageSourceIndices = new int[0];
+        pageViewIndices = null;
+        window = new ArrayList<>();
+        windowStart = 0;
+        isWindowAtEnd = true;
+        fireShownChanged(oldPage, new ArrayList<>(getSource()));
+    }
+
+    /**
+     * Fires the changes that turn {@code oldShown} into {@code newShown}.
+     * Leading and trailing elements that are kept are not changed, and if as many elements are shown
+     * in between, each element that changed is replaced in place, so that a list view of this list
+     * only updates the cells of the elements that changed.
+     */
+    private void fireShownChanged(List<E> oldShown, List<E> newShown) {
+        int start = 0;
+        int oldEnd = oldShown.size();
+        int newEnd = newShown.size();
+        while (start < oldEnd && start < newEnd && oldShown.get(start) == newShown.get(start)) {
+            start++;
+        }
+        while (oldEnd > start && newEnd > start && oldShown.get(oldEnd - 1) == newShown.get(newEnd - 1)) {
+            oldEnd--;
+            newEnd--;
+        }
+        if (start == oldEnd && start == newEnd) {
+            return;
+        }
+
+        beginChange();
+        if (oldEnd - start == newEnd - start) {
+            for (int i = start; i < newEnd; i++) {
+                if (oldShown.get(i) != newShown.get(i)) {
+                    nextReplace(i, i + 1, Collections.singletonList(oldShown.get(i)));
+                }
+            }
+        } else {
+            if (oldEnd > start) {
+                nextRemove(start, oldShown.subList(start, oldEnd));
+            }
+            if (newEnd > start) {
+                nextAdd(start, newEnd);
+            }
+        }
+        endChange();
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        if (!isPaged()) {
+            return index;
+        }
+        return pageSourceIndices[index];
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        if (!isPaged()) {
+            return index;
+        }
+        if (pageViewIndices == null) {
+            pageViewIndices = new HashMap<>(pageSourceIndices.length * 2);
+            for (int i = 0; i < pageSourceIndices.length; i++) {
+                pageViewIndices.put(pageSourceIndices[i], i);
+            }
+        }
+        return pageViewIndices.getOrDefault(index, -1);
+    }
+
+    @Override
+    public E get(int index) {
+        return isPaged() ? page.get(index) : getSource().get(index);
+    }
+
+    @Override
+    public int size() {
+        return isPaged() ? page.size() : getSource().size();
+    }
+
+    /**
+     * An element of the window, with its index in the source list.
+     */
+    private static class Entry<E> {
+        private final E element;
+        private int sourceIndex;
+
+        Entry(E element, int sourceIndex) {
+            this.element = element;
+            this.sourceIndex = sourceIndex;
+        }
+    }
+}
@@ -159,6 +159,56 @@ public class UniqueList<T extends Identifiable<T>> implements Iterable<T> {
         return this;
     }
 
+    /**
+     * Replaces the contents of this list with {@code items}, only firing the changes that are needed
+     * to turn the current contents into {@code items}.
+     * Leading and trailing items that are the very objects in their positions in {@code items} are kept as they are,
+     * an item that is the same as the item in its position is replaced in place,
+     * and the remaining items are removed and added as a single range each.
+     * {@code items} must not contain duplicate items.
+     * @param items Items to replace.
+     * @return This list itself.
+     */
+    public UniqueList<T> updateItems(List<T> items) {
+        requireAllNonNull(items);
+        assert itemsAreUnique(items) : "All items in the list should be unique.";
+
+        int start = 0;
+        int oldEnd = internalList.size();
+        int newEnd = items.size();
+        while (start < oldEnd && start < newEnd && isUnchanged(internalList.get(start), items.get(start))) {
+            start++;
+        }
+        while (oldEnd > start && newEnd > start
+                && isUnchanged(internalList.get(oldEnd - 1), items.get(newEnd - 1))) {
+            oldEnd--;
+            newEnd--;
+        }
+
+        while (start < oldEnd && start < newEnd && internalList.get(start).isSame(items.get(start))) {
+            if (!isUnchanged(internalList.get(start), items.get(start))) {
+                internalList.set(start, items.get(start));
+            }
+            start++;
+        }
+
+        if (start < oldEnd) {
+            internalList.remove(start, oldEnd);
+        }
+        if (start < newEnd) {
+            internalList.addAll(start, items.subList(start, newEnd));
+        }
+        return this;
+    }
+
+    /**
+     * Returns true if {@code newItem} is the very object {@code oldItem}.
+     * Equal items are not enough, as {@code equals} may leave out some of the fields of an item.
+     */
+    private boolean isUnchanged(T oldItem, T newItem) {
+        return oldItem == newItem;
+    }
+
     private boolean itemsAreUnique(List<T> items) {
         for (int i = 0; i < items.size() - 1; i++) {
             for (int j = i + 1; j < items.size(); j++) {
@@ -174,6 +224,19 @@ public class UniqueList<T extends Identifiable<T>> implements Iterable<T> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns true if any item satisfies the {@code predicate}, without allocating an iterator.
+     */
+    public boolean anyMatch(Predicate<T> predicate) {
+        assert predicate != null;
+        for (int i = 0; i < internalList.size(); i++) {
+            if (predicate.test(internalList.get(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Tests if the item at the specified {@code index} satisfies the {@code predicate}.
      */
@@ -3,25 +3,38 @@ package networkbook.ui;
 import static networkbook.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import javafx.event.EventHandler;
 import javafx.fxml.FXML;
+import javafx.geometry.Bounds;
+import javafx.scene.control.Label;
 import javafx.scene.control.TextField;
 import javafx.scene.input.KeyCharacterCombination;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyCombination;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
+import javafx.scene.layout.VBox;
+import javafx.stage.Popup;
+import javafx.util.Duration;
 import networkbook.logic.Logic;
+import networkbook.logic.autocomplete.Completion;
 import networkbook.logic.commands.CommandResult;
 import networkbook.logic.commands.CreateCommand;
 import networkbook.logic.commands.FindCommand;
 import networkbook.logic.commands.RedoCommand;
 import networkbook.logic.commands.UndoCommand;
 import networkbook.logic.commands.edit.EditCommand;
-import networkbook.logic.commands.exceptions.CommandException;
-import networkbook.logic.parser.exceptions.ParseException;
+import networkbook.logic.commands.filter.FilterCommand;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
@@ -42,26 +55,106 @@ public class CommandBox extends UiPart<Region> {
             new KeyCharacterCombination("R", KeyCombination.SHORTCUT_DOWN);
     private static final KeyCode SHORTCUT_UP = KeyCode.UP;
     private static final KeyCode SHORTCUT_DOWN = KeyCode.DOWN;
+    private static final KeyCode SHORTCUT_COMPLETE = KeyCode.TAB;
+    private static final KeyCode SHORTCUT_CANCEL = KeyCode.ESCAPE;
     private static final String WHITESPACE = " ";
+    /** Time after the last key typed before completions are looked up, which is about one frame. */
+    private static final Duration COMPLETION_DELAY = Duration.millis(16);
+    private static final String COMPLETION_LIST_STYLE = "-fx-background-color: #383838; -fx-padding: 2 0 2 0;";
+    private static final String COMPLETION_STYLE = "-fx-text-fill: white; -fx-padding: 2 8 2 8;";
+    private static final String FIRST_COMPLETION_STYLE = COMPLETION_STYLE + " -fx-background-color: #4d4d4d;";
+    /** Time after the last change to a {@code find} or {@code filter} command before its results are counted. */
+    private static final Duration PREVIEW_DELAY = Duration.millis(150);
+    private static final String PREVIEW_STYLE = "-fx-text-fill: #999999; -fx-padding: 0 10 0 0;";
+    private static final String MESSAGE_PREVIEW = "%1$d contacts";
+    /** Looks completions up off the JavaFX application thread, one lookup at a time. */
+    private static final ExecutorService COMPLETION_EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "command-completion");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     private final CommandExecutor commandExecutor;
+    private final CompletionProvider completionProvider;
+    private final CommandCanceller commandCanceller;
+    private final PreviewProvider previewProvider;
     private final ArrayList<String> commandHistory;
+    private final PauseTransition completionDelay = new PauseTransition(COMPLETION_DELAY);
+    private final Popup completionPopup = new Popup();
+    private final VBox completionList = new VBox();
+    private List<Completion> completions = List.of();
+    private int completionRequestCount;
+    private final PauseTransition previewDelay = new PauseTransition(PREVIEW_DELAY);
+    private CompletableFuture<OptionalInt> previewResult;
+    private int previewRequestCount;
     private int pointer;
 
     @FXML
     private TextField commandTextField;
+    @FXML
+    private Label previewLabel;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor}, which does not suggest completions.
      */
     public CommandBox(CommandExecutor commandExecutor) {
+        this(commandExecutor, commandText -> List.of());
+    }
+
+    /**
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor},
+     * which suggests the completions from {@code completionProvider} as the user types.
+     */
+    public CommandBox(CommandExecutor commandExecutor, CompletionProvider completionProvider) {
+        this(commandExecutor, completionProvider, () -> {}, commandText ->
+                CompletableFuture.completedFuture(OptionalInt.empty()));
+    }
+
+    /**
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor} and {@code CompletionProvider},
+     * which cancels the running commands with {@code commandCanceller} when the user presses Esc,
+     * and previews the number of contacts that a {@code find} or {@code filter} command being typed would find
+     * with {@code previewProvider}.
+     */
+    public CommandBox(CommandExecutor commandExecutor, CompletionProvider completionProvider,
+                      CommandCanceller commandCanceller, PreviewProvider previewProvider) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        this.completionProvider = completionProvider;
+        this.commandCanceller = commandCanceller;
+        this.previewProvider = previewProvider;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
         commandHistory = new ArrayList<>();
         pointer = 0;
         setCommandBoxShortcuts();
+        setUpCompletions();
+        setUpPreviews();
+    }
+
+    private void setUpCompletions() {
+        completionList.setStyle(COMPLETION_LIST_STYLE);
+        completionPopup.getContent().add(completionList);
+        completionPopup.setAutoHide(true);
+        completionDelay.setOnFinished(unused -> requestCompletions());
+        // only typing looks completions up, not navigating the history or filling in a command word
+        commandTextField.addEventHandler(KeyEvent.KEY_TYPED, unused -> completionDelay.playFromStart());
+        commandTextField.focusedProperty().addListener((unused1, unused2, isFocused) -> {
+            if (!isFocused) {
+                hideCompletions();
+            }
+        });
+    }
+
+    private void setUpPreviews() {
+        previewLabel.setStyle(PREVIEW_STYLE);
+        previewDelay.setOnFinished(unused -> requestPreview());
+        commandTextField.textProperty().addListener((unused1, unused2, commandText) -> {
+            hidePreview();
+            if (isPreviewable(commandText)) {
+                previewDelay.playFromStart();
+            }
+        });
     }
 
     private void setCommandBoxShortcuts() {
@@ -84,6 +177,19 @@ public class CommandBox extends UiPart<Region> {
                 } else if (KeyboardShortcutUtil.shortcutMatchEvent(SHORTCUT_REDO, event)) {
                     autoFillCommandIfEmpty(RedoCommand.COMMAND_WORD);
                     event.consume();
+                } else if (noModifier(event) && event.getCode() == SHORTCUT_COMPLETE) {
+                    if (completionPopup.isShowing() && !completions.isEmpty()) {
+                        acceptCompletion(completions.get(0));
+                    }
+                    event.consume();
+                } else if (noModifier(event) && event.getCode() == SHORTCUT_CANCEL) {
+                    // the first Esc dismisses the completions, and the next cancels the running commands
+                    if (completionPopup.isShowing()) {
+                        hideCompletions();
+                    } else {
+                        commandCanceller.cancelCommands();
+                    }
+                    event.consume();
                 } else if (noModifier(event) && event.getCode() == SHORTCUT_UP) {
                     navigateCommandHistory(true);
                     event.consume();
@@ -105,19 +211,25 @@ public class CommandBox extends UiPart<Region> {
     @FXML
     private void handleCommandEntered() {
         String commandText = commandTextField.getText();
+        hideCompletions();
+        hidePreview();
         if (commandText.isEmpty()) {
             return;
         }
 
-        try {
-            commandExecutor.execute(commandText);
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
-            setStyleToIndicateCommandFailure();
-        } finally {
-            commandHistory.add(commandText);
-            pointer = commandHistory.size();
-        }
+        commandHistory.add(commandText);
+        pointer = commandHistory.size();
+        commandExecutor.execute(commandText).whenComplete((commandResult, error) -> {
+            // the result of a command is only shown while the user has not started on another command
+            if (!commandText.equals(commandTextField.getText())) {
+                return;
+            }
+            if (error == null) {
+                commandTextField.setText("");
+            } else if (!(error instanceof CancellationException)) {
+                setStyleToIndicateCommandFailure();
+            }
+        });
     }
 
     /**
@@ -156,11 +268,55 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Starts executing the command and returns its result, which is completed on the JavaFX application thread.
+         * The result fails with a {@code CommandException} or {@code ParseException} if the command fails,
+         * and is cancelled if the command is not executed.
+         *
+         * @see Logic#submit(String)
+         */
+        CompletableFuture<CommandResult> execute(String commandText);
+    }
+
+    /**
+     * Represents a function that cancels the running commands.
+     */
+    @FunctionalInterface
+    public interface CommandCanceller {
+        /**
+         * Cancels the commands that are running, where they can be.
+         *
+         * @see Logic#cancelSubmittedCommands()
+         */
+        void cancelCommands();
+    }
+
+    /**
+     * Represents a function that counts the persons that a command would display.
+     */
+    @FunctionalInterface
+    public interface PreviewProvider {
+        /**
+         * Starts counting the persons that the command would display, without executing it.
+         * The count is empty if the command does not filter the persons,
+         * and is completed off the JavaFX application thread.
+         *
+         * @see Logic#preview(String)
+         */
+        CompletableFuture<OptionalInt> preview(String commandText);
+    }
+
+    /**
+     * Represents a function that suggests completions of commands.
+     */
+    @FunctionalInterface
+    public interface CompletionProvider {
+        /**
+         * Returns the completions of the word at the end of the command.
+         * The function is called off the JavaFX application thread.
          *
-         * @see Logic#execute(String)
+         * @see Logic#getCompletions(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        List<Completion> getCompletions(String commandText);
     }
 
     public boolean isTextFieldFocused() {
@@ -195,4 +351,89 @@ public class CommandBox extends UiPart<Region> {
         commandTextField.positionCaret(newText.length());
         pointer = newPointer;
     }
+
+    /**
+     * Looks up the completions of the current command text off the JavaFX application thread,
+     * and shows them if the text has not changed by the time they are found.
+     */
+    private void requestCompletions() {
+        String commandText = commandTextField.getText();
+        int requestCount = ++completionRequestCount;
+        COMPLETION_EXECUTOR.execute(() -> {
+            List<Completion> foundCompletions = completionProvider.getCompletions(commandText);
+            Platform.runLater(() -> {
+                if (requestCount == completionRequestCount && commandText.equals(commandTextField.getText())) {
+                    showCompletions(foundCompletions);
+                }
+            });
+        });
+    }
+
+    private static boolean isPreviewable(String commandText) {
+        String trimmedText = commandText.stripLeading();
+        return trimmedText.startsWith(FindCommand.COMMAND_WORD + WHITESPACE)
+                || trimmedText.startsWith(FilterCommand.COMMAND_WORD + WHITESPACE);
+    }
+
+    /**
+     * Counts the persons that the current command would display off the JavaFX application thread,
+     * and shows the count if the text has not changed by the time they are counted.
+     */
+    private void requestPreview() {
+        int requestCount = ++previewRequestCount;
+        previewResult = previewProvider.preview(commandTextField.getText());
+        previewResult.whenComplete((count, error) -> Platform.runLater(() -> {
+            if (requestCount == previewRequestCount && error == null && count.isPresent()) {
+                previewLabel.setText(String.format(MESSAGE_PREVIEW, count.getAsInt()));
+                previewLabel.setVisible(true);
+            }
+        }));
+    }
+
+    /**
+     * Hides the count of the persons that the command would display, cancelling the count if it is pending,
+     * as it is stale once the command changes.
+     */
+    private void hidePreview() {
+        previewRequestCount++;
+        previewDelay.stop();
+        if (previewResult != null) {
+            previewResult.cancel(false);
+            previewResult = null;
+        }
+        previewLabel.setVisible(false);
+    }
+
+    private void showCompletions(List<Completion> foundCompletions) {
+        completions = foundCompletions;
+        if (completions.isEmpty()) {
+            hideCompletions();
+            return;
+        }
+        completionList.getChildren().clear();
+        for (Completion completion : completions) {
+            Label label = new Label(completion.getSuggestion());
+            label.setStyle(completionList.getChildren().isEmpty() ? FIRST_COMPLETION_STYLE : COMPLETION_STYLE);
+            label.setOnMouseClicked(unused -> acceptCompletion(completion));
+            completionList.getChildren().add(label);
+        }
+        Bounds bounds = commandTextField.localToScreen(commandTextField.getBoundsInLocal());
+        if (bounds != null && !completionPopup.isShowing()) {
+            completionPopup.show(commandTextField, bounds.getMinX(), bounds.getMaxY());
+        }
+    }
+
+    private void hideCompletions() {
+        completionRequestCount++;
+        completionDelay.stop();
+        completions = List.of();
+        completionPopup.hide();
+    }
+
+    private void acceptCompletion(Completion completion) {
+        hideCompletions();
+        commandTextField.setText(completion.getCompletedText());
+        commandTextField.positionCaret(commandTextField.getLength());
+        commandTextField.requestFocus();
+    }
 }
@@ -20,4 +20,14 @@ public class FieldHyperlink extends Hyperlink {
         this.setOnAction(e -> action.run());
     }
 
+    /**
+     * Replaces the action performed on click with {@code action}.
+     * The hyperlink is no longer shown as visited, as it now leads elsewhere.
+     */
+    public void setAction(Runnable action) {
+        requireAllNonNull(action);
+        this.setOnAction(e -> action.run());
+        this.setVisited(false);
+    }
+
 }
@@ -0,0 +1,179 @@
+package networkbook.ui;
+
+import static java.util.Objects.requireNonNull;
+import static networkbook.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * A list on the JavaFX application thread that mirrors a source list which is changed on another thread.
+ * Whenever the source list changes, the ranges it changed are recorded with copies of the elements added to them
+ * on the thread that changed it, and the mirror is changed by all ranges recorded so far in one step
+ * on the JavaFX application thread.
+ * Elements that are not in the source yet, such as the first results of a search, can be previewed in the mirror.
+ * Only the elements that differ in each changed range are changed, so that a list view of the mirror
+ * only updates the cells of those elements.
+ * @param <E> The type of the elements of the list.
+ */
+public class FxListMirror<E> {
+    private final ObservableList<E> mirror;
+    private final ObservableList<E> unmodifiableMirror;
+    private final Executor fxExecutor;
+    /** The ranges changed in the source that are not applied yet, in the order they were changed. */
+    private List<ChangedRange<E>> pendingChanges = new ArrayList<>();
+    /**
+     * The source as of the changes applied while elements are previewed in its place,
+     * which is only used on the JavaFX application thread.
+     */
+    private List<E> previewedSource;
+
+    /**
+     * Creates a mirror of {@code source}, which must not be changed while the mirror is being created.
+     */
+    public FxListMirror(ObservableList<? extends E> source) {
+        this(source, Platform::runLater);
+    }
+
+    /**
+     * Creates a mirror of {@code source} that is changed by {@code fxExecutor}.
+     */
+    FxListMirror(ObservableList<? extends E> source, Executor fxExecutor) {
+        requireAllNonNull(source, fxExecutor);
+        this.fxExecutor = fxExecutor;
+        mirror = FXCollections.observableArrayList(source);
+        unmodifiableMirror = FXCollections.unmodifiableObservableList(mirror);
+        source.addListener(this::onSourceChanged);
+    }
+
+    /**
+     * Returns the mirror, which must only be used on the JavaFX application thread.
+     */
+    public ObservableList<E> getList() {
+        return unmodifiableMirror;
+    }
+
+    /**
+     * Shows {@code elements} in place of the source until the source next changes or {@link #endPreview()} is
+     * called, after the elements previewed so far, or in place of all shown elements if {@code isFirstBatch}.
+     * Must be called on the JavaFX application thread.
+     */
+    public void preview(List<? extends E> elements, boolean isFirstBatch) {
+        requireNonNull(elements);
+        if (previewedSource == null) {
+            previewedSource = new ArrayList<>(mirror);
+        }
+        if (isFirstBatch) {
+            mirror.setAll(elements);
+        } else {
+            mirror.addAll(elements);
+        }
+    }
+
+    /**
+     * Shows the source again if elements are still previewed in its place.
+     * Must be called on the JavaFX application thread.
+     */
+    public void endPreview() {
+        boolean hasPendingChanges;
+        synchronized (this) {
+            hasPendingChanges = !pendingChanges.isEmpty();
+        }
+        // otherwise the preview ends when the pending changes are applied
+        if (previewedSource != null && !hasPendingChanges) {
+            showPreviewedSource();
+        }
+    }
+
+    private void onSourceChanged(ListChangeListener.Change<? extends E> change) {
+        List<ChangedRange<E>> changes = new ArrayList<>();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                changes.add(new ChangedRange<>(change.getFrom(), change.getTo() - change.getFrom(),
+                        new ArrayList<>(change.getList().subList(change.getFrom(), change.getTo()))));
+            } else if (change.wasAdded() || change.wasRemoved()) {
+                changes.add(new ChangedRange<>(change.getFrom(), change.getRemovedSize(),
+                        new ArrayList<>(change.getAddedSubList())));
+            }
+        }
+        if (changes.isEmpty()) {
+            return;
+        }
+        boolean isScheduled;
+        synchronized (this) {
+            isScheduled = !pendingChanges.isEmpty();
+            pendingChanges.addAll(changes);
+        }
+        if (!isScheduled) {
+            fxExecutor.execute(this::applyPendingChanges);
+        }
+    }
+
+    private void applyPendingChanges() {
+        List<ChangedRange<E>> changes;
+        synchronized (this) {
+            changes = pendingChanges;
+            pendingChanges = new ArrayList<>();
+        }
+        if (previewedSource == null) {
+            changes.forEach(change -> change.applyTo(mirror));
+            return;
+        }
+        changes.forEach(change -> change.applyTo(previewedSource));
+        showPreviewedSource();
+    }
+
+    private void showPreviewedSource() {
+        List<E> source = previewedSource;
+        previewedSource = null;
+        new ChangedRange<>(0, mirror.size(), source).applyTo(mirror);
+    }
+
+    /**
+     * A range of a list that was replaced by other elements.
+     */
+    private static class ChangedRange<E> {
+        private final int from;
+        private final int removedSize;
+        private final List<E> added;
+
+        ChangedRange(int from, int removedSize, List<E> added) {
+            this.from = from;
+            this.removedSize = removedSize;
+            this.added = added;
+        }
+
+        /**
+         * Replaces the range in {@code list}, changing only the elements that differ from the elements added.
+         */
+        void applyTo(List<E> list) {
+            int start = 0;
+            int oldEnd = removedSize;
+            int newEnd = added.size();
+            while (start < oldEnd && start < newEnd && list.get(from + start) == added.get(start)) {
+                start++;
+            }
+            while (oldEnd > start && newEnd > start && list.get(from + oldEnd - 1) == added.get(newEnd - 1)) {
+                oldEnd--;
+                newEnd--;
+            }
+
+            if (oldEnd == newEnd) {
+                for (int i = start; i < newEnd; i++) {
+                    if (list.get(from + i) != added.get(i)) {
+                        list.set(from + i, added.get(i));
+                    }
+                }
+                return;
+            }
+            list.subList(from + start, from + oldEnd).clear();
+            list.addAll(from + start, added.subList(start, newEnd));
+        }
+    }
+}
@@ -2,8 +2,15 @@ package networkbook.ui;
 
 import static networkbook.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -15,15 +22,24 @@ import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 import networkbook.commons.core.GuiSettings;
 import networkbook.commons.core.LogsCenter;
+import networkbook.logic.CommandProgressListener;
+import networkbook.logic.CommandStage;
 import networkbook.logic.Logic;
 import networkbook.logic.commands.CommandResult;
 import networkbook.logic.commands.FilterCommandResult;
+import networkbook.logic.commands.GroupCommandResult;
 import networkbook.logic.commands.RedoCommand;
 import networkbook.logic.commands.SaveCommand;
 import networkbook.logic.commands.SortCommandResult;
 import networkbook.logic.commands.UndoCommand;
+import networkbook.logic.commands.ViewCommand;
+import networkbook.logic.commands.ViewCommand.ViewMode;
+import networkbook.logic.commands.ViewCommandResult;
 import networkbook.logic.commands.exceptions.CommandException;
 import networkbook.logic.parser.exceptions.ParseException;
+import networkbook.model.DisplayedPage;
+import networkbook.model.PersonGroups.GroupField;
+import networkbook.model.person.Person;
 import networkbook.model.person.PersonSortComparator.SortField;
 import networkbook.model.person.PersonSortComparator.SortOrder;
 
@@ -43,6 +59,12 @@ public class MainWindow extends UiPart<Stage> {
             new KeyCharacterCombination("Y", KeyCombination.SHORTCUT_DOWN);
     private static final KeyCharacterCombination SHORTCUT_SAVE =
             new KeyCharacterCombination("S", KeyCombination.SHORTCUT_DOWN);
+    private static final KeyCharacterCombination SHORTCUT_TOGGLE_VIEW =
+            new KeyCharacterCombination("T", KeyCombination.SHORTCUT_DOWN);
+    private static final String MESSAGE_COMMANDS_CANCELLED = "Cancelled %d commands that had not started.";
+    private static final String MESSAGE_COMMAND_NOT_CANCELLED =
+            "The running command has already started, and cannot be cancelled.";
+    private static final String MESSAGE_SEARCHING = "Searching...\n(%1$d contacts found so far)";
     private final Logger logger = LogsCenter.getLogger(getClass());
 
     private Stage primaryStage;
@@ -50,10 +72,15 @@ public class MainWindow extends UiPart<Stage> {
 
     // Independent Ui parts residing in this Ui container
     private PersonListPanel personListPanel;
+    private PersonTablePanel personTablePanel;
+    private final Map<GroupField, PersonGroupPanel> personGroupPanels = new EnumMap<>(GroupField.class);
     private ResultDisplay resultDisplay;
     private HelpWindow helpWindow;
     private CommandBox commandBox;
     private StatusBarFooter statusBarFooter;
+    private FxListMirror<Person> displayedPersons;
+    private int runningCommandCount;
+    private ViewMode viewMode = ViewMode.CARDS;
 
     @FXML
     private StackPane commandBoxPlaceholder;
@@ -140,7 +167,9 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        personListPanel = new PersonListPanel(logic.getFilteredPersonList(), cmd -> submitCommand(cmd));
+        // commands change the list of persons off the JavaFX application thread
+        displayedPersons = new FxListMirror<>(logic.getFilteredPersonList());
+        personListPanel = new PersonListPanel(displayedPersons.getList(), cmd -> submitCommand(cmd));
         personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
@@ -149,7 +178,7 @@ public class MainWindow extends UiPart<Stage> {
         statusBarFooter = new StatusBarFooter(logic.getNetworkBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        commandBox = new CommandBox(this::executeCommand);
+        commandBox = new CommandBox(this::executeCommand, logic::getCompletions, this::cancelCommands, logic::preview);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
         setCommandBoxShortcutsWhenUnfocused(commandBox);
     }
@@ -167,6 +196,10 @@ public class MainWindow extends UiPart<Stage> {
             } else if (KeyboardShortcutUtil.shortcutMatchEvent(SHORTCUT_SAVE, event)) {
                 injectCommand(SaveCommand.COMMAND_WORD);
                 event.consume();
+            } else if (KeyboardShortcutUtil.shortcutMatchEvent(SHORTCUT_TOGGLE_VIEW, event)) {
+                ViewMode otherViewMode = viewMode == ViewMode.TABLE ? ViewMode.CARDS : ViewMode.TABLE;
+                injectCommand(ViewCommand.COMMAND_WORD + " " + otherViewMode.getKeyword());
+                event.consume();
             }
         });
     }
@@ -176,11 +209,8 @@ public class MainWindow extends UiPart<Stage> {
      * @param commandText is the command text to be injected and executed.
      */
     private void injectCommand(String commandText) {
-        try {
-            executeCommand(commandText);
-        } catch (CommandException | ParseException e) {
-            logger.info("This command is injected using a keyboard shortcut");
-        }
+        logger.info("This command is injected using a keyboard shortcut");
+        executeCommand(commandText);
     }
 
     /**
@@ -224,6 +254,36 @@ public class MainWindow extends UiPart<Stage> {
         statusBarFooter.updateFilterStatus(field);
     }
 
+    /**
+     * Shows the displayed persons in groups by {@code field}.
+     * The groups by a field are only created the first time they are shown,
+     * and are kept up to date afterwards so that they do not have to be created again.
+     * @param field Field to group the persons by.
+     */
+    public void handleGroup(GroupField field) {
+        PersonGroupPanel personGroupPanel = personGroupPanels.computeIfAbsent(field, unused ->
+                new PersonGroupPanel(displayedPersons.getList(), field, cmd -> submitCommand(cmd)));
+        personListPanelPlaceholder.getChildren().setAll(personGroupPanel.getRoot());
+    }
+
+    /**
+     * Shows the displayed persons as cards, as compact cards or as a table.
+     * The table is only created the first time it is shown, and both are bound to the same displayed persons.
+     * @param viewMode Way to display the persons.
+     */
+    public void handleView(ViewMode viewMode) {
+        this.viewMode = viewMode;
+        if (viewMode == ViewMode.TABLE) {
+            if (personTablePanel == null) {
+                personTablePanel = new PersonTablePanel(displayedPersons.getList());
+            }
+            personListPanelPlaceholder.getChildren().setAll(personTablePanel.getRoot());
+            return;
+        }
+        personListPanel.setCompact(viewMode == ViewMode.COMPACT);
+        personListPanelPlaceholder.getChildren().setAll(personListPanel.getRoot());
+    }
+
     /**
      * Inputs the given command string into the command box and executes it.
      * @param commandText String command to execute.
@@ -254,39 +314,119 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Starts executing the command in the background, and returns the result, which is completed
+     * on the JavaFX application thread once the result is shown.
+     * A spinner is shown in the status bar with the stage that the commands have reached while they are running,
+     * and the persons that a streamed filter matches are shown as they are found.
      *
-     * @see Logic#execute(String)
+     * @see Logic#submit(String, CommandProgressListener)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
-            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
-
-            if (commandResult.isShowHelp()) {
-                handleHelp();
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        runningCommandCount++;
+        CompletableFuture<CommandResult> shownResult = new CompletableFuture<>();
+        logic.submit(commandText, new CommandProgressListener() {
+            private int matchCount;
+
+            @Override
+            public void onStageReached(CommandStage stage) {
+                Platform.runLater(() -> {
+                    if (runningCommandCount > 0) {
+                        statusBarFooter.showBusyStatus(stage.getDescription());
+                    }
+                });
             }
 
-            if (commandResult.isExit()) {
-                handleExit();
+            @Override
+            public void onPartialMatches(List<Person> matches) {
+                boolean isFirstBatch = matchCount == 0;
+                matchCount += matches.size();
+                int currentMatchCount = matchCount;
+                Platform.runLater(() -> {
+                    displayedPersons.preview(matches, isFirstBatch);
+                    resultDisplay.setFeedbackToUser(String.format(MESSAGE_SEARCHING, currentMatchCount));
+                });
             }
+        }).whenComplete((commandResult, error) -> {
+            // the displayed page is read on the thread that executed the command, before the next command runs
+            DisplayedPage page = error == null ? logic.getDisplayedPage() : null;
+            Platform.runLater(() -> {
+                runningCommandCount--;
+                displayedPersons.endPreview();
+                if (runningCommandCount == 0) {
+                    statusBarFooter.hideBusyStatus();
+                }
+                if (error == null) {
+                    showCommandResult(commandResult, page);
+                    shownResult.complete(commandResult);
+                } else {
+                    showCommandFailure(commandText, error);
+                    shownResult.completeExceptionally(error);
+                }
+            });
+        });
+        return shownResult;
+    }
 
-            if (commandResult instanceof SortCommandResult) {
-                SortCommandResult sortCommandResult = (SortCommandResult) commandResult;
-                handleSort(sortCommandResult.getSortField(), sortCommandResult.getSortOrder());
-            }
+    /**
+     * Cancels the submitted commands that have not started, and tells the user whether any were cancelled.
+     *
+     * @see Logic#cancelSubmittedCommands()
+     */
+    private void cancelCommands() {
+        if (runningCommandCount == 0) {
+            return;
+        }
+        int cancelledCount = logic.cancelSubmittedCommands();
+        resultDisplay.setFeedbackToUser(cancelledCount > 0
+                ? String.format(MESSAGE_COMMANDS_CANCELLED, cancelledCount)
+                : MESSAGE_COMMAND_NOT_CANCELLED);
+    }
 
-            if (commandResult instanceof FilterCommandResult) {
-                FilterCommandResult filterCommandResult = (FilterCommandResult) commandResult;
-                handleFilter(filterCommandResult.getFilterField());
-            }
+    private void showCommandResult(CommandResult commandResult, DisplayedPage page) {
+        logger.info("Result: " + commandResult.getFeedbackToUser());
+        resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+
+        if (commandResult.isShowHelp()) {
+            handleHelp();
+        }
+
+        if (commandResult.isExit()) {
+            handleExit();
+        }
+
+        if (commandResult instanceof SortCommandResult) {
+            SortCommandResult sortCommandResult = (SortCommandResult) commandResult;
+            handleSort(sortCommandResult.getSortField(), sortCommandResult.getSortOrder());
+        }
+
+        if (commandResult instanceof FilterCommandResult) {
+            FilterCommandResult filterCommandResult = (FilterCommandResult) commandResult;
+            handleFilter(filterCommandResult.getFilterField());
+        }
+
+        if (commandResult instanceof ViewCommandResult) {
+            ViewCommandResult viewCommandResult = (ViewCommandResult) commandResult;
+            handleView(viewCommandResult.getViewMode());
+        }
+
+        if (commandResult instanceof GroupCommandResult) {
+            GroupCommandResult groupCommandResult = (GroupCommandResult) commandResult;
+            handleGroup(groupCommandResult.getGroupField());
+        }
 
-            return commandResult;
-        } catch (CommandException | ParseException e) {
+        statusBarFooter.updatePageStatus(page);
+    }
+
+    private void showCommandFailure(String commandText, Throwable error) {
+        if (error instanceof CancellationException) {
+            logger.info("Command was replaced before it was executed: " + commandText);
+            return;
+        }
+        if (error instanceof CommandException || error instanceof ParseException) {
             logger.info("An error occurred while executing command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
+        } else {
+            logger.log(Level.WARNING, "Unexpected error while executing command: " + commandText, error);
         }
+        resultDisplay.setFeedbackToUser(error.getMessage());
     }
 }
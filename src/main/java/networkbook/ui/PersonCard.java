@@ -2,27 +2,32 @@ package networkbook.ui;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.EnumSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
+import javafx.scene.layout.VBox;
 import networkbook.commons.core.index.Index;
-import networkbook.logic.parser.FilterCommandParser;
 import networkbook.logic.parser.OpenEmailCommandParser;
 import networkbook.logic.parser.OpenLinkCommandParser;
-import networkbook.model.person.Graduation;
 import networkbook.model.person.Person;
+import networkbook.model.person.PersonField;
 import networkbook.model.person.Priority;
-import networkbook.model.person.Tag;
-import networkbook.model.util.Identifiable;
-import networkbook.model.util.UniqueList;
+import networkbook.ui.PersonCardViewModel.Field;
 
 /**
  * An UI component that displays information of a {@code Person}.
@@ -30,13 +35,8 @@ import networkbook.model.util.UniqueList;
 public class PersonCard extends UiPart<Region> {
 
     private static final String FXML = "PersonListCard.fxml";
-    private static final String PHONES_HEADER = "Phones: ";
-    private static final String EMAILS_HEADER = "Emails: ";
-    private static final String LINKS_HEADER = "Links: ";
-    private static final String GRADUATION_HEADER = "Graduation: ";
-    private static final String COURSE_HEADER = "Courses: ";
-    private static final String SPECIALISATION_HEADER = "Specialisations: ";
-    private static final String FIELD_WITH_INDEX_FORMAT = "%d) %s";
+    /** Largest number of tags shown on a collapsed card. */
+    private static final int COLLAPSED_TAG_COUNT = 3;
 
     private static final Logger LOGGER = Logger.getLogger("PersonCard");
 
@@ -48,196 +48,249 @@ public class PersonCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Person person;
-
     @FXML
     private HBox cardPane;
     @FXML
+    private VBox fieldList;
+    @FXML
     private Label name;
     @FXML
     private Label id;
     @FXML
-    private Label phonesHeader;
-    @FXML
-    private FlowPane phones;
-    @FXML
-    private Label linksHeader;
-    @FXML
-    private FlowPane links;
-    @FXML
-    private Label graduationHeader;
-    @FXML
-    private FlowPane graduation;
-    @FXML
-    private Label coursesHeader;
-    @FXML
-    private FlowPane courses;
-    @FXML
-    private Label specialisationsHeader;
-    @FXML
-    private FlowPane specialisations;
-    @FXML
-    private Label emailsHeader;
-    @FXML
-    private FlowPane emails;
-    @FXML
     private FlowPane tags;
     @FXML
     private FlowPane priority;
 
     private final Consumer<String> submitCommandCallback;
+    private final double expandedMinHeight;
+    private Person person;
+    private int displayedIndex;
+    private boolean isExpanded;
+    /** The sections with the other fields, which are only created when the card is first expanded. */
+    private PersonCardDetails details;
+    private Person detailsPerson;
+    private int detailsIndex;
 
     /**
-     * Creates a {@code PersonCard} with the given {@code Person} and index to display.
+     * Creates an expanded {@code PersonCard} with the given {@code Person} and index to display.
      */
     public PersonCard(Person person, int displayedIndex, Consumer<String> submitCommandCallback) {
+        this(person, displayedIndex, submitCommandCallback, true);
+    }
+
+    /**
+     * Creates a {@code PersonCard} with the given {@code Person} and index to display,
+     * which shows all fields if {@code isExpanded}, and only the name, priority and first few tags otherwise.
+     */
+    public PersonCard(Person person, int displayedIndex, Consumer<String> submitCommandCallback,
+            boolean isExpanded) {
         super(FXML);
         requireNonNull(person);
-        this.person = person;
         this.submitCommandCallback = submitCommandCallback;
+        this.isExpanded = isExpanded;
+        expandedMinHeight = cardPane.getMinHeight();
+        if (!isExpanded) {
+            cardPane.setMinHeight(Region.USE_COMPUTED_SIZE);
+        }
+
+        setPerson(person, displayedIndex);
+    }
+
+    /**
+     * Displays {@code person} with {@code displayedIndex} in place of the person displayed so far.
+     * Only the fields in which {@code person} differs from the person displayed so far are displayed again,
+     * and the nodes of those fields are reused where they can be,
+     * so that a card can be recycled as the list of persons is scrolled,
+     * and editing a person only changes the fields that were edited.
+     */
+    public void setPerson(Person person, int displayedIndex) {
+        requireNonNull(person);
+        if (person == this.person && displayedIndex == this.displayedIndex) {
+            return;
+        }
+        Set<PersonField> changedFields = this.person == null
+                ? EnumSet.allOf(PersonField.class)
+                : this.person.getChangedFields(person);
+        this.person = person;
+        this.displayedIndex = displayedIndex;
+
+        PersonCardViewModel viewModel = PersonCardViewModel.of(person);
 
         // Name and ID
         id.setText(displayedIndex + ". ");
-        name.setText(person.getName().fullName);
+        if (changedFields.contains(PersonField.NAME)) {
+            name.setText(viewModel.getName());
+        }
+
+        // Tags
+        if (changedFields.contains(PersonField.TAG)) {
+            populateTags(getShownTags(viewModel), tags);
+        }
+
+        // Priority
+        if (changedFields.contains(PersonField.PRIORITY)) {
+            populatePriority(viewModel.getPriority(), priority);
+        }
+
+        if (isExpanded) {
+            updateDetails();
+        }
+    }
+
+    /**
+     * Shows all fields of the person if {@code isExpanded}, and only its name, priority and first few tags otherwise.
+     * The sections with the other fields are created the first time the card is expanded,
+     * and are only updated while they are shown.
+     */
+    public void setExpanded(boolean isExpanded) {
+        if (isExpanded == this.isExpanded) {
+            return;
+        }
+        this.isExpanded = isExpanded;
+        cardPane.setMinHeight(isExpanded ? expandedMinHeight : Region.USE_COMPUTED_SIZE);
+        populateTags(getShownTags(PersonCardViewModel.of(person)), tags);
+        if (isExpanded) {
+            updateDetails();
+        } else if (details != null) {
+            fieldList.getChildren().remove(details.getRoot());
+        }
+    }
+
+    public boolean isExpanded() {
+        return isExpanded;
+    }
+
+    /**
+     * Shows the sections with the other fields of the person, creating them if they have not been created,
+     * and displaying only the fields that changed since they were last shown.
+     */
+    private void updateDetails() {
+        Set<PersonField> changedFields;
+        if (details == null) {
+            details = new PersonCardDetails();
+            changedFields = EnumSet.allOf(PersonField.class);
+        } else if (detailsPerson == person && detailsIndex == displayedIndex) {
+            changedFields = EnumSet.noneOf(PersonField.class);
+        } else {
+            changedFields = detailsPerson.getChangedFields(person);
+        }
+        if (detailsIndex != displayedIndex) {
+            // the commands submitted by emails and links refer to the displayed index
+            changedFields.add(PersonField.EMAIL);
+            changedFields.add(PersonField.LINK);
+        }
+        if (!fieldList.getChildren().contains(details.getRoot())) {
+            fieldList.getChildren().add(details.getRoot());
+        }
+        detailsPerson = person;
+        detailsIndex = displayedIndex;
+
+        PersonCardViewModel viewModel = PersonCardViewModel.of(person);
 
         // Phone numbers
-        phonesHeader.setText(PHONES_HEADER);
-        populateListChildren(person.getPhones(), phones);
+        if (changedFields.contains(PersonField.PHONE)) {
+            populateListChildren(viewModel.getPhones(), details.getPhones());
+        }
 
         // Email addresses
-        emailsHeader.setText(EMAILS_HEADER);
-        populateExternalHyperlinkListChildren(person.getEmails(), emails, (email, index) -> {
-            LOGGER.log(Level.INFO, "Opening email: " + email.getValue());
-            submitCommandCallback.accept(
-                    OpenEmailCommandParser.generateCommandString(displayedIndex, index.getOneBased()));
-        });
+        if (changedFields.contains(PersonField.EMAIL)) {
+            populateExternalHyperlinkListChildren(viewModel.getEmails(), details.getEmails(), (email, index) -> {
+                LOGGER.log(Level.INFO, "Opening email: " + email.getValue());
+                submitCommandCallback.accept(
+                        OpenEmailCommandParser.generateCommandString(detailsIndex, index.getOneBased()));
+            });
+        }
 
         // Website links
-        linksHeader.setText(LINKS_HEADER);
-        populateExternalHyperlinkListChildren(person.getLinks(), links, (link, index) -> {
-            LOGGER.log(Level.INFO, "Opening link: " + link.getValue());
-            submitCommandCallback.accept(
-                    OpenLinkCommandParser.generateCommandString(displayedIndex, index.getOneBased()));
-        });
+        if (changedFields.contains(PersonField.LINK)) {
+            populateExternalHyperlinkListChildren(viewModel.getLinks(), details.getLinks(), (link, index) -> {
+                LOGGER.log(Level.INFO, "Opening link: " + link.getValue());
+                submitCommandCallback.accept(
+                        OpenLinkCommandParser.generateCommandString(detailsIndex, index.getOneBased()));
+            });
+        }
 
         // Graduation
-        graduationHeader.setText(GRADUATION_HEADER);
-        populateGrad(person.getGraduation(), graduation);
+        if (changedFields.contains(PersonField.GRADUATION)) {
+            populateHyperlinkListChildren(viewModel.getGraduation().map(List::of).orElse(List.of()),
+                    details.getGraduation());
+        }
 
         // Courses
-        coursesHeader.setText(COURSE_HEADER);
-        populateHyperlinkListChildren(person.getCourses(), courses, (course, index) -> {
-            submitCommandCallback.accept(
-                    FilterCommandParser.generateCommandString("course", course.getValue()));
-        });
+        if (changedFields.contains(PersonField.COURSE)) {
+            populateHyperlinkListChildren(viewModel.getCourses(), details.getCourses());
+        }
 
         // Specialisations
-        specialisationsHeader.setText(SPECIALISATION_HEADER);
-        populateHyperlinkListChildren(person.getSpecialisations(), specialisations, (spec, index) -> {
-            submitCommandCallback.accept(
-                    FilterCommandParser.generateCommandString("spec", spec.getValue()));
-        });
+        if (changedFields.contains(PersonField.SPECIALISATION)) {
+            populateHyperlinkListChildren(viewModel.getSpecialisations(), details.getSpecialisations());
+        }
+    }
 
-        // Tags
-        populateTags(person.getTags(), tags);
-        // person.getTags().stream()
-        //         .forEach(tag -> tags.getChildren().add(new Label(tag.getValue())));
+    /**
+     * Returns the tags shown on the card, which are all tags if it is expanded, and only the first few otherwise.
+     */
+    private List<Field> getShownTags(PersonCardViewModel viewModel) {
+        List<Field> allTags = viewModel.getTags();
+        return isExpanded ? allTags : allTags.subList(0, Math.min(COLLAPSED_TAG_COUNT, allTags.size()));
+    }
 
-        // Priority
-        populatePriority(person.getPriority(), priority);
+    public Person getPerson() {
+        return person;
     }
 
     /**
      * Populates FlowPane with labels from list.
-     * @param <T> Type of list item.
-     * @param list Source list of items.
+     * @param fields Formatted fields.
      * @param pane FlowPane to populate.
      */
-    private <T extends Identifiable<T>> void populateListChildren(UniqueList<T> list, FlowPane pane) {
-        if (list.isEmpty()) {
-            pane.getChildren().add(new EmptyFieldLabel());
-        } else {
-            for (int i = 0; i < list.size(); i++) {
-                T t = list.get(i);
-                FieldLabel label = new FieldLabel(String.format(FIELD_WITH_INDEX_FORMAT, i + 1, t.getValue()));
-                pane.getChildren().add(label);
-            }
-        }
+    private void populateListChildren(List<Field> fields, FlowPane pane) {
+        populateChildren(pane, fields.size(), true, FieldLabel.class, () -> new FieldLabel(""), (label, i) ->
+                label.setText(fields.get(i).getText()));
     }
 
     /**
-     * Populates FlowPane with hyperlinks from list.
-     * @param <T> Type of list item.
-     * @param list Source list of items.
+     * Populates FlowPane with hyperlinks from list, which submit their filter commands on click.
+     * @param fields Formatted fields.
      * @param pane FlowPane to populate.
-     * @param action Action to perform on link click. Takes in list item and index of list item.
      */
-    private <T extends Identifiable<T>> void populateHyperlinkListChildren(UniqueList<T> list,
-            FlowPane pane, BiConsumer<T, Index> action) {
-        if (list.isEmpty()) {
-            pane.getChildren().add(new EmptyFieldLabel());
-        } else {
-            for (int i = 0; i < list.size(); i++) {
-                T link = list.get(i);
-                Index index = Index.fromZeroBased(i);
-                FieldHyperlink hyperlink = new FieldHyperlink(
-                        String.format(FIELD_WITH_INDEX_FORMAT, index.getOneBased(), link.getValue()), () ->
-                        action.accept(link, index));
-                pane.getChildren().add(hyperlink);
-            }
-        }
+    private void populateHyperlinkListChildren(List<Field> fields, FlowPane pane) {
+        populateChildren(pane, fields.size(), true, FieldHyperlink.class, () -> new FieldHyperlink("", () -> {}),
+                (hyperlink, i) -> bindFilterHyperlink(hyperlink, fields.get(i)));
     }
 
     /**
      * Populates FlowPane with external hyperlinks from list.
-     * @param <T> Type of list item.
-     * @param list Source list of items.
+     * @param fields Formatted fields.
      * @param pane FlowPane to populate.
      * @param action Action to perform on link click. Takes in list item and index of list item.
      */
-    private <T extends Identifiable<T>> void populateExternalHyperlinkListChildren(UniqueList<T> list,
-            FlowPane pane, BiConsumer<T, Index> action) {
-        if (list.isEmpty()) {
-            pane.getChildren().add(new EmptyFieldLabel());
-        } else {
-            for (int i = 0; i < list.size(); i++) {
-                T link = list.get(i);
-                Index index = Index.fromZeroBased(i);
-                FieldHyperlink hyperlink = new ExternalFieldHyperlink(
-                        String.format(FIELD_WITH_INDEX_FORMAT, index.getOneBased(), link.getValue()), () ->
-                        action.accept(link, index));
-                pane.getChildren().add(hyperlink);
-            }
-        }
+    private void populateExternalHyperlinkListChildren(List<Field> fields, FlowPane pane,
+            BiConsumer<Field, Index> action) {
+        populateChildren(pane, fields.size(), true, ExternalFieldHyperlink.class,
+                () -> new ExternalFieldHyperlink("", () -> {}), (hyperlink, i) -> {
+                    Field field = fields.get(i);
+                    Index index = Index.fromZeroBased(i);
+                    hyperlink.setText(field.getText());
+                    hyperlink.setAction(() -> action.accept(field, index));
+                });
     }
 
     /**
      * Populates tags.
-     * @param tags UniqueList of tags.
+     * @param tags Formatted tags.
      * @param pane FlowPane to populate.
      */
-    private void populateTags(UniqueList<Tag> tags, FlowPane pane) {
-        tags.stream()
-                .forEach(tag -> pane.getChildren().add(new TagHyperlink(tag.getValue(), () -> {
-                    submitCommandCallback.accept(
-                            FilterCommandParser.generateCommandString("tag", tag.getValue()));
-                })));
+    private void populateTags(List<Field> tags, FlowPane pane) {
+        populateChildren(pane, tags.size(), false, TagHyperlink.class, () -> new TagHyperlink("", () -> {}),
+                (hyperlink, i) -> bindFilterHyperlink(hyperlink, tags.get(i)));
     }
 
-    /**
-     * Populates graduation.
-     * @param g Optional of Graduation.
-     * @param pane FlowPane to populate.
-     */
-    private void populateGrad(Optional<Graduation> g, FlowPane pane) {
-        g.ifPresentOrElse((Graduation grad) -> {
-            pane.getChildren().add(new FieldHyperlink(grad.getFullString(), () -> {
-                submitCommandCallback.accept(
-                        FilterCommandParser.generateCommandString("grad", String.format("%d", grad.getGradYear())));
-            }));
-        }, () -> {
-            pane.getChildren().add(new EmptyFieldLabel());
-        });
+    private void bindFilterHyperlink(FieldHyperlink hyperlink, Field field) {
+        assert field.getFilterCommand().isPresent() : "Field of a hyperlink should have a filter command";
+        String filterCommand = field.getFilterCommand().get();
+        hyperlink.setText(field.getText());
+        hyperlink.setAction(() -> submitCommandCallback.accept(filterCommand));
     }
 
     /**
@@ -246,16 +299,51 @@ public class PersonCard extends UiPart<Region> {
      * @param pane FlowPane to populate.
      */
     private void populatePriority(Optional<Priority> p, FlowPane pane) {
-        p.ifPresentOrElse((Priority priority) -> {
-            pane.getChildren().add(new PriorityFieldLabel(priority));
-        }, () -> {
-            pane.getChildren().add(new EmptyFieldLabel());
-        });
+        populateChildren(pane, p.isPresent() ? 1 : 0, true, PriorityFieldLabel.class,
+                () -> new PriorityFieldLabel(p.get()), (label, i) -> label.setPriority(p.get()));
+    }
+
+    /**
+     * Makes the children of {@code pane} {@code count} nodes of {@code type}, each bound by {@code binder}
+     * to its position, reusing the nodes of {@code type} that {@code pane} already has.
+     * If {@code count} is 0, {@code pane} shows an {@code EmptyFieldLabel} if {@code showsEmptyField}
+     * and nothing otherwise.
+     * @param <N> Type of the nodes.
+     * @param pane FlowPane to populate.
+     * @param count Number of nodes to populate with.
+     * @param showsEmptyField Whether to show an empty field when there are no nodes.
+     * @param type Exact class of the nodes.
+     * @param factory Creates a node to be bound, when there are not enough nodes to reuse.
+     * @param binder Binds a node to the item at its position.
+     */
+    private static <N extends Node> void populateChildren(FlowPane pane, int count, boolean showsEmptyField,
+            Class<N> type, Supplier<N> factory, ObjIntConsumer<N> binder) {
+        ObservableList<Node> children = pane.getChildren();
+        if (count == 0) {
+            if (!showsEmptyField) {
+                children.clear();
+            } else if (children.size() != 1 || !(children.get(0) instanceof EmptyFieldLabel)) {
+                children.setAll(new EmptyFieldLabel());
+            }
+            return;
+        }
+        if (!children.isEmpty() && children.get(0).getClass() != type) {
+            children.clear();
+        }
+        if (children.size() > count) {
+            children.remove(count, children.size());
+        }
+        while (children.size() < count) {
+            children.add(factory.get());
+        }
+        for (int i = 0; i < count; i++) {
+            binder.accept(type.cast(children.get(i)), i);
+        }
     }
 
     // Below: getter methods for testing
     FlowPane getGraduation() {
-        return graduation;
+        return getDetails().getGraduation();
     }
 
     FlowPane getPriority() {
@@ -263,23 +351,23 @@ public class PersonCard extends UiPart<Region> {
     }
 
     FlowPane getCourses() {
-        return courses;
+        return getDetails().getCourses();
     }
 
     FlowPane getEmails() {
-        return emails;
+        return getDetails().getEmails();
     }
 
     FlowPane getLinks() {
-        return links;
+        return getDetails().getLinks();
     }
 
     FlowPane getPhones() {
-        return phones;
+        return getDetails().getPhones();
     }
 
     FlowPane getSpecialisations() {
-        return specialisations;
+        return getDetails().getSpecialisations();
     }
 
     FlowPane getTags() {
@@ -289,4 +377,9 @@ public class PersonCard extends UiPart<Region> {
     Label getName() {
         return name;
     }
+
+    private PersonCardDetails getDetails() {
+        assert details != null : "Details should only be tested once the card has been expanded";
+        return details;
+    }
 }
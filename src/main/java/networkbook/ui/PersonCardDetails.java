@@ -0,0 +1,84 @@
+package networkbook.ui;
+
+import javafx.fxml.FXML;
+import javafx.scene.control.Label;
+import javafx.scene.layout.FlowPane;
+import javafx.scene.layout.Region;
+
+/**
+ * The sections of a {@code PersonCard} with the fields of a {@code Person} other than its name, priority and tags,
+ * which are only created when the card is expanded.
+ * The sections are filled in by the {@code PersonCard} that they belong to.
+ */
+public class PersonCardDetails extends UiPart<Region> {
+
+    private static final String FXML = "PersonCardDetails.fxml";
+    private static final String PHONES_HEADER = "Phones: ";
+    private static final String EMAILS_HEADER = "Emails: ";
+    private static final String LINKS_HEADER = "Links: ";
+    private static final String GRADUATION_HEADER = "Graduation: ";
+    private static final String COURSE_HEADER = "Courses: ";
+    private static final String SPECIALISATION_HEADER = "Specialisations: ";
+
+    @FXML
+    private Label phonesHeader;
+    @FXML
+    private FlowPane phones;
+    @FXML
+    private Label linksHeader;
+    @FXML
+    private FlowPane links;
+    @FXML
+    private Label graduationHeader;
+    @FXML
+    private FlowPane graduation;
+    @FXML
+    private Label coursesHeader;
+    @FXML
+    private FlowPane courses;
+    @FXML
+    private Label specialisationsHeader;
+    @FXML
+    private FlowPane specialisations;
+    @FXML
+    private Label emailsHeader;
+    @FXML
+    private FlowPane emails;
+
+    /**
+     * Creates empty sections, with their headers.
+     */
+    public PersonCardDetails() {
+        super(FXML);
+        phonesHeader.setText(PHONES_HEADER);
+        emailsHeader.setText(EMAILS_HEADER);
+        linksHeader.setText(LINKS_HEADER);
+        graduationHeader.setText(GRADUATION_HEADER);
+        coursesHeader.setText(COURSE_HEADER);
+        specialisationsHeader.setText(SPECIALISATION_HEADER);
+    }
+
+    FlowPane getPhones() {
+        return phones;
+    }
+
+    FlowPane getEmails() {
+        return emails;
+    }
+
+    FlowPane getLinks() {
+        return links;
+    }
+
+    FlowPane getGraduation() {
+        return graduation;
+    }
+
+    FlowPane getCourses() {
+        return courses;
+    }
+
+    FlowPane getSpecialisations() {
+        return specialisations;
+    }
+}
@@ -0,0 +1,196 @@
+package networkbook.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+import networkbook.logic.parser.FilterCommandParser;
+import networkbook.model.person.Person;
+import networkbook.model.person.Priority;
+import networkbook.model.util.Identifiable;
+import networkbook.model.util.UniqueList;
+
+/**
+ * The text that a {@code PersonCard} displays for a {@code Person}, with the commands submitted by its hyperlinks,
+ * formatted ahead of time so that displaying a person on a card only assigns prepared strings.
+ * View models are cached by the identity of their persons, keeping only the most recently used ones,
+ * and can be prepared on a background thread before their persons are displayed.
+ */
+public class PersonCardViewModel {
+    /** Largest number of view models that are cached. */
+    static final int CACHE_CAPACITY = 512;
+
+    private static final String FIELD_WITH_INDEX_FORMAT = "%d) %s";
+    private static final Map<IdentityKey, PersonCardViewModel> CACHE =
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<IdentityKey, PersonCardViewModel> eldest) {
+                    return size() > CACHE_CAPACITY;
+                }
+            };
+    private static final ExecutorService PREPARER = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "person-card-preparer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final String name;
+    private final List<Field> phones;
+    private final List<Field> emails;
+    private final List<Field> links;
+    private final Optional<Field> graduation;
+    private final List<Field> courses;
+    private final List<Field> specialisations;
+    private final List<Field> tags;
+    private final Optional<Priority> priority;
+
+    private PersonCardViewModel(Person person) {
+        name = person.getName().fullName;
+        phones = toIndexedFields(person.getPhones(), value -> null);
+        emails = toIndexedFields(person.getEmails(), value -> null);
+        links = toIndexedFields(person.getLinks(), value -> null);
+        graduation = person.getGraduation().map(grad -> new Field(grad.getFullString(), grad.getFullString(),
+                FilterCommandParser.generateCommandString("grad", String.format("%d", grad.getGradYear()))));
+        courses = toIndexedFields(person.getCourses(),
+                value -> FilterCommandParser.generateCommandString("course", value));
+        specialisations = toIndexedFields(person.getSpecialisations(),
+                value -> FilterCommandParser.generateCommandString("spec", value));
+        List<Field> tagFields = new ArrayList<>();
+        person.getTags().stream().forEach(tag -> tagFields.add(new Field(tag.getValue(), tag.getValue(),
+                FilterCommandParser.generateCommandString("tag", tag.getValue()))));
+        tags = Collections.unmodifiableList(tagFields);
+        priority = person.getPriority();
+    }
+
+    /**
+     * Returns the view model of {@code person}, formatting it if it is not cached.
+     * Can be called from any thread.
+     */
+    public static PersonCardViewModel of(Person person) {
+        requireNonNull(person);
+        IdentityKey key = new IdentityKey(person);
+        synchronized (CACHE) {
+            PersonCardViewModel viewModel = CACHE.get(key);
+            if (viewModel != null) {
+                return viewModel;
+            }
+        }
+        PersonCardViewModel viewModel = new PersonCardViewModel(person);
+        synchronized (CACHE) {
+            CACHE.putIfAbsent(key, viewModel);
+        }
+        return viewModel;
+    }
+
+    /**
+     * Formats the view models of {@code persons} on a background thread, so that they are cached by the time
+     * the persons are displayed. {@code persons} must not be changed afterwards.
+     */
+    public static void prepare(List<Person> persons) {
+        requireNonNull(persons);
+        PREPARER.execute(() -> persons.forEach(PersonCardViewModel::of));
+    }
+
+    private static <T extends Identifiable<T>> List<Field> toIndexedFields(UniqueList<T> list,
+            Function<String, String> toFilterCommand) {
+        List<Field> fields = new ArrayList<>();
+        for (int i = 0; i < list.size(); i++) {
+            String value = list.get(i).getValue();
+            fields.add(new Field(String.format(FIELD_WITH_INDEX_FORMAT, i + 1, value), value,
+                    toFilterCommand.apply(value)));
+        }
+        return Collections.unmodifiableList(fields);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<Field> getPhones() {
+        return phones;
+    }
+
+    public List<Field> getEmails() {
+        return emails;
+    }
+
+    public List<Field> getLinks() {
+        return links;
+    }
+
+    public Optional<Field> getGraduation() {
+        return graduation;
+    }
+
+    public List<Field> getCourses() {
+        return courses;
+    }
+
+    public List<Field> getSpecialisations() {
+        return specialisations;
+    }
+
+    public List<Field> getTags() {
+        return tags;
+    }
+
+    public Optional<Priority> getPriority() {
+        return priority;
+    }
+
+    /**
+     * A value of a field as it is displayed, with the {@code filter} command that clicking it submits, if any.
+     */
+    public static class Field {
+        private final String text;
+        private final String value;
+        private final String filterCommand;
+
+        private Field(String text, String value, String filterCommand) {
+            this.text = text;
+            this.value = value;
+            this.filterCommand = filterCommand;
+        }
+
+        public String getText() {
+            return text;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        public Optional<String> getFilterCommand() {
+            return Optional.ofNullable(filterCommand);
+        }
+    }
+
+    /**
+     * A key that is equal only to the key of the same person, rather than of an equal person.
+     */
+    private static class IdentityKey {
+        private final Person person;
+
+        private IdentityKey(Person person) {
+            this.person = person;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof IdentityKey && ((IdentityKey) other).person == person;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(person);
+        }
+    }
+}
@@ -0,0 +1,311 @@
+package networkbook.ui;
+
+import static networkbook.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.fxml.FXML;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.layout.Region;
+import networkbook.model.PersonGroups;
+import networkbook.model.PersonGroups.GroupField;
+import networkbook.model.person.Person;
+
+/**
+ * Panel containing the list of persons in groups by the value of a field, with a header for each group
+ * that shows or hides the persons in the group when clicked.
+ * Groups are collapsed at first, so that only their headers are displayed,
+ * and the persons of a group are taken from its {@code PersonGroups} when the group is expanded.
+ * When a single person is added to, removed from or replaced in the list, only the rows of that person
+ * and the headers of its groups are changed, and the rows are found by binary search on their keys
+ * and on the indexes of their persons in the list.
+ */
+public class PersonGroupPanel extends UiPart<Region> {
+    private static final String FXML = "PersonGroupPanel.fxml";
+    private static final String HEADER_FORMAT = "%1$s %2$s (%3$d)";
+    private static final String COLLAPSED_SYMBOL = "▶";
+    private static final String EXPANDED_SYMBOL = "▼";
+
+    @FXML
+    private ListView<Row> personGroupListView;
+
+    private final PersonGroups personGroups;
+    private final Consumer<String> submitCommandCallback;
+    private final ObservableList<Row> rows = FXCollections.observableArrayList();
+    private final Set<String> expandedKeys = new HashSet<>();
+
+    /**
+     * Creates a {@code PersonGroupPanel} with the given {@code ObservableList} in groups by {@code field}.
+     */
+    public PersonGroupPanel(ObservableList<Person> personList, GroupField field,
+            Consumer<String> submitCommandCallback) {
+        super(FXML);
+        requireAllNonNull(personList, field, submitCommandCallback);
+        this.submitCommandCallback = submitCommandCallback;
+        // The groups must listen to the persons before this panel does
+        personGroups = new PersonGroups(personList, field);
+        personList.addListener(this::onPersonsChanged);
+        updateRows();
+        personGroupListView.setItems(rows);
+        personGroupListView.setCellFactory(listView -> new PersonGroupViewCell());
+    }
+
+    /**
+     * Shows the persons of the group with {@code key} if they are hidden, and hides them otherwise.
+     */
+    void toggleGroup(String key) {
+        int headerIndex = findFirstRow(key);
+        assert headerIndex < rows.size() && rows.get(headerIndex).key.equals(key) : "Group should be shown";
+        if (expandedKeys.remove(key)) {
+            rows.remove(headerIndex + 1, findEndRow(key));
+        } else {
+            expandedKeys.add(key);
+            List<Row> personRows = new ArrayList<>();
+            personGroups.getPersons(key).forEach(person -> personRows.add(new Row(key, person)));
+            rows.addAll(headerIndex + 1, personRows);
+        }
+        rows.set(headerIndex, new Row(key, null));
+    }
+
+    /**
+     * Returns the rows of the panel.
+     */
+    ObservableList<Row> getRows() {
+        return rows;
+    }
+
+    private void onPersonsChanged(ListChangeListener.Change<? extends Person> change) {
+        if (!change.next()) {
+            return;
+        }
+        boolean isSingleChange = !change.wasPermutated() && !change.wasUpdated()
+                && change.getRemovedSize() <= 1 && change.getAddedSize() <= 1;
+        Person removed = change.wasRemoved() ? change.getRemoved().get(0) : null;
+        Person added = change.wasAdded() ? change.getAddedSubList().get(0) : null;
+        int index = change.getFrom();
+        if (!isSingleChange || change.next()) {
+            updateRows();
+            return;
+        }
+
+        Set<String> keys = new LinkedHashSet<>();
+        if (removed != null) {
+            keys.addAll(personGroups.getKeys(removed));
+        }
+        if (added != null) {
+            keys.addAll(personGroups.getKeys(added));
+        }
+        for (String key : keys) {
+            updateGroupRows(key,
+                    removed != null && personGroups.getKeys(removed).contains(key) ? removed : null,
+                    added != null && personGroups.getKeys(added).contains(key) ? added : null,
+                    index);
+        }
+    }
+
+    /**
+     * Updates the header of the group with {@code key} and, if the group is expanded, the rows of
+     * {@code removed} and {@code added}, either of which may be null, which were removed from and added to
+     * the group at {@code index} of the list.
+     */
+    private void updateGroupRows(String key, Person removed, Person added, int index) {
+        int headerIndex = findFirstRow(key);
+        boolean isShown = headerIndex < rows.size() && rows.get(headerIndex).key.equals(key);
+        if (personGroups.getSize(key) == 0) {
+            if (isShown) {
+                rows.remove(headerIndex, findEndRow(key));
+            }
+            expandedKeys.remove(key);
+            return;
+        }
+        if (!isShown) {
+            rows.add(headerIndex, new Row(key, null));
+            return;
+        }
+        rows.set(headerIndex, new Row(key, null));
+        if (!expandedKeys.contains(key)) {
+            return;
+        }
+
+        int endIndex = findEndRow(key);
+        int removedIndex = removed == null ? -1 : findPersonRow(headerIndex + 1, endIndex, removed, index);
+        if (removedIndex >= 0 && added != null) {
+            // the added person replaces the removed person at the same index of the list
+            rows.set(removedIndex, new Row(key, added));
+            return;
+        }
+        if (removedIndex >= 0) {
+            rows.remove(removedIndex);
+            endIndex--;
+        }
+        if (added != null) {
+            rows.add(findPersonRowAfter(headerIndex + 1, endIndex, index), new Row(key, added));
+        }
+    }
+
+    /**
+     * Returns the index of the first row whose key is not before {@code key}, which is the header of the group
+     * with {@code key} if it is shown.
+     */
+    private int findFirstRow(String key) {
+        Comparator<String> keyOrder = personGroups.getKeyOrder();
+        int low = 0;
+        int high = rows.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keyOrder.compare(rows.get(mid).key, key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of the first row whose key is after {@code key}.
+     */
+    private int findEndRow(String key) {
+        Comparator<String> keyOrder = personGroups.getKeyOrder();
+        int low = 0;
+        int high = rows.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keyOrder.compare(rows.get(mid).key, key) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of the row of {@code removed} from {@code from} to {@code to}, where {@code removed}
+     * was at {@code index} of the list. The other persons of the rows are still in the list,
+     * before {@code index} if their rows are before the row of {@code removed}, and at or after it otherwise.
+     */
+    private int findPersonRow(int from, int to, Person removed, int index) {
+        int low = from;
+        int high = to;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            Person person = rows.get(mid).person;
+            if (person == removed) {
+                return mid;
+            } else if (personGroups.indexOf(person) < index) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the first row from {@code from} to {@code to} whose person is after {@code index}
+     * of the list.
+     */
+    private int findPersonRowAfter(int from, int to, int index) {
+        int low = from;
+        int high = to;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (personGroups.indexOf(rows.get(mid).person) <= index) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Lists the header of each group, followed by the persons of the group if it is expanded.
+     */
+    private void updateRows() {
+        ObservableList<Row> newRows = FXCollections.observableArrayList();
+        expandedKeys.retainAll(personGroups.getKeys());
+        for (String key : personGroups.getKeys()) {
+            newRows.add(new Row(key, null));
+            if (expandedKeys.contains(key)) {
+                personGroups.getPersons(key).forEach(person -> newRows.add(new Row(key, person)));
+            }
+        }
+        rows.setAll(newRows);
+    }
+
+    /**
+     * A row of the panel, which is the header of a group if it has no person.
+     */
+    static class Row {
+        private final String key;
+        private final Person person;
+
+        Row(String key, Person person) {
+            this.key = key;
+            this.person = person;
+        }
+
+        String getKey() {
+            return key;
+        }
+
+        /**
+         * Returns the person of the row, or null if the row is the header of a group.
+         */
+        Person getPerson() {
+            return person;
+        }
+    }
+
+    /**
+     * Custom {@code ListCell} that displays the header of a group, or a {@code Person} using a {@code PersonCard}.
+     * Each cell keeps one header and one {@code PersonCard}, which are rebound to whichever row the cell displays next.
+     */
+    class PersonGroupViewCell extends ListCell<Row> {
+        private Label header;
+        private PersonCard personCard;
+
+        @Override
+        protected void updateItem(Row row, boolean empty) {
+            super.updateItem(row, empty);
+
+            if (empty || row == null) {
+                setGraphic(null);
+                setText(null);
+            } else if (row.person == null) {
+                if (header == null) {
+                    header = new Label();
+                    header.getStyleClass().add("group_header");
+                    header.setMaxWidth(Double.MAX_VALUE);
+                }
+                header.setText(String.format(HEADER_FORMAT,
+                        expandedKeys.contains(row.key) ? EXPANDED_SYMBOL : COLLAPSED_SYMBOL,
+                        personGroups.getField().getHeader(row.key), personGroups.getSize(row.key)));
+                header.setOnMouseClicked(event -> toggleGroup(row.key));
+                setGraphic(header);
+            } else {
+                int displayedIndex = personGroups.indexOf(row.person) + 1;
+                if (personCard == null) {
+                    personCard = new PersonCard(row.person, displayedIndex, submitCommandCallback);
+                } else {
+                    personCard.setPerson(row.person, displayedIndex);
+                }
+                setGraphic(personCard.getRoot());
+            }
+        }
+    }
+
+}
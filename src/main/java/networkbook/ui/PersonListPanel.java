@@ -1,8 +1,10 @@
 package networkbook.ui;
 
+import java.util.List;
 import java.util.function.Consumer;
 import java.util.logging.Logger;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
@@ -22,6 +24,7 @@ public class PersonListPanel extends UiPart<Region> {
     private ListView<Person> personListView;
 
     private final Consumer<String> submitCommandCallback;
+    private boolean isCompact;
 
     /**
      * Creates a {@code PersonListPanel} with the given {@code ObservableList}.
@@ -29,14 +32,47 @@ public class PersonListPanel extends UiPart<Region> {
     public PersonListPanel(ObservableList<Person> personList, Consumer<String> submitCommandCallback) {
         super(FXML);
         this.submitCommandCallback = submitCommandCallback;
+        prepareViewModels(personList);
+        personList.addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                if (change.wasAdded()) {
+                    prepareViewModels(change.getAddedSubList());
+                }
+            }
+        });
         personListView.setItems(personList);
         personListView.setCellFactory(listView -> new PersonListViewCell());
     }
 
+    /**
+     * Shows collapsed cards with only the name, priority and first few tags of each person if {@code isCompact},
+     * expanding only the card of the selected person, and expanded cards with all fields otherwise.
+     */
+    public void setCompact(boolean isCompact) {
+        if (isCompact == this.isCompact) {
+            return;
+        }
+        this.isCompact = isCompact;
+        personListView.refresh();
+    }
+
+    /**
+     * Formats the cards of up to as many of {@code persons} as are cached, in the background,
+     * so that the cards do not have to be formatted when they are first scrolled to.
+     */
+    private static void prepareViewModels(List<? extends Person> persons) {
+        int count = Math.min(persons.size(), PersonCardViewModel.CACHE_CAPACITY);
+        PersonCardViewModel.prepare(List.copyOf(persons.subList(0, count)));
+    }
+
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code PersonCard}.
+     * Each cell keeps one {@code PersonCard}, which is rebound to whichever person the cell displays next.
+     * In compact mode, the card is only expanded while its cell is selected.
      */
     class PersonListViewCell extends ListCell<Person> {
+        private PersonCard personCard;
+
         @Override
         protected void updateItem(Person person, boolean empty) {
             super.updateItem(person, empty);
@@ -45,9 +81,33 @@ public class PersonListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new PersonCard(person, getIndex() + 1, submitCommandCallback).getRoot());
+                if (personCard == null) {
+                    personCard = new PersonCard(person, getIndex() + 1, submitCommandCallback, isCardExpanded());
+                } else {
+                    // a card that stays collapsed is collapsed before it is rebound,
+                    // so that its details are not updated for a person that they are not shown for
+                    boolean isExpanded = isCardExpanded();
+                    if (!isExpanded) {
+                        personCard.setExpanded(false);
+                    }
+                    personCard.setPerson(person, getIndex() + 1);
+                    personCard.setExpanded(isExpanded);
+                }
+                setGraphic(personCard.getRoot());
+            }
+        }
+
+        @Override
+        public void updateSelected(boolean isSelected) {
+            super.updateSelected(isSelected);
+            if (personCard != null && !isEmpty()) {
+                personCard.setExpanded(isCardExpanded());
             }
         }
+
+        private boolean isCardExpanded() {
+            return !isCompact || isSelected();
+        }
     }
 
 }
@@ -0,0 +1,99 @@
+package networkbook.ui;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.collections.ObservableList;
+import javafx.fxml.FXML;
+import javafx.scene.control.TableCell;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import javafx.scene.layout.Region;
+import networkbook.model.person.Person;
+import networkbook.model.person.Priority;
+
+/**
+ * Panel containing the list of persons as a table, with one row per person and one column per field,
+ * so that many more persons fit on screen than in a {@code PersonListPanel}.
+ * Rows have a fixed height so that they are not measured, and the text of a cell is only formatted
+ * when the cell is displayed.
+ */
+public class PersonTablePanel extends UiPart<Region> {
+    private static final String FXML = "PersonTablePanel.fxml";
+    private static final String VALUE_DELIMITER = ", ";
+
+    @FXML
+    private TableView<Person> personTableView;
+
+    /**
+     * Creates a {@code PersonTablePanel} with the given {@code ObservableList}.
+     */
+    public PersonTablePanel(ObservableList<Person> personList) {
+        super(FXML);
+        personTableView.setItems(personList);
+        personTableView.getColumns().add(createIndexColumn());
+        addColumn("Name", 160, PersonCardViewModel::getName);
+        addColumn("Phones", 160, viewModel -> joinValues(viewModel.getPhones()));
+        addColumn("Emails", 200, viewModel -> joinValues(viewModel.getEmails()));
+        addColumn("Links", 200, viewModel -> joinValues(viewModel.getLinks()));
+        addColumn("Graduation", 100, viewModel ->
+                viewModel.getGraduation().map(PersonCardViewModel.Field::getValue).orElse(""));
+        addColumn("Courses", 160, viewModel -> joinValues(viewModel.getCourses()));
+        addColumn("Specialisations", 160, viewModel -> joinValues(viewModel.getSpecialisations()));
+        addColumn("Tags", 140, viewModel -> joinValues(viewModel.getTags()));
+        addColumn("Priority", 70, viewModel -> viewModel.getPriority().map(Priority::toString).orElse(""));
+    }
+
+    private static TableColumn<Person, Person> createIndexColumn() {
+        TableColumn<Person, Person> column = new TableColumn<>("#");
+        column.setPrefWidth(50);
+        column.setSortable(false);
+        column.setCellValueFactory(features -> new ReadOnlyObjectWrapper<>(features.getValue()));
+        column.setCellFactory(tableColumn -> new TableCell<>() {
+            @Override
+            protected void updateItem(Person person, boolean empty) {
+                super.updateItem(person, empty);
+                setText(empty || person == null ? null : Integer.toString(getIndex() + 1));
+            }
+        });
+        return column;
+    }
+
+    /**
+     * Adds a column with the text that {@code formatter} gives for the view model of the person in each row.
+     * Columns are not sortable, as the persons are sorted by the sort command.
+     */
+    private void addColumn(String header, double width, Function<PersonCardViewModel, String> formatter) {
+        TableColumn<Person, Person> column = new TableColumn<>(header);
+        column.setPrefWidth(width);
+        column.setSortable(false);
+        column.setCellValueFactory(features -> new ReadOnlyObjectWrapper<>(features.getValue()));
+        column.setCellFactory(tableColumn -> new PersonTableCell(formatter));
+        personTableView.getColumns().add(column);
+    }
+
+    private static String joinValues(List<PersonCardViewModel.Field> fields) {
+        return fields.stream().map(PersonCardViewModel.Field::getValue).collect(Collectors.joining(VALUE_DELIMITER));
+    }
+
+    /**
+     * Custom {@code TableCell} that formats the text of a field of the {@code Person} in its row
+     * only when the cell is displayed.
+     */
+    static class PersonTableCell extends TableCell<Person, Person> {
+        private final Function<PersonCardViewModel, String> formatter;
+
+        PersonTableCell(Function<PersonCardViewModel, String> formatter) {
+            this.formatter = formatter;
+        }
+
+        @Override
+        protected void updateItem(Person person, boolean empty) {
+            super.updateItem(person, empty);
+            setText(empty || person == null ? null : formatter.apply(PersonCardViewModel.of(person)));
+        }
+    }
+
+}
@@ -17,6 +17,13 @@ public class PriorityFieldLabel extends FieldLabel {
      */
     public PriorityFieldLabel(Priority priority) {
         super("");
+        setPriority(priority);
+    }
+
+    /**
+     * Displays {@code priority} in place of the priority displayed so far.
+     */
+    public void setPriority(Priority priority) {
         requireAllNonNull(priority);
         StringBuilder labelText = new StringBuilder("");
         switch (priority.getPriorityLevel()) {
@@ -33,6 +40,7 @@ public class PriorityFieldLabel extends FieldLabel {
             break;
         }
         this.setText(labelText.toString());
+        this.getStyleClass().removeIf(styleClass -> styleClass.startsWith(PRIORITY_STYLE_CLASS_PREFIX));
         this.getStyleClass().add(PRIORITY_STYLE_CLASS_PREFIX + priority.toString());
     }
 
@@ -5,7 +5,9 @@ import java.nio.file.Paths;
 
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
+import javafx.scene.control.ProgressIndicator;
 import javafx.scene.layout.Region;
+import networkbook.model.DisplayedPage;
 import networkbook.model.person.PersonSortComparator.SortField;
 import networkbook.model.person.PersonSortComparator.SortOrder;
 
@@ -17,6 +19,7 @@ public class StatusBarFooter extends UiPart<Region> {
     private static final String FXML = "StatusBarFooter.fxml";
     private static final String FILTER_INDICATOR_FORMAT = "[ Filter by: %s ]";
     private static final String SORT_INDICATOR_FORMAT = "[ Sort by: %s%s ]";
+    private static final String PAGE_INDICATOR_FORMAT = "[ Page %d of %d, %d contacts ]";
 
     @FXML
     private Label saveLocationStatus;
@@ -24,6 +27,12 @@ public class StatusBarFooter extends UiPart<Region> {
     private Label filterStatus;
     @FXML
     private Label sortStatus;
+    @FXML
+    private Label pageStatus;
+    @FXML
+    private ProgressIndicator busyIndicator;
+    @FXML
+    private Label busyStatus;
 
     /**
      * Creates a {@code StatusBarFooter} with the given {@code Path}.
@@ -33,6 +42,24 @@ public class StatusBarFooter extends UiPart<Region> {
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
         updateFilterStatus("none");
         updateSortStatus(SortField.NAME, SortOrder.ASCENDING);
+        busyIndicator.managedProperty().bind(busyIndicator.visibleProperty());
+    }
+
+    /**
+     * Shows a spinner with what the running commands are doing.
+     * @param status Stage that the running commands have reached.
+     */
+    public void showBusyStatus(String status) {
+        busyStatus.setText(status + "...");
+        busyIndicator.setVisible(true);
+    }
+
+    /**
+     * Hides the spinner once no command is running.
+     */
+    public void hideBusyStatus() {
+        busyStatus.setText("");
+        busyIndicator.setVisible(false);
     }
 
     /**
@@ -52,4 +79,15 @@ public class StatusBarFooter extends UiPart<Region> {
         String displayedOrder = ", with order: " + order.toString().toLowerCase();
         sortStatus.setText(String.format(SORT_INDICATOR_FORMAT, field.toString().toLowerCase(), displayedOrder));
     }
+
+    /**
+     * Updates displayed page status, which is only shown when the list is split into pages.
+     * @param page Page that is currently displayed.
+     */
+    public void updatePageStatus(DisplayedPage page) {
+        pageStatus.setText(page.isPaged()
+                ? String.format(PAGE_INDICATOR_FORMAT, page.getPageIndex() + 1, page.getPageCount(),
+                        page.getMatchCount())
+                : "");
+    }
 }
@@ -0,0 +1,40 @@
+package networkbook.commons.util;
+
+import static networkbook.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import org.junit.jupiter.api.Test;
+
+public class PhoneticUtilTest {
+
+    @Test
+    public void encode_nullWord_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PhoneticUtil.encode(null));
+    }
+
+    @Test
+    public void encode_soundAlikeSpellings_sameCode() {
+        assertEquals("NKYN", PhoneticUtil.encode("Nguyen"));
+        assertEquals("NKYN", PhoneticUtil.encode("ngyuen"));
+        assertEquals("NKYN", PhoneticUtil.encode("Nguy\u1ec5n"));
+        assertEquals(PhoneticUtil.encode("Smith"), PhoneticUtil.encode("Smyth"));
+        assertEquals(PhoneticUtil.encode("Philip"), PhoneticUtil.encode("Filip"));
+        assertEquals(PhoneticUtil.encode("Katherine"), PhoneticUtil.encode("Catherine"));
+        assertEquals(PhoneticUtil.encode("Knight"), PhoneticUtil.encode("Nite"));
+        assertEquals(PhoneticUtil.encode("Tran"), PhoneticUtil.encode("\u0110ran"));
+    }
+
+    @Test
+    public void encode_differentSounds_differentCodes() {
+        assertNotEquals(PhoneticUtil.encode("Nguyen"), PhoneticUtil.encode("Newman"));
+        assertNotEquals(PhoneticUtil.encode("Kurz"), PhoneticUtil.encode("Kunz"));
+    }
+
+    @Test
+    public void encode_leadingVowelKeptAndNonLettersDropped() {
+        assertEquals("ALS", PhoneticUtil.encode("Alice"));
+        assertEquals("ALS", PhoneticUtil.encode("Alyce2"));
+        assertEquals("", PhoneticUtil.encode("123"));
+    }
+}
@@ -1,10 +1,13 @@
 package networkbook.commons.util;
 
 import static networkbook.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.FileNotFoundException;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -205,6 +208,43 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsTermIgnoreCase("Aab", "aa")); // Only one word in sentence (boundary case)
         assertTrue(StringUtil.containsTermIgnoreCase("aaa bbb ccc", "  cc  ")); // Leading/trailing spaces
     }
+
+    //---------------- Tests for normalize and containsAnyNormalizedTerm --------------------------------------
+
+    @Test
+    public void normalize_trimsAndLowerCases() {
+        assertEquals("abc def", StringUtil.normalize("  ABc Def "));
+        assertArrayEquals(new String[] {"aa", "b"}, StringUtil.normalizeAll(List.of("AA", " b ")));
+    }
+
+    @Test
+    public void containsAnyNormalizedTerm_sameResultsAsContainsTermIgnoreCase() {
+        List<String> sentences = List.of("", "aaa bBb ccc@1", "  AAA   bBb   ccc  ", "Aab");
+        List<String> terms = List.of("Aa", "cc@1", "bbbb", "B", "ccc");
+        for (String sentence : sentences) {
+            for (String term : terms) {
+                assertEquals(StringUtil.containsTermIgnoreCase(sentence, term),
+                        StringUtil.containsAnyNormalizedTerm(StringUtil.normalize(sentence),
+                                StringUtil.normalizeAll(List.of(term))));
+            }
+        }
+        assertTrue(StringUtil.containsAnyNormalizedTerm("abc", new String[] {"x", "bc"}));
+        assertFalse(StringUtil.containsAnyNormalizedTerm("abc", new String[0]));
+    }
+
+    //---------------- Tests for editDistance --------------------------------------
+
+    @Test
+    public void editDistance_countsInsertionsDeletionsAndSubstitutions() {
+        assertEquals(0, StringUtil.editDistance("alice", "alice"));
+        assertEquals(5, StringUtil.editDistance("", "alice"));
+        assertEquals(1, StringUtil.editDistance("alce", "alice")); // insertion
+        assertEquals(1, StringUtil.editDistance("alicee", "alice")); // deletion
+        assertEquals(1, StringUtil.editDistance("alise", "alice")); // substitution
+        assertEquals(3, StringUtil.editDistance("kitten", "sitting"));
+        assertEquals(StringUtil.editDistance("sitting", "kitten"), StringUtil.editDistance("kitten", "sitting"));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
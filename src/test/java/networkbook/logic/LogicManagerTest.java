@@ -2,10 +2,20 @@ package networkbook.logic;
 
 import static networkbook.testutil.Assert.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,6 +24,7 @@ import org.junit.jupiter.api.io.TempDir;
 import networkbook.logic.commands.CommandResult;
 import networkbook.logic.commands.CommandTestUtil;
 import networkbook.logic.commands.CreateCommand;
+import networkbook.logic.commands.FindCommand;
 import networkbook.logic.commands.ListCommand;
 import networkbook.logic.commands.SaveCommand;
 import networkbook.logic.commands.exceptions.CommandException;
@@ -37,6 +48,7 @@ public class LogicManagerTest {
     public Path temporaryFolder;
 
     private Model model = new ModelManager();
+    private StorageManager storage;
     private Logic logic;
 
     @BeforeEach
@@ -44,7 +56,7 @@ public class LogicManagerTest {
         JsonNetworkBookStorage networkBookStorage =
                 new JsonNetworkBookStorage(temporaryFolder.resolve("networkBook.json"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
-        StorageManager storage = new StorageManager(networkBookStorage, userPrefsStorage);
+        storage = new StorageManager(networkBookStorage, userPrefsStorage);
         logic = new LogicManager(model, storage);
     }
 
@@ -89,6 +101,145 @@ public class LogicManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void submit_validCommand_success() throws Exception {
+        CommandResult result = logic.submit(ListCommand.COMMAND_WORD).get();
+        assertEquals(String.format(ListCommand.MESSAGE_PERSONS_LISTED_OVERVIEW, 0), result.getFeedbackToUser());
+    }
+
+    @Test
+    public void submit_invalidCommand_failsWithException() throws Exception {
+        Throwable parseFailure = logic.submit("uicfhmowqewca").handle((result, error) -> error).get();
+        assertTrue(parseFailure instanceof ParseException);
+        Throwable commandFailure = logic.submit("delete 9").handle((result, error) -> error).get();
+        assertTrue(commandFailure instanceof CommandException);
+    }
+
+    @Test
+    public void submit_queriesWhileCommandRunning_replacedQueryCancelled() throws Exception {
+        CountDownLatch canFinish = new CountDownLatch(1);
+        CountDownLatch isRunning = blockFirstQuery(canFinish);
+        CompletableFuture<CommandResult> running = logic.submit(ListCommand.COMMAND_WORD);
+        isRunning.await();
+
+        CompletableFuture<CommandResult> replaced = logic.submit(FindCommand.COMMAND_WORD + " Alice");
+        CompletableFuture<CommandResult> latest = logic.submit(FindCommand.COMMAND_WORD + " Bob");
+        assertTrue(replaced.isCancelled());
+        canFinish.countDown();
+        latest.get();
+        assertTrue(running.isDone() && !running.isCompletedExceptionally());
+    }
+
+    @Test
+    public void submit_commandBetweenQueries_earlierQueryNotCancelled() throws Exception {
+        CountDownLatch canFinish = new CountDownLatch(1);
+        CountDownLatch isRunning = blockFirstQuery(canFinish);
+        logic.submit(ListCommand.COMMAND_WORD);
+        isRunning.await();
+
+        CompletableFuture<CommandResult> earlier = logic.submit(FindCommand.COMMAND_WORD + " Alice");
+        logic.submit(SaveCommand.COMMAND_WORD);
+        CompletableFuture<CommandResult> latest = logic.submit(FindCommand.COMMAND_WORD + " Bob");
+        canFinish.countDown();
+        latest.get();
+        assertFalse(earlier.isCancelled());
+        assertTrue(earlier.isDone());
+    }
+
+    @Test
+    public void submit_withProgressListener_reportsStages() throws Exception {
+        List<CommandStage> stages = Collections.synchronizedList(new ArrayList<>());
+        logic.submit(ListCommand.COMMAND_WORD, stages::add).get();
+        assertEquals(List.of(CommandStage.QUEUED, CommandStage.EXECUTING), stages);
+
+        stages.clear();
+        logic.submit(SaveCommand.COMMAND_WORD, stages::add).get();
+        assertEquals(List.of(CommandStage.QUEUED, CommandStage.EXECUTING, CommandStage.SAVING), stages);
+    }
+
+    @Test
+    public void cancelSubmittedCommands_commandsQueued_queuedCommandsNotExecuted() throws Exception {
+        CountDownLatch canFinish = new CountDownLatch(1);
+        CountDownLatch isRunning = blockFirstQuery(canFinish);
+        CompletableFuture<CommandResult> running = logic.submit(ListCommand.COMMAND_WORD);
+        isRunning.await();
+
+        String createCommand = CreateCommand.COMMAND_WORD + CommandTestUtil.NAME_DESC_AMY;
+        CompletableFuture<CommandResult> queuedCreate = logic.submit(createCommand);
+        CompletableFuture<CommandResult> queuedFind = logic.submit(FindCommand.COMMAND_WORD + " Amy");
+        assertEquals(2, logic.cancelSubmittedCommands());
+        canFinish.countDown();
+        running.get();
+        logic.submit(ListCommand.COMMAND_WORD).get();
+
+        assertTrue(queuedCreate.isCancelled());
+        assertTrue(queuedFind.isCancelled());
+        assertTrue(model.getNetworkBook().getPersonList().isEmpty());
+        // the command that was running is not cancelled
+        assertFalse(running.isCancelled());
+        assertEquals(0, logic.cancelSubmittedCommands());
+    }
+
+    @Test
+    public void preview_filterCommands_countedWithoutChangingDisplayedList() throws Exception {
+        model = new ModelManager(TypicalPersons.getTypicalNetworkBook(), new UserPrefs());
+        logic = new LogicManager(model, storage);
+        int personCount = model.getDisplayedPersonList().size();
+
+        assertEquals(OptionalInt.of(2), logic.preview(FindCommand.COMMAND_WORD + " Meier").get());
+        assertEquals(OptionalInt.of(3), logic.preview("filter /by tag /with friends").get());
+        assertEquals(personCount, model.getDisplayedPersonList().size());
+        assertFalse(model.canUndoNetworkBook());
+
+        // the preview is combined with the filter that is applied
+        logic.submit(FindCommand.COMMAND_WORD + " Meier").get();
+        assertEquals(OptionalInt.of(1), logic.preview("filter /by tag /with owesMoney /combine and").get());
+    }
+
+    @Test
+    public void preview_notFilterCommand_empty() throws Exception {
+        assertEquals(OptionalInt.empty(), logic.preview(ListCommand.COMMAND_WORD).get());
+        assertEquals(OptionalInt.empty(), logic.preview("filter /by").get());
+    }
+
+    @Test
+    public void preview_previewsWhileCommandRunning_replacedPreviewCancelled() throws Exception {
+        CountDownLatch canFinish = new CountDownLatch(1);
+        CountDownLatch isRunning = blockFirstQuery(canFinish);
+        logic.submit(ListCommand.COMMAND_WORD);
+        isRunning.await();
+
+        CompletableFuture<OptionalInt> replaced = logic.preview(FindCommand.COMMAND_WORD + " Al");
+        CompletableFuture<OptionalInt> latest = logic.preview(FindCommand.COMMAND_WORD + " Alice");
+        assertTrue(replaced.isCancelled());
+        canFinish.countDown();
+        assertEquals(OptionalInt.of(0), latest.get());
+    }
+
+    /**
+     * Replaces the logic with one over a model that blocks the first query until {@code canFinish} counts down,
+     * and returns a latch that counts down when the first query is running.
+     */
+    private CountDownLatch blockFirstQuery(CountDownLatch canFinish) {
+        CountDownLatch isRunning = new CountDownLatch(1);
+        model = new ModelManager() {
+            @Override
+            public void updateDisplayedPersonList(Predicate<Person> predicate, Comparator<Person> comparator) {
+                if (isRunning.getCount() > 0) {
+                    isRunning.countDown();
+                    try {
+                        canFinish.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                super.updateDisplayedPersonList(predicate, comparator);
+            }
+        };
+        logic = new LogicManager(model, storage);
+        return isRunning;
+    }
+
     /**
      * Executes the command and confirms that
      * - no exceptions are thrown <br>
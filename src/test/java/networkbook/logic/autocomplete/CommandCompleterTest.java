@@ -0,0 +1,98 @@
+package networkbook.logic.autocomplete;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import networkbook.model.Model;
+import networkbook.model.ModelManager;
+import networkbook.model.NetworkBook;
+import networkbook.model.UserPrefs;
+import networkbook.testutil.PersonBuilder;
+
+public class CommandCompleterTest {
+
+    private final CommandCompleter completer = new CommandCompleter(createModel());
+
+    @Test
+    public void complete_emptyCommand_noCompletions() {
+        assertEquals(List.of(), completer.complete(""));
+        assertEquals(List.of(), completer.complete("   "));
+    }
+
+    @Test
+    public void complete_firstWord_commandWords() {
+        assertEquals(List.of(new Completion("filter", "filter "), new Completion("find", "find ")),
+                completer.complete("fi"));
+        assertEquals(List.of("exit", "explain"), getSuggestions("ex"));
+    }
+
+    @Test
+    public void complete_prefix_prefixes() {
+        assertEquals(List.of(
+                new Completion("/tag", "edit 1 /tag "),
+                new Completion("/taken", "edit 1 /taken "),
+                new Completion("/then", "edit 1 /then "),
+                new Completion("/to", "edit 1 /to "),
+                new Completion("/top", "edit 1 /top ")),
+                completer.complete("edit 1 /t"));
+    }
+
+    @Test
+    public void complete_findKeyTerm_nameWords() {
+        assertEquals(List.of(new Completion("Albert", "find bob Albert"), new Completion("Alice", "find bob Alice")),
+                completer.complete("find bob al"));
+        assertEquals(List.of(new Completion("Pauline", "find ~Pauline")), completer.complete("find ~pau"));
+        assertEquals(List.of("Albert", "Alice", "Park", "Pauline"), getSuggestions("find "));
+    }
+
+    @Test
+    public void complete_filterArguments_fieldsAndValues() {
+        assertEquals(List.of(new Completion("spec", "filter /by spec ")), completer.complete("filter /by s"));
+        assertEquals(List.of("course", "grad", "spec", "tag"), getSuggestions("filter /by "));
+        assertEquals(List.of(new Completion("mentor", "filter /by tag /with friends mentor")),
+                completer.complete("filter /by tag /with friends me"));
+        assertEquals(List.of("CS2103T", "CS2109S"), getSuggestions("filter /by course /with cs"));
+        assertEquals(List.of(), getSuggestions("filter /by grad /with 20"));
+        assertEquals(List.of("not"), getSuggestions("filter /by tag /with x /combine n"));
+    }
+
+    @Test
+    public void complete_queryClause_valuesOfField() {
+        assertEquals(List.of(new Completion("mentor", "filter tag:mentor AND tag:mentor")),
+                completer.complete("filter tag:mentor AND tag:m"));
+        assertEquals(List.of(new Completion("Software Engineering", "explain spec~\"Software Engineering\"")),
+                completer.complete("explain spec~so"));
+        assertEquals(List.of(), getSuggestions("filter grad:20"));
+    }
+
+    @Test
+    public void complete_prefixValue_valuesOfField() {
+        assertEquals(List.of(new Completion("Software Engineering", "create Bob /spec Software Engineering")),
+                completer.complete("create Bob /spec software e"));
+        assertEquals(List.of("Albert", "Alice"), getSuggestions("edit 1 /name Bob Al"));
+        assertEquals(List.of(), getSuggestions("edit 1 /phone 9"));
+    }
+
+    private List<String> getSuggestions(String commandText) {
+        return completer.complete(commandText).stream().map(Completion::getSuggestion).collect(Collectors.toList());
+    }
+
+    private static Model createModel() {
+        NetworkBook networkBook = new NetworkBook();
+        networkBook.addPerson(new PersonBuilder().withName("Alice Pauline")
+                .withTags("friends", "mentor")
+                .withCourses(List.of("CS2103T", "CS2109S"))
+                .withSpecialisations(List.of("Software Engineering"))
+                .build());
+        networkBook.addPerson(new PersonBuilder().withName("Albert Park")
+                .withTags("friends")
+                .withCourses(List.of("CS2103T"))
+                .withSpecialisations(List.of("Security"))
+                .build());
+        return new ModelManager(networkBook, new UserPrefs());
+    }
+}
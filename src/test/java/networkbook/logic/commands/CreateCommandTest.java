@@ -10,6 +10,8 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -20,13 +22,16 @@ import networkbook.commons.core.GuiSettings;
 import networkbook.commons.core.index.Index;
 import networkbook.logic.Messages;
 import networkbook.logic.commands.exceptions.CommandException;
+import networkbook.model.DisplayedPage;
 import networkbook.model.Model;
 import networkbook.model.NetworkBook;
+import networkbook.model.QueryPlan;
 import networkbook.model.ReadOnlyNetworkBook;
 import networkbook.model.ReadOnlyUserPrefs;
 import networkbook.model.person.Email;
 import networkbook.model.person.Link;
 import networkbook.model.person.Person;
+import networkbook.model.person.filter.KeyTermsField;
 import networkbook.testutil.PersonBuilder;
 import networkbook.testutil.TypicalPersons;
 
@@ -124,6 +129,31 @@ public class CreateCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public boolean isFilterPreservedOnChange() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateDisplayedPersonPage(int pageSize, int pageIndex) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public DisplayedPage getDisplayedPage() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public QueryPlan explainFilter(Predicate<Person> predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<String> getCompletions(KeyTermsField field, String prefix, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void addPerson(Person person) {
             throw new AssertionError("This method should not be called.");
@@ -185,6 +215,16 @@ public class CreateCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void setPartialMatchesListener(Consumer<List<Person>> partialMatchesListener) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int countMatches(Predicate<Person> predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean isValidLinkIndex(Index personIndex, Index linkIndex) {
             throw new AssertionError("This method should not be called.");
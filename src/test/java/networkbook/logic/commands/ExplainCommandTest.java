@@ -0,0 +1,47 @@
+package networkbook.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import networkbook.model.Model;
+import networkbook.model.ModelManager;
+import networkbook.model.UserPrefs;
+import networkbook.model.person.filter.LogicalPredicate;
+import networkbook.model.person.filter.TagsContainKeyTermsPredicate;
+import networkbook.testutil.TypicalPersons;
+
+public class ExplainCommandTest {
+    private static final TagsContainKeyTermsPredicate FRIENDS = new TagsContainKeyTermsPredicate(List.of("friends"));
+    private static final TagsContainKeyTermsPredicate OWES_MONEY =
+            new TagsContainKeyTermsPredicate(List.of("owesMoney"));
+
+    @Test
+    public void execute_query_showsPlanWithoutFiltering() {
+        Model model = new ModelManager(TypicalPersons.getTypicalNetworkBook(), new UserPrefs());
+        LogicalPredicate predicate = LogicalPredicate.and(List.of(FRIENDS, OWES_MONEY));
+
+        CommandResult result = new ExplainCommand(predicate, "tag:friends tag:owesMoney").execute(model);
+
+        assertTrue(result.getFeedbackToUser().startsWith(
+                String.format(ExplainCommand.MESSAGE_SUCCESS, "tag:friends tag:owesMoney", "AND")));
+        assertTrue(result.getFeedbackToUser().contains("INDEX tag contains [owesMoney]"));
+        assertEquals(TypicalPersons.getTypicalPersons().size(), model.getDisplayedPersonList().size());
+    }
+
+    @Test
+    public void equals() {
+        ExplainCommand command = new ExplainCommand(FRIENDS, "tag:friends");
+
+        assertEquals(command, command);
+        assertEquals(new ExplainCommand(new TagsContainKeyTermsPredicate(List.of("friends")), "tag:friends"),
+                command);
+        assertNotEquals(new ExplainCommand(OWES_MONEY, "tag:owesMoney"), command);
+        assertNotEquals(new ExplainCommand(FRIENDS, "tag: friends"), command);
+        assertNotEquals(null, command);
+    }
+}
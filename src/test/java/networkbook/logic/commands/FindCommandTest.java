@@ -13,6 +13,8 @@ import networkbook.model.Model;
 import networkbook.model.ModelManager;
 import networkbook.model.UserPrefs;
 import networkbook.model.person.NameContainsKeyTermsPredicate;
+import networkbook.model.person.NameFuzzyMatchPredicate;
+import networkbook.model.person.NameSoundsLikePredicate;
 import networkbook.testutil.TypicalPersons;
 
 /**
@@ -138,6 +140,30 @@ public class FindCommandTest {
         );
     }
 
+    @Test
+    public void execute_fuzzyKeywords_closestPersonsFirst() {
+        String expectedMessage = String.format(FindCommand.MESSAGE_FUZZY_SUCCESS, "\"meir\", \"kunz\"")
+                + String.format(FindCommand.MESSAGE_PERSONS_FOUND_OVERVIEW, 4);
+        NameFuzzyMatchPredicate predicate = new NameFuzzyMatchPredicate(Arrays.asList("meir", "kunz"));
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updateDisplayedPersonList(predicate, null);
+        CommandTestUtil.assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        // Kunz is an exact match, while Meier and Kurz are one edit away
+        assertEquals(Arrays.asList(TypicalPersons.FIONA, TypicalPersons.BENSON, TypicalPersons.CARL,
+                TypicalPersons.DANIEL), model.getDisplayedPersonList());
+    }
+
+    @Test
+    public void execute_phoneticKeywords_soundAlikePersonsFound() {
+        String expectedMessage = String.format(FindCommand.MESSAGE_PHONETIC_SUCCESS, "\"maier\"")
+                + String.format(FindCommand.MESSAGE_PERSONS_FOUND_OVERVIEW, 2);
+        NameSoundsLikePredicate predicate = new NameSoundsLikePredicate(Arrays.asList("maier"));
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updateDisplayedPersonList(predicate, null);
+        CommandTestUtil.assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(TypicalPersons.BENSON, TypicalPersons.DANIEL), model.getDisplayedPersonList());
+    }
+
     @Test
     public void toStringMethod() {
         NameContainsKeyTermsPredicate predicate = new NameContainsKeyTermsPredicate(Arrays.asList("keyword"));
@@ -0,0 +1,49 @@
+package networkbook.logic.commands;
+
+import static networkbook.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import networkbook.model.Model;
+import networkbook.model.ModelManager;
+import networkbook.model.PersonGroups.GroupField;
+import networkbook.model.UserPrefs;
+import networkbook.testutil.TypicalPersons;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for GroupCommand.
+ */
+public class GroupCommandTest {
+
+    @Test
+    public void execute_groupField_modelUnchanged() {
+        Model model = new ModelManager(TypicalPersons.getTypicalNetworkBook(), new UserPrefs());
+        Model expectedModel = new ModelManager(model.getNetworkBook(), new UserPrefs());
+        assertCommandSuccess(new GroupCommand(GroupField.TAG), model,
+                new GroupCommandResult(String.format(GroupCommand.MESSAGE_SUCCESS, "tag"), GroupField.TAG),
+                expectedModel);
+        assertCommandSuccess(new GroupCommand(GroupField.GRAD), model,
+                new GroupCommandResult(String.format(GroupCommand.MESSAGE_SUCCESS, "grad"), GroupField.GRAD),
+                expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        GroupCommand tagCommand = new GroupCommand(GroupField.TAG);
+
+        assertTrue(tagCommand.equals(tagCommand));
+        assertTrue(tagCommand.equals(new GroupCommand(GroupField.TAG)));
+        assertFalse(tagCommand.equals(null));
+        assertFalse(tagCommand.equals(1));
+        assertFalse(tagCommand.equals(new GroupCommand(GroupField.GRAD)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        GroupCommand viewCommand = new GroupCommand(GroupField.TAG);
+        assertEquals(GroupCommand.class.getCanonicalName() + "{field=TAG}", viewCommand.toString());
+    }
+}
@@ -2,6 +2,8 @@ package networkbook.logic.commands;
 
 import static networkbook.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static networkbook.logic.commands.CommandTestUtil.showPersonAtIndex;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -9,6 +11,7 @@ import org.junit.jupiter.api.Test;
 import networkbook.model.Model;
 import networkbook.model.ModelManager;
 import networkbook.model.UserPrefs;
+import networkbook.model.util.PagedList;
 import networkbook.testutil.TypicalIndexes;
 import networkbook.testutil.TypicalPersons;
 
@@ -33,6 +36,37 @@ public class ListCommandTest {
                 expectedModel);
     }
 
+    @Test
+    public void execute_limit_showsFirstPage() {
+        expectedModel.updateDisplayedPersonPage(3, 0);
+        assertCommandSuccess(new ListCommand(3), model,
+                String.format(ListCommand.MESSAGE_PERSONS_PAGED_OVERVIEW, 3, 7),
+                expectedModel);
+    }
+
+    @Test
+    public void execute_listIsPaged_showsEverything() {
+        model.updateDisplayedPersonPage(3, 2);
+        assertCommandSuccess(new ListCommand(), model,
+                String.format(ListCommand.MESSAGE_PERSONS_LISTED_OVERVIEW, 7),
+                expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        ListCommand listCommand = new ListCommand();
+
+        // same values -> returns true
+        assertTrue(listCommand.equals(new ListCommand(PagedList.NO_PAGE_SIZE)));
+        assertTrue(new ListCommand(5).equals(new ListCommand(5)));
+
+        // different page size -> returns false
+        assertFalse(listCommand.equals(new ListCommand(5)));
+
+        // different types -> returns false
+        assertFalse(listCommand.equals(1));
+    }
+
     @Test
     public void execute_listIsFiltered_showsEverything() {
         showPersonAtIndex(model, TypicalIndexes.INDEX_FIRST_PERSON);
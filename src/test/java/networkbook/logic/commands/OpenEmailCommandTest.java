@@ -10,6 +10,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -18,14 +20,17 @@ import javafx.collections.ObservableList;
 import networkbook.commons.core.GuiSettings;
 import networkbook.commons.core.index.Index;
 import networkbook.logic.Messages;
+import networkbook.model.DisplayedPage;
 import networkbook.model.Model;
 import networkbook.model.ModelManager;
+import networkbook.model.QueryPlan;
 import networkbook.model.ReadOnlyNetworkBook;
 import networkbook.model.ReadOnlyUserPrefs;
 import networkbook.model.UserPrefs;
 import networkbook.model.person.Email;
 import networkbook.model.person.Link;
 import networkbook.model.person.Person;
+import networkbook.model.person.filter.KeyTermsField;
 import networkbook.testutil.TypicalIndexes;
 import networkbook.testutil.TypicalPersons;
 
@@ -119,6 +124,34 @@ public class OpenEmailCommandTest {
         public void updateDisplayedPersonList(Predicate<Person> predicate, Comparator<Person> comparator) {
             throw new AssertionError("This method should not be called.");
         }
+
+        public void setPartialMatchesListener(Consumer<List<Person>> partialMatchesListener) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        public int countMatches(Predicate<Person> predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        public boolean isFilterPreservedOnChange() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        public void updateDisplayedPersonPage(int pageSize, int pageIndex) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        public DisplayedPage getDisplayedPage() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        public QueryPlan explainFilter(Predicate<Person> predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        public List<String> getCompletions(KeyTermsField field, String prefix, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
     };
 
     @Test
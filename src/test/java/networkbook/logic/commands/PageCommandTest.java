@@ -0,0 +1,95 @@
+package networkbook.logic.commands;
+
+import static networkbook.logic.commands.CommandTestUtil.assertCommandFailure;
+import static networkbook.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static networkbook.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import networkbook.commons.core.index.Index;
+import networkbook.logic.commands.exceptions.CommandException;
+import networkbook.model.Model;
+import networkbook.model.ModelManager;
+import networkbook.model.UserPrefs;
+import networkbook.testutil.TypicalPersons;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for PageCommand.
+ */
+public class PageCommandTest {
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(TypicalPersons.getTypicalNetworkBook(), new UserPrefs());
+        expectedModel = new ModelManager(model.getNetworkBook(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_notPaged_throwsCommandException() {
+        assertCommandFailure(PageCommand.byOffset(1), model, PageCommand.MESSAGE_NOT_PAGED);
+    }
+
+    @Test
+    public void execute_targetPage_showsTargetPage() {
+        model.updateDisplayedPersonPage(3, 0);
+        expectedModel.updateDisplayedPersonPage(3, 2);
+        assertCommandSuccess(PageCommand.toPage(Index.fromOneBased(3)), model,
+                String.format(PageCommand.MESSAGE_SUCCESS, 3, 3, 1, 7), expectedModel);
+    }
+
+    @Test
+    public void execute_nextAndPreviousPage_showsAdjacentPage() {
+        model.updateDisplayedPersonPage(3, 0);
+        expectedModel.updateDisplayedPersonPage(3, 1);
+        assertCommandSuccess(PageCommand.byOffset(1), model,
+                String.format(PageCommand.MESSAGE_SUCCESS, 2, 3, 3, 7), expectedModel);
+
+        expectedModel.updateDisplayedPersonPage(3, 0);
+        assertCommandSuccess(PageCommand.byOffset(-1), model,
+                String.format(PageCommand.MESSAGE_SUCCESS, 1, 3, 3, 7), expectedModel);
+    }
+
+    @Test
+    public void execute_pageOutOfRange_throwsCommandException() {
+        model.updateDisplayedPersonPage(3, 0);
+        String expectedMessage = String.format(PageCommand.MESSAGE_INVALID_PAGE, 3);
+        assertThrows(CommandException.class, expectedMessage, () -> PageCommand.byOffset(-1).execute(model));
+        assertThrows(CommandException.class, expectedMessage, () ->
+                PageCommand.toPage(Index.fromOneBased(4)).execute(model));
+        assertEquals(0, model.getDisplayedPage().getPageIndex());
+    }
+
+    @Test
+    public void equals() {
+        PageCommand nextCommand = PageCommand.byOffset(1);
+        PageCommand firstPageCommand = PageCommand.toPage(Index.fromOneBased(1));
+
+        // same values -> returns true
+        assertTrue(nextCommand.equals(PageCommand.byOffset(1)));
+        assertTrue(firstPageCommand.equals(PageCommand.toPage(Index.fromOneBased(1))));
+
+        // different types -> returns false
+        assertFalse(nextCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(nextCommand.equals(null));
+
+        // different pages -> returns false
+        assertFalse(nextCommand.equals(PageCommand.byOffset(-1)));
+        assertFalse(nextCommand.equals(firstPageCommand));
+    }
+
+    @Test
+    public void toStringMethod() {
+        PageCommand pageCommand = PageCommand.byOffset(1);
+        String expected = PageCommand.class.getCanonicalName() + "{targetPage=null, pageOffset=1}";
+        assertEquals(expected, pageCommand.toString());
+    }
+}
@@ -69,11 +69,36 @@ public class SortCommandTest {
         );
     }
 
+    @Test
+    public void execute_topCount_showsFirstPageOfSortedList() {
+        PersonSortComparator comparator = new PersonSortComparator(SortField.NAME, SortOrder.DESCENDING);
+        Model model = new ModelManager(TypicalPersons.getTypicalNetworkBook(), new UserPrefs());
+        Model expectedModel = new ModelManager(TypicalPersons.getTypicalNetworkBook(), new UserPrefs());
+        expectedModel.updateDisplayedPersonList(null, comparator);
+        expectedModel.updateDisplayedPersonPage(2, 0);
+        String expectedMessage = String.format(Messages.MESSAGE_PERSONS_SORTED_OVERVIEW, 2);
+        CommandTestUtil.assertCommandSuccess(new SortCommand(comparator, 2), model, expectedMessage, expectedModel);
+
+        List<Person> expectedPersons = TypicalPersons.getTypicalPersons();
+        Collections.reverse(expectedPersons);
+        assertEquals(expectedPersons.subList(0, 2), model.getDisplayedPersonList());
+    }
+
+    @Test
+    public void execute_noTopCountWhenPaged_keepsPageSize() {
+        PersonSortComparator comparator = new PersonSortComparator(SortField.GRAD, SortOrder.ASCENDING);
+        Model model = new ModelManager(TypicalPersons.getTypicalNetworkBook(), new UserPrefs());
+        model.updateDisplayedPersonPage(3, 1);
+        new SortCommand(comparator).execute(model);
+        assertEquals(3, model.getDisplayedPage().getPageSize());
+        assertEquals(0, model.getDisplayedPage().getPageIndex());
+    }
+
     @Test
     public void toStringMethod() {
         PersonSortComparator comparator = new PersonSortComparator(SortField.NAME, SortOrder.DESCENDING);
         SortCommand sortCommand = new SortCommand(comparator);
-        String expected = SortCommand.class.getCanonicalName() + "{comparator=" + comparator + "}";
+        String expected = SortCommand.class.getCanonicalName() + "{comparator=" + comparator + ", topCount=0}";
         assertEquals(expected, sortCommand.toString());
     }
 
@@ -0,0 +1,52 @@
+package networkbook.logic.commands;
+
+import static networkbook.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import networkbook.logic.commands.ViewCommand.ViewMode;
+import networkbook.model.Model;
+import networkbook.model.ModelManager;
+import networkbook.model.UserPrefs;
+import networkbook.testutil.TypicalPersons;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for ViewCommand.
+ */
+public class ViewCommandTest {
+
+    @Test
+    public void execute_viewMode_modelUnchanged() {
+        Model model = new ModelManager(TypicalPersons.getTypicalNetworkBook(), new UserPrefs());
+        Model expectedModel = new ModelManager(model.getNetworkBook(), new UserPrefs());
+        assertCommandSuccess(new ViewCommand(ViewMode.TABLE), model,
+                new ViewCommandResult(String.format(ViewCommand.MESSAGE_SUCCESS, "a table"), ViewMode.TABLE),
+                expectedModel);
+        assertCommandSuccess(new ViewCommand(ViewMode.CARDS), model,
+                new ViewCommandResult(String.format(ViewCommand.MESSAGE_SUCCESS, "cards"), ViewMode.CARDS),
+                expectedModel);
+        assertCommandSuccess(new ViewCommand(ViewMode.COMPACT), model,
+                new ViewCommandResult(String.format(ViewCommand.MESSAGE_SUCCESS, "compact cards"), ViewMode.COMPACT),
+                expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        ViewCommand tableCommand = new ViewCommand(ViewMode.TABLE);
+
+        assertTrue(tableCommand.equals(tableCommand));
+        assertTrue(tableCommand.equals(new ViewCommand(ViewMode.TABLE)));
+        assertFalse(tableCommand.equals(null));
+        assertFalse(tableCommand.equals(1));
+        assertFalse(tableCommand.equals(new ViewCommand(ViewMode.CARDS)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        ViewCommand viewCommand = new ViewCommand(ViewMode.TABLE);
+        assertEquals(ViewCommand.class.getCanonicalName() + "{viewMode=TABLE}", viewCommand.toString());
+    }
+}
@@ -63,6 +63,9 @@ public class FilterCourseCommandTest {
                 new FilterCourseCommand(firstKeyTermsPredicate, secondTakenPredicate, true));
         assertNotEquals(firstCommand,
                 new FilterCourseCommand(firstKeyTermsPredicate, firstTakenPredicate, false));
+        assertNotEquals(firstCommand,
+                new FilterCourseCommand(firstKeyTermsPredicate, firstTakenPredicate, true, true,
+                        FilterCommand.Combination.REPLACE));
 
         // null -> returns false
         assertNotEquals(firstCommand, null);
@@ -80,7 +83,8 @@ public class FilterCourseCommandTest {
         String expected = FilterCourseCommand.class.getCanonicalName()
                 + "{predicate=" + keyTermsPredicate
                 + ", time=" + takenPredicate
-                + ", taken=true}";
+                + ", taken=true"
+                + ", periodGiven=false}";
         assertEquals(expected, new FilterCourseCommand(keyTermsPredicate, takenPredicate, true).toString());
     }
 
@@ -235,6 +239,60 @@ public class FilterCourseCommandTest {
         CommandTestUtil.assertCommandSuccess(command, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_onDate_takenOnMessage() {
+        NetworkBook testNetworkBook = new NetworkBook();
+        testNetworkBook.addPerson(personWithDatedCourse);
+        testNetworkBook.addPerson(personWithUndatedCourse1);
+
+        Model model = new ModelManager(testNetworkBook, new UserPrefs());
+        Model expectedModel = new ModelManager(testNetworkBook, new UserPrefs());
+
+        CourseContainsKeyTermsPredicate keyPredicate = new CourseContainsKeyTermsPredicate(List.of("First"));
+        CourseIsStillBeingTakenPredicate takenPredicate =
+                new CourseIsStillBeingTakenPredicate(LocalDate.of(2000, 1, 2));
+
+        FilterCommand command = new FilterCourseCommand(keyPredicate, takenPredicate, true, true,
+                FilterCommand.Combination.REPLACE);
+
+        String expectedMessage = String.format(FilterCourseCommand.MESSAGE_SUCCESS, "\"First\"")
+                + String.format(FilterCourseCommand.MESSAGE_TAKEN_ON, "02-01-2000")
+                + String.format(FilterCommand.MESSAGE_PERSONS_FOUND_OVERVIEW, 2);
+
+        expectedModel.updateDisplayedPersonList(
+                p -> keyPredicate.getCourses(p)
+                        .stream()
+                        .anyMatch(c -> takenPredicate.test(c)),
+                null
+        );
+
+        CommandTestUtil.assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_period_takenDuringMessage() {
+        NetworkBook testNetworkBook = new NetworkBook();
+        testNetworkBook.addPerson(personWithDatedCourse);
+
+        Model model = new ModelManager(testNetworkBook, new UserPrefs());
+        Model expectedModel = new ModelManager(testNetworkBook, new UserPrefs());
+
+        CourseContainsKeyTermsPredicate keyPredicate = new CourseContainsKeyTermsPredicate(List.of("First"));
+        CourseIsStillBeingTakenPredicate takenPredicate =
+                new CourseIsStillBeingTakenPredicate(LocalDate.of(2000, 1, 4), LocalDate.of(2000, 2, 1));
+
+        FilterCommand command = new FilterCourseCommand(keyPredicate, takenPredicate, true, true,
+                FilterCommand.Combination.REPLACE);
+
+        String expectedMessage = String.format(FilterCourseCommand.MESSAGE_SUCCESS, "\"First\"")
+                + String.format(FilterCourseCommand.MESSAGE_TAKEN_DURING, "04-01-2000", "01-02-2000")
+                + String.format(FilterCommand.MESSAGE_PERSONS_FOUND_OVERVIEW, 0);
+
+        expectedModel.updateDisplayedPersonList(person -> false, null);
+
+        CommandTestUtil.assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
     @Test
     public void execute_partialMatchingKeyword_peopleFound() {
         NetworkBook testNetworkBook = new NetworkBook();
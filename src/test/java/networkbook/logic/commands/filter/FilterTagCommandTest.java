@@ -14,6 +14,7 @@ import networkbook.model.ModelManager;
 import networkbook.model.NetworkBook;
 import networkbook.model.UserPrefs;
 import networkbook.model.person.Person;
+import networkbook.model.person.filter.LogicalPredicate;
 import networkbook.model.person.filter.TagsContainKeyTermsPredicate;
 import networkbook.testutil.PersonBuilder;
 
@@ -158,4 +159,26 @@ public class FilterTagCommandTest {
 
         CommandTestUtil.assertCommandSuccess(command, model, expectedMessage, expectedModel);
     }
+
+    @Test
+    public void execute_combinedWithCurrentFilter_combinesPredicates() {
+        NetworkBook testBook = new NetworkBook();
+        testBook.addPerson(personA);
+        testBook.addPerson(personB);
+
+        Model model = new ModelManager(testBook, new UserPrefs());
+        TagsContainKeyTermsPredicate tagA = new TagsContainKeyTermsPredicate(List.of("A"));
+        TagsContainKeyTermsPredicate tagB = new TagsContainKeyTermsPredicate(List.of("B"));
+        model.updateDisplayedPersonList(tagA, null);
+
+        FilterCommand command = new FilterTagCommand(tagB, FilterCommand.Combination.NOT);
+        Model expectedModel = new ModelManager(testBook, new UserPrefs());
+        expectedModel.updateDisplayedPersonList(LogicalPredicate.and(List.of(tagA, LogicalPredicate.not(tagB))), null);
+
+        String expectedMessage = String.format(FilterTagCommand.MESSAGE_SUCCESS, "\"B\"")
+                + String.format(FilterCommand.MESSAGE_COMBINED, "NOT")
+                + String.format(FilterCommand.MESSAGE_PERSONS_FOUND_OVERVIEW, 1);
+        CommandTestUtil.assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(List.of(personA), model.getDisplayedPersonList());
+    }
 }
@@ -2,6 +2,7 @@ package networkbook.logic.parser;
 
 import static networkbook.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static networkbook.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.LocalDate;
@@ -13,11 +14,17 @@ import networkbook.logic.Messages;
 import networkbook.logic.commands.filter.FilterCommand;
 import networkbook.logic.commands.filter.FilterCourseCommand;
 import networkbook.logic.commands.filter.FilterGradCommand;
+import networkbook.logic.commands.filter.FilterQueryCommand;
 import networkbook.logic.commands.filter.FilterSpecCommand;
 import networkbook.logic.commands.filter.FilterTagCommand;
+import networkbook.model.person.Course;
+import networkbook.model.person.Graduation;
 import networkbook.model.person.filter.CourseContainsKeyTermsPredicate;
 import networkbook.model.person.filter.CourseIsStillBeingTakenPredicate;
 import networkbook.model.person.filter.GradEqualsOneOfPredicate;
+import networkbook.model.person.filter.GradInAnyRangePredicate;
+import networkbook.model.person.filter.GradRange;
+import networkbook.model.person.filter.TagsContainKeyTermsPredicate;
 
 public class FilterCommandParserTest {
 
@@ -128,7 +135,7 @@ public class FilterCommandParserTest {
 
     @Test
     public void parseGrad_invalidArgs_throwsParseException() {
-        assertParseFailure(parser, "filter /by grad /with ahhh", FilterGradCommand.ALL_NUMBERS);
+        assertParseFailure(parser, "filter /by grad /with ahhh", FilterGradCommand.INVALID_GRAD_TERMS);
     }
 
     @Test
@@ -141,4 +148,90 @@ public class FilterCommandParserTest {
         // multiple whitespaces
         assertParseSuccess(parser, "filter /by grad /with 2022   2023", expectedCommand);
     }
+
+    @Test
+    public void parseGrad_rangeArgs_returnsFilterGradCommand() {
+        FilterGradCommand expectedCommand = new FilterGradCommand(new GradInAnyRangePredicate(List.of(
+                GradRange.ofYears(2020, 2024),
+                new GradRange(new Graduation("AY2223-S1").getPackedValue(), GradRange.NO_UPPER_BOUND),
+                new GradRange(GradRange.NO_LOWER_BOUND, GradRange.getFirstPackedValue(2019) - 1),
+                new GradRange(new Graduation("AY1819-S2").getPackedValue(), GradRange.getLastPackedValue(2019)))));
+        assertParseSuccess(parser, "filter /by grad /with 2020-2024 >=ay2223-s1 <2019 AY1819-S2-2019",
+                expectedCommand);
+    }
+
+    @Test
+    public void parseGrad_invalidRangeArgs_throwsParseException() {
+        assertParseFailure(parser, "filter /by grad /with 2024-2020", FilterGradCommand.EMPTY_GRAD_RANGE);
+        assertParseFailure(parser, "filter /by grad /with >=AY2223-S3", Graduation.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "filter /by grad /with 2020 =>2022", FilterGradCommand.INVALID_GRAD_TERMS);
+        assertParseFailure(parser, "filter /by grad /with 20200-2024", FilterGradCommand.INVALID_GRAD_TERMS);
+    }
+
+    @Test
+    public void parseCourse_onDate_returnsFilterCourseCommand() {
+        FilterCourseCommand expectedCommand = new FilterCourseCommand(
+                new CourseContainsKeyTermsPredicate(List.of("Alice")),
+                new CourseIsStillBeingTakenPredicate(LocalDate.of(2023, 3, 1)), true, true,
+                FilterCommand.Combination.REPLACE);
+        assertParseSuccess(parser, "filter /by course /with Alice /on 01-03-2023", expectedCommand);
+    }
+
+    @Test
+    public void parseCourse_period_returnsFilterCourseCommand() {
+        FilterCourseCommand expectedCommand = new FilterCourseCommand(
+                new CourseContainsKeyTermsPredicate(List.of("Alice", "Bob")),
+                new CourseIsStillBeingTakenPredicate(LocalDate.of(2022, 1, 1), LocalDate.of(2022, 12, 31)),
+                true, true, FilterCommand.Combination.REPLACE);
+        assertParseSuccess(parser, "filter /by course /with Alice Bob /from 01-01-2022 /to 31-12-2022",
+                expectedCommand);
+    }
+
+    @Test
+    public void parseCourse_invalidDates_throwsParseException() {
+        assertParseFailure(parser, "filter /by course /with Alice /on 2023-03-01", Course.DATE_CONSTRAINTS);
+        assertParseFailure(parser, "filter /by course /with Alice /from 01-01-2022",
+                FilterCommandParser.INCOMPLETE_COURSE_PERIOD);
+        assertParseFailure(parser, "filter /by course /with Alice /from 02-01-2022 /to 01-01-2022",
+                FilterCommandParser.REVERSED_COURSE_PERIOD);
+        assertParseFailure(parser, "filter /by course /with Alice /on 01-01-2022 /from 01-01-2022 /to 02-01-2022",
+                FilterCommandParser.CONFLICTING_COURSE_DATES);
+        assertParseFailure(parser, "filter /by course /with Alice /taken true /on 01-01-2022",
+                FilterCommandParser.CONFLICTING_COURSE_DATES);
+    }
+
+    @Test
+    public void parse_combine_setsCombination() throws Exception {
+        FilterCommand expectedCommand = new FilterTagCommand(new TagsContainKeyTermsPredicate(List.of("a", "b")),
+                FilterCommand.Combination.OR);
+        assertParseSuccess(parser, "filter /by tag /with a b /combine OR", expectedCommand);
+
+        FilterCommand command = parser.parse("filter /by course /with a /taken true /combine not");
+        assertEquals(FilterCommand.Combination.NOT, command.getCombination());
+        assertEquals(FilterCommand.Combination.REPLACE, parser.parse("filter /by spec /with a").getCombination());
+    }
+
+    @Test
+    public void parse_invalidCombine_throwsParseException() {
+        assertParseFailure(parser, "filter /by tag /with a /combine xor", FilterCommandParser.INVALID_COMBINATION);
+    }
+
+    @Test
+    public void parse_query_returnsFilterQueryCommand() throws Exception {
+        String query = "tag:mentor AND (grad:2024..2026 OR priority:high) AND name~\"tan\"";
+        assertParseSuccess(parser, " " + query, new FilterQueryCommand(QueryParser.parseQuery(query), query));
+        assertParseFailure(parser, "mentor", String.format(QueryParser.MESSAGE_INVALID_CLAUSE, "mentor"));
+    }
+
+    @Test
+    public void parse_queryWithCombine_setsCombination() throws Exception {
+        String query = "tag:mentor grad:2024";
+        FilterCommand expectedCommand =
+                new FilterQueryCommand(QueryParser.parseQuery(query), query, FilterCommand.Combination.AND);
+        assertParseSuccess(parser, " " + query + " /combine and", expectedCommand);
+
+        assertParseFailure(parser, " " + query + " /combine xor", FilterCommandParser.INVALID_COMBINATION);
+        assertParseFailure(parser, " " + query + " /combine and /combine or",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_FILTER_COMBINE));
+    }
 }
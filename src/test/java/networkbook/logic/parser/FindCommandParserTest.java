@@ -10,6 +10,8 @@ import org.junit.jupiter.api.Test;
 import networkbook.logic.Messages;
 import networkbook.logic.commands.FindCommand;
 import networkbook.model.person.NameContainsKeyTermsPredicate;
+import networkbook.model.person.NameFuzzyMatchPredicate;
+import networkbook.model.person.NameSoundsLikePredicate;
 
 public class FindCommandParserTest {
 
@@ -32,4 +34,24 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_fuzzyArgs_returnsFuzzyFindCommand() {
+        FindCommand expectedFindCommand =
+                new FindCommand(new NameFuzzyMatchPredicate(Arrays.asList("Alise", "Bobb")));
+        assertParseSuccess(parser, "~Alise Bobb", expectedFindCommand);
+        assertParseSuccess(parser, " ~ Alise  Bobb ", expectedFindCommand);
+        assertParseFailure(parser, " ~ ",
+                String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_phoneticArgs_returnsPhoneticFindCommand() {
+        FindCommand expectedFindCommand =
+                new FindCommand(new NameSoundsLikePredicate(Arrays.asList("Ngyuen", "Maier")));
+        assertParseSuccess(parser, "?Ngyuen Maier", expectedFindCommand);
+        assertParseSuccess(parser, " ? Ngyuen \t Maier ", expectedFindCommand);
+        assertParseFailure(parser, "?",
+                String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
 }
@@ -0,0 +1,34 @@
+package networkbook.logic.parser;
+
+import static networkbook.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static networkbook.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import networkbook.logic.Messages;
+import networkbook.logic.commands.GroupCommand;
+import networkbook.model.PersonGroups;
+import networkbook.model.PersonGroups.GroupField;
+
+public class GroupCommandParserTest {
+
+    private GroupCommandParser parser = new GroupCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsGroupCommand() {
+        assertParseSuccess(parser, " /by grad", new GroupCommand(GroupField.GRAD));
+        assertParseSuccess(parser, " /by Priority ", new GroupCommand(GroupField.PRIORITY));
+        assertParseSuccess(parser, " /by tag", new GroupCommand(GroupField.TAG));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, GroupCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, " tag", expectedMessage);
+        assertParseFailure(parser, " tag /by grad", expectedMessage);
+        assertParseFailure(parser, " /by name", PersonGroups.MESSAGE_CONSTRAINTS_FIELD);
+        assertParseFailure(parser, " /by grad /by tag",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_GROUP_FIELD));
+    }
+}
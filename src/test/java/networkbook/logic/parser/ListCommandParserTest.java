@@ -0,0 +1,35 @@
+package networkbook.logic.parser;
+
+import static networkbook.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static networkbook.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import networkbook.logic.Messages;
+import networkbook.logic.commands.ListCommand;
+
+public class ListCommandParserTest {
+
+    private ListCommandParser parser = new ListCommandParser();
+
+    @Test
+    public void parse_noLimit_returnsListCommand() {
+        assertParseSuccess(parser, "", new ListCommand());
+        assertParseSuccess(parser, " 3", new ListCommand());
+    }
+
+    @Test
+    public void parse_validLimit_returnsListCommand() {
+        assertParseSuccess(parser, " /limit 20", new ListCommand(20));
+        assertParseSuccess(parser, " \n /limit  5 \t", new ListCommand(5));
+    }
+
+    @Test
+    public void parse_invalidLimit_throwsParseException() {
+        assertParseFailure(parser, " /limit 0", Messages.MESSAGE_INVALID_PAGE_SIZE);
+        assertParseFailure(parser, " /limit -3", Messages.MESSAGE_INVALID_PAGE_SIZE);
+        assertParseFailure(parser, " /limit ten", Messages.MESSAGE_INVALID_PAGE_SIZE);
+        assertParseFailure(parser, " /limit 3 /limit 4",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_LIMIT));
+    }
+}
@@ -18,21 +18,27 @@ import networkbook.logic.commands.Command;
 import networkbook.logic.commands.CommandTestUtil;
 import networkbook.logic.commands.CreateCommand;
 import networkbook.logic.commands.ExitCommand;
+import networkbook.logic.commands.ExplainCommand;
 import networkbook.logic.commands.FindCommand;
+import networkbook.logic.commands.GroupCommand;
 import networkbook.logic.commands.HelpCommand;
 import networkbook.logic.commands.ListCommand;
 import networkbook.logic.commands.OpenEmailCommand;
 import networkbook.logic.commands.OpenLinkCommand;
+import networkbook.logic.commands.PageCommand;
 import networkbook.logic.commands.RedoCommand;
 import networkbook.logic.commands.SaveCommand;
 import networkbook.logic.commands.SortCommand;
 import networkbook.logic.commands.UndoCommand;
+import networkbook.logic.commands.ViewCommand;
+import networkbook.logic.commands.ViewCommand.ViewMode;
 import networkbook.logic.commands.delete.DeletePersonCommand;
 import networkbook.logic.commands.edit.EditCommand;
 import networkbook.logic.commands.edit.EditNameAction;
 import networkbook.logic.commands.filter.FilterCommand;
 import networkbook.logic.commands.filter.FilterCourseCommand;
 import networkbook.logic.parser.exceptions.ParseException;
+import networkbook.model.PersonGroups.GroupField;
 import networkbook.model.person.Name;
 import networkbook.model.person.NameContainsKeyTermsPredicate;
 import networkbook.model.person.Person;
@@ -78,6 +84,12 @@ public class NetworkBookParserTest {
         assertEquals(new EditCommand(TypicalIndexes.INDEX_FIRST_PERSON, expectedAction), command);
     }
 
+    @Test
+    public void parseCommand_explain() throws Exception {
+        ExplainCommand command = (ExplainCommand) parser.parseCommand(ExplainCommand.COMMAND_WORD + " tag:a OR tag:b");
+        assertEquals(new ExplainCommand(QueryParser.parseQuery("tag:a OR tag:b"), "tag:a OR tag:b"), command);
+    }
+
     @Test
     public void parseCommand_undo() throws Exception {
         assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
@@ -162,6 +174,23 @@ public class NetworkBookParserTest {
     public void parseCommand_list() throws Exception {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD) instanceof ListCommand);
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD + " 3") instanceof ListCommand);
+        assertEquals(new ListCommand(20), parser.parseCommand(ListCommand.COMMAND_WORD + " /limit 20"));
+    }
+
+    @Test
+    public void parseCommand_page() throws Exception {
+        assertEquals(PageCommand.byOffset(1), parser.parseCommand(PageCommand.COMMAND_WORD + " next"));
+        assertEquals(PageCommand.toPage(Index.fromOneBased(2)), parser.parseCommand(PageCommand.COMMAND_WORD + " 2"));
+    }
+
+    @Test
+    public void parseCommand_view() throws Exception {
+        assertEquals(new ViewCommand(ViewMode.TABLE), parser.parseCommand(ViewCommand.COMMAND_WORD + " table"));
+    }
+
+    @Test
+    public void parseCommand_group() throws Exception {
+        assertEquals(new GroupCommand(GroupField.GRAD), parser.parseCommand(GroupCommand.COMMAND_WORD + " /by grad"));
     }
 
     @Test
@@ -0,0 +1,30 @@
+package networkbook.logic.parser;
+
+import static networkbook.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static networkbook.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import networkbook.commons.core.index.Index;
+import networkbook.logic.Messages;
+import networkbook.logic.commands.PageCommand;
+
+public class PageCommandParserTest {
+
+    private PageCommandParser parser = new PageCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsPageCommand() {
+        assertParseSuccess(parser, " 2", PageCommand.toPage(Index.fromOneBased(2)));
+        assertParseSuccess(parser, " next ", PageCommand.byOffset(1));
+        assertParseSuccess(parser, " PREV", PageCommand.byOffset(-1));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, PageCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, " 0", expectedMessage);
+        assertParseFailure(parser, " last", expectedMessage);
+    }
+}
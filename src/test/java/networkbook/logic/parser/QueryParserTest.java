@@ -0,0 +1,69 @@
+package networkbook.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import networkbook.logic.parser.exceptions.ParseException;
+import networkbook.model.person.NameContainsKeyTermsPredicate;
+import networkbook.model.person.Priority;
+import networkbook.model.person.filter.GradInAnyRangePredicate;
+import networkbook.model.person.filter.GradRange;
+import networkbook.model.person.filter.LogicalPredicate;
+import networkbook.model.person.filter.PriorityEqualsPredicate;
+import networkbook.model.person.filter.SpecContainsKeyTermsPredicate;
+import networkbook.model.person.filter.TagsContainKeyTermsPredicate;
+import networkbook.testutil.Assert;
+
+public class QueryParserTest {
+    private static final TagsContainKeyTermsPredicate MENTOR = new TagsContainKeyTermsPredicate(List.of("mentor"));
+
+    @Test
+    public void parseQuery_singleClause_returnsClausePredicate() throws Exception {
+        assertEquals(MENTOR, QueryParser.parseQuery("tag:mentor"));
+        assertEquals(new NameContainsKeyTermsPredicate(List.of("tan", "lee")),
+                QueryParser.parseQuery("name~\"tan lee\""));
+        assertEquals(new PriorityEqualsPredicate(new Priority("high")), QueryParser.parseQuery(" priority:H "));
+        assertEquals(new GradInAnyRangePredicate(List.of(GradRange.ofYears(2024, 2026))),
+                QueryParser.parseQuery("grad:2024..2026"));
+    }
+
+    @Test
+    public void parseQuery_operators_returnsLogicalPredicate() throws Exception {
+        GradInAnyRangePredicate grad = new GradInAnyRangePredicate(List.of(GradRange.ofYear(2024)));
+        PriorityEqualsPredicate high = new PriorityEqualsPredicate(new Priority("high"));
+        NameContainsKeyTermsPredicate tan = new NameContainsKeyTermsPredicate(List.of("tan"));
+        LogicalPredicate expected = LogicalPredicate.and(List.of(MENTOR,
+                LogicalPredicate.or(List.of(grad, high)), tan));
+
+        assertEquals(expected, QueryParser.parseQuery("tag:mentor AND (grad:2024 OR priority:high) AND name~\"tan\""));
+        // AND may be left out, and keywords are not case-sensitive
+        assertEquals(expected, QueryParser.parseQuery("tag:mentor (grad:2024 or priority:high) name:tan"));
+        // NOT binds tighter than AND, which binds tighter than OR
+        SpecContainsKeyTermsPredicate ai = new SpecContainsKeyTermsPredicate(List.of("ai"));
+        assertEquals(LogicalPredicate.or(List.of(LogicalPredicate.and(List.of(LogicalPredicate.not(MENTOR), ai)),
+                tan)), QueryParser.parseQuery("NOT tag:mentor AND spec:ai OR name:tan"));
+    }
+
+    @Test
+    public void parseQuery_invalidQuery_throwsParseException() {
+        assertParseFailure("  ", QueryParser.MESSAGE_EMPTY_QUERY);
+        assertParseFailure("mentor", String.format(QueryParser.MESSAGE_INVALID_CLAUSE, "mentor"));
+        assertParseFailure("tag:", String.format(QueryParser.MESSAGE_INVALID_CLAUSE, "tag:"));
+        assertParseFailure("phone:123", String.format(QueryParser.MESSAGE_UNKNOWN_FIELD, "phone"));
+        assertParseFailure("grad~2024", String.format(QueryParser.MESSAGE_INVALID_OPERATOR, "grad~2024"));
+        assertParseFailure("priority:urgent", Priority.MESSAGE_CONSTRAINTS);
+        assertParseFailure("name:\"tan", QueryParser.MESSAGE_UNCLOSED_QUOTE);
+        assertParseFailure("(tag:mentor", QueryParser.MESSAGE_UNBALANCED_PARENTHESES);
+        assertParseFailure("tag:mentor)", QueryParser.MESSAGE_UNBALANCED_PARENTHESES);
+        assertParseFailure("tag:mentor AND", String.format(QueryParser.MESSAGE_MISSING_CLAUSE, "AND"));
+        assertParseFailure("OR tag:mentor",
+                String.format(QueryParser.MESSAGE_MISSING_CLAUSE, "the start of the query"));
+    }
+
+    private static void assertParseFailure(String query, String expectedMessage) {
+        Assert.assertThrows(ParseException.class, expectedMessage, () -> QueryParser.parseQuery(query));
+    }
+}
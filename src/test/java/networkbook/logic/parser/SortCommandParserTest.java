@@ -30,4 +30,32 @@ public class SortCommandParserTest {
         assertParseSuccess(parser, " /by grad", expectedSortCommand);
     }
 
+    @Test
+    public void parse_multipleSortKeys_returnsSortCommandWithTieBreakers() {
+        PersonSortComparator cmp = new PersonSortComparator(SortField.PRIORITY, SortOrder.DESCENDING,
+                new PersonSortComparator(SortField.GRAD, SortOrder.ASCENDING,
+                        new PersonSortComparator(SortField.NAME, SortOrder.DESCENDING)));
+        assertParseSuccess(parser, " /by priority /order desc /then grad /then name desc", new SortCommand(cmp));
+        assertParseSuccess(parser, " /by priority /then grad asc /order desc /then  name \t descending",
+                new SortCommand(cmp));
+    }
+
+    @Test
+    public void parse_topCount_returnsSortCommandWithTopCount() {
+        PersonSortComparator cmp = new PersonSortComparator(SortField.GRAD, SortOrder.DESCENDING);
+        assertParseSuccess(parser, " /by grad /order desc /top 10", new SortCommand(cmp, 10));
+        assertParseFailure(parser, " /by grad /top 0", Messages.MESSAGE_INVALID_PAGE_SIZE);
+        assertParseFailure(parser, " /by grad /top 1 /top 2",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_SORT_TOP));
+    }
+
+    @Test
+    public void parse_invalidTieBreaker_throwsParseException() {
+        String invalidFormat = String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " /by name /then", invalidFormat);
+        assertParseFailure(parser, " /by name /then grad asc extra", invalidFormat);
+        assertParseFailure(parser, " /by name /then phone", PersonSortComparator.MESSAGE_CONSTRAINTS_FIELD);
+        assertParseFailure(parser, " /by name /then grad up", PersonSortComparator.MESSAGE_CONSTRAINTS_ORDER);
+    }
+
 }
@@ -0,0 +1,30 @@
+package networkbook.logic.parser;
+
+import static networkbook.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static networkbook.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import networkbook.logic.Messages;
+import networkbook.logic.commands.ViewCommand;
+import networkbook.logic.commands.ViewCommand.ViewMode;
+
+public class ViewCommandParserTest {
+
+    private ViewCommandParser parser = new ViewCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsViewCommand() {
+        assertParseSuccess(parser, " table", new ViewCommand(ViewMode.TABLE));
+        assertParseSuccess(parser, " CARDS ", new ViewCommand(ViewMode.CARDS));
+        assertParseSuccess(parser, " compact", new ViewCommand(ViewMode.COMPACT));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, ViewCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, " list", expectedMessage);
+        assertParseFailure(parser, " table cards", expectedMessage);
+    }
+}
@@ -238,4 +238,32 @@ public class ModelManagerTest {
         );
     }
 
+    @Test
+    public void addPerson_filterNotPreserved_showsAllPersons() {
+        Model model = new ModelManager(new NetworkBookBuilder().withPerson(TypicalPersons.ALICE).build(),
+                new UserPrefs());
+        model.updateDisplayedPersonList(new NameContainsKeyTermsPredicate(List.of("Alice")), null);
+        model.addPerson(TypicalPersons.BENSON);
+        assertEquals(List.of(TypicalPersons.ALICE, TypicalPersons.BENSON), model.getDisplayedPersonList());
+    }
+
+    @Test
+    public void addDeleteAndSetPerson_filterPreserved_onlyMatchingPersonsShown() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setFilterPreservedOnChange(true);
+        Model model = new ModelManager(new NetworkBookBuilder().withPerson(TypicalPersons.ALICE).build(), userPrefs);
+        model.updateDisplayedPersonList(new NameContainsKeyTermsPredicate(List.of("a")), null);
+
+        model.addPerson(TypicalPersons.BENSON);
+        assertEquals(List.of(TypicalPersons.ALICE), model.getDisplayedPersonList());
+
+        model.addPerson(TypicalPersons.CARL);
+        assertEquals(List.of(TypicalPersons.ALICE, TypicalPersons.CARL), model.getDisplayedPersonList());
+
+        model.deletePerson(TypicalPersons.ALICE);
+        assertEquals(List.of(TypicalPersons.CARL), model.getDisplayedPersonList());
+
+        model.setItem(TypicalPersons.BENSON, TypicalPersons.DANIEL);
+        assertEquals(List.of(TypicalPersons.CARL, TypicalPersons.DANIEL), model.getDisplayedPersonList());
+    }
 }
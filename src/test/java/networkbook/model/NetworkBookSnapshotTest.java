@@ -0,0 +1,47 @@
+package networkbook.model;
+
+import static networkbook.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import networkbook.model.person.NameContainsKeyTermsPredicate;
+import networkbook.testutil.TypicalPersons;
+
+public class NetworkBookSnapshotTest {
+
+    @Test
+    public void constructor_networkBook_copiesPersonsFilterAndSort() {
+        NetworkBook networkBook = TypicalPersons.getTypicalNetworkBook();
+        networkBook.setFilterPredicate(new NameContainsKeyTermsPredicate(List.of("Alice")));
+        NetworkBookSnapshot snapshot = new NetworkBookSnapshot(networkBook);
+
+        networkBook.removePerson(TypicalPersons.ALICE);
+        assertEquals(TypicalPersons.getTypicalPersons(), snapshot.getPersonList());
+        assertEquals(new NameContainsKeyTermsPredicate(List.of("Alice")), snapshot.getFilterPredicate());
+        assertEquals(networkBook.getSortComparator(), snapshot.getSortComparator());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getPersonList().clear());
+    }
+
+    @Test
+    public void getDisplayedPersonList_filteredSnapshot_showsFilteredPersons() {
+        NetworkBook networkBook = TypicalPersons.getTypicalNetworkBook();
+        networkBook.setFilterPredicate(new NameContainsKeyTermsPredicate(List.of("Alice")));
+        assertEquals(List.of(TypicalPersons.ALICE), new NetworkBookSnapshot(networkBook).getDisplayedPersonList());
+    }
+
+    @Test
+    public void equals() {
+        NetworkBookSnapshot snapshot = new NetworkBookSnapshot(TypicalPersons.getTypicalNetworkBook());
+        assertEquals(snapshot, new NetworkBookSnapshot(TypicalPersons.getTypicalNetworkBook()));
+        assertNotEquals(snapshot, new NetworkBookSnapshot(new NetworkBook()));
+        assertNotEquals(snapshot, TypicalPersons.getTypicalNetworkBook());
+
+        NetworkBook filteredNetworkBook = TypicalPersons.getTypicalNetworkBook();
+        filteredNetworkBook.setFilterPredicate(new NameContainsKeyTermsPredicate(List.of("Alice")));
+        assertNotEquals(snapshot, new NetworkBookSnapshot(filteredNetworkBook));
+    }
+}
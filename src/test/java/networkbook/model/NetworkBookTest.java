@@ -9,6 +9,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -22,6 +23,10 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import networkbook.commons.core.index.Index;
 import networkbook.model.person.Person;
+import networkbook.model.person.PersonSortComparator;
+import networkbook.model.person.PersonSortComparator.SortField;
+import networkbook.model.person.PersonSortComparator.SortOrder;
+import networkbook.model.util.PagedList;
 import networkbook.testutil.PersonBuilder;
 import networkbook.testutil.TypicalPersons;
 
@@ -59,6 +64,85 @@ public class NetworkBookTest {
         assertThrowsAssertionError(() -> networkBook.resetData(newData));
     }
 
+    @Test
+    public void setPage_paged_displaysSortedPage() {
+        NetworkBook typicalNetworkBook = TypicalPersons.getTypicalNetworkBook();
+        List<Person> sortedPersons = List.copyOf(typicalNetworkBook.getDisplayedPersonList());
+
+        typicalNetworkBook.setPage(3, 1);
+        assertEquals(sortedPersons.subList(3, 6), typicalNetworkBook.getDisplayedPersonList());
+        assertEquals(new DisplayedPage(3, 1, 3, sortedPersons.size()), typicalNetworkBook.getDisplayedPage());
+
+        typicalNetworkBook.setPage(PagedList.NO_PAGE_SIZE, 0);
+        assertEquals(sortedPersons, typicalNetworkBook.getDisplayedPersonList());
+        assertEquals(new DisplayedPage(PagedList.NO_PAGE_SIZE, 0, 1, sortedPersons.size()),
+                typicalNetworkBook.getDisplayedPage());
+    }
+
+    @Test
+    public void setPage_sortAndFilterChanged_pageFollowsSortAndFilter() {
+        NetworkBook typicalNetworkBook = TypicalPersons.getTypicalNetworkBook();
+        typicalNetworkBook.setPage(2, 0);
+        PersonSortComparator comparator = new PersonSortComparator(SortField.NAME, SortOrder.DESCENDING);
+        typicalNetworkBook.setSortComparator(comparator);
+        List<Person> expected = new ArrayList<>(TypicalPersons.getTypicalPersons());
+        expected.sort(comparator);
+        assertEquals(expected.subList(0, 2), typicalNetworkBook.getDisplayedPersonList());
+
+        Predicate<Person> predicate = person -> person.getName().fullName.contains("Meier");
+        typicalNetworkBook.setFilterPredicate(predicate);
+        expected.removeIf(predicate.negate());
+        assertEquals(expected.subList(0, 2), typicalNetworkBook.getDisplayedPersonList());
+        assertEquals(new DisplayedPage(2, 0, 1, 2), typicalNetworkBook.getDisplayedPage());
+    }
+
+    @Test
+    public void setFilterPredicate_largeNetworkBook_streamsMatchesInBatches() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < NetworkBook.STREAMING_THRESHOLD; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).build());
+        }
+        networkBook.setItems(persons);
+        Predicate<Person> predicate = person -> person.getName().fullName.endsWith("7");
+        List<Person> expected = new ArrayList<>(persons);
+        expected.removeIf(predicate.negate());
+
+        List<List<Person>> batches = new ArrayList<>();
+        networkBook.setFilterPredicate(predicate, batches::add);
+        List<Person> streamed = new ArrayList<>();
+        batches.forEach(streamed::addAll);
+        // the matches are streamed in the order of the network book, and displayed in sorted order
+        assertEquals(expected, streamed);
+        assertTrue(batches.stream().allMatch(batch -> batch.size() <= NetworkBook.STREAMING_BATCH_SIZE));
+        assertEquals(expected.size(), networkBook.getDisplayedPersonList().size());
+        assertTrue(networkBook.getDisplayedPersonList().containsAll(expected));
+
+        // persons added later are tested with the predicate
+        Person added = new PersonBuilder().withName("Added Person 17").build();
+        networkBook.addPerson(added);
+        assertTrue(networkBook.getDisplayedPersonList().contains(added));
+    }
+
+    @Test
+    public void setFilterPredicate_smallNetworkBook_matchesNotStreamed() {
+        NetworkBook typicalNetworkBook = TypicalPersons.getTypicalNetworkBook();
+        List<List<Person>> batches = new ArrayList<>();
+        typicalNetworkBook.setFilterPredicate(person -> true, batches::add);
+        assertTrue(batches.isEmpty());
+        assertEquals(typicalNetworkBook.getPersonList().size(), typicalNetworkBook.getDisplayedPersonList().size());
+    }
+
+    @Test
+    public void countMatches_predicate_displayedListUnchanged() {
+        NetworkBook typicalNetworkBook = TypicalPersons.getTypicalNetworkBook();
+        List<Person> displayed = new ArrayList<>(typicalNetworkBook.getDisplayedPersonList());
+        Predicate<Person> predicate = person -> person.getName().fullName.contains("Meier");
+        long expected = typicalNetworkBook.getPersonList().stream().filter(predicate).count();
+
+        assertEquals(expected, typicalNetworkBook.countMatches(predicate));
+        assertEquals(displayed, typicalNetworkBook.getDisplayedPersonList());
+    }
+
     @Test
     public void hasPerson_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> networkBook.hasPerson(null));
@@ -0,0 +1,59 @@
+package networkbook.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import networkbook.model.person.Person;
+import networkbook.model.person.filter.KeyTermsField;
+import networkbook.testutil.PersonBuilder;
+
+public class PersonCompletionIndexTest {
+
+    private final Person alice = new PersonBuilder().withName("Alice Pauline")
+            .withTags("friends", "mentor")
+            .withCourses(List.of("CS2103T", "CS2109S"))
+            .withSpecialisations(List.of("Software Engineering"))
+            .build();
+    private final Person albert = new PersonBuilder().withName("Albert Park")
+            .withTags("Friends", "football")
+            .withCourses(List.of("CS2103T"))
+            .withSpecialisations(List.of("Security"))
+            .build();
+
+    @Test
+    public void complete_existingPersons_valuesOfAllPersons() {
+        ObservableList<Person> persons = FXCollections.observableArrayList(alice, albert);
+        PersonCompletionIndex index = new PersonCompletionIndex(persons);
+
+        assertEquals(List.of("Albert", "Alice"), index.complete(KeyTermsField.NAME, "al", 10));
+        assertEquals(List.of("Park", "Pauline"), index.complete(KeyTermsField.NAME, "PA", 10));
+        assertEquals(List.of("football", "friends"), index.complete(KeyTermsField.TAG, "f", 10));
+        assertEquals(List.of("CS2103T", "CS2109S"), index.complete(KeyTermsField.COURSE, "cs210", 10));
+        assertEquals(List.of("Security", "Software Engineering"), index.complete(KeyTermsField.SPEC, "s", 10));
+        assertEquals(List.of("Albert"), index.complete(KeyTermsField.NAME, "al", 1));
+    }
+
+    @Test
+    public void complete_personsAddedEditedAndRemoved_staysUpToDate() {
+        ObservableList<Person> persons = FXCollections.observableArrayList();
+        PersonCompletionIndex index = new PersonCompletionIndex(persons);
+        persons.add(alice);
+        persons.add(albert);
+
+        // a value shared by two persons stays, as first added, until both are gone
+        persons.remove(alice);
+        assertEquals(List.of("friends"), index.complete(KeyTermsField.TAG, "fr", 10));
+        assertEquals(List.of("CS2103T"), index.complete(KeyTermsField.COURSE, "cs", 10));
+        assertEquals(List.of(), index.complete(KeyTermsField.TAG, "men", 10));
+
+        persons.set(0, new PersonBuilder(albert).withName("Bert Park").withTags("mentee").build());
+        assertEquals(List.of(), index.complete(KeyTermsField.NAME, "al", 10));
+        assertEquals(List.of("Bert"), index.complete(KeyTermsField.NAME, "b", 10));
+        assertEquals(List.of("mentee"), index.complete(KeyTermsField.TAG, "", 10));
+    }
+}
@@ -0,0 +1,77 @@
+package networkbook.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import networkbook.model.person.Person;
+import networkbook.model.person.filter.CourseContainsKeyTermsPredicate;
+import networkbook.model.person.filter.CourseIsStillBeingTakenPredicate;
+import networkbook.model.person.filter.CourseTakenPredicate;
+import networkbook.testutil.PersonBuilder;
+import networkbook.testutil.TypicalPersons;
+
+public class PersonCourseIndexTest {
+    private static final CourseContainsKeyTermsPredicate MATH = new CourseContainsKeyTermsPredicate(List.of("math"));
+
+    private final ObservableList<Person> persons = FXCollections.observableArrayList();
+    private final PersonCourseIndex courseIndex = new PersonCourseIndex(persons);
+
+    @Test
+    public void getPredicate_datesAndPeriods_sameResultsAsPredicate() {
+        persons.setAll(TypicalPersons.getTypicalPersons());
+        for (int i = 0; i < 40; i++) {
+            int month = i % 12 + 1;
+            persons.add(new PersonBuilder().withName("Student " + i)
+                    .addCourse("Math " + i, String.format("01-%02d-20%02d", month, i % 5 + 10),
+                            String.format("28-%02d-20%02d", month, i % 5 + 11))
+                    .addCourse("Physics " + i, String.format("15-%02d-2012", month))
+                    .build());
+        }
+        persons.add(new PersonBuilder().withName("Undated").addCourse("Math").build());
+
+        for (LocalDate date : List.of(LocalDate.of(2009, 1, 1), LocalDate.of(2011, 3, 1), LocalDate.of(2013, 6, 30),
+                LocalDate.of(2020, 1, 1))) {
+            assertSameResults(new CourseTakenPredicate(MATH, new CourseIsStillBeingTakenPredicate(date)));
+        }
+        assertSameResults(new CourseTakenPredicate(MATH, new CourseIsStillBeingTakenPredicate(
+                LocalDate.of(2011, 12, 1), LocalDate.of(2012, 2, 1))));
+        assertSameResults(new CourseTakenPredicate(new CourseContainsKeyTermsPredicate(List.of("phys", "CS")),
+                new CourseIsStillBeingTakenPredicate(LocalDate.of(2012, 5, 1), LocalDate.of(2012, 5, 20))));
+    }
+
+    @Test
+    public void getMatchingPersons_personsAddedEditedAndRemoved_staysUpToDate() {
+        Person alice = new PersonBuilder(TypicalPersons.ALICE).addCourse("Math", "01-01-2020", "31-12-2020").build();
+        persons.setAll(alice, TypicalPersons.BENSON);
+        CourseTakenPredicate predicate = new CourseTakenPredicate(MATH,
+                new CourseIsStillBeingTakenPredicate(LocalDate.of(2020, 6, 1)));
+        assertEquals(Set.of(alice), courseIndex.getMatchingPersons(predicate));
+
+        Person editedAlice = new PersonBuilder(TypicalPersons.ALICE).addCourse("Math", "01-01-2021").build();
+        persons.set(0, editedAlice);
+        assertTrue(courseIndex.getMatchingPersons(predicate).isEmpty());
+
+        Person carl = new PersonBuilder(TypicalPersons.CARL).addCourse("Applied Math", "01-06-2020").build();
+        persons.add(carl);
+        assertEquals(Set.of(carl), courseIndex.getMatchingPersons(predicate));
+
+        persons.remove(carl);
+        assertTrue(courseIndex.getMatchingPersons(predicate).isEmpty());
+    }
+
+    private void assertSameResults(CourseTakenPredicate predicate) {
+        Predicate<Person> indexedPredicate = courseIndex.getPredicate(predicate);
+        assertEquals(persons.stream().filter(predicate).collect(Collectors.toList()),
+                persons.stream().filter(indexedPredicate).collect(Collectors.toList()));
+    }
+}
@@ -0,0 +1,162 @@
+package networkbook.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import networkbook.model.person.Person;
+import networkbook.model.person.Priority;
+import networkbook.model.person.filter.CourseContainsKeyTermsPredicate;
+import networkbook.model.person.filter.CourseIsStillBeingTakenPredicate;
+import networkbook.model.person.filter.CourseTakenPredicate;
+import networkbook.model.person.filter.GradEqualsOneOfPredicate;
+import networkbook.model.person.filter.LogicalPredicate;
+import networkbook.model.person.filter.PriorityEqualsPredicate;
+import networkbook.model.person.filter.SpecContainsKeyTermsPredicate;
+import networkbook.model.person.filter.TagsContainKeyTermsPredicate;
+import networkbook.model.util.CompressedBitmap;
+import networkbook.testutil.PersonBuilder;
+import networkbook.testutil.TypicalPersons;
+
+public class PersonFilterEngineTest {
+    private static final TagsContainKeyTermsPredicate FRIENDS = new TagsContainKeyTermsPredicate(List.of("friends"));
+    private static final SpecContainsKeyTermsPredicate SPEC = new SpecContainsKeyTermsPredicate(List.of("a"));
+    private static final GradEqualsOneOfPredicate GRAD = new GradEqualsOneOfPredicate(List.of(2000, 2024));
+    private static final CourseTakenPredicate COURSE = new CourseTakenPredicate(
+            new CourseContainsKeyTermsPredicate(List.of("a")),
+            new CourseIsStillBeingTakenPredicate(LocalDate.of(2020, 1, 1), LocalDate.of(2030, 1, 1)));
+
+    private final ObservableList<Person> persons = FXCollections.observableArrayList();
+    private final PersonFilterEngine filterEngine = new PersonFilterEngine(persons, new PersonTermIndex(persons),
+            new PersonGradIndex(persons), new PersonCourseIndex(persons));
+
+    @Test
+    public void getPredicate_nestedOperators_sameResultsAsPredicate() {
+        persons.setAll(TypicalPersons.getTypicalPersons());
+        assertSameResults(LogicalPredicate.and(List.of(FRIENDS, SPEC)));
+        assertSameResults(LogicalPredicate.or(List.of(FRIENDS, GRAD, COURSE)));
+        assertSameResults(LogicalPredicate.not(FRIENDS));
+        assertSameResults(LogicalPredicate.and(List.of(LogicalPredicate.or(List.of(FRIENDS, GRAD)),
+                LogicalPredicate.not(SPEC))));
+        // a clause that no index answers is tested against every person
+        Predicate<Person> hasEmail = person -> person.getEmails().size() > 0;
+        assertSameResults(LogicalPredicate.and(List.of(hasEmail, LogicalPredicate.not(COURSE))));
+    }
+
+    @Test
+    public void getPredicate_personsAddedAndRemoved_staysUpToDate() {
+        LogicalPredicate predicate = LogicalPredicate.or(List.of(FRIENDS, LogicalPredicate.not(SPEC)));
+        persons.setAll(TypicalPersons.getTypicalPersons());
+        assertSameResults(predicate);
+
+        persons.remove(0);
+        persons.add(new PersonBuilder().withName("New Friend").withTags("friends").build());
+        assertSameResults(predicate);
+    }
+
+    @Test
+    public void count_manyPredicates_keptBitmapsNotEvicted() {
+        persons.setAll(TypicalPersons.getTypicalPersons());
+        LogicalPredicate predicate = LogicalPredicate.and(List.of(FRIENDS, GRAD));
+        CompressedBitmap bitmap = filterEngine.evaluate(predicate);
+
+        for (int i = 0; i < 300; i++) {
+            filterEngine.count(LogicalPredicate.or(List.of(SPEC, new TagsContainKeyTermsPredicate(List.of("t" + i)))));
+        }
+        assertSame(bitmap, filterEngine.evaluate(predicate));
+
+        LogicalPredicate countedPredicate = LogicalPredicate.or(List.of(FRIENDS, LogicalPredicate.not(SPEC)));
+        assertEquals(persons.stream().filter(countedPredicate).count(), filterEngine.count(countedPredicate));
+    }
+
+    @Test
+    public void evaluate_personsEdited_freedOrdinalsReused() {
+        persons.setAll(TypicalPersons.getTypicalPersons());
+        Predicate<Person> everyone = person -> true;
+        assertEquals(CompressedBitmap.range(persons.size()), filterEngine.evaluate(everyone));
+
+        persons.remove(2);
+        persons.set(0, new PersonBuilder(persons.get(0)).withTags("friends", "mentor").build());
+        persons.add(new PersonBuilder().withName("New Friend").withTags("friends").build());
+        assertEquals(CompressedBitmap.range(persons.size()), filterEngine.evaluate(everyone));
+    }
+
+    @Test
+    public void getPredicate_randomEditsAndBulkChanges_staysUpToDate() {
+        Random random = new Random(35);
+        List<Predicate<Person>> predicates = List.of(LogicalPredicate.and(List.of(FRIENDS, LogicalPredicate.not(SPEC))),
+                LogicalPredicate.or(List.of(GRAD, COURSE)), FRIENDS);
+        persons.setAll(TypicalPersons.getTypicalPersons());
+        predicates.forEach(this::assertSameResults);
+
+        for (int step = 0; step < 100; step++) {
+            int choice = random.nextInt(10);
+            if (choice < 3 && !persons.isEmpty()) {
+                persons.remove(random.nextInt(persons.size()));
+            } else if (choice < 6) {
+                persons.add(new PersonBuilder().withName("Person " + step)
+                        .withTags(random.nextBoolean() ? "friends" : "colleagues").build());
+            } else if (choice < 9 && !persons.isEmpty()) {
+                int index = random.nextInt(persons.size());
+                persons.set(index, new PersonBuilder(persons.get(index)).withTags("friends").build());
+            } else {
+                List<Person> shuffled = new ArrayList<>(persons);
+                Collections.shuffle(shuffled, random);
+                persons.setAll(shuffled);
+            }
+            predicates.forEach(this::assertSameResults);
+        }
+    }
+
+    @Test
+    public void plan_and_ordersClausesByEstimateAndFiltersCandidates() {
+        persons.setAll(TypicalPersons.getTypicalPersons());
+        for (int i = 0; i < 100; i++) {
+            persons.add(new PersonBuilder().withName("Friend " + i).withTags("friends").build());
+        }
+        PriorityEqualsPredicate high = new PriorityEqualsPredicate(new Priority("high"));
+        TagsContainKeyTermsPredicate owesMoney = new TagsContainKeyTermsPredicate(List.of("owesMoney"));
+        LogicalPredicate predicate = LogicalPredicate.and(List.of(FRIENDS, high, owesMoney));
+
+        QueryPlan plan = filterEngine.plan(predicate);
+        assertEquals(QueryPlan.Access.AND, plan.getAccess());
+        List<QueryPlan> children = plan.getChildren();
+        // the rarest tag is looked up first, and the rest are only tested against the persons it matches
+        assertEquals(owesMoney, children.get(0).getPredicate());
+        assertEquals(QueryPlan.Access.INDEX, children.get(0).getAccess());
+        assertEquals(QueryPlan.Access.FILTER, children.get(1).getAccess());
+        assertEquals(QueryPlan.Access.FILTER, children.get(2).getAccess());
+        assertSameResults(predicate);
+    }
+
+    @Test
+    public void explain_recordsActualCounts() {
+        persons.setAll(TypicalPersons.getTypicalPersons());
+        LogicalPredicate predicate = LogicalPredicate.or(List.of(FRIENDS, LogicalPredicate.not(GRAD)));
+
+        QueryPlan plan = filterEngine.explain(predicate);
+        assertEquals(persons.stream().filter(predicate).count(), plan.getActualCount());
+        assertEquals(persons.stream().filter(FRIENDS).count(), plan.getChildren().get(0).getActualCount());
+        assertEquals(persons.stream().filter(GRAD).count(),
+                plan.getChildren().get(1).getChildren().get(0).getActualCount());
+        assertTrue(plan.format().startsWith("OR (estimated "));
+    }
+
+    private void assertSameResults(Predicate<Person> predicate) {
+        assertEquals(persons.stream().filter(predicate).collect(Collectors.toList()),
+                persons.stream().filter(filterEngine.getPredicate(predicate)).collect(Collectors.toList()));
+        assertEquals(persons.stream().filter(predicate).count(), filterEngine.evaluate(predicate).getCardinality());
+    }
+}
@@ -0,0 +1,82 @@
+package networkbook.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import networkbook.model.person.Graduation;
+import networkbook.model.person.Person;
+import networkbook.model.person.filter.GradEqualsOneOfPredicate;
+import networkbook.model.person.filter.GradInAnyRangePredicate;
+import networkbook.model.person.filter.GradInRangesPredicate;
+import networkbook.model.person.filter.GradRange;
+import networkbook.model.util.SampleDataUtil;
+import networkbook.testutil.PersonBuilder;
+import networkbook.testutil.TypicalPersons;
+
+public class PersonGradIndexTest {
+
+    private final ObservableList<Person> persons = FXCollections.observableArrayList();
+    private final PersonGradIndex gradIndex = new PersonGradIndex(persons);
+
+    @Test
+    public void getPredicate_ranges_sameResultsAsPredicate() {
+        persons.setAll(SampleDataUtil.getSamplePersons());
+        persons.addAll(TypicalPersons.getTypicalPersons());
+        persons.add(new PersonBuilder().withName("No Optional Fields").withoutOptionalFields().build());
+
+        assertSameResults(new GradEqualsOneOfPredicate(List.of(2022, 2023, 2025)));
+        assertSameResults(new GradInAnyRangePredicate(List.of(GradRange.ofYears(2000, 2024))));
+        assertSameResults(new GradInAnyRangePredicate(List.of(
+                new GradRange(new Graduation("AY2223-S2").getPackedValue(), GradRange.NO_UPPER_BOUND),
+                new GradRange(GradRange.NO_LOWER_BOUND, GradRange.getLastPackedValue(1990)))));
+        assertSameResults(new GradInAnyRangePredicate(List.of()));
+    }
+
+    @Test
+    public void getPersonsInRanges_personsAddedEditedAndRemoved_staysUpToDate() {
+        persons.setAll(TypicalPersons.getTypicalPersons());
+        GradInAnyRangePredicate predicate = new GradInAnyRangePredicate(List.of(GradRange.ofYears(2030, 2035)));
+        assertSameResults(predicate);
+
+        persons.set(0, new PersonBuilder(persons.get(0)).withGraduation("AY2930-S2").build());
+        persons.add(new PersonBuilder().withName("Late Graduate").withGraduation("AY3435-S1").build());
+        for (int i = 0; i < 30; i++) {
+            persons.add(new PersonBuilder().withName("Graduate " + i).withGraduation("AY3031-S1").build());
+        }
+        persons.remove(1);
+        assertSameResults(predicate);
+        assertEquals(persons.stream().filter(predicate).count(), gradIndex.count(GradRange.ofYears(2030, 2035)));
+
+        persons.remove(persons.size() - 1);
+        persons.set(0, new PersonBuilder(persons.get(0)).withGraduation("AY1011-S1").build());
+        assertSameResults(predicate);
+        assertEquals(persons.stream().filter(predicate).count(), gradIndex.count(GradRange.ofYears(2030, 2035)));
+    }
+
+    @Test
+    public void getCountsByGradYear_countsBothSemestersOfEachYear() {
+        persons.setAll(
+                new PersonBuilder().withName("A").withGraduation("AY2122-S2").build(),
+                new PersonBuilder().withName("B").withGraduation("AY2223-S1").build(),
+                new PersonBuilder().withName("C").withGraduation("AY2223-S2").build(),
+                new PersonBuilder().withName("D").withoutOptionalFields().build(),
+                new PersonBuilder().withName("E").withGraduation("AY2526-S1").build());
+        assertEquals(Map.of(2022, 2, 2023, 1, 2025, 1), gradIndex.getCountsByGradYear());
+        assertEquals(2, gradIndex.count(GradRange.ofYear(2022)));
+        assertEquals(0, gradIndex.count(GradRange.ofYear(2024)));
+    }
+
+    private void assertSameResults(GradInRangesPredicate predicate) {
+        Predicate<Person> indexedPredicate = gradIndex.getPredicate(predicate);
+        assertEquals(persons.stream().filter(predicate).collect(Collectors.toList()),
+                persons.stream().filter(indexedPredicate).collect(Collectors.toList()));
+    }
+}
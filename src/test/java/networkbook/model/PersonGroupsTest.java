@@ -0,0 +1,167 @@
+package networkbook.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import networkbook.model.PersonGroups.GroupField;
+import networkbook.model.person.Person;
+import networkbook.model.person.Tag;
+import networkbook.testutil.PersonBuilder;
+import networkbook.testutil.TypicalPersons;
+
+public class PersonGroupsTest {
+
+    private final ObservableList<Person> persons = FXCollections.observableArrayList();
+
+    @Test
+    public void constructor_typicalPersons_groupedByField() {
+        persons.setAll(TypicalPersons.getTypicalPersons());
+        PersonGroups tagGroups = new PersonGroups(persons, GroupField.TAG);
+        PersonGroups priorityGroups = new PersonGroups(persons, GroupField.PRIORITY);
+
+        assertEquals(List.of(TypicalPersons.ALICE, TypicalPersons.BENSON, TypicalPersons.DANIEL),
+                tagGroups.getPersons("friends"));
+        assertEquals(List.of(TypicalPersons.BENSON), tagGroups.getPersons("owesMoney"));
+        assertEquals(PersonGroups.NO_VALUE_KEY, last(tagGroups.getKeys()));
+        assertEquals(List.of("High", "Medium", "Low", PersonGroups.NO_VALUE_KEY).stream()
+                .filter(priorityGroups.getKeys()::contains).collect(Collectors.toList()), priorityGroups.getKeys());
+        assertSameGroups(tagGroups);
+        assertSameGroups(priorityGroups);
+    }
+
+    @Test
+    public void personsChanged_addEditRemove_groupsUpdated() {
+        persons.setAll(TypicalPersons.getTypicalPersons());
+        PersonGroups groups = new PersonGroups(persons, GroupField.GRAD);
+        Person graduate = new PersonBuilder().withName("New Graduate").withGraduation("AY2324-S1").build();
+
+        persons.add(0, graduate);
+        assertEquals(graduate, groups.getPersons("2023").get(0));
+        assertSameGroups(groups);
+
+        Person editedGraduate = new PersonBuilder(graduate).withGraduation("AY2425-S2").build();
+        persons.set(0, editedGraduate);
+        assertEquals(List.of(editedGraduate), groups.getPersons("2025"));
+        assertSameGroups(groups);
+
+        persons.remove(editedGraduate);
+        assertEquals(0, groups.getSize("2025"));
+        assertSameGroups(groups);
+    }
+
+    @Test
+    public void personsChanged_manyInsertionsAtSamePlace_groupsInOrderOfList() {
+        persons.setAll(TypicalPersons.getTypicalPersons());
+        PersonGroups groups = new PersonGroups(persons, GroupField.TAG);
+        for (int i = 0; i < 100; i++) {
+            // halves the room between the labels of the first two persons each time
+            persons.add(1, new PersonBuilder().withName("Person " + i).withTags("friends").build());
+        }
+        assertSameGroups(groups);
+    }
+
+    @Test
+    public void personsChanged_randomChanges_groupsInOrderOfList() {
+        Random random = new Random(2023);
+        List<Person> pool = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            pool.add(new PersonBuilder().withName("Person " + i).withTags("even" + (i % 4), "odd" + (i % 7)).build());
+        }
+        persons.setAll(pool.subList(0, 20));
+        PersonGroups groups = new PersonGroups(persons, GroupField.TAG);
+
+        for (int step = 0; step < 300; step++) {
+            List<Person> absent = pool.stream().filter(person -> !persons.contains(person))
+                    .collect(Collectors.toList());
+            int choice = random.nextInt(4);
+            if (choice == 0 && !absent.isEmpty()) {
+                // keeps inserting at the same place, so that there is soon no room between the labels
+                persons.add(Math.min(1, persons.size()), absent.get(random.nextInt(absent.size())));
+            } else if (choice == 1 && !persons.isEmpty()) {
+                persons.remove(random.nextInt(persons.size()));
+            } else if (choice == 2 && !absent.isEmpty() && !persons.isEmpty()) {
+                persons.set(random.nextInt(persons.size()), absent.get(random.nextInt(absent.size())));
+            } else if (random.nextBoolean()) {
+                int salt = random.nextInt();
+                FXCollections.sort(persons, Comparator.comparingInt(person -> person.getName().hashCode() ^ salt));
+            } else if (!persons.isEmpty()) {
+                // reorders a range, as the displayed list is changed when it is sorted
+                int from = random.nextInt(persons.size());
+                int to = from + random.nextInt(persons.size() - from + 1);
+                List<Person> shuffled = new ArrayList<>(persons.subList(from, to));
+                Collections.shuffle(shuffled, random);
+                persons.remove(from, to);
+                persons.addAll(from, shuffled);
+            }
+            assertSameGroups(groups);
+        }
+    }
+
+    @Test
+    public void indexOf_personNotInList_returnsMinusOne() {
+        persons.setAll(TypicalPersons.getTypicalPersons());
+        PersonGroups groups = new PersonGroups(persons, GroupField.TAG);
+        Person removed = persons.remove(2);
+        assertEquals(-1, groups.indexOf(removed));
+        assertEquals(2, groups.indexOf(persons.get(2)));
+    }
+
+    @Test
+    public void parseGroupField() {
+        assertEquals(Optional.of(GroupField.GRAD), PersonGroups.parseGroupField(" Graduation "));
+        assertEquals(Optional.of(GroupField.TAG), PersonGroups.parseGroupField("tag"));
+        assertEquals(Optional.empty(), PersonGroups.parseGroupField("name"));
+    }
+
+    /**
+     * Asserts that each group of {@code groups} has the persons of the list in that group, in the order of the list.
+     */
+    private void assertSameGroups(PersonGroups groups) {
+        for (int i = 0; i < persons.size(); i++) {
+            assertEquals(i, groups.indexOf(persons.get(i)));
+        }
+        List<String> expectedKeys = new ArrayList<>();
+        for (String key : groups.getKeys()) {
+            List<Person> expectedPersons = persons.stream()
+                    .filter(person -> getKeys(groups.getField(), person).contains(key))
+                    .collect(Collectors.toList());
+            assertEquals(expectedPersons, groups.getPersons(key));
+            assertEquals(expectedPersons.size(), groups.getSize(key));
+            expectedKeys.add(key);
+        }
+        long groupedCount = persons.stream()
+                .filter(person -> getKeys(groups.getField(), person).stream().anyMatch(expectedKeys::contains))
+                .count();
+        assertEquals(persons.size(), groupedCount);
+    }
+
+    private static List<String> getKeys(GroupField field, Person person) {
+        List<String> keys;
+        switch (field) {
+        case GRAD:
+            keys = person.getGraduation().map(grad -> List.of(String.valueOf(grad.getGradYear()))).orElse(List.of());
+            break;
+        case PRIORITY:
+            keys = person.getPriority().map(priority -> List.of(priority.toString())).orElse(List.of());
+            break;
+        default:
+            keys = person.getTags().stream().map(Tag::getValue).collect(Collectors.toList());
+        }
+        return keys.isEmpty() ? List.of(PersonGroups.NO_VALUE_KEY) : keys;
+    }
+
+    private static String last(List<String> keys) {
+        return keys.get(keys.size() - 1);
+    }
+}
@@ -0,0 +1,75 @@
+package networkbook.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import networkbook.model.person.NameFuzzyMatchPredicate;
+import networkbook.model.person.Person;
+import networkbook.model.util.SampleDataUtil;
+import networkbook.testutil.PersonBuilder;
+import networkbook.testutil.TypicalPersons;
+
+public class PersonNameFuzzyIndexTest {
+
+    private final ObservableList<Person> persons = FXCollections.observableArrayList();
+    private final PersonNameFuzzyIndex fuzzyIndex = new PersonNameFuzzyIndex(persons);
+
+    @Test
+    public void getDistances_keyTerms_sameResultsAsPredicate() {
+        persons.setAll(SampleDataUtil.getSamplePersons());
+        persons.addAll(TypicalPersons.getTypicalPersons());
+
+        assertSameResults(new NameFuzzyMatchPredicate(List.of("meir", "kunz")));
+        assertSameResults(new NameFuzzyMatchPredicate(List.of("Alcie", "yeoh")));
+        assertSameResults(new NameFuzzyMatchPredicate(List.of("paulnie")));
+        assertSameResults(new NameFuzzyMatchPredicate(List.of("zzz")));
+        assertSameResults(new NameFuzzyMatchPredicate(List.of()));
+    }
+
+    @Test
+    public void getDistances_personsAddedEditedAndRemoved_staysUpToDate() {
+        persons.setAll(TypicalPersons.getTypicalPersons());
+        NameFuzzyMatchPredicate predicate = new NameFuzzyMatchPredicate(List.of("meir"));
+        assertSameResults(predicate);
+
+        persons.set(0, new PersonBuilder(persons.get(0)).withName("Alice Mei").build());
+        persons.add(new PersonBuilder().withName("Meir Tan").build());
+        for (int i = 0; i < 30; i++) {
+            persons.add(new PersonBuilder().withName("Contact Number" + i).build());
+        }
+        persons.remove(1);
+        assertSameResults(predicate);
+
+        // removing most persons rebuilds the tree without their words
+        persons.remove(2, persons.size());
+        persons.add(new PersonBuilder().withName("Moir").build());
+        assertSameResults(predicate);
+        assertSameResults(new NameFuzzyMatchPredicate(List.of("number1")));
+    }
+
+    @Test
+    public void getRankingComparator_closestPersonsFirst() {
+        persons.setAll(TypicalPersons.ELLE, TypicalPersons.DANIEL, TypicalPersons.BENSON, TypicalPersons.ALICE);
+        NameFuzzyMatchPredicate predicate = new NameFuzzyMatchPredicate(List.of("meier"));
+        List<Person> ranked = persons.stream()
+                .filter(fuzzyIndex.getPredicate(predicate))
+                .sorted(fuzzyIndex.getRankingComparator(predicate))
+                .collect(Collectors.toList());
+        // Meier matches exactly, while Meyer is one edit away
+        assertEquals(List.of(TypicalPersons.DANIEL, TypicalPersons.BENSON, TypicalPersons.ELLE), ranked);
+    }
+
+    private void assertSameResults(NameFuzzyMatchPredicate predicate) {
+        Map<Person, Integer> expected = persons.stream()
+                .filter(predicate)
+                .collect(Collectors.toMap(person -> person, predicate::getDistance));
+        assertEquals(expected, Map.copyOf(fuzzyIndex.getDistances(predicate)));
+    }
+}
@@ -0,0 +1,58 @@
+package networkbook.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import networkbook.model.person.NameSoundsLikePredicate;
+import networkbook.model.person.Person;
+import networkbook.model.util.SampleDataUtil;
+import networkbook.testutil.PersonBuilder;
+import networkbook.testutil.TypicalPersons;
+
+public class PersonNamePhoneticIndexTest {
+
+    private final ObservableList<Person> persons = FXCollections.observableArrayList();
+    private final PersonNamePhoneticIndex phoneticIndex = new PersonNamePhoneticIndex(persons);
+
+    @Test
+    public void getMatchingPersons_keyTerms_sameResultsAsPredicate() {
+        persons.setAll(SampleDataUtil.getSamplePersons());
+        persons.addAll(TypicalPersons.getTypicalPersons());
+
+        assertSameResults(new NameSoundsLikePredicate(List.of("maier", "kuntz")));
+        assertSameResults(new NameSoundsLikePredicate(List.of("Alyce", "yeo")));
+        assertSameResults(new NameSoundsLikePredicate(List.of("123")));
+        assertSameResults(new NameSoundsLikePredicate(List.of()));
+    }
+
+    @Test
+    public void getMatchingPersons_personsAddedEditedAndRemoved_staysUpToDate() {
+        persons.setAll(TypicalPersons.getTypicalPersons());
+        NameSoundsLikePredicate predicate = new NameSoundsLikePredicate(List.of("ngyuen", "maier"));
+        assertSameResults(predicate);
+
+        persons.set(0, new PersonBuilder(persons.get(0)).withName("Alice Nguyen").build());
+        persons.add(new PersonBuilder().withName("Nguyen Van An").build());
+        persons.remove(1);
+        assertSameResults(predicate);
+
+        persons.remove(0);
+        persons.set(0, new PersonBuilder(persons.get(0)).withName("Carl Meyer").build());
+        assertSameResults(predicate);
+    }
+
+    private void assertSameResults(NameSoundsLikePredicate predicate) {
+        Set<Person> expected = persons.stream().filter(predicate).collect(Collectors.toSet());
+        assertEquals(expected, Set.copyOf(phoneticIndex.getMatchingPersons(predicate)));
+        assertEquals(expected, persons.stream()
+                .filter(phoneticIndex.getPredicate(predicate))
+                .collect(Collectors.toSet()));
+    }
+}
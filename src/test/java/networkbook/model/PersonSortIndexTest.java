@@ -0,0 +1,124 @@
+package networkbook.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import networkbook.model.person.Person;
+import networkbook.model.person.PersonSortComparator;
+import networkbook.model.person.PersonSortComparator.SortField;
+import networkbook.model.person.PersonSortComparator.SortOrder;
+import networkbook.model.util.SampleDataUtil;
+import networkbook.testutil.PersonBuilder;
+import networkbook.testutil.TypicalPersons;
+
+public class PersonSortIndexTest {
+
+    private final ObservableList<Person> persons = FXCollections.observableArrayList();
+    private final PersonSortIndex sortIndex = new PersonSortIndex(persons);
+
+    @Test
+    public void getSortedPersons_name_sortedAscending() {
+        persons.setAll(TypicalPersons.BENSON, TypicalPersons.ALICE, TypicalPersons.CARL);
+        assertEquals(List.of(TypicalPersons.ALICE, TypicalPersons.BENSON, TypicalPersons.CARL),
+                sortIndex.getSortedPersons(SortField.NAME));
+    }
+
+    @Test
+    public void getSortedPersons_personsAddedAndRemoved_staysSorted() {
+        persons.setAll(TypicalPersons.getTypicalPersons());
+        sortIndex.getSortedPersons(SortField.GRAD);
+
+        persons.remove(TypicalPersons.ALICE);
+        persons.add(TypicalPersons.AMY);
+        persons.set(0, new PersonBuilder(persons.get(0)).withGraduation("AY1011-S1").build());
+
+        List<Person> expected = new ArrayList<>(persons);
+        expected.sort(PersonSortComparator.generateComparator(SortField.GRAD, SortOrder.ASCENDING));
+        assertEquals(expected, sortIndex.getSortedPersons(SortField.GRAD));
+    }
+
+    @Test
+    public void getComparator_allFieldsAndOrders_sameOrderAsPersonSortComparator() {
+        persons.setAll(SampleDataUtil.getSamplePersons());
+        persons.addAll(TypicalPersons.getTypicalPersons());
+        persons.add(new PersonBuilder().withName("No Optional Fields").withoutOptionalFields().build());
+
+        for (SortField field : List.of(SortField.NAME, SortField.GRAD, SortField.PRIORITY)) {
+            for (SortOrder order : List.of(SortOrder.ASCENDING, SortOrder.DESCENDING)) {
+                PersonSortComparator comparator = new PersonSortComparator(field, order);
+                List<Person> expected = new ArrayList<>(persons);
+                expected.sort(comparator);
+                List<Person> actual = new ArrayList<>(persons);
+                actual.sort(sortIndex.getComparator(comparator));
+                assertEquals(expected, actual);
+            }
+        }
+    }
+
+    @Test
+    public void getComparator_multipleSortKeys_sameOrderAsPersonSortComparator() {
+        persons.setAll(SampleDataUtil.getSamplePersons());
+        persons.addAll(TypicalPersons.getTypicalPersons());
+        persons.add(new PersonBuilder(TypicalPersons.AMY).withGraduation("AY2324-S1").withPriority("high").build());
+
+        PersonSortComparator comparator = new PersonSortComparator(SortField.PRIORITY, SortOrder.DESCENDING,
+                new PersonSortComparator(SortField.GRAD, SortOrder.ASCENDING,
+                        new PersonSortComparator(SortField.NAME, SortOrder.DESCENDING)));
+        List<Person> expected = new ArrayList<>(persons);
+        expected.sort(comparator);
+        List<Person> actual = new ArrayList<>(persons);
+        actual.sort(sortIndex.getComparator(comparator));
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void getComparator_personEdited_usesEditedValue() {
+        persons.setAll(TypicalPersons.ALICE, TypicalPersons.BENSON);
+        PersonSortComparator comparator = new PersonSortComparator(SortField.GRAD, SortOrder.ASCENDING);
+        List<Person> sorted = new ArrayList<>(persons);
+        sorted.sort(sortIndex.getComparator(comparator));
+        assertEquals(List.of(TypicalPersons.BENSON, TypicalPersons.ALICE), sorted);
+
+        Person editedBenson = new PersonBuilder(TypicalPersons.BENSON).withGraduation("AY2930-S1").build();
+        persons.set(1, editedBenson);
+        sorted = new ArrayList<>(persons);
+        sorted.sort(sortIndex.getComparator(comparator));
+        assertEquals(List.of(TypicalPersons.ALICE, editedBenson), sorted);
+    }
+
+    @Test
+    public void getComparator_manyInsertionsAtSamePlace_sameOrderAsPersonSortComparator() {
+        persons.setAll(TypicalPersons.getTypicalPersons());
+        List<PersonSortComparator> comparators = List.of(new PersonSortComparator(SortField.NAME, SortOrder.ASCENDING),
+                new PersonSortComparator(SortField.PRIORITY, SortOrder.DESCENDING,
+                        new PersonSortComparator(SortField.NAME, SortOrder.DESCENDING)));
+        assertSameOrder(comparators);
+
+        String[] priorities = {"high", "medium", "low"};
+        for (int i = 0; i < 100; i++) {
+            // each name sorts right after the previous one, which halves the room between their ranks each time
+            persons.add(new PersonBuilder().withName("Alice" + "z".repeat(i + 1)).withPriority(priorities[i % 3])
+                    .build());
+            assertSameOrder(comparators);
+        }
+        persons.remove(TypicalPersons.BENSON);
+        persons.set(0, new PersonBuilder(persons.get(0)).withName("Alicezz0").build());
+        assertSameOrder(comparators);
+    }
+
+    private void assertSameOrder(List<PersonSortComparator> comparators) {
+        for (PersonSortComparator comparator : comparators) {
+            List<Person> expected = new ArrayList<>(persons);
+            expected.sort(comparator);
+            List<Person> actual = new ArrayList<>(persons);
+            actual.sort(sortIndex.getComparator(comparator));
+            assertEquals(expected, actual);
+        }
+    }
+}
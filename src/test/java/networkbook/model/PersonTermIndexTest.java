@@ -0,0 +1,112 @@
+package networkbook.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import networkbook.model.person.NameContainsKeyTermsPredicate;
+import networkbook.model.person.Person;
+import networkbook.model.person.filter.CourseContainsKeyTermsPredicate;
+import networkbook.model.person.filter.FieldContainsKeyTermsPredicate;
+import networkbook.model.person.filter.KeyTermsField;
+import networkbook.model.person.filter.SpecContainsKeyTermsPredicate;
+import networkbook.model.person.filter.TagsContainKeyTermsPredicate;
+import networkbook.model.util.SampleDataUtil;
+import networkbook.testutil.PersonBuilder;
+import networkbook.testutil.TypicalPersons;
+
+public class PersonTermIndexTest {
+
+    private final ObservableList<Person> persons = FXCollections.observableArrayList();
+    private final PersonTermIndex termIndex = new PersonTermIndex(persons);
+
+    @Test
+    public void getPredicate_allFields_sameResultsAsPredicate() {
+        persons.setAll(SampleDataUtil.getSamplePersons());
+        persons.addAll(TypicalPersons.getTypicalPersons());
+        persons.add(new PersonBuilder().withName("No Optional Fields").withoutOptionalFields().build());
+
+        List<List<String>> keyTermLists = List.of(List.of("a"), List.of("FRIEND", "cs"), List.of("ma", "zzz"),
+                List.of("2"), List.of("nothing"), List.of("ali", "ERNAN"), List.of("ers"), List.of("lice", "bensonn"));
+        for (List<String> keyTerms : keyTermLists) {
+            assertSameResults(new NameContainsKeyTermsPredicate(keyTerms));
+            assertSameResults(new TagsContainKeyTermsPredicate(keyTerms));
+            assertSameResults(new CourseContainsKeyTermsPredicate(keyTerms));
+            assertSameResults(new SpecContainsKeyTermsPredicate(keyTerms));
+        }
+    }
+
+    @Test
+    public void getMatchingPersons_personsAddedEditedAndRemoved_staysUpToDate() {
+        persons.setAll(TypicalPersons.ALICE, TypicalPersons.BENSON);
+        Person alice = new PersonBuilder(TypicalPersons.ALICE).withTags("mentor").build();
+        persons.set(0, alice);
+        assertEquals(List.of(alice), List.copyOf(termIndex.getMatchingPersons(KeyTermsField.TAG, List.of("ment"))));
+
+        Person editedAlice = new PersonBuilder(alice).withTags("classmate").build();
+        persons.set(0, editedAlice);
+        assertTrue(termIndex.getMatchingPersons(KeyTermsField.TAG, List.of("ment")).isEmpty());
+
+        Person carl = new PersonBuilder(TypicalPersons.CARL).withTags("Mentor").build();
+        persons.add(carl);
+        assertEquals(List.of(carl), List.copyOf(termIndex.getMatchingPersons(KeyTermsField.TAG, List.of("ment"))));
+
+        persons.remove(carl);
+        assertTrue(termIndex.getMatchingPersons(KeyTermsField.TAG, List.of("ment")).isEmpty());
+    }
+
+    @Test
+    public void getMatchingPersons_keptMatchesUpdatedWithChangedPersonsOnly() {
+        persons.setAll(TypicalPersons.getTypicalPersons());
+        Set<Person> matchingPersons = termIndex.getMatchingPersons(KeyTermsField.TAG, List.of("ment", "Class"));
+        assertTrue(matchingPersons.isEmpty());
+
+        Person alice = new PersonBuilder(TypicalPersons.ALICE).withTags("classmate").build();
+        persons.set(0, alice);
+        Person carl = new PersonBuilder(TypicalPersons.CARL).withName("Carl Mentor").withTags("Mentor").build();
+        persons.add(carl);
+        assertEquals(Set.of(alice, carl), matchingPersons);
+
+        persons.remove(alice);
+        assertEquals(Set.of(carl), matchingPersons);
+        assertSameResults(new TagsContainKeyTermsPredicate(List.of("ment", "Class")));
+    }
+
+    @Test
+    public void getPredicate_caseInsensitiveWordMatch() {
+        Person person = new PersonBuilder(TypicalPersons.ALICE).withTags("Machine Learning").build();
+        persons.setAll(person);
+        Predicate<Person> predicate = termIndex.getPredicate(new TagsContainKeyTermsPredicate(List.of("LEARN")));
+        assertTrue(predicate.test(person));
+        predicate = termIndex.getPredicate(new TagsContainKeyTermsPredicate(List.of("nel")));
+        assertFalse(predicate.test(person));
+    }
+
+    @Test
+    public void getMatchingPersons_name_matchesSubstringsOfAnyLength() {
+        Person person = new PersonBuilder().withName("Anna Banana").build();
+        persons.setAll(person, TypicalPersons.CARL);
+        for (String keyTerm : List.of("b", "NN", "nan", "anana", "banana", "anna")) {
+            assertEquals(List.of(person),
+                    List.copyOf(termIndex.getMatchingPersons(KeyTermsField.NAME, List.of(keyTerm))));
+        }
+        // all trigrams of the key term occur in "banana", but not the key term itself
+        assertTrue(termIndex.getMatchingPersons(KeyTermsField.NAME, List.of("nanan")).isEmpty());
+        assertTrue(termIndex.getMatchingPersons(KeyTermsField.NAME, List.of("bananas")).isEmpty());
+    }
+
+    private void assertSameResults(FieldContainsKeyTermsPredicate predicate) {
+        Predicate<Person> indexedPredicate = termIndex.getPredicate(predicate);
+        assertEquals(persons.stream().filter(predicate).collect(Collectors.toList()),
+                persons.stream().filter(indexedPredicate).collect(Collectors.toList()));
+    }
+}
@@ -4,6 +4,7 @@ import static networkbook.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
@@ -11,7 +12,10 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import networkbook.model.person.NameContainsKeyTermsPredicate;
+import networkbook.model.person.Person;
+import networkbook.testutil.PersonBuilder;
 import networkbook.testutil.TypicalPersons;
 
 public class VersionedNetworkBookTest {
@@ -21,8 +25,8 @@ public class VersionedNetworkBookTest {
         VersionedNetworkBook versionedNetworkBook = new VersionedNetworkBook();
 
         assertNotNull(versionedNetworkBook);
-        ArrayList<NetworkBook> expected = new ArrayList<>();
-        expected.add(new NetworkBook());
+        ArrayList<NetworkBookSnapshot> expected = new ArrayList<>();
+        expected.add(new NetworkBookSnapshot(new NetworkBook()));
         assertEquals(expected, versionedNetworkBook.getNetworkBookStateList());
         assertEquals(0, versionedNetworkBook.getCurrentStatePointer());
     }
@@ -32,8 +36,8 @@ public class VersionedNetworkBookTest {
         VersionedNetworkBook versionedNetworkBook = new VersionedNetworkBook(networkBook);
 
         assertNotNull(versionedNetworkBook);
-        ArrayList<NetworkBook> expected = new ArrayList<>();
-        expected.add(networkBook);
+        ArrayList<NetworkBookSnapshot> expected = new ArrayList<>();
+        expected.add(new NetworkBookSnapshot(networkBook));
         assertEquals(expected, versionedNetworkBook.getNetworkBookStateList());
         assertEquals(0, versionedNetworkBook.getCurrentStatePointer());
     }
@@ -46,7 +50,7 @@ public class VersionedNetworkBookTest {
         assertEquals(2, versionedNetworkBook.getNetworkBookStateList().size());
         NetworkBook expected = new NetworkBook();
         expected.addPerson(TypicalPersons.ALICE);
-        assertEquals(expected, versionedNetworkBook.getNetworkBookStateList().get(1));
+        assertEquals(new NetworkBookSnapshot(expected), versionedNetworkBook.getNetworkBookStateList().get(1));
         assertEquals(1, versionedNetworkBook.getCurrentStatePointer());
         versionedNetworkBook.setFilterPredicate(PREDICATE_SHOW_ALL_PERSONS);
         versionedNetworkBook.commit();
@@ -94,6 +98,48 @@ public class VersionedNetworkBookTest {
         assertEquals(expected.getDisplayedPersonList(), versionedNetworkBook.getDisplayedPersonList());
     }
 
+    @Test
+    public void undo_editPerson_onlyReplacesEditedPerson() {
+        VersionedNetworkBook versionedNetworkBook = new VersionedNetworkBook();
+        versionedNetworkBook.addPerson(TypicalPersons.ALICE);
+        versionedNetworkBook.addPerson(TypicalPersons.BENSON);
+        versionedNetworkBook.commit();
+        Person editedBenson = new PersonBuilder(TypicalPersons.BENSON).withPriority("high").build();
+        versionedNetworkBook.setItem(TypicalPersons.BENSON, editedBenson);
+        versionedNetworkBook.commit();
+
+        List<ListChangeListener.Change<? extends Person>> changes = new ArrayList<>();
+        versionedNetworkBook.getDisplayedPersonList().addListener((ListChangeListener<Person>) changes::add);
+        versionedNetworkBook.undo();
+
+        assertEquals(List.of(TypicalPersons.ALICE, TypicalPersons.BENSON), versionedNetworkBook.getPersonList());
+        assertEquals(1, changes.size());
+        ListChangeListener.Change<? extends Person> change = changes.get(0);
+        assertTrue(change.next());
+        assertEquals(List.of(TypicalPersons.BENSON), change.getAddedSubList());
+        assertEquals(List.of(editedBenson), change.getRemoved());
+        assertFalse(change.next());
+    }
+
+    @Test
+    public void undo_editCourseDateOnly_restoresOriginalDate() {
+        VersionedNetworkBook versionedNetworkBook = new VersionedNetworkBook();
+        Person person = new PersonBuilder().withName("Course Taker").withCourses(List.of())
+                .addCourse("CS2103", "01-01-2023").build();
+        versionedNetworkBook.addPerson(person);
+        versionedNetworkBook.commit();
+        Person editedPerson = new PersonBuilder(person).withCourses(List.of())
+                .addCourse("CS2103", "01-06-2023").build();
+        versionedNetworkBook.setItem(person, editedPerson);
+        versionedNetworkBook.commit();
+
+        versionedNetworkBook.undo();
+
+        Person restoredPerson = versionedNetworkBook.getPersonList().get(0);
+        assertSame(person, restoredPerson);
+        assertEquals("01-01-2023", restoredPerson.getCourses().get(0).getStartDate());
+    }
+
     @Test
     public void redo_changeData() {
         VersionedNetworkBook versionedNetworkBook = new VersionedNetworkBook();
@@ -161,12 +207,13 @@ public class VersionedNetworkBookTest {
         VersionedNetworkBook versionedNetworkBook = new VersionedNetworkBook();
         versionedNetworkBook.addPerson(TypicalPersons.ALICE);
         versionedNetworkBook.commit();
-        ArrayList<NetworkBook> actual = versionedNetworkBook.getNetworkBookStateList();
-        ArrayList<NetworkBook> expected = new ArrayList<>();
+        ArrayList<NetworkBookSnapshot> actual = versionedNetworkBook.getNetworkBookStateList();
+        ArrayList<NetworkBookSnapshot> expected = new ArrayList<>();
         NetworkBook networkBookWithAlice = new NetworkBook();
         networkBookWithAlice.addPerson(TypicalPersons.ALICE);
-        expected.add(new NetworkBook());
-        expected.add(networkBookWithAlice);
+        expected.add(new NetworkBookSnapshot(new NetworkBook()));
+        expected.add(new NetworkBookSnapshot(networkBookWithAlice));
+        assertEquals(expected, actual);
     }
 
     @Test
@@ -6,6 +6,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.LocalDate;
+
 import org.junit.jupiter.api.Test;
 
 public class CourseTest {
@@ -271,4 +273,25 @@ public class CourseTest {
         assertFalse(courseWithStart.endDateExists());
         assertTrue(courseWithBothDates.endDateExists());
     }
+
+    @Test
+    public void isTakenDuring() {
+        long day = LocalDate.of(2000, 1, 2).toEpochDay();
+        Course course = new Course("Valid Course");
+        Course courseWithStart = new Course("Valid Course", "02-01-2000");
+        Course courseWithBothDates = new Course("Valid Course", "02-01-2000", "04-01-2000");
+
+        // no start date -> always taken
+        assertTrue(course.isTakenDuring(Long.MIN_VALUE, Long.MIN_VALUE));
+
+        // start date only -> taken from start date
+        assertFalse(courseWithStart.isTakenDuring(day - 5, day - 1));
+        assertTrue(courseWithStart.isTakenDuring(day - 5, day));
+        assertTrue(courseWithStart.isTakenDuring(day + 1000, day + 1000));
+
+        // both dates -> taken from start to end date, inclusive
+        assertTrue(courseWithBothDates.isTakenDuring(day + 2, day + 2));
+        assertTrue(courseWithBothDates.isTakenDuring(day - 1, day + 5));
+        assertFalse(courseWithBothDates.isTakenDuring(day + 3, day + 5));
+    }
 }
@@ -0,0 +1,68 @@
+package networkbook.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import networkbook.model.person.filter.GradInAnyRangePredicate;
+import networkbook.model.person.filter.GradRange;
+import networkbook.testutil.PersonBuilder;
+
+public class GradInAnyRangePredicateTest {
+    private static final GradRange FROM_AY2223_S2 =
+            new GradRange(new Graduation("AY2223-S2").getPackedValue(), GradRange.NO_UPPER_BOUND);
+
+    @Test
+    public void equals() {
+        GradInAnyRangePredicate predicate = new GradInAnyRangePredicate(List.of(GradRange.ofYears(2020, 2022)));
+
+        assertEquals(predicate, predicate);
+        assertEquals(predicate, new GradInAnyRangePredicate(List.of(GradRange.ofYears(2020, 2022))));
+        assertNotEquals(predicate, new GradInAnyRangePredicate(List.of(GradRange.ofYears(2020, 2023))));
+        assertNotEquals(predicate, 5);
+        assertNotEquals(predicate, null);
+    }
+
+    @Test
+    public void test_yearRange_matchesBothSemestersOfEachYear() {
+        GradInAnyRangePredicate predicate = new GradInAnyRangePredicate(List.of(GradRange.ofYears(2020, 2022)));
+        assertFalse(predicate.test(new PersonBuilder().withGraduation("AY1920-S1").build()));
+        assertTrue(predicate.test(new PersonBuilder().withGraduation("AY1920-S2").build()));
+        assertTrue(predicate.test(new PersonBuilder().withGraduation("AY2122-S1").build()));
+        assertTrue(predicate.test(new PersonBuilder().withGraduation("AY2122-S1").build()));
+        assertTrue(predicate.test(new PersonBuilder().withGraduation("AY2223-S1").build()));
+        assertFalse(predicate.test(new PersonBuilder().withGraduation("AY2223-S2").build()));
+        assertFalse(predicate.test(new PersonBuilder().withoutOptionalFields().build()));
+    }
+
+    @Test
+    public void test_semesterBound_matchesFromSemester() {
+        GradInAnyRangePredicate predicate = new GradInAnyRangePredicate(List.of(FROM_AY2223_S2));
+        assertFalse(predicate.test(new PersonBuilder().withGraduation("AY2223-S1").build()));
+        assertTrue(predicate.test(new PersonBuilder().withGraduation("AY2223-S2").build()));
+        assertTrue(predicate.test(new PersonBuilder().withGraduation("AY6869-S2").build()));
+    }
+
+    @Test
+    public void toStringTest() {
+        assertEquals("2022", GradRange.ofYear(2022).toString());
+        assertEquals("2020-2024", GradRange.ofYears(2020, 2024).toString());
+        assertEquals(">=2023", FROM_AY2223_S2.toString());
+        assertEquals(">=AY2223-S1",
+                new GradRange(new Graduation("AY2223-S1").getPackedValue(), GradRange.NO_UPPER_BOUND).toString());
+        assertEquals("<=AY1920-S2",
+                new GradRange(GradRange.NO_LOWER_BOUND, new Graduation("AY1920-S2").getPackedValue()).toString());
+        assertEquals("AY1920-S1-2021",
+                new GradRange(new Graduation("AY1920-S1").getPackedValue(), GradRange.getLastPackedValue(2021))
+                        .toString());
+
+        GradInAnyRangePredicate predicate = new GradInAnyRangePredicate(List.of(FROM_AY2223_S2));
+        String expected = GradInAnyRangePredicate.class.getCanonicalName() + "{ranges=[>=2023]}";
+        assertEquals(expected, predicate.toString());
+    }
+}
@@ -0,0 +1,44 @@
+package networkbook.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import networkbook.model.person.filter.LogicalPredicate;
+import networkbook.model.person.filter.TagsContainKeyTermsPredicate;
+import networkbook.testutil.PersonBuilder;
+
+public class LogicalPredicateTest {
+    private static final TagsContainKeyTermsPredicate FRIEND = new TagsContainKeyTermsPredicate(List.of("friend"));
+    private static final TagsContainKeyTermsPredicate MENTOR = new TagsContainKeyTermsPredicate(List.of("mentor"));
+
+    @Test
+    public void test_operators() {
+        Person friend = new PersonBuilder().withTags("friend").build();
+        Person friendAndMentor = new PersonBuilder().withTags("friend", "mentor").build();
+
+        assertFalse(LogicalPredicate.and(List.of(FRIEND, MENTOR)).test(friend));
+        assertTrue(LogicalPredicate.and(List.of(FRIEND, MENTOR)).test(friendAndMentor));
+        assertTrue(LogicalPredicate.or(List.of(FRIEND, MENTOR)).test(friend));
+        assertTrue(LogicalPredicate.not(MENTOR).test(friend));
+        assertFalse(LogicalPredicate.not(FRIEND).test(friendAndMentor));
+    }
+
+    @Test
+    public void equals() {
+        LogicalPredicate predicate = LogicalPredicate.and(List.of(FRIEND, MENTOR));
+
+        assertEquals(predicate, predicate);
+        assertEquals(LogicalPredicate.and(List.of(new TagsContainKeyTermsPredicate(List.of("friend")), MENTOR)),
+                predicate);
+        assertEquals(LogicalPredicate.and(List.of(FRIEND, MENTOR)).hashCode(), predicate.hashCode());
+        assertNotEquals(LogicalPredicate.or(List.of(FRIEND, MENTOR)), predicate);
+        assertNotEquals(LogicalPredicate.and(List.of(MENTOR, FRIEND)), predicate);
+        assertNotEquals(null, predicate);
+    }
+}
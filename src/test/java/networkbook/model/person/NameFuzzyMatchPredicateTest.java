@@ -0,0 +1,89 @@
+package networkbook.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import networkbook.testutil.PersonBuilder;
+
+public class NameFuzzyMatchPredicateTest {
+
+    @Test
+    public void equals() {
+        NameFuzzyMatchPredicate firstPredicate = new NameFuzzyMatchPredicate(Collections.singletonList("first"));
+        NameFuzzyMatchPredicate secondPredicate = new NameFuzzyMatchPredicate(List.of("first", "second"));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new NameFuzzyMatchPredicate(List.of("first"))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different key terms -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void getMaxDistance_growsWithLength() {
+        assertEquals(0, NameFuzzyMatchPredicate.getMaxDistance("al"));
+        assertEquals(1, NameFuzzyMatchPredicate.getMaxDistance("ali"));
+        assertEquals(1, NameFuzzyMatchPredicate.getMaxDistance("alice"));
+        assertEquals(2, NameFuzzyMatchPredicate.getMaxDistance("alicia"));
+    }
+
+    @Test
+    public void test_nameWordWithinDistance_returnsTrue() {
+        Person alice = new PersonBuilder().withName("Alice Pauline").build();
+
+        // one misspelt key term
+        assertTrue(new NameFuzzyMatchPredicate(List.of("alise")).test(alice));
+
+        // mixed case, matching the second word
+        assertTrue(new NameFuzzyMatchPredicate(List.of("PAULNE")).test(alice));
+
+        // only one of the key terms matches
+        assertTrue(new NameFuzzyMatchPredicate(List.of("bob", "pauliine")).test(alice));
+    }
+
+    @Test
+    public void test_nameWordTooFar_returnsFalse() {
+        Person alice = new PersonBuilder().withName("Alice Pauline").build();
+
+        // short key terms must match exactly
+        assertFalse(new NameFuzzyMatchPredicate(List.of("al")).test(alice));
+
+        // too many edits
+        assertFalse(new NameFuzzyMatchPredicate(List.of("alxcy")).test(alice));
+
+        // no key terms
+        assertFalse(new NameFuzzyMatchPredicate(List.of()).test(alice));
+    }
+
+    @Test
+    public void getDistance_leastDistanceOfMatchingWords() {
+        Person person = new PersonBuilder().withName("Alice Alicia").build();
+        assertEquals(0, new NameFuzzyMatchPredicate(List.of("alicia")).getDistance(person));
+        assertEquals(1, new NameFuzzyMatchPredicate(List.of("alicf")).getDistance(person));
+        assertEquals(-1, new NameFuzzyMatchPredicate(List.of("bob")).getDistance(person));
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<String> keyTerms = List.of("keyword1", "keyword2");
+        NameFuzzyMatchPredicate predicate = new NameFuzzyMatchPredicate(keyTerms);
+
+        String expected = NameFuzzyMatchPredicate.class.getCanonicalName() + "{key terms=" + keyTerms + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
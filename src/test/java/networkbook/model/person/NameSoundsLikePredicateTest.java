@@ -0,0 +1,76 @@
+package networkbook.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import networkbook.testutil.PersonBuilder;
+
+public class NameSoundsLikePredicateTest {
+
+    @Test
+    public void equals() {
+        NameSoundsLikePredicate firstPredicate = new NameSoundsLikePredicate(Collections.singletonList("first"));
+        NameSoundsLikePredicate secondPredicate = new NameSoundsLikePredicate(List.of("first", "second"));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new NameSoundsLikePredicate(List.of("first"))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different key terms -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void getPhoneticCodes_keyTermsWithoutLetters_ignored() {
+        assertEquals(Set.of("NKYN"), new NameSoundsLikePredicate(List.of("Nguyen", "ngyuen", "42")).getPhoneticCodes());
+    }
+
+    @Test
+    public void test_nameWordSoundsLikeKeyTerm_returnsTrue() {
+        Person person = new PersonBuilder().withName("Nguyen Van An").build();
+
+        // misspelt key term
+        assertTrue(new NameSoundsLikePredicate(List.of("Ngyuen")).test(person));
+
+        // only one of the key terms sounds like a word
+        assertTrue(new NameSoundsLikePredicate(List.of("Tran", "Vann")).test(person));
+    }
+
+    @Test
+    public void test_noNameWordSoundsLikeKeyTerm_returnsFalse() {
+        Person person = new PersonBuilder().withName("Nguyen Van An").build();
+
+        // different sound
+        assertFalse(new NameSoundsLikePredicate(List.of("Newman")).test(person));
+
+        // no letters
+        assertFalse(new NameSoundsLikePredicate(List.of("123")).test(person));
+
+        // no key terms
+        assertFalse(new NameSoundsLikePredicate(List.of()).test(person));
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<String> keyTerms = List.of("keyword1", "keyword2");
+        NameSoundsLikePredicate predicate = new NameSoundsLikePredicate(keyTerms);
+
+        String expected = NameSoundsLikePredicate.class.getCanonicalName() + "{key terms=" + keyTerms + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
@@ -35,6 +35,48 @@ public class PersonSortComparatorTest {
         assertFalse(firstCmp.equals(secondCmp));
     }
 
+    @Test
+    public void equals_tieBreaker() {
+        PersonSortComparator tieBreaker = new PersonSortComparator(SortField.NAME, SortOrder.ASCENDING);
+        PersonSortComparator cmp = new PersonSortComparator(SortField.GRAD, SortOrder.ASCENDING, tieBreaker);
+
+        // same values -> returns true
+        assertTrue(cmp.equals(new PersonSortComparator(SortField.GRAD, SortOrder.ASCENDING,
+                new PersonSortComparator(SortField.NAME, SortOrder.ASCENDING))));
+        assertEquals(cmp.hashCode(), new PersonSortComparator(SortField.GRAD, SortOrder.ASCENDING, tieBreaker)
+                .hashCode());
+
+        // no tie breaker -> returns false
+        assertFalse(cmp.equals(new PersonSortComparator(SortField.GRAD, SortOrder.ASCENDING)));
+
+        // different tie breaker -> returns false
+        assertFalse(cmp.equals(new PersonSortComparator(SortField.GRAD, SortOrder.ASCENDING,
+                new PersonSortComparator(SortField.NAME, SortOrder.DESCENDING))));
+    }
+
+    @Test
+    public void compare_tieBreaker_ordersTiedPersons() {
+        Person alice = new PersonBuilder(TypicalPersons.ALICE).withPriority("h").build();
+        Person bob = new PersonBuilder(TypicalPersons.BOB).withPriority("h").build();
+        Person carl = new PersonBuilder(TypicalPersons.CARL).withPriority("l").build();
+        PersonSortComparator cmp = new PersonSortComparator(SortField.PRIORITY, SortOrder.DESCENDING,
+                new PersonSortComparator(SortField.NAME, SortOrder.DESCENDING));
+
+        assertTrue(cmp.compare(bob, alice) < 0);
+        assertTrue(cmp.compare(alice, carl) < 0);
+        assertEquals(0, cmp.compare(alice, new PersonBuilder(alice).build()));
+    }
+
+    @Test
+    public void getSortKeys_tieBreakers_returnsKeysInOrder() {
+        PersonSortComparator cmp = new PersonSortComparator(SortField.PRIORITY, SortOrder.DESCENDING,
+                new PersonSortComparator(SortField.GRAD, SortOrder.ASCENDING,
+                        new PersonSortComparator(SortField.NAME, SortOrder.ASCENDING)));
+        assertEquals(List.of(new PersonSortComparator(SortField.PRIORITY, SortOrder.DESCENDING),
+                new PersonSortComparator(SortField.GRAD, SortOrder.ASCENDING),
+                new PersonSortComparator(SortField.NAME, SortOrder.ASCENDING)), cmp.getSortKeys());
+    }
+
     @Test
     public void test_compareName_comparesCorrectly() {
         Person a = new PersonBuilder(TypicalPersons.ALICE)
@@ -15,6 +15,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -58,6 +59,30 @@ public class PersonTest {
         assertFalse(TypicalPersons.BOB.isSame(editedBob));
     }
 
+    @Test
+    public void getChangedFields() {
+        // same fields -> no fields changed
+        assertEquals(Set.of(), TypicalPersons.AMY.getChangedFields(new PersonBuilder(TypicalPersons.AMY).build()));
+
+        // some fields different -> only those fields changed
+        Person editedAmy = new PersonBuilder(TypicalPersons.AMY)
+                .withPhones(List.of(VALID_PHONE_BOB))
+                .withTags(VALID_TAG_HUSBAND)
+                .build();
+        assertEquals(Set.of(PersonField.PHONE, PersonField.TAG), TypicalPersons.AMY.getChangedFields(editedAmy));
+
+        // only the dates of a course different -> course changed
+        Person person = new PersonBuilder().withCourses(List.of()).addCourse("CS2103", "01-01-2023").build();
+        Person editedPerson = new PersonBuilder(person).withCourses(List.of())
+                .addCourse("CS2103", "01-06-2023").build();
+        assertEquals(Set.of(PersonField.COURSE), person.getChangedFields(editedPerson));
+
+        // different person -> all differing fields changed
+        assertEquals(Set.of(PersonField.NAME, PersonField.PHONE, PersonField.EMAIL, PersonField.LINK,
+                PersonField.GRADUATION, PersonField.COURSE, PersonField.SPECIALISATION, PersonField.TAG,
+                PersonField.PRIORITY), TypicalPersons.AMY.getChangedFields(TypicalPersons.BOB));
+    }
+
     @Test
     public void getValue_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, TypicalPersons.ALICE::getValue);
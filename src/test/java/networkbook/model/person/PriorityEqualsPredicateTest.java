@@ -0,0 +1,36 @@
+package networkbook.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import networkbook.model.person.filter.PriorityEqualsPredicate;
+import networkbook.testutil.PersonBuilder;
+
+public class PriorityEqualsPredicateTest {
+    @Test
+    public void test_samePriority_returnsTrue() {
+        PriorityEqualsPredicate predicate = new PriorityEqualsPredicate(new Priority("high"));
+        assertTrue(predicate.test(new PersonBuilder().withPriority("H").build()));
+    }
+
+    @Test
+    public void test_otherOrNoPriority_returnsFalse() {
+        PriorityEqualsPredicate predicate = new PriorityEqualsPredicate(new Priority("high"));
+        assertFalse(predicate.test(new PersonBuilder().withPriority("low").build()));
+        assertFalse(predicate.test(new PersonBuilder().build()));
+    }
+
+    @Test
+    public void equals() {
+        PriorityEqualsPredicate predicate = new PriorityEqualsPredicate(new Priority("medium"));
+
+        assertEquals(predicate, predicate);
+        assertEquals(new PriorityEqualsPredicate(new Priority("m")), predicate);
+        assertNotEquals(new PriorityEqualsPredicate(new Priority("low")), predicate);
+        assertNotEquals(null, predicate);
+    }
+}
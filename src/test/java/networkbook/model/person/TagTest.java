@@ -76,4 +76,11 @@ public class TagTest {
         assertNotEquals(new Tag(VALID_TAG_1), null);
     }
 
+    @Test
+    public void getNormalizedValue_lowerCasedValue() {
+        Tag tag = new Tag("Hyphen-Tag AND Space");
+        assertEquals("hyphen-tag and space", tag.getNormalizedValue());
+        assertEquals("Hyphen-Tag AND Space", tag.getValue());
+    }
+
 }
@@ -0,0 +1,75 @@
+package networkbook.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import networkbook.commons.util.StringUtil;
+
+public class BkTreeTest {
+
+    @Test
+    public void add_duplicateWord_returnsFalse() {
+        BkTree tree = new BkTree();
+        assertTrue(tree.add("alice"));
+        assertTrue(tree.add("alicia"));
+        assertFalse(tree.add("alice"));
+        assertEquals(2, tree.size());
+    }
+
+    @Test
+    public void search_emptyTree_noWords() {
+        assertTrue(new BkTree().search("alice", 2).isEmpty());
+    }
+
+    @Test
+    public void search_wordsWithinDistance_mappedToDistance() {
+        BkTree tree = new BkTree();
+        List.of("alice", "alicia", "bob", "benson", "elle", "alex").forEach(tree::add);
+        assertEquals(Map.of("alice", 1, "alicia", 1), tree.search("alica", 1));
+        assertEquals(Map.of("alice", 1), tree.search("alise", 2));
+        assertEquals(Map.of("bob", 0), tree.search("bob", 0));
+        assertEquals(Map.of(), tree.search("carl", 1));
+    }
+
+    @Test
+    public void search_randomWords_sameResultsAsComparingEveryWord() {
+        Random random = new Random(7);
+        BkTree tree = new BkTree();
+        List<String> words = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            String word = randomWord(random);
+            words.add(word);
+            tree.add(word);
+        }
+        for (int i = 0; i < 50; i++) {
+            String query = randomWord(random);
+            int maxDistance = i % 3;
+            Map<String, Integer> expected = new HashMap<>();
+            for (String word : words) {
+                int distance = StringUtil.editDistance(query, word);
+                if (distance <= maxDistance) {
+                    expected.put(word, distance);
+                }
+            }
+            assertEquals(expected, tree.search(query, maxDistance));
+        }
+    }
+
+    private static String randomWord(Random random) {
+        StringBuilder builder = new StringBuilder();
+        int length = 2 + random.nextInt(5);
+        for (int i = 0; i < length; i++) {
+            builder.append((char) ('a' + random.nextInt(4)));
+        }
+        return builder.toString();
+    }
+}
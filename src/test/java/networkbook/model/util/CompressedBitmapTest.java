@@ -0,0 +1,90 @@
+package networkbook.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class CompressedBitmapTest {
+    private static final int MAX_VALUE = 200_000;
+
+    @Test
+    public void of_unsortedWithDuplicates_sortedDistinctValues() {
+        CompressedBitmap bitmap = CompressedBitmap.of(70_000, 3, 1, 3, 65_536);
+        assertArrayEquals(new int[] {1, 3, 65_536, 70_000}, bitmap.toArray());
+        assertEquals(4, bitmap.getCardinality());
+        assertTrue(bitmap.contains(65_536));
+        assertFalse(bitmap.contains(2));
+        assertEquals(CompressedBitmap.of(1, 3, 65_536, 70_000), bitmap);
+    }
+
+    @Test
+    public void range_containsAllValuesBelowSize() {
+        CompressedBitmap bitmap = CompressedBitmap.range(70_000);
+        assertEquals(70_000, bitmap.getCardinality());
+        assertTrue(bitmap.contains(0));
+        assertTrue(bitmap.contains(69_999));
+        assertFalse(bitmap.contains(70_000));
+        assertTrue(CompressedBitmap.range(0).isEmpty());
+        assertEquals(CompressedBitmap.empty(), CompressedBitmap.range(0));
+    }
+
+    @Test
+    public void withAndWithout_singleValues_onlyThatValueChanged() {
+        CompressedBitmap bitmap = CompressedBitmap.range(70_000);
+        assertSame(bitmap, bitmap.with(5));
+        assertSame(bitmap, bitmap.without(70_000));
+        CompressedBitmap changed = bitmap.without(5).with(100_000);
+        assertEquals(70_000, changed.getCardinality());
+        assertFalse(changed.contains(5));
+        assertTrue(changed.contains(100_000));
+        assertArrayEquals(new int[] {7}, CompressedBitmap.empty().with(7).toArray());
+        assertTrue(CompressedBitmap.of(7).without(7).isEmpty());
+    }
+
+    @Test
+    public void operations_sparseAndDenseBitmaps_sameResultsAsBitSet() {
+        Random random = new Random(35);
+        for (int density : new int[] {2, 20, 200, 2000}) {
+            BitSet first = randomBitSet(random, density);
+            BitSet second = randomBitSet(random, density * 3 / 2);
+            CompressedBitmap firstBitmap = toBitmap(first);
+            CompressedBitmap secondBitmap = toBitmap(second);
+            assertEquals(first.cardinality(), firstBitmap.getCardinality());
+
+            BitSet and = (BitSet) first.clone();
+            and.and(second);
+            assertArrayEquals(and.stream().toArray(), firstBitmap.and(secondBitmap).toArray());
+
+            BitSet or = (BitSet) first.clone();
+            or.or(second);
+            assertArrayEquals(or.stream().toArray(), firstBitmap.or(secondBitmap).toArray());
+
+            BitSet andNot = (BitSet) first.clone();
+            andNot.andNot(second);
+            assertArrayEquals(andNot.stream().toArray(), firstBitmap.andNot(secondBitmap).toArray());
+            assertEquals(toBitmap(andNot), firstBitmap.andNot(secondBitmap));
+        }
+    }
+
+    private static BitSet randomBitSet(Random random, int oneIn) {
+        BitSet bitSet = new BitSet(MAX_VALUE);
+        for (int i = 0; i < MAX_VALUE; i++) {
+            if (random.nextInt(oneIn) == 0) {
+                bitSet.set(i);
+            }
+        }
+        return bitSet;
+    }
+
+    private static CompressedBitmap toBitmap(BitSet bitSet) {
+        int[] values = bitSet.stream().toArray();
+        return CompressedBitmap.ofSorted(values, values.length);
+    }
+}
@@ -0,0 +1,97 @@
+package networkbook.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+public class CompressedTrieTest {
+
+    @Test
+    public void complete_sharedPrefixes_valuesInOrderOfKeys() {
+        CompressedTrie trie = new CompressedTrie();
+        List.of("team", "tea", "ten", "toast", "to", "apple").forEach(key -> trie.add(key, key.toUpperCase()));
+
+        assertEquals(List.of("TEA", "TEAM", "TEN", "TO", "TOAST"), trie.complete("t", 10));
+        assertEquals(List.of("TEA", "TEAM"), trie.complete("tea", 10));
+        assertEquals(List.of("TOAST"), trie.complete("toa", 10));
+        assertEquals(List.of("APPLE", "TEA"), trie.complete("", 2));
+        assertEquals(List.of(), trie.complete("tx", 10));
+        assertEquals(List.of(), trie.complete("teams", 10));
+        assertEquals(6, trie.size());
+    }
+
+    @Test
+    public void add_sameKeyTwice_firstValueKept() {
+        CompressedTrie trie = new CompressedTrie();
+        trie.add("friend", "Friend");
+        trie.add("friend", "FRIEND");
+        assertEquals(List.of("Friend"), trie.complete("fr", 10));
+        assertEquals(1, trie.size());
+    }
+
+    @Test
+    public void remove_countedKeys_removedWhenLastCountRemoved() {
+        CompressedTrie trie = new CompressedTrie();
+        trie.add("friend", "friend");
+        trie.add("friend", "friend");
+        trie.add("friends", "friends");
+        trie.add("fries", "fries");
+
+        trie.remove("friend");
+        assertEquals(List.of("friend", "friends", "fries"), trie.complete("fri", 10));
+        trie.remove("friend");
+        assertEquals(List.of("friends", "fries"), trie.complete("fri", 10));
+        trie.remove("fries");
+        trie.remove("unknown");
+        trie.remove("frien");
+        assertEquals(List.of("friends"), trie.complete("f", 10));
+        assertEquals(1, trie.size());
+
+        // the tree still splits correctly after its nodes have been merged
+        trie.add("frisk", "frisk");
+        assertEquals(List.of("friends", "frisk"), trie.complete("fri", 10));
+    }
+
+    @Test
+    public void complete_randomKeys_sameResultsAsSortedMap() {
+        Random random = new Random(11);
+        CompressedTrie trie = new CompressedTrie();
+        TreeMap<String, Integer> counts = new TreeMap<>();
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            if (!keys.isEmpty() && random.nextInt(3) == 0) {
+                String key = keys.remove(random.nextInt(keys.size()));
+                trie.remove(key);
+                counts.merge(key, -1, Integer::sum);
+                counts.remove(key, 0);
+            } else {
+                String key = randomKey(random);
+                keys.add(key);
+                trie.add(key, key);
+                counts.merge(key, 1, Integer::sum);
+            }
+        }
+        for (String prefix : List.of("", "a", "ab", "ba", "cab", "abca")) {
+            List<String> expected = counts.keySet().stream()
+                    .filter(key -> key.startsWith(prefix))
+                    .collect(Collectors.toList());
+            assertEquals(expected, trie.complete(prefix, Integer.MAX_VALUE));
+        }
+        assertEquals(counts.size(), trie.size());
+    }
+
+    private static String randomKey(Random random) {
+        StringBuilder builder = new StringBuilder();
+        int length = random.nextInt(6);
+        for (int i = 0; i < length; i++) {
+            builder.append((char) ('a' + random.nextInt(3)));
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,187 @@
+package networkbook.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class PagedListTest {
+    private final ObservableList<Integer> source = FXCollections.observableArrayList(5, 3, 9, 1, 7, 3, 8);
+    private final PagedList<Integer> pagedList = new PagedList<>(source, Comparator.naturalOrder());
+
+    @Test
+    public void constructor_noPageSize_showsSourceInSourceOrder() {
+        assertFalse(pagedList.isPaged());
+        assertEquals(source, pagedList);
+        assertEquals(1, pagedList.getPageCount());
+    }
+
+    @Test
+    public void setPage_firstPage_showsSmallestElementsInOrder() {
+        pagedList.setPage(3, 0);
+        assertTrue(pagedList.isPaged());
+        assertEquals(List.of(1, 3, 3), pagedList);
+        assertEquals(3, pagedList.getPageCount());
+    }
+
+    @Test
+    public void setPage_laterPages_showsElementsOfThatPage() {
+        pagedList.setPage(3, 1);
+        assertEquals(List.of(5, 7, 8), pagedList);
+        pagedList.setPage(3, 2);
+        assertEquals(List.of(9), pagedList);
+    }
+
+    @Test
+    public void setPage_pageAfterLastPage_showsLastPage() {
+        pagedList.setPage(4, 5);
+        assertEquals(1, pagedList.getPageIndex());
+        assertEquals(List.of(7, 8, 9), pagedList);
+    }
+
+    @Test
+    public void setPage_noPageSize_showsSourceAgain() {
+        pagedList.setPage(2, 1);
+        pagedList.setPage(PagedList.NO_PAGE_SIZE, 0);
+        assertEquals(source, pagedList);
+    }
+
+    @Test
+    public void setPage_equalElements_keepSourceOrder() {
+        ObservableList<int[]> pairs = FXCollections.observableArrayList(
+                new int[] {2, 0}, new int[] {1, 1}, new int[] {2, 2}, new int[] {1, 3});
+        PagedList<int[]> pagedPairs = new PagedList<>(pairs, Comparator.comparingInt(pair -> pair[0]));
+        pagedPairs.setPage(3, 0);
+        List<Integer> order = new ArrayList<>();
+        pagedPairs.forEach(pair -> order.add(pair[1]));
+        assertEquals(List.of(1, 3, 0), order);
+    }
+
+    @Test
+    public void sourceChanged_paged_pageUpdated() {
+        pagedList.setPage(2, 0);
+        source.add(0);
+        assertEquals(List.of(0, 1), pagedList);
+        source.removeAll(0, 1);
+        assertEquals(List.of(3, 3), pagedList);
+        assertEquals(3, pagedList.getPageCount());
+    }
+
+    @Test
+    public void sourceChanged_notPaged_changesPassedOn() {
+        List<Integer> added = new ArrayList<>();
+        List<Integer> removed = new ArrayList<>();
+        pagedList.addListener((ListChangeListener<Integer>) change -> {
+            while (change.next()) {
+                added.addAll(change.getAddedSubList());
+                removed.addAll(change.getRemoved());
+            }
+        });
+        source.set(1, 4);
+        assertEquals(List.of(4), added);
+        assertEquals(List.of(3), removed);
+        assertEquals(source, pagedList);
+    }
+
+    @Test
+    public void sourceChanged_pagedElementReplaced_onlyElementReplaced() {
+        pagedList.setPage(3, 0);
+        List<String> changes = new ArrayList<>();
+        pagedList.addListener((ListChangeListener<Integer>) change -> {
+            while (change.next()) {
+                changes.add(change.getFrom() + " " + change.getRemoved() + " -> " + change.getAddedSubList());
+            }
+        });
+        source.set(3, 0);
+        assertEquals(List.of(0, 3, 3), pagedList);
+        assertEquals(List.of("0 [1] -> [0]"), changes);
+
+        // an element after the page does not change the page
+        changes.clear();
+        source.set(2, 10);
+        assertEquals(List.of(), changes);
+    }
+
+    @Test
+    public void sourceChanged_singleElementChanged_pageNotSelectedAgain() {
+        ObservableList<Integer> largeSource = FXCollections.observableArrayList();
+        for (int i = 0; i < 10_000; i++) {
+            largeSource.add(i * 2);
+        }
+        AtomicInteger comparisons = new AtomicInteger();
+        PagedList<Integer> largePagedList = new PagedList<>(largeSource, (first, second) -> {
+            comparisons.incrementAndGet();
+            return Integer.compare(first, second);
+        });
+        largePagedList.setPage(10, 3);
+
+        comparisons.set(0);
+        largeSource.set(5_000, 61);
+        largeSource.add(0, 1_000_000);
+        largeSource.remove(33);
+        assertEquals(List.of(60, 61, 62, 66, 68, 70, 72, 74, 76, 78), largePagedList);
+        assertTrue(comparisons.get() < 100);
+        assertSamePage(largeSource, largePagedList);
+    }
+
+    @Test
+    public void sourceChanged_randomSingleChanges_sameAsSortedPage() {
+        Random random = new Random(30);
+        for (int pageSize : new int[] {1, 3, 5}) {
+            for (int pageIndex = 0; pageIndex < 4; pageIndex++) {
+                ObservableList<Integer> randomSource = FXCollections.observableArrayList();
+                for (int i = 0; i < 20; i++) {
+                    randomSource.add(random.nextInt(30));
+                }
+                PagedList<Integer> randomPagedList = new PagedList<>(randomSource, Comparator.naturalOrder());
+                randomPagedList.setPage(pageSize, pageIndex);
+                for (int step = 0; step < 200; step++) {
+                    int choice = random.nextInt(3);
+                    if (choice == 0 || randomSource.isEmpty()) {
+                        randomSource.add(random.nextInt(randomSource.size() + 1), random.nextInt(30));
+                    } else if (choice == 1) {
+                        randomSource.remove(random.nextInt(randomSource.size()));
+                    } else {
+                        randomSource.set(random.nextInt(randomSource.size()), random.nextInt(30));
+                    }
+                    assertSamePage(randomSource, randomPagedList);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void setComparator_paged_pageUpdated() {
+        pagedList.setPage(2, 0);
+        pagedList.setComparator(Comparator.reverseOrder());
+        assertEquals(List.of(9, 8), pagedList);
+    }
+
+    /**
+     * Asserts that {@code pagedList} shows its page of {@code source} in ascending order,
+     * with the source index of each element of the page.
+     */
+    private static void assertSamePage(List<Integer> source, PagedList<Integer> pagedList) {
+        List<Integer> sorted = new ArrayList<>(source);
+        sorted.sort(Comparator.naturalOrder());
+        int pageStart = pagedList.getPageIndex() * pagedList.getPageSize();
+        assertTrue(pagedList.getPageIndex() < pagedList.getPageCount());
+        assertEquals(sorted.subList(pageStart, Math.min(pageStart + pagedList.getPageSize(), sorted.size())),
+                pagedList);
+        for (int i = 0; i < pagedList.size(); i++) {
+            assertEquals(pagedList.get(i), source.get(pagedList.getSourceIndex(i)));
+            assertEquals(i, pagedList.getViewIndex(pagedList.getSourceIndex(i)));
+        }
+    }
+}
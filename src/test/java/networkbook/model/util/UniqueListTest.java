@@ -5,15 +5,18 @@ import static networkbook.testutil.Assert.assertThrowsAssertionError;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import networkbook.commons.util.ThrowingIoExceptionConsumer;
 
 public class UniqueListTest {
@@ -229,6 +232,84 @@ public class UniqueListTest {
         assertEquals(expectedList, uniqueList);
     }
 
+    @Test
+    public void updateItems_itemEdited_replacesItemInPlace() {
+        UniqueList<UniqueNumber> uniqueList = getSampleList();
+        List<ListChangeListener.Change<? extends UniqueNumber>> changes = recordChanges(uniqueList);
+        uniqueList.updateItems(List.of(ITEM1_SAME, ITEM2, ITEM3));
+        assertEquals(new UniqueList<UniqueNumber>().setItems(List.of(ITEM1_SAME, ITEM2, ITEM3)), uniqueList);
+        assertEquals(1, changes.size());
+        ListChangeListener.Change<? extends UniqueNumber> change = changes.get(0);
+        assertTrue(change.next());
+        assertTrue(change.wasReplaced());
+        assertEquals(INDEX1, change.getFrom());
+        assertEquals(INDEX1 + 1, change.getTo());
+    }
+
+    @Test
+    public void updateItems_itemAddedOrRemoved_onlyFiresThatChange() {
+        UniqueList<UniqueNumber> uniqueList = getSampleList();
+        List<ListChangeListener.Change<? extends UniqueNumber>> changes = recordChanges(uniqueList);
+        uniqueList.updateItems(List.of(ITEM1, ITEM_NOT_IN_LIST, ITEM2, ITEM3));
+        assertEquals(new UniqueList<UniqueNumber>().setItems(List.of(ITEM1, ITEM_NOT_IN_LIST, ITEM2, ITEM3)),
+                uniqueList);
+        assertEquals(1, changes.size());
+        assertTrue(changes.get(0).next());
+        assertTrue(changes.get(0).wasAdded());
+        assertEquals(List.of(ITEM_NOT_IN_LIST), changes.get(0).getAddedSubList());
+
+        changes.clear();
+        uniqueList.updateItems(List.of(ITEM1, ITEM_NOT_IN_LIST, ITEM3));
+        assertEquals(new UniqueList<UniqueNumber>().setItems(List.of(ITEM1, ITEM_NOT_IN_LIST, ITEM3)), uniqueList);
+        assertEquals(1, changes.size());
+        assertTrue(changes.get(0).next());
+        assertTrue(changes.get(0).wasRemoved());
+        assertEquals(List.of(ITEM2), changes.get(0).getRemoved());
+    }
+
+    @Test
+    public void updateItems_noDifference_firesNoChange() {
+        UniqueList<UniqueNumber> uniqueList = getSampleList();
+        List<ListChangeListener.Change<? extends UniqueNumber>> changes = recordChanges(uniqueList);
+        uniqueList.updateItems(List.of(ITEM1, ITEM2, ITEM3));
+        assertEquals(getSampleList(), uniqueList);
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void updateItems_equalItem_replacesItemInPlace() {
+        UniqueList<UniqueNumber> uniqueList = getSampleList();
+        List<ListChangeListener.Change<? extends UniqueNumber>> changes = recordChanges(uniqueList);
+        uniqueList.updateItems(List.of(ITEM1_COPY, ITEM2, ITEM3));
+        assertSame(ITEM1_COPY, uniqueList.get(INDEX1));
+        assertEquals(1, changes.size());
+        assertTrue(changes.get(0).next());
+        assertTrue(changes.get(0).wasReplaced());
+    }
+
+    @Test
+    public void updateItems_differentItems_replacesContents() {
+        UniqueList<UniqueNumber> uniqueList = getSampleList();
+        uniqueList.updateItems(List.of(ITEM_NOT_IN_LIST, ITEM3, ITEM_NOT_IN_LIST1));
+        assertEquals(new UniqueList<UniqueNumber>().setItems(List.of(ITEM_NOT_IN_LIST, ITEM3, ITEM_NOT_IN_LIST1)),
+                uniqueList);
+
+        uniqueList.updateItems(List.of());
+        assertTrue(uniqueList.isEmpty());
+    }
+
+    @Test
+    public void updateItems_duplicateItems_throwsAssertionError() {
+        assertThrowsAssertionError(() -> getSampleList().updateItems(List.of(ITEM1, ITEM1_SAME)));
+    }
+
+    private static List<ListChangeListener.Change<? extends UniqueNumber>> recordChanges(
+            UniqueList<UniqueNumber> uniqueList) {
+        List<ListChangeListener.Change<? extends UniqueNumber>> changes = new ArrayList<>();
+        uniqueList.asUnmodifiableObservableList().addListener((ListChangeListener<UniqueNumber>) changes::add);
+        return changes;
+    }
+
     @Test
     public void remove_itemDoesNotExist_throwsAssertionError() {
         assertThrowsAssertionError(() -> getSampleList().remove(ITEM_NOT_IN_LIST));
@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.jupiter.api.BeforeAll;
@@ -127,7 +128,7 @@ public class CommandBoxTest {
         String previousText = "help 1";
         TextField textField = robot.lookup("#commandTextField").query();
         assertNotNull(textField);
-        CommandExecutor commandExecutor = str -> DUMMY_COMMAND_RESULT;
+        CommandExecutor commandExecutor = str -> CompletableFuture.completedFuture(DUMMY_COMMAND_RESULT);
         CommandBox commandBox = new CommandBox(commandExecutor);
         commandBox.submitCommand("open 1");
         assertFalse(textField.getText().contains(previousText));
@@ -138,7 +139,7 @@ public class CommandBoxTest {
         AtomicBoolean hasExecuted = new AtomicBoolean(false);
         CommandExecutor commandExecutor = str -> {
             hasExecuted.set(true);
-            return DUMMY_COMMAND_RESULT;
+            return CompletableFuture.completedFuture(DUMMY_COMMAND_RESULT);
         };
         CommandBox commandBox = new CommandBox(commandExecutor);
         commandBox.submitCommand("open 1");
@@ -0,0 +1,135 @@
+package networkbook.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class FxListMirrorTest {
+    private final ObservableList<String> source = FXCollections.observableArrayList("a", "b", "c", "d");
+    private final List<Runnable> pendingTasks = new ArrayList<>();
+    private final FxListMirror<String> mirror = new FxListMirror<>(source, pendingTasks::add);
+
+    @Test
+    public void constructor_mirrorsSource() {
+        assertEquals(source, mirror.getList());
+        assertThrows(UnsupportedOperationException.class, () -> mirror.getList().add("e"));
+    }
+
+    @Test
+    public void sourceChanged_severalChanges_appliedInOneStep() {
+        source.add("e");
+        source.remove("a");
+        source.set(0, "f");
+        assertEquals(1, pendingTasks.size());
+        assertEquals(List.of("a", "b", "c", "d"), mirror.getList());
+
+        runPendingTasks();
+        assertEquals(List.of("f", "c", "d", "e"), mirror.getList());
+    }
+
+    @Test
+    public void sourceChanged_elementsReplaced_onlyReplacedElementsChanged() {
+        List<String> changes = recordChanges();
+        source.set(1, "x");
+        source.set(3, "y");
+        runPendingTasks();
+        assertEquals(List.of("1 [b] -> [x]", "3 [d] -> [y]"), changes);
+    }
+
+    @Test
+    public void sourceChanged_elementsRemovedAndAdded_onlyDifferingRangeChanged() {
+        List<String> changes = recordChanges();
+        source.setAll("a", "x", "y", "z", "d");
+        runPendingTasks();
+        assertEquals(List.of("a", "x", "y", "z", "d"), mirror.getList());
+        assertEquals(List.of("1 [b, c] -> []", "1 [] -> [x, y, z]"), changes);
+    }
+
+    @Test
+    public void sourceChanged_severalRangesInOneChange_eachRangeChanged() {
+        List<String> changes = recordChanges();
+        source.removeAll("a", "c");
+        runPendingTasks();
+        assertEquals(List.of("b", "d"), mirror.getList());
+        assertEquals(List.of("0 [a] -> []", "1 [c] -> []"), changes);
+    }
+
+    @Test
+    public void sourceChanged_permutation_permutedRangeChanged() {
+        source.setAll("d", "b", "c", "a");
+        runPendingTasks();
+        List<String> changes = recordChanges();
+        FXCollections.sort(source);
+        runPendingTasks();
+        assertEquals(List.of("a", "b", "c", "d"), mirror.getList());
+        assertEquals(List.of("0 [d] -> [a]", "3 [a] -> [d]"), changes);
+    }
+
+    @Test
+    public void sourceChanged_afterSnapshotApplied_scheduledAgain() {
+        source.add("e");
+        runPendingTasks();
+        source.clear();
+        assertEquals(1, pendingTasks.size());
+        runPendingTasks();
+        assertEquals(List.of(), mirror.getList());
+    }
+
+    @Test
+    public void preview_batches_shownInPlaceOfSource() {
+        mirror.preview(List.of("x", "y"), true);
+        mirror.preview(List.of("z"), false);
+        assertEquals(List.of("x", "y", "z"), mirror.getList());
+
+        source.setAll("z", "x");
+        runPendingTasks();
+        assertEquals(List.of("z", "x"), mirror.getList());
+    }
+
+    @Test
+    public void preview_sourceChangedBeforePreview_changedSourceShownAfterPreview() {
+        source.remove("b");
+        mirror.preview(List.of("x"), true);
+        source.add("e");
+        runPendingTasks();
+        assertEquals(List.of("a", "c", "d", "e"), mirror.getList());
+    }
+
+    @Test
+    public void endPreview_sourceUnchanged_sourceShownAgain() {
+        mirror.preview(List.of("x"), true);
+        mirror.endPreview();
+        assertEquals(source, mirror.getList());
+
+        // the preview has already ended when the source changes
+        mirror.preview(List.of("y"), true);
+        source.add("e");
+        runPendingTasks();
+        mirror.endPreview();
+        assertEquals(source, mirror.getList());
+    }
+
+    private List<String> recordChanges() {
+        List<String> changes = new ArrayList<>();
+        mirror.getList().addListener((ListChangeListener<String>) change -> {
+            while (change.next()) {
+                changes.add(change.getFrom() + " " + change.getRemoved() + " -> " + change.getAddedSubList());
+            }
+        });
+        return changes;
+    }
+
+    private void runPendingTasks() {
+        List<Runnable> tasks = new ArrayList<>(pendingTasks);
+        pendingTasks.clear();
+        tasks.forEach(Runnable::run);
+    }
+}
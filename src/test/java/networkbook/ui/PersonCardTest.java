@@ -13,6 +13,8 @@ import static networkbook.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
 import static networkbook.logic.commands.CommandTestUtil.VALID_SPECIALISATION_AMY;
 import static networkbook.logic.commands.CommandTestUtil.VALID_SPECIALISATION_BOB;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.List;
@@ -276,4 +278,109 @@ public class PersonCardTest {
         assertEquals(expectedCommand, callbackCommand.get());
     }
 
+    @Test
+    public void setPerson_differentPerson_showsNewPerson() {
+        Person bob = new PersonBuilder().withName("Bob").withPhones(List.of(VALID_PHONE_BOB, VALID_PHONE_AMY))
+                .withGraduation(VALID_GRADUATION_BOB).withPriority("high").build();
+        Person amy = new PersonBuilder().withName("Amy").withoutOptionalFields()
+                .withPhones(List.of(VALID_PHONE_AMY)).withPriority("low").build();
+        PersonCard personCard = new PersonCard(bob, 1, DUMMY_MAIN_CALLBACK);
+        personCard.setPerson(amy, 2);
+        assertEquals(amy, personCard.getPerson());
+        assertEquals("Amy", personCard.getName().getText());
+        assertEquals(1, personCard.getPhones().getChildren().size());
+        testChildLabel(personCard.getPhones(), 0, "1) " + VALID_PHONE_AMY);
+        testChildLabel(personCard.getGraduation(), 0, EXPECTED_EMPTY_FIELD_TEXT);
+        testChildLabel(personCard.getPriority(), 0, "★");
+        assertTrue(personCard.getPriority().getChildren().get(0).getStyleClass().contains("priority_Low"));
+        assertFalse(personCard.getPriority().getChildren().get(0).getStyleClass().contains("priority_High"));
+    }
+
+    @Test
+    public void setPerson_sameNumberOfFields_reusesNodes() {
+        Person bob = new PersonBuilder().withName("Bob").withPhones(List.of(VALID_PHONE_BOB))
+                .withEmails(List.of(VALID_EMAIL_BOB)).withGraduation(VALID_GRADUATION_BOB).build();
+        Person amy = new PersonBuilder().withName("Amy").withPhones(List.of(VALID_PHONE_AMY))
+                .withEmails(List.of(VALID_EMAIL_AMY)).withGraduation(VALID_GRADUATION_BOB).build();
+        PersonCard personCard = new PersonCard(bob, 1, DUMMY_MAIN_CALLBACK);
+        Node phone = personCard.getPhones().getChildren().get(0);
+        Node email = personCard.getEmails().getChildren().get(0);
+        Node graduation = personCard.getGraduation().getChildren().get(0);
+        personCard.setPerson(amy, 2);
+        assertSame(phone, personCard.getPhones().getChildren().get(0));
+        assertSame(email, personCard.getEmails().getChildren().get(0));
+        assertSame(graduation, personCard.getGraduation().getChildren().get(0));
+        testChildLabel(personCard.getPhones(), 0, "1) " + VALID_PHONE_AMY);
+        testChildHyperlink(personCard.getEmails(), 0, "1) " + VALID_EMAIL_AMY);
+    }
+
+    @Test
+    public void setPerson_newIndex_hyperlinkCallsMainCallbackWithNewIndex() {
+        AtomicReference<String> callbackCommand = new AtomicReference<String>("");
+        Consumer<String> callback = (str) -> callbackCommand.set(str);
+        Person person = new PersonBuilder().withName("Bob").withLinks(List.of(VALID_LINK_BOB)).build();
+        PersonCard personCard = new PersonCard(person, 1, callback);
+        personCard.setPerson(person, 3);
+        Hyperlink link = (Hyperlink) personCard.getLinks().getChildren().get(0);
+        link.fire();
+        assertEquals("open 3 /index 1", callbackCommand.get());
+    }
+
+    @Test
+    public void setPerson_editedPerson_onlyEditedFieldsPopulated() {
+        Person person = new PersonBuilder().withName("Bob").withPhones(List.of(VALID_PHONE_BOB))
+                .withTags("friends").build();
+        Person editedPerson = new PersonBuilder(person).withTags("colleagues", "friends").build();
+        PersonCard personCard = new PersonCard(person, 1, DUMMY_MAIN_CALLBACK);
+        Node phone = personCard.getPhones().getChildren().get(0);
+        Node tag = personCard.getTags().getChildren().get(0);
+        personCard.setPerson(editedPerson, 1);
+        assertSame(phone, personCard.getPhones().getChildren().get(0));
+        assertSame(tag, personCard.getTags().getChildren().get(0));
+        assertEquals(2, personCard.getTags().getChildren().size());
+    }
+
+    @Test
+    public void setPerson_courseDatesEdited_coursesPopulated() {
+        Person person = new PersonBuilder().withName("Bob").withCourses(List.of())
+                .addCourse(VALID_COURSE_BOB, "01-01-2023").build();
+        Person editedPerson = new PersonBuilder(person).withCourses(List.of())
+                .addCourse(VALID_COURSE_BOB, "01-06-2023").build();
+        PersonCard personCard = new PersonCard(person, 1, DUMMY_MAIN_CALLBACK);
+        Node course = personCard.getCourses().getChildren().get(0);
+        personCard.setPerson(editedPerson, 1);
+        assertSame(course, personCard.getCourses().getChildren().get(0));
+        testChildHyperlink(personCard.getCourses(), 0, "1) " + VALID_COURSE_BOB);
+    }
+
+    @Test
+    public void setExpanded_collapsedCard_detailsOnlyCreatedWhenExpanded() {
+        Person person = new PersonBuilder().withName("Bob").withPhones(List.of(VALID_PHONE_BOB))
+                .withTags("a", "b", "c", "d").build();
+        PersonCard personCard = new PersonCard(person, 1, DUMMY_MAIN_CALLBACK, false);
+        assertFalse(personCard.isExpanded());
+        assertEquals(3, personCard.getTags().getChildren().size());
+
+        personCard.setExpanded(true);
+        testChildLabel(personCard.getPhones(), 0, "1) " + VALID_PHONE_BOB);
+        assertEquals(4, personCard.getTags().getChildren().size());
+    }
+
+    @Test
+    public void setPerson_whileCollapsed_detailsUpdatedWhenExpanded() {
+        AtomicReference<String> callbackCommand = new AtomicReference<String>("");
+        Consumer<String> callback = (str) -> callbackCommand.set(str);
+        Person bob = new PersonBuilder().withName("Bob").withLinks(List.of(VALID_LINK_BOB)).build();
+        Person amy = new PersonBuilder().withName("Amy").withLinks(List.of(VALID_LINK_AMY)).build();
+        PersonCard personCard = new PersonCard(bob, 1, callback);
+        personCard.setExpanded(false);
+        personCard.setPerson(amy, 2);
+        assertEquals("Amy", personCard.getName().getText());
+
+        personCard.setExpanded(true);
+        Hyperlink link = (Hyperlink) personCard.getLinks().getChildren().get(0);
+        assertEquals("1) " + VALID_LINK_AMY, link.getText());
+        link.fire();
+        assertEquals("open 2 /index 1", callbackCommand.get());
+    }
 }
@@ -0,0 +1,87 @@
+package networkbook.ui;
+
+import static networkbook.logic.commands.CommandTestUtil.VALID_COURSE_AMY;
+import static networkbook.logic.commands.CommandTestUtil.VALID_COURSE_BOB;
+import static networkbook.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
+import static networkbook.logic.commands.CommandTestUtil.VALID_GRADUATION_BOB;
+import static networkbook.logic.commands.CommandTestUtil.VALID_GRADUATION_FULL_BOB;
+import static networkbook.logic.commands.CommandTestUtil.VALID_PHONE_AMY;
+import static networkbook.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import networkbook.model.person.Person;
+import networkbook.testutil.PersonBuilder;
+
+public class PersonCardViewModelTest {
+
+    @Test
+    public void of_personWithFields_formatsFields() {
+        Person person = new PersonBuilder().withName("Bob").withPhones(List.of(VALID_PHONE_BOB, VALID_PHONE_AMY))
+                .withEmails(List.of(VALID_EMAIL_BOB)).withGraduation(VALID_GRADUATION_BOB)
+                .withCourses(List.of(VALID_COURSE_BOB, VALID_COURSE_AMY)).withTags("friends").build();
+        PersonCardViewModel viewModel = PersonCardViewModel.of(person);
+
+        assertEquals("Bob", viewModel.getName());
+        assertEquals(List.of("1) " + VALID_PHONE_BOB, "2) " + VALID_PHONE_AMY), getTexts(viewModel.getPhones()));
+        assertEquals(List.of("1) " + VALID_EMAIL_BOB), getTexts(viewModel.getEmails()));
+        assertEquals(VALID_EMAIL_BOB, viewModel.getEmails().get(0).getValue());
+        assertEquals(Optional.empty(), viewModel.getEmails().get(0).getFilterCommand());
+        assertEquals(VALID_GRADUATION_FULL_BOB, viewModel.getGraduation().get().getText());
+        assertEquals(List.of("1) " + VALID_COURSE_BOB, "2) " + VALID_COURSE_AMY), getTexts(viewModel.getCourses()));
+        assertEquals(Optional.of("filter /by course /with " + VALID_COURSE_BOB),
+                viewModel.getCourses().get(0).getFilterCommand());
+        assertEquals(List.of("friends"), getTexts(viewModel.getTags()));
+        assertEquals(Optional.of("filter /by tag /with friends"), viewModel.getTags().get(0).getFilterCommand());
+    }
+
+    @Test
+    public void of_personWithoutOptionalFields_emptyFields() {
+        Person person = new PersonBuilder().withName("Bob").withoutOptionalFields().build();
+        PersonCardViewModel viewModel = PersonCardViewModel.of(person);
+
+        assertTrue(viewModel.getPhones().isEmpty());
+        assertTrue(viewModel.getLinks().isEmpty());
+        assertTrue(viewModel.getSpecialisations().isEmpty());
+        assertEquals(Optional.empty(), viewModel.getGraduation());
+        assertEquals(Optional.empty(), viewModel.getPriority());
+    }
+
+    @Test
+    public void of_samePerson_cachedViewModel() {
+        Person person = new PersonBuilder().withName("Bob").build();
+        Person equalPerson = new PersonBuilder().withName("Bob").build();
+
+        assertSame(PersonCardViewModel.of(person), PersonCardViewModel.of(person));
+        // cached by identity rather than equality
+        assertNotSame(PersonCardViewModel.of(person), PersonCardViewModel.of(equalPerson));
+    }
+
+    @Test
+    public void of_moreThanCapacity_leastRecentlyUsedEvicted() {
+        Person first = new PersonBuilder().withName("First").build();
+        Person second = new PersonBuilder().withName("Second").build();
+        PersonCardViewModel firstViewModel = PersonCardViewModel.of(first);
+        PersonCardViewModel secondViewModel = PersonCardViewModel.of(second);
+        for (int i = 0; i < PersonCardViewModel.CACHE_CAPACITY - 1; i++) {
+            PersonCardViewModel.of(new PersonBuilder().withName("Person " + i).build());
+            // keeps the first person recently used
+            PersonCardViewModel.of(first);
+        }
+
+        assertSame(firstViewModel, PersonCardViewModel.of(first));
+        assertNotSame(secondViewModel, PersonCardViewModel.of(second));
+    }
+
+    private static List<String> getTexts(List<PersonCardViewModel.Field> fields) {
+        return fields.stream().map(PersonCardViewModel.Field::getText).collect(Collectors.toList());
+    }
+}
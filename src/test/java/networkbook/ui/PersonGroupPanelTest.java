@@ -0,0 +1,133 @@
+package networkbook.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.testfx.framework.junit5.ApplicationExtension;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import networkbook.model.PersonGroups.GroupField;
+import networkbook.model.person.Person;
+import networkbook.testutil.PersonBuilder;
+
+@ExtendWith(ApplicationExtension.class)
+public class PersonGroupPanelTest {
+    private static final String[] TAGS = {"a", "b", "c", "d"};
+
+    private final ObservableList<Person> persons = FXCollections.observableArrayList();
+
+    @Test
+    public void personsChanged_personEdited_onlyItsRowAndHeaderChanged() {
+        Person alice = new PersonBuilder().withName("Alice").withTags("a").build();
+        Person bob = new PersonBuilder().withName("Bob").withTags("a").build();
+        Person carl = new PersonBuilder().withName("Carl").withTags("a").build();
+        persons.setAll(alice, bob, carl);
+        PersonGroupPanel panel = new PersonGroupPanel(persons, GroupField.TAG, command -> {});
+        panel.toggleGroup("a");
+
+        List<String> changes = new ArrayList<>();
+        panel.getRows().addListener((ListChangeListener<PersonGroupPanel.Row>) change -> {
+            while (change.next()) {
+                changes.add(change.getFrom() + "-" + change.getTo());
+            }
+        });
+        Person editedBob = new PersonBuilder(bob).withName("Bobby").build();
+        persons.set(1, editedBob);
+
+        assertEquals(List.of("a:", "a:Alice", "a:Bobby", "a:Carl"), describe(panel.getRows()));
+        assertEquals(List.of("0-1", "2-3"), changes);
+    }
+
+    @Test
+    public void personsChanged_randomChanges_sameRowsAsBuiltAfresh() {
+        Random random = new Random(3);
+        for (int i = 0; i < 40; i++) {
+            persons.add(createPerson(random, i));
+        }
+        PersonGroupPanel panel = new PersonGroupPanel(persons, GroupField.TAG, command -> {});
+        List<String> expandedKeys = new ArrayList<>();
+
+        for (int step = 0; step < 2000; step++) {
+            switch (random.nextInt(5)) {
+            case 0:
+                if (!persons.isEmpty()) {
+                    persons.remove(random.nextInt(persons.size()));
+                }
+                break;
+            case 1:
+                persons.add(random.nextInt(persons.size() + 1), createPerson(random, 100 + step));
+                break;
+            case 2:
+                if (!persons.isEmpty()) {
+                    persons.set(random.nextInt(persons.size()), createPerson(random, 100 + step));
+                }
+                break;
+            case 3:
+                String key = TAGS[random.nextInt(TAGS.length)];
+                if (panel.getRows().stream().anyMatch(row -> row.getKey().equals(key))) {
+                    panel.toggleGroup(key);
+                    if (!expandedKeys.remove(key)) {
+                        expandedKeys.add(key);
+                    }
+                }
+                break;
+            default:
+                if (persons.size() > 2) {
+                    persons.remove(0, 2);
+                }
+            }
+            // a group that loses all its persons is collapsed
+            expandedKeys.removeIf(key -> persons.stream().noneMatch(person -> hasTag(person, key)));
+            assertEquals(describeExpected(expandedKeys), describe(panel.getRows()), "after step " + step);
+        }
+    }
+
+    private List<String> describeExpected(List<String> expandedKeys) {
+        List<String> description = new ArrayList<>();
+        List<String> keys = new ArrayList<>(List.of(TAGS));
+        keys.add("");
+        for (String key : keys) {
+            List<Person> groupPersons = new ArrayList<>();
+            persons.stream()
+                    .filter(person -> key.isEmpty() ? person.getTags().size() == 0 : hasTag(person, key))
+                    .forEach(groupPersons::add);
+            if (groupPersons.isEmpty()) {
+                continue;
+            }
+            description.add(key + ":");
+            if (expandedKeys.contains(key)) {
+                groupPersons.forEach(person -> description.add(key + ":" + person.getName()));
+            }
+        }
+        return description;
+    }
+
+    private static List<String> describe(List<PersonGroupPanel.Row> rows) {
+        List<String> description = new ArrayList<>();
+        for (PersonGroupPanel.Row row : rows) {
+            description.add(row.getKey() + ":" + (row.getPerson() == null ? "" : row.getPerson().getName()));
+        }
+        return description;
+    }
+
+    private static boolean hasTag(Person person, String tag) {
+        return person.getTags().stream().anyMatch(personTag -> personTag.getValue().equals(tag));
+    }
+
+    private static Person createPerson(Random random, int number) {
+        List<String> tags = new ArrayList<>();
+        for (String tag : TAGS) {
+            if (random.nextInt(3) == 0) {
+                tags.add(tag);
+            }
+        }
+        return new PersonBuilder().withName("Person " + number).withTags(tags.toArray(new String[0])).build();
+    }
+}